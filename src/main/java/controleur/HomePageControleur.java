@@ -1,5 +1,6 @@
 package controleur;
 
+import controleur.boutique.NavigationBoutique;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -168,7 +169,7 @@ public class HomePageControleur extends Controleur {
                 return;
             }
             Stage stage = (Stage) boutiqueButton.getScene().getWindow();
-            jeu.getBoutique().ouvrirBoutique(stage, joueur, jeu, appControleur);
+            NavigationBoutique.ouvrirBoutique(stage, joueur, jeu, appControleur);
         } catch (Exception e) {
             System.err.println("Erreur lors de l'ouverture de la boutique : " + e.getMessage());
             e.printStackTrace();
@@ -186,7 +187,7 @@ public class HomePageControleur extends Controleur {
                 return;
             }
             Stage stage = (Stage) inventaireButton.getScene().getWindow();
-            jeu.getBoutique().ouvrirInventaire(stage, joueur, jeu, appControleur);
+            NavigationBoutique.ouvrirInventaire(stage, joueur, jeu, appControleur);
         } catch (Exception e) {
             System.err.println("Erreur lors de l'ouverture de l'inventaire : " + e.getMessage());
             e.printStackTrace();
@@ -6,8 +6,6 @@ import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
-import modele.Cellules.Cellule;
-import modele.Cellules.Sortie;
 import modele.Labyrinthe;
 import modele.LabyrintheObserver;
 import modele.TypeLabyrinthe;
@@ -41,6 +39,7 @@ public class JeuControleur extends Controleur implements Router.DataReceiver, La
     private HandlerDefaite handlerDefaite;
     private boolean isModeCle = false;
     private int porteeVisionCle = 0;
+    private Labyrinthe labyrintheObserve;
 
     /**
      * Initialise le contrôleur et configure les événements de déplacement du joueur.
@@ -73,11 +72,13 @@ public class JeuControleur extends Controleur implements Router.DataReceiver, La
     private void configurerGestionClavier(Scene scene) {
         scene.addEventFilter(javafx.scene.input.KeyEvent.KEY_PRESSED, event -> {
             try {
+                // Maj + direction : course jusqu'au prochain carrefour
+                boolean courir = event.isShiftDown();
                 switch (event.getCode()) {
-                    case UP, Z -> deplacerHaut();
-                    case RIGHT, D -> deplacerDroite();
-                    case DOWN, S -> deplacerBas();
-                    case LEFT, Q -> deplacerGauche();
+                    case UP, Z -> deplacer(Direction.HAUT, courir);
+                    case RIGHT, D -> deplacer(Direction.DROITE, courir);
+                    case DOWN, S -> deplacer(Direction.BAS, courir);
+                    case LEFT, Q -> deplacer(Direction.GAUCHE, courir);
                 }
                 event.consume();
             } catch (IOException e) {
@@ -169,85 +170,64 @@ public class JeuControleur extends Controleur implements Router.DataReceiver, La
 
     @FXML
     public void deplacerHaut() throws IOException {
-        deplacer(jeu.getLabyrinthe().getJoueurX() - 1, jeu.getLabyrinthe().getJoueurY());
+        deplacer(Direction.HAUT);
     }
 
     @FXML
     public void deplacerBas() throws IOException {
-        deplacer(jeu.getLabyrinthe().getJoueurX() + 1, jeu.getLabyrinthe().getJoueurY());
+        deplacer(Direction.BAS);
     }
 
     @FXML
     public void deplacerGauche() throws IOException {
-        deplacer(jeu.getLabyrinthe().getJoueurX(), jeu.getLabyrinthe().getJoueurY() - 1);
+        deplacer(Direction.GAUCHE);
     }
 
     @FXML
     public void deplacerDroite() throws IOException {
-        deplacer(jeu.getLabyrinthe().getJoueurX(), jeu.getLabyrinthe().getJoueurY() + 1);
+        deplacer(Direction.DROITE);
+    }
+
+    private void deplacer(Direction direction) throws IOException {
+        deplacer(direction, false);
     }
 
     /**
-     * Déplace le joueur vers une nouvelle position si le déplacement est valide.
+     * Déplace le joueur via le moteur du jeu, d'une case ou jusqu'au prochain
+     * carrefour, puis joue les sons et affiche la victoire ou la défaite selon
+     * le résultat.
      *
-     * @param nouveauX la nouvelle position X du joueur
-     * @param nouveauY la nouvelle position Y du joueur
+     * @param direction la direction du déplacement
+     * @param courir    true pour suivre le couloir jusqu'au prochain carrefour
      * @throws IOException si une erreur survient lors du déplacement
      */
-    private void deplacer(int nouveauX, int nouveauY) throws IOException {
-        if (!jeu.isRunning()) {
-            jeu.startTimer();
-        }
-
-
-        if (jeu.getLabyrinthe().deplacer(nouveauX, nouveauY)) {
-            gererDeplacementValide(nouveauX, nouveauY);
-        } else {
-            gererDeplacementInvalide(nouveauX, nouveauY);
+    private void deplacer(Direction direction, boolean courir) throws IOException {
+        Labyrinthe labyrinthe = jeu.getLabyrinthe();
+        int cibleX = labyrinthe.getJoueurX() + direction.dx();
+        int cibleY = labyrinthe.getJoueurY() + direction.dy();
+
+        ResultatDeplacement resultat = courir ? jeu.courir(direction) : jeu.avancer(direction);
+        if (resultat == ResultatDeplacement.BLOQUE) {
+            gererDeplacementInvalide(cibleX, cibleY);
+        } else if (resultat.aBouge()) {
+            gererDeplacementValide(resultat);
         }
     }
 
-    private void gererDeplacementValide(int x, int y) throws IOException {
-        boolean surCle = jeu.getLabyrinthe().getCellules()[x][y].estCle() && !jeu.getLabyrinthe().isCleObtenue();
-
+    private void gererDeplacementValide(ResultatDeplacement resultat) throws IOException {
         SoundManager.playSound("move.mp3");
 
         if (random.nextInt(100) < WOOD_SOUND_PROBABILITY) {
             SoundManager.playSound("bois.mp3");
         }
 
-        jeu.setNombreDeplacements(jeu.getNombreDeplacements() + 1);
-
-        if (surCle) {
-            jeu.getLabyrinthe().setCleObtenue();
-            SoundManager.playSound("cle.mp3");
-
-            jeu.getLabyrinthe().getCellules()[x][y] = new modele.Cellules.Chemin(x, y);
-
-            int sortieX = jeu.getLabyrinthe().getSortieX();
-            int sortieY = jeu.getLabyrinthe().getSortieY();
-            if (sortieX >= 0 && sortieY >= 0) {
-                Cellule celluleSortie = jeu.getLabyrinthe().getCellules()[sortieX][sortieY];
-                if (celluleSortie.estSortie()) {
-                    Sortie sortie = (Sortie) celluleSortie;
-                    sortie.deverrouillee();
-                }
-            }
-        }
-
-        if (ModeJeu.MODE_PROGRESSION == jeu.getModeJeu()) {
-            if (jeu.getNombreDeplacements() >= nbDeplacementMax()) {
-                defaite();
+        switch (resultat) {
+            case CLE_RAMASSEE -> SoundManager.playSound("cle.mp3");
+            case DEFAITE -> defaite();
+            case VICTOIRE -> victoire();
+            default -> {
             }
         }
-
-        if (jeu.getLabyrinthe().estSurSortie(x, y)) {
-            victoire();
-        }
-    }
-
-    private int nbDeplacementMax() {
-        return jeu.getLabyrinthe().calculePlusCourtChemin()*2;
     }
 
     private void gererDeplacementInvalide(int x, int y) {
@@ -341,11 +321,18 @@ public class JeuControleur extends Controleur implements Router.DataReceiver, La
     public void setParametresLab(int largeur, int hauteur, double pourcentageMurs, int distanceMin, TypeLabyrinthe typeLab) {
         // Créer le labyrinthe
         jeu.setLabyrinthe(new Labyrinthe(largeur, hauteur, pourcentageMurs, distanceMin));
+        jeu.getLabyrinthe().setSolveur(typeLab.creerSolveur());
 
         // Créer et utiliser le générateur
         this.generateur = typeLab.creerGenerateur(largeur, hauteur, pourcentageMurs, distanceMin);
         this.generateur.generer(jeu.getLabyrinthe());
 
+        // Calculer le budget de déplacements et les distances maintenant plutôt qu'au premier déplacement
+        if (ModeJeu.MODE_PROGRESSION == jeu.getModeJeu()) {
+            jeu.getDeplacementsMax();
+        }
+        jeu.getLabyrinthe().calculerChampsDistances();
+
         // Réinitialiser le timer
         jeu.resetTimer();
 
@@ -353,7 +340,7 @@ public class JeuControleur extends Controleur implements Router.DataReceiver, La
         setRenduLabyrinthe();
 
         // Ajouter les listeners pour la position du joueur
-        jeu.getLabyrinthe().addObserver(this);
+        observerLabyrinthe();
 
         // Afficher le jeu
         afficherJeu();
@@ -383,6 +370,26 @@ public class JeuControleur extends Controleur implements Router.DataReceiver, La
         afficherJeu();
     }
 
+    @Override
+    public void changement(ChangementLabyrinthe changement) {
+        afficherJeu();
+    }
+
+    /**
+     * S'abonne aux changements du labyrinthe courant et se désabonne du précédent.
+     * L'abonnement est faible : un contrôleur dont la scène a été quittée
+     * n'est pas retenu par le labyrinthe. Les instantanés sont activés pour que
+     * les traitements en arrière-plan lisent un état cohérent.
+     */
+    private void observerLabyrinthe() {
+        if (labyrintheObserve != null) {
+            labyrintheObserve.removeObserver(this);
+        }
+        labyrintheObserve = jeu.getLabyrinthe();
+        labyrintheObserve.addObserverFaible(this);
+        labyrintheObserve.activerInstantanes();
+    }
+
     /**
      * Définit les paramètres du labyrinthe avec le mode clé activé.
      * Utilise la génération de base (sans distanceMin) et configure la vision avec brouillard.
@@ -396,6 +403,10 @@ public class JeuControleur extends Controleur implements Router.DataReceiver, La
         this.generateur = new modele.generateurs.GenerateurParfait(largeur, hauteur, 0, true);
         this.generateur.generer(jeu.getLabyrinthe());
 
+        // Optimum réel, détour par la clé compris, calculé avant que la clé ne soit ramassée
+        jeu.getLabyrinthe().calculePlusCourtChemin();
+        jeu.getLabyrinthe().calculerChampsDistances();
+
         jeu.resetTimer();
 
         vue.visionsLabyrinthe.VisionCle visionCle = new vue.visionsLabyrinthe.VisionCle(porteeVision);
@@ -405,7 +416,7 @@ public class JeuControleur extends Controleur implements Router.DataReceiver, La
         overlayMinimap.setVisible(false);
         this.renduMinimap = null;
 
-        jeu.getLabyrinthe().addObserver(this);
+        observerLabyrinthe();
 
         afficherJeu();
     }
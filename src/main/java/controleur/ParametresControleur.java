@@ -123,6 +123,12 @@ public class ParametresControleur extends Controleur {
             case ("Parfait"):
                 this.typeLabyrinthe = TypeLabyrinthe.PARFAIT;
                 break;
+            case ("Parfait (Kruskal)"):
+                this.typeLabyrinthe = TypeLabyrinthe.KRUSKAL;
+                break;
+            case ("Parfait (Wilson)"):
+                this.typeLabyrinthe = TypeLabyrinthe.WILSON;
+                break;
             default:
                 throw new IllegalArgumentException("Type de labyrinthe inconnu !");
         }
@@ -134,7 +140,7 @@ public class ParametresControleur extends Controleur {
      */
     private void updateAvailableFields() {
         switch (this.typeLabyrinthe) {
-            case PARFAIT -> {
+            case PARFAIT, KRUSKAL, WILSON -> {
                 pourcentageMursField.setDisable(true);
                 pourcentageMursSlider.setDisable(true);
                 pourcentageMurs = 100.0;
@@ -182,7 +188,7 @@ public class ParametresControleur extends Controleur {
             System.out.println("\tTypeLabyrinthe : " + typeLabyrinthe);
 
             int distanceMinEffective;
-            if (typeLabyrinthe == TypeLabyrinthe.PARFAIT) {
+            if (typeLabyrinthe != TypeLabyrinthe.ALEATOIRE) {
                 distanceMinEffective = distanceMin;
             } else {
                 distanceMinEffective = 1;
@@ -0,0 +1,89 @@
+package controleur.boutique;
+
+import controleur.AppControleur;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import modele.Jeu;
+import modele.Joueur;
+import modele.boutique.GestionnaireBoutique;
+import vue.Router;
+
+/**
+ * Ouverture des écrans de la boutique et du casier.
+ * Le chargement des vues JavaFX est fait ici, côté contrôleur, afin que
+ * {@link GestionnaireBoutique} reste utilisable sans interface graphique.
+ */
+public final class NavigationBoutique {
+
+    private NavigationBoutique() {
+    }
+
+    /**
+     * Ouvre la vue Boutique sur le stage principal en initialisant son contrôleur.
+     *
+     * @param stagePrincipal le stage de l'application
+     * @param joueur         l'objet Joueur courant
+     * @param jeu            l'instance du jeu
+     * @param appControleur  le contrôleur principal de l'application
+     */
+    public static void ouvrirBoutique(Stage stagePrincipal, Joueur joueur, Jeu jeu, AppControleur appControleur) {
+        if (joueur == null) {
+            System.err.println("Impossible d'ouvrir la boutique : joueur null");
+            return;
+        }
+
+        GestionnaireBoutique boutique = jeu.getBoutique();
+        boutique.synchroniserScore(joueur);
+
+        try {
+            FXMLLoader chargeur = new FXMLLoader(NavigationBoutique.class.getResource("/boutique/Boutique.fxml"));
+            Scene scene = new Scene(chargeur.load());
+            ControleurBoutique controleur = chargeur.getController();
+            controleur.initialiser(boutique.getServiceAchat(), boutique.getServiceEquipement(),
+                    boutique.getDepotCosmetique(), boutique.getDepotInventaire(), joueur);
+            controleur.setJeu(jeu);
+            controleur.setAppControleur(appControleur);
+            stagePrincipal.setTitle("Boutique");
+            stagePrincipal.setScene(scene);
+            stagePrincipal.setMaximized(true);
+            Router.addToHistory("/Boutique.fxml");
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Ouvre la vue Inventaire (Casier) sur le stage principal en initialisant son contrôleur.
+     *
+     * @param stagePrincipal le stage de l'application
+     * @param joueur         l'objet Joueur courant
+     * @param jeu            l'instance du jeu
+     * @param appControleur  le contrôleur principal de l'application
+     */
+    public static void ouvrirInventaire(Stage stagePrincipal, Joueur joueur, Jeu jeu, AppControleur appControleur) {
+        if (joueur == null) {
+            System.err.println("Impossible d'ouvrir l'inventaire : joueur null");
+            return;
+        }
+
+        GestionnaireBoutique boutique = jeu.getBoutique();
+        boutique.synchroniserScore(joueur);
+
+        try {
+            FXMLLoader chargeur = new FXMLLoader(NavigationBoutique.class.getResource("/boutique/InventaireCosmetique.fxml"));
+            Scene scene = new Scene(chargeur.load());
+            ControleurCasier controleur = chargeur.getController();
+            controleur.initialiser(boutique.getServiceEquipement(), boutique.getDepotCosmetique(),
+                    boutique.getDepotInventaire(), joueur);
+            controleur.setJeu(jeu);
+            controleur.setAppControleur(appControleur);
+            stagePrincipal.setTitle("Mon Casier");
+            stagePrincipal.setScene(scene);
+            stagePrincipal.setMaximized(true);
+            Router.addToHistory("/InventaireCosmetique.fxml");
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
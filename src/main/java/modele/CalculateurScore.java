@@ -26,6 +26,25 @@ public class CalculateurScore {
      * @return le score calculé pour ce défi
      */
     public static int calculerScore(Defi defi, int nombreDeplacements) {
+        return calculerScore(defi, nombreDeplacements, 0);
+    }
+
+
+    /**
+     * Calcule le score obtenu en connaissant le vrai nombre minimal de déplacements
+     * du labyrinthe joué.
+     *
+     * Pour un défi en {@link Vision#VUE_CLE}, le détour par la clé rend la distance
+     * minimale du défi trompeuse : le nombre de déplacements optimal vaut alors
+     * 1,5 × le plus court chemin réel, clé comprise. Les autres défis gardent
+     * la distance minimale du défi.
+     *
+     * @param defi le défi réalisé
+     * @param nombreDeplacements le nombre de déplacements effectués par le joueur
+     * @param plusCourtChemin le nombre minimal de déplacements du labyrinthe, 0 s'il est inconnu
+     * @return le score calculé pour ce défi
+     */
+    public static int calculerScore(Defi defi, int nombreDeplacements, int plusCourtChemin) {
         if (defi == null) {
             return 0;
         }
@@ -39,7 +58,8 @@ public class CalculateurScore {
         }
 
         //étapes 4, 5 et 6
-        int deplacementsOptimal = (int) (defi.distanceMin() * 1.5);
+        int reference = defi.vision() == Vision.VUE_CLE && plusCourtChemin > 0 ? plusCourtChemin : defi.distanceMin();
+        int deplacementsOptimal = (int) (reference * 1.5);
 
         if (nombreDeplacements > deplacementsOptimal) {
             int deplacementsSupplementaires = nombreDeplacements - deplacementsOptimal;
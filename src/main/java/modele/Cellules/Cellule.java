@@ -1,36 +1,87 @@
 package modele.Cellules;
 
-import javafx.scene.image.Image;
+import modele.grille.TypeCellule;
 
 /**
  * Classe abstraite représentant une cellule dans un labyrinthe.
  *
- * Chaque cellule a :
- * - une position (x, y)
- * - une texture associée (image)
+ * Chaque cellule a une position (x, y).
  *
  * Cette classe définit également des méthodes pour connaître le type
  * de cellule (mur, chemin, entrée, sortie, clé ou piège).
  *
  * Les classes concrètes (Mur, Chemin, Entree, Sortie, Cle, Piege, etc.)
- * doivent hériter de cette classe et redéfinir la méthode {@link #getTexture()}
- * ainsi que les méthodes de type si nécessaire.
+ * doivent hériter de cette classe et redéfinir la méthode {@link #getType()}
+ * ainsi que les méthodes de type si nécessaire. Les textures relèvent de la vue
+ * ({@code vue.TexturesCellules}) : le modèle ne dépend pas de JavaFX.
+ *
+ * Le labyrinthe ne stocke plus de cellules : il conserve une grille compacte de
+ * {@link TypeCellule}. Les cellules obtenues via {@link #depuisType(TypeCellule)}
+ * sont des instances partagées, sans position significative : les modifier lève
+ * une {@link UnsupportedOperationException}.
  */
 
 public abstract class Cellule {
 
     private int x;
     private int y;
-    private Image textureMur;
+    private boolean partagee;
+
+
+    /**
+     * Instances partagées, construites une fois pour toutes au chargement de cette classe.
+     * Elles sont rangées à part : construire des sous-classes dans l'initialisation
+     * statique de Cellule elle-même pourrait bloquer deux threads qui chargent l'une
+     * Cellule, l'autre une sous-classe.
+     */
+    private static final class Partagees {
+        private static final Cellule[] CELLULES = {
+                new Mur(0, 0),
+                new Chemin(0, 0),
+                new Entree(0, 0),
+                new Sortie(0, 0),
+                new Sortie(0, 0, true),
+                new Cle(0, 0),
+                new Piege(0, 0)
+        };
+
+        static {
+            for (Cellule cellule : CELLULES) {
+                cellule.partagee = true;
+            }
+        }
+    }
+
+
+    /**
+     * Retourne l'instance partagée correspondant à un type de cellule.
+     *
+     * @param type type de cellule
+     * @return la cellule partagée de ce type
+     */
+    public static Cellule depuisType(TypeCellule type) {
+        return Partagees.CELLULES[type.ordinal()];
+    }
+
+
+    /**
+     * Refuse la modification d'une instance partagée.
+     *
+     * @throws UnsupportedOperationException si la cellule vient de {@link #depuisType(TypeCellule)}
+     */
+    protected void verifierModifiable() {
+        if (partagee) {
+            throw new UnsupportedOperationException("Cellule partagée immuable");
+        }
+    }
 
 
     /**
-     * Retourne la texture (image) associée à la cellule.
-     * Chaque type de cellule doit implémenter cette méthode.
+     * Retourne le type de la cellule, tel qu'il est stocké dans une grille.
      *
-     * @return image de la cellule
+     * @return type de la cellule
      */
-    public abstract Image getTexture();
+    public abstract TypeCellule getType();
 
 
     /**
@@ -111,8 +162,10 @@ public abstract class Cellule {
      * Définit la coordonnée X de la cellule.
      *
      * @param x nouvelle coordonnée X
+     * @throws UnsupportedOperationException si la cellule est partagée
      */
     public void setX(int x) {
+        verifierModifiable();
         this.x = x;
     }
 
@@ -131,8 +184,10 @@ public abstract class Cellule {
      * Définit la coordonnée Y de la cellule.
      *
      * @param y nouvelle coordonnée Y
+     * @throws UnsupportedOperationException si la cellule est partagée
      */
     public void setY(int y) {
+        verifierModifiable();
         this.y = y;
     }
 }
@@ -1,6 +1,6 @@
 package modele.Cellules;
 
-import javafx.scene.image.Image;
+import modele.grille.TypeCellule;
 
 /**
  * Classe représentant une cellule de type chemin dans un labyrinthe.
@@ -8,13 +8,8 @@ import javafx.scene.image.Image;
  * Un chemin est une cellule traversable par le joueur. Cette classe hérite
  * de {@link Cellule} et redéfinit la méthode {@link #estChemin()} pour indiquer
  * qu'il s'agit d'un chemin.
- *
- * Elle gère également une image de texture partagée pour toutes les instances.
  */
 public class Chemin extends Cellule {
-    static Image imageCache;
-    String imagePath = "";
-
 
     /**
      * Constructeur principal avec coordonnées.
@@ -30,41 +25,27 @@ public class Chemin extends Cellule {
 
     /**
      * Constructeur par défaut.
-     * Charge l'image à partir du chemin défini dans {@link #imagePath}.
      */
     public Chemin() {
-        imageCache = new Image(getClass().getResourceAsStream(imagePath));
     }
 
 
     /**
-     * Retourne la texture (image) associée à cette cellule.
+     * Indique que cette cellule est bien un chemin.
      *
-     * @return image de la cellule
+     * @return toujours true
      */
-    public Image getTexture() {
-        return imageCache;
+    public boolean estChemin() {
+        return true;
     }
 
 
     /**
-     * Définit le chemin vers l'image à utiliser pour la texture.
-     * Recharge l'image pour toutes les instances de Chemin.
-     *
-     * @param imagePath chemin relatif vers le fichier image
-     */
-    public void setImagePath(String imagePath) {
-        this.imagePath = imagePath;
-        imageCache = new Image(getClass().getResourceAsStream(imagePath));
-    }
-
-    /**
-     * Indique que cette cellule est bien un chemin.
+     * Retourne le type {@link TypeCellule#CHEMIN}.
      *
-     * @return toujours true
+     * @return type de la cellule
      */
-    public boolean estChemin() {
-        return true;
+    public TypeCellule getType() {
+        return TypeCellule.CHEMIN;
     }
-
 }
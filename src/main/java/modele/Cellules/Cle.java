@@ -1,6 +1,6 @@
 package modele.Cellules;
 
-import javafx.scene.image.Image;
+import modele.grille.TypeCellule;
 
 
 /**
@@ -9,13 +9,8 @@ import javafx.scene.image.Image;
  * La clé est un objet que le joueur doit récupérer pour pouvoir accéder
  * à certaines fonctionnalités du labyrinthe, par exemple débloquer la sortie.
  * Cette classe hérite de {@link Cellule} et redéfinit {@link #estCle()}.
- *
- * La texture est partagée entre toutes les instances de Cle.
  */
 public class Cle extends Cellule {
-    static Image imageCache;
-    String imagePath = "/img/cle.png";
-
 
     /**
      * Constructeur avec coordonnées.
@@ -30,25 +25,21 @@ public class Cle extends Cellule {
 
 
     /**
-     * Retourne la texture (image) associée à cette cellule.
-     * Si l'image n'a pas encore été chargée, elle est chargée depuis le chemin défini.
+     * Indique que cette cellule contient une clé.
      *
-     * @return image de la clé
+     * @return toujours true
      */
-    public Image getTexture() {
-        if (imageCache == null) {
-            imageCache = new Image(getClass().getResourceAsStream(imagePath));
-        }
-        return imageCache;
+    public boolean estCle() {
+        return true;
     }
 
 
     /**
-     * Indique que cette cellule contient une clé.
+     * Retourne le type {@link TypeCellule#CLE}.
      *
-     * @return toujours true
+     * @return type de la cellule
      */
-    public boolean estCle() {
-        return true;
+    public TypeCellule getType() {
+        return TypeCellule.CLE;
     }
 }
@@ -1,19 +1,14 @@
 package modele.Cellules;
 
-import javafx.scene.image.Image;
+import modele.grille.TypeCellule;
 
 /**
  * Classe représentant une cellule de type entrée dans un labyrinthe.
  *
  * L'entrée est la position de départ du joueur dans le labyrinthe.
  * Cette classe hérite de {@link Cellule} et redéfinit {@link #estEntree()}.
- *
- * La texture est partagée entre toutes les instances de Entree.
  */
 public class Entree extends Cellule {
-    static Image imageCache;
-    String imagePath = "/img/chemin.png";
-
 
     /**
      * Constructeur avec coordonnées.
@@ -28,25 +23,21 @@ public class Entree extends Cellule {
 
 
     /**
-     * Retourne la texture (image) associée à cette cellule.
-     * Si l'image n'a pas encore été chargée, elle est chargée depuis le chemin défini.
+     * Indique que cette cellule est une entrée.
      *
-     * @return image de la cellule d'entrée
+     * @return toujours true
      */
-    public Image getTexture() {
-        if (imageCache == null) {
-            imageCache = new Image(getClass().getResourceAsStream(imagePath));
-        }
-        return imageCache;
+    public boolean estEntree() {
+        return true;
     }
 
 
     /**
-     * Indique que cette cellule est une entrée.
+     * Retourne le type {@link TypeCellule#ENTREE}.
      *
-     * @return toujours true
+     * @return type de la cellule
      */
-    public boolean estEntree() {
-        return true;
+    public TypeCellule getType() {
+        return TypeCellule.ENTREE;
     }
 }
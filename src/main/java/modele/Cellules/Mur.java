@@ -1,6 +1,6 @@
 package modele.Cellules;
 
-import javafx.scene.image.Image;
+import modele.grille.TypeCellule;
 
 
 /**
@@ -8,26 +8,13 @@ import javafx.scene.image.Image;
  *
  * Un mur est une cellule non traversable par le joueur. Cette classe
  * hérite de {@link Cellule} et redéfinit {@link #estMur()}.
- *
- * Elle gère deux textures :
- * - imageCache : l'image normale du mur
- * - imageCacheBlocked : l'image du mur bloqué (optionnelle)
- *
- * Les textures sont partagées entre toutes les instances de Mur.
  */
 public class Mur extends Cellule {
-    static Image imageCache;
-    static Image imageCacheBlocked;
-    String imagePath = "";
-
 
     /**
      * Constructeur par défaut.
-     * Initialise les textures du mur et du mur bloqué à partir de imagePath.
      */
     public Mur() {
-        imageCache = new Image(getClass().getResourceAsStream(imagePath));
-        imageCacheBlocked = new Image(getClass().getResourceAsStream(imagePath));
     }
 
 
@@ -44,45 +31,21 @@ public class Mur extends Cellule {
 
 
     /**
-     * Retourne la texture normale du mur.
-     *
-     * @return image du mur
-     */
-    public Image getTexture() {
-        return imageCache;
-    }
-
-
-    /**
-     * Retourne la texture du mur bloqué.
+     * Indique que cette cellule est un mur.
      *
-     * @return image du mur bloqué
+     * @return toujours true
      */
-    public Image getTextureBlocked() {
-        return imageCacheBlocked;
+    public boolean estMur() {
+        return true;
     }
 
 
     /**
-     * Définit le chemin vers l'image du mur et recharge les textures.
-     * La texture du mur bloqué est automatiquement déduite en ajoutant "_blocked"
-     * avant l'extension du fichier.
+     * Retourne le type {@link TypeCellule#MUR}.
      *
-     * @param imagePath chemin relatif vers le fichier image
+     * @return type de la cellule
      */
-    public void setImagePath(String imagePath) {
-        this.imagePath = imagePath;
-        imageCache = new Image(getClass().getResourceAsStream(imagePath));
-        String[] split = imagePath.split("\\.");
-        imageCacheBlocked = new Image(getClass().getResourceAsStream(split[0] + "_blocked.png"));
-    }
-
-    /**
-     * Indique que cette cellule est un mur.
-     *
-     * @return toujours true
-     */
-    public boolean estMur() {
-        return true;
+    public TypeCellule getType() {
+        return TypeCellule.MUR;
     }
 }
@@ -1,6 +1,6 @@
 package modele.Cellules;
 
-import javafx.scene.image.Image;
+import modele.grille.TypeCellule;
 
 
 /**
@@ -9,13 +9,8 @@ import javafx.scene.image.Image;
  * Un piège est une cellule qui peut infliger un effet négatif au joueur
  * lorsqu'il la traverse. Cette classe hérite de {@link Cellule} et
  * redéfinit {@link #estPiege()}.
- *
- * La texture est partagée entre toutes les instances de Piege.
  */
 public class Piege extends Cellule {
-    static Image imageCache;
-    String imagePath = "/img/piege.png";
-
 
     /**
      * Constructeur avec coordonnées.
@@ -30,26 +25,21 @@ public class Piege extends Cellule {
 
 
     /**
-     * Retourne la texture (image) associée à cette cellule.
-     * Si l'image n'a pas encore été chargée, elle est chargée depuis le chemin défini.
+     * Indique que cette cellule est un piège.
      *
-     * @return image du piège
+     * @return toujours true
      */
-    public Image getTexture() {
-        if (imageCache == null) {
-            imageCache = new Image(getClass().getResourceAsStream(imagePath));
-        }
-        return imageCache;
+    public boolean estPiege() {
+        return true;
     }
 
 
     /**
-     * Indique que cette cellule est un piège.
+     * Retourne le type {@link TypeCellule#PIEGE}.
      *
-     * @return toujours true
+     * @return type de la cellule
      */
-    public boolean estPiege() {
-        return true;
+    public TypeCellule getType() {
+        return TypeCellule.PIEGE;
     }
-
 }
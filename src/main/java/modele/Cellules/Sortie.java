@@ -1,6 +1,6 @@
 package modele.Cellules;
 
-import javafx.scene.image.Image;
+import modele.grille.TypeCellule;
 
 
 /**
@@ -9,12 +9,8 @@ import javafx.scene.image.Image;
  * La sortie est la cellule que le joueur doit atteindre pour terminer le labyrinthe.
  * Elle peut être verrouillée ou déverrouillée. Cette classe hérite de {@link Cellule}
  * et redéfinit {@link #estSortie()}.
- *
- * La texture est partagée entre toutes les instances de Sortie.
  */
 public class Sortie extends Cellule {
-    static Image imageCache;
-    String imagePath = "";
     private boolean verrouillee = false;
 
 
@@ -65,39 +61,31 @@ public class Sortie extends Cellule {
 
     /**
      * Déverrouille la sortie.
+     *
+     * @throws UnsupportedOperationException si la sortie est une instance partagée
      */
     public void deverrouillee(){
+        verifierModifiable();
         this.verrouillee = false;
     }
 
 
     /**
-     * Retourne la texture (image) associée à cette cellule.
-     *
-     * @return image de la sortie
-     */
-    public Image getTexture() {
-        return imageCache;
-    }
-
-
-    /**
-     * Définit le chemin vers l'image de la sortie et recharge la texture.
+     * Indique que cette cellule est une sortie.
      *
-     * @param imagePath chemin relatif vers le fichier image
+     * @return toujours true
      */
-    public void setImagePath(String imagePath) {
-        this.imagePath = imagePath;
-        imageCache = new Image(getClass().getResourceAsStream(imagePath));
+    public boolean estSortie() {
+        return true;
     }
 
 
     /**
-     * Indique que cette cellule est une sortie.
+     * Retourne le type de la sortie selon son état de verrouillage.
      *
-     * @return toujours true
+     * @return {@link TypeCellule#SORTIE_VERROUILLEE} si verrouillée, {@link TypeCellule#SORTIE} sinon
      */
-    public boolean estSortie() {
-        return true;
+    public TypeCellule getType() {
+        return verrouillee ? TypeCellule.SORTIE_VERROUILLEE : TypeCellule.SORTIE;
     }
 }
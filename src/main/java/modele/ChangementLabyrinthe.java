@@ -0,0 +1,52 @@
+package modele;
+
+/**
+ * Changement regroupé envoyé aux observateurs d'un {@link Labyrinthe}.
+ *
+ * Toutes les modifications faites pendant une même transaction
+ * (voir {@link Labyrinthe#debuterTransaction()}) sont fusionnées en un seul
+ * changement, dont la {@link #zone()} couvre toutes les cases touchées.
+ * Quand plusieurs sortes de modifications se mélangent, la plus large l'emporte :
+ * une réinitialisation, puis un déplacement du joueur, puis de simples cellules.
+ */
+public sealed interface ChangementLabyrinthe {
+
+    /**
+     * Retourne le rectangle des cases à redessiner.
+     *
+     * @return la zone modifiée
+     */
+    ZoneModifiee zone();
+
+
+    /**
+     * Le joueur a changé de case. La zone couvre l'ancienne et la nouvelle
+     * position, ainsi que les cellules modifiées dans la même action
+     * (clé ramassée, sorties déverrouillées).
+     *
+     * @param ancienX position X avant le déplacement
+     * @param ancienY position Y avant le déplacement
+     * @param nouveauX position X après le déplacement
+     * @param nouveauY position Y après le déplacement
+     * @param zone    cases à redessiner
+     */
+    record JoueurDeplace(int ancienX, int ancienY, int nouveauX, int nouveauY, ZoneModifiee zone)
+            implements ChangementLabyrinthe {
+    }
+
+    /**
+     * Des cellules ont changé de type sans que le joueur ne bouge.
+     *
+     * @param zone cases à redessiner
+     */
+    record CellulesModifiees(ZoneModifiee zone) implements ChangementLabyrinthe {
+    }
+
+    /**
+     * Le labyrinthe a été remplacé ou entièrement régénéré.
+     *
+     * @param zone tout le labyrinthe
+     */
+    record Reinitialisation(ZoneModifiee zone) implements ChangementLabyrinthe {
+    }
+}
@@ -0,0 +1,38 @@
+package modele;
+
+/**
+ * Directions de déplacement du joueur.
+ * X désigne la ligne et Y la colonne : monter diminue X.
+ */
+public enum Direction {
+    HAUT(-1, 0),
+    DROITE(0, 1),
+    BAS(1, 0),
+    GAUCHE(0, -1);
+
+    private final int dx;
+    private final int dy;
+
+    Direction(int dx, int dy) {
+        this.dx = dx;
+        this.dy = dy;
+    }
+
+    /**
+     * Retourne le déplacement en X (ligne).
+     *
+     * @return -1, 0 ou 1
+     */
+    public int dx() {
+        return dx;
+    }
+
+    /**
+     * Retourne le déplacement en Y (colonne).
+     *
+     * @return -1, 0 ou 1
+     */
+    public int dy() {
+        return dy;
+    }
+}
@@ -0,0 +1,41 @@
+package modele;
+
+import modele.grille.Grille;
+import modele.grille.TypeCellule;
+
+/**
+ * État immuable d'un {@link Labyrinthe} à un instant donné.
+ *
+ * Publié par le thread qui modifie le labyrinthe (le thread JavaFX) après chaque
+ * transaction, il peut être lu sans verrou depuis d'autres threads : recherche de
+ * chemin en arrière-plan, calcul d'indices, sauvegarde automatique...
+ * La grille est figée par copie sur écriture (voir {@link Grille#figer()}).
+ *
+ * @param grille     grille immuable
+ * @param joueurX    position X du joueur
+ * @param joueurY    position Y du joueur
+ * @param cleObtenue true si la clé a été ramassée
+ * @param version    numéro de la transaction ayant produit cet état, croissant
+ */
+public record InstantaneLabyrinthe(Grille grille, int joueurX, int joueurY, boolean cleObtenue, long version) {
+
+    /**
+     * Retourne le type de la case (x, y).
+     *
+     * @param x coordonnée X
+     * @param y coordonnée Y
+     * @return le type de la case
+     */
+    public TypeCellule getType(int x, int y) {
+        return grille.getType(x, y);
+    }
+
+    /**
+     * Calcule le plus court chemin entre l'entrée et la sortie de cet état.
+     *
+     * @return la longueur du plus court chemin, 0 si aucun
+     */
+    public int calculePlusCourtChemin() {
+        return new Pathfinder().findShortestPath(grille);
+    }
+}
@@ -1,6 +1,7 @@
 package modele;
 
 import modele.boutique.GestionnaireBoutique;
+import modele.chemins.ChampDistances;
 import modele.defi.Defi;
 import modele.joueursRepositories.JSONRepository;
 import modele.joueursRepositories.JoueurRepository;
@@ -10,10 +11,15 @@ import java.util.Scanner;
 
 /**
  * Classe représentant une partie de jeu.
+ *
+ * Le jeu ne dépend pas de JavaFX : une partie peut être simulée sans interface,
+ * par exemple pour un robot ou un banc de performance. Le dépôt des joueurs n'est
+ * ouvert qu'à sa première utilisation.
  */
 public class Jeu {
+    private static final Direction[] DIRECTIONS = Direction.values();
 
-    JoueurRepository sauvegarde = new JSONRepository();
+    JoueurRepository sauvegarde;
     private Joueur joueur;
     private Labyrinthe labyrinthe;
 
@@ -36,6 +42,7 @@ public class Jeu {
         this.joueur = joueur;
         this.labyrinthe = labyrinthe;
         this.defiEnCours = defiEnCours;
+        this.boutique = boutique;
         this.gameTimer = new GameTimer();
     }
 
@@ -60,6 +67,9 @@ public class Jeu {
     }
 
     public JoueurRepository getSauvegarde() {
+        if (sauvegarde == null) {
+            sauvegarde = new JSONRepository();
+        }
         return sauvegarde;
     }
 
@@ -72,8 +82,8 @@ public class Jeu {
     }
 
     public void setJoueur(String pseudo) throws PseudoException {
-        sauvegarde.chargerJoueurs();
-        setJoueur(sauvegarde.getJoueurParPseudo(pseudo));
+        getSauvegarde().chargerJoueurs();
+        setJoueur(getSauvegarde().getJoueurParPseudo(pseudo));
     }
 
     public Labyrinthe getLabyrinthe() {
@@ -118,55 +128,173 @@ public class Jeu {
         System.out.print("Entrez le pseudo du joueur : ");
         this.joueur = new Joueur(scanner.nextLine());
 
-        this.labyrinthe.setJoueurX(0);
-        this.labyrinthe.setJoueurY(1);
+        this.labyrinthe.placerJoueur(0, 1);
         this.labyrinthe.setJeuEnCours(true);
     }
 
+    /**
+     * Déplace le joueur d'une case : seul point d'entrée des règles de déplacement,
+     * utilisé par l'interface, les robots et les tests.
+     *
+     * Démarre le chronomètre au premier déplacement, compte les déplacements,
+     * ramasse la clé, et termine la partie sur une victoire ou, en mode progression,
+     * quand le nombre maximal de déplacements est atteint. Les observateurs du
+     * labyrinthe reçoivent un seul changement par appel. Sans observateur ni
+     * instantané, un déplacement n'alloue rien ; sinon, il n'alloue que son
+     * changement et son instantané, quelques dizaines d'octets, la grille figée
+     * étant partagée tant qu'aucune case ne change.
+     *
+     * @param direction direction du déplacement
+     * @return le résultat du déplacement
+     */
+    public ResultatDeplacement avancer(Direction direction) {
+        return appliquerDeplacement(direction.dx(), direction.dy());
+    }
+
+    /**
+     * Fait courir le joueur : il avance dans une direction puis suit le couloir,
+     * virages compris, jusqu'au prochain carrefour, cul-de-sac ou case particulière.
+     *
+     * Chaque pas suit les mêmes règles que {@link #avancer(Direction)} et compte
+     * comme un déplacement ; la course s'arrête aussi sur une clé, une victoire ou
+     * une défaite. Tous les pas forment une seule transaction : les observateurs
+     * ne reçoivent qu'un changement, donc un seul rendu.
+     *
+     * @param direction direction du premier pas
+     * @return le résultat du dernier pas
+     */
+    public ResultatDeplacement courir(Direction direction) {
+        if (this.labyrinthe == null) {
+            return ResultatDeplacement.PARTIE_TERMINEE;
+        }
+        this.labyrinthe.debuterTransaction();
+        try {
+            int dx = direction.dx();
+            int dy = direction.dy();
+            ResultatDeplacement resultat = appliquerDeplacement(dx, dy);
+            while (resultat == ResultatDeplacement.DEPLACE) {
+                Direction suite = suiteDuCouloir(dx, dy);
+                if (suite == null) {
+                    break;
+                }
+                dx = suite.dx();
+                dy = suite.dy();
+                resultat = appliquerDeplacement(dx, dy);
+            }
+            return resultat;
+        } finally {
+            this.labyrinthe.validerTransaction();
+        }
+    }
+
+    /**
+     * Retourne la seule direction qui prolonge le couloir où se trouve le joueur,
+     * sans revenir en arrière, ou null s'il est sur un carrefour, un cul-de-sac
+     * ou une case qui n'est pas un simple chemin.
+     */
+    private Direction suiteDuCouloir(int dx, int dy) {
+        int x = this.labyrinthe.getJoueurX();
+        int y = this.labyrinthe.getJoueurY();
+        if (!this.labyrinthe.getType(x, y).estChemin()) {
+            return null;
+        }
+        Direction suite = null;
+        int ouvertes = 0;
+        for (Direction candidate : DIRECTIONS) {
+            if (this.labyrinthe.peutDeplacer(x + candidate.dx(), y + candidate.dy())) {
+                ouvertes++;
+                if (candidate.dx() != -dx || candidate.dy() != -dy) {
+                    suite = candidate;
+                }
+            }
+        }
+        return ouvertes == 2 ? suite : null;
+    }
+
     /**
      * Déplace le joueur dans le labyrinthe.
      *
      * @param dx déplacement gauche, droite
      * @param dy déplacement haut, bas
      * @return true si le déplacement est réussi, false sinon
+     * @see #avancer(Direction)
      */
     public boolean deplacerJoueur(int dx, int dy) {
+        return appliquerDeplacement(dx, dy).aBouge();
+    }
+
+    private ResultatDeplacement appliquerDeplacement(int dx, int dy) {
         if (this.labyrinthe == null || !this.labyrinthe.isJeuEnCours()) {
-            return false;
+            return ResultatDeplacement.PARTIE_TERMINEE;
+        }
+        if (gameTimer != null && !gameTimer.isRunning()) {
+            gameTimer.startTimer();
         }
 
         int nouveauX = this.labyrinthe.getJoueurX() + dx;
         int nouveauY = this.labyrinthe.getJoueurY() + dy;
 
-        if (this.labyrinthe.peutDeplacer(nouveauX, nouveauY)) {
-            this.labyrinthe.setJoueurX(nouveauX);
-            this.labyrinthe.setJoueurY(nouveauY);
-            nombreDeplacements++;
+        if (!this.labyrinthe.peutDeplacer(nouveauX, nouveauY)) {
+            return ResultatDeplacement.BLOQUE;
+        }
 
-            if (this.labyrinthe.getCellules()[nouveauX][nouveauY].estCle() && !this.labyrinthe.isCleObtenue()) {
-                this.labyrinthe.setCleObtenue();
-                System.out.println("Clé obtenue ! La sortie est maintenant accessible.");
+        boolean cleRamassee;
+        this.labyrinthe.debuterTransaction();
+        try {
+            this.labyrinthe.placerJoueur(nouveauX, nouveauY);
+            cleRamassee = this.labyrinthe.ramasserCle(nouveauX, nouveauY);
+        } finally {
+            this.labyrinthe.validerTransaction();
+        }
+        nombreDeplacements++;
 
-                this.labyrinthe.getCellules()[nouveauX][nouveauY] = new modele.Cellules.Chemin(nouveauX, nouveauY);
+        if (this.labyrinthe.estSurSortie(nouveauX, nouveauY)) {
+            this.labyrinthe.setJeuEnCours(false);
+            return ResultatDeplacement.VICTOIRE;
+        }
+        if (modeJeu == ModeJeu.MODE_PROGRESSION && nombreDeplacements >= getDeplacementsMax()) {
+            this.labyrinthe.setJeuEnCours(false);
+            return ResultatDeplacement.DEFAITE;
+        }
+        return cleRamassee ? ResultatDeplacement.CLE_RAMASSEE : ResultatDeplacement.DEPLACE;
+    }
 
-                for (int i = 0; i < this.labyrinthe.getLargeurMax(); i++) {
-                    for (int j = 0; j < this.labyrinthe.getHauteurMax(); j++) {
-                        if (this.labyrinthe.getCellules()[i][j].estSortie() &&
-                                this.labyrinthe.getCellules()[i][j] instanceof modele.Cellules.Sortie sortie) {
-                            sortie.deverrouillee();
-                        }
-                    }
-                }
-            }
+    /**
+     * Retourne le nombre maximal de déplacements du mode progression :
+     * deux fois la longueur du plus court chemin, que le labyrinthe garde en cache.
+     *
+     * @return le nombre maximal de déplacements
+     */
+    public int getDeplacementsMax() {
+        return labyrinthe.calculePlusCourtChemin() * 2;
+    }
 
-            if (this.labyrinthe.estSurSortie(nouveauX, nouveauY)) {
-                this.labyrinthe.setJeuEnCours(false);
-            }
+    /**
+     * Retourne le nombre de déplacements encore permis en mode progression.
+     *
+     * @return les déplacements restants, jamais négatif
+     */
+    public int getDeplacementsRestants() {
+        return Math.max(0, getDeplacementsMax() - nombreDeplacements);
+    }
 
+    /**
+     * Indique, avant la défaite effective, que la partie ne peut plus être gagnée :
+     * la victoire est inaccessible depuis la case du joueur ou, en mode progression,
+     * plus loin que les déplacements restants. Une lecture du champ de distances
+     * du labyrinthe, sans recherche.
+     *
+     * @return true si la victoire est devenue impossible
+     */
+    public boolean victoireImpossible() {
+        if (labyrinthe == null || labyrinthe.getGrille() == null) {
+            return false;
+        }
+        int distance = labyrinthe.distanceVictoire();
+        if (distance == ChampDistances.INACCESSIBLE) {
             return true;
         }
-
-        return false;
+        return modeJeu == ModeJeu.MODE_PROGRESSION && distance > getDeplacementsRestants();
     }
 
     /**
@@ -214,9 +342,10 @@ public class Jeu {
         resultat.append("Nombre de déplacements : ").append(nombreDeplacements).append("\n");
 
         if (victoire && this.joueur != null && this.defiEnCours != null) {
-            int scoreObtenu = CalculateurScore.calculerScore(defiEnCours, nombreDeplacements);
+            int plusCourtChemin = labyrinthe.getGrille() == null ? 0 : labyrinthe.calculePlusCourtChemin();
+            int scoreObtenu = CalculateurScore.calculerScore(defiEnCours, nombreDeplacements, plusCourtChemin);
             this.joueur.ajouterScore(scoreObtenu, defiEnCours);
-            this.sauvegarde.sauvegarder();
+            getSauvegarde().sauvegarder();
             resultat.append("Points gagnés : ").append(scoreObtenu);
         }
 
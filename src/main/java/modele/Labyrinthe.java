@@ -2,16 +2,55 @@ package modele;
 
 import modele.defi.Defi;
 import modele.Cellules.Cellule;
-import modele.defi.Defi;
-
+import modele.chemins.ChampDistances;
+import modele.chemins.RechercheIncrementale;
+import modele.chemins.Solveur;
+import modele.chemins.SolveurBFS;
+import modele.chemins.SolveurCles;
+import modele.grille.BitmapPassage;
+import modele.grille.Grille;
+import modele.grille.GrilleTableau;
+import modele.grille.IndexCellules;
+import modele.grille.ListeIndices;
+import modele.grille.TypeCellule;
+
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 
 /**
  * Classe représentant un labyrinthe.
+ *
+ * Les cases sont conservées dans une {@link Grille} compacte (un octet par case).
+ * Les objets {@link Cellule} ne sont plus créés que pour les appelants qui en ont
+ * besoin, sous forme d'instances partagées.
+ *
+ * Un {@link IndexCellules} mémorise l'entrée, les sorties, les clés et les pièges ;
+ * il est construit à la réception de la grille et mis à jour à chaque modification
+ * de case faite via {@link #setType(int, int, TypeCellule)}.
+ * De même, un {@link BitmapPassage} tient à jour les cases traversables (en tenant
+ * compte des sorties verrouillées) : {@link #peutDeplacer(int, int)} se résume à
+ * un test de bornes et un test de bit. La grille ne doit donc être modifiée
+ * qu'à travers le labyrinthe.
+ *
+ * Les observateurs reçoivent un seul {@link ChangementLabyrinthe} par action :
+ * les modifications faites entre {@link #debuterTransaction()} et
+ * {@link #validerTransaction()} sont fusionnées, avec le rectangle des cases touchées.
+ * Chaque modificateur public ouvre sa propre transaction, de sorte qu'un appel
+ * isolé produit aussi exactement un changement.
+ *
+ * Le labyrinthe est propriétaire de sa grille : une grille hors tas remplacée par
+ * {@link #setGrille(Grille)} est fermée, et {@link #libererGrille()} libère la
+ * grille courante quand le labyrinthe n'est plus utilisé.
+ *
+ * Une fois {@link #activerInstantanes()} appelé, chaque transaction validée publie
+ * aussi un {@link InstantaneLabyrinthe} immuable, lisible depuis d'autres threads
+ * via {@link #getInstantane()}.
  */
 public class Labyrinthe {
+    private static final Direction[] DIRECTIONS = Direction.values();
 
     private final int largeur;
     private final int hauteur;
@@ -19,16 +58,35 @@ public class Labyrinthe {
     private final int distanceMin;
     private final int largeurMax;
     private final int hauteurMax;
-    private Cellule[][] cellules;
+    private Grille grille;
+    private IndexCellules index;
+    private BitmapPassage passage;
+    private int plusCourtChemin = -1;
+    private Solveur solveur = new SolveurBFS();
+    private SolveurCles solveurCles;
+    private ChampDistances champSortie;
+    private ChampDistances champCle;
+    private int distanceInitiale = -1;
+    private RechercheIncrementale recherche;
     private int joueurX;
     private int joueurY;
     private boolean jeuEnCours;
     private boolean cleObtenue;
-    private int cleX;
-    private int cleY;
-    private int sortieX;
-    private int sortieY;
-    private final List<LabyrintheObserver> observers;
+    private final List<Abonnement> observers;
+    /** Copie des observateurs parcourue à chaque envoi, refaite seulement quand la liste change. */
+    private Abonnement[] abonnes = new Abonnement[0];
+    private int profondeurTransaction;
+    private boolean reinitialisationEnAttente;
+    private boolean deplacementEnAttente;
+    private int departX;
+    private int departY;
+    private int zoneXMin;
+    private int zoneYMin;
+    private int zoneXMax;
+    private int zoneYMax;
+    private long version;
+    private boolean instantanesActives;
+    private volatile InstantaneLabyrinthe instantane;
 
 
     /**
@@ -51,6 +109,7 @@ public class Labyrinthe {
         this.jeuEnCours = true;
         this.observers = new ArrayList<>();
         this.cleObtenue = false;
+        viderModificationsEnAttente();
     }
 
     /**
@@ -73,15 +132,78 @@ public class Labyrinthe {
         this(defi.largeur(), defi.hauteur(), defi.pourcentageMurs());
     }
 
+    /**
+     * Constructeur pour un labyrinthe à partir d'une grille existante,
+     * par exemple une grille rouverte depuis un fichier.
+     * Le joueur est placé sur l'entrée.
+     *
+     * @param grille la grille du labyrinthe
+     */
+    public Labyrinthe(Grille grille) {
+        this(grille.getLargeurMax() - 2, grille.getHauteurMax() - 2, 0);
+        setGrille(grille);
+        int entree = index.getEntree();
+        if (entree >= 0) {
+            this.joueurX = entree / hauteurMax;
+            this.joueurY = entree % hauteurMax;
+        }
+    }
+
     /**
      * Calcule le plus court chemin entre l'entrée et la sortie du labyrinthe.
-     * Délègue le calcul à la classe Pathfinder qui utilise l'algorithme BFS.
+     * Délègue le calcul à la classe Pathfinder, avec le solveur de ce labyrinthe
+     * (BFS par défaut), en partant de l'entrée connue par l'index.
+     *
+     * Le résultat est gardé en cache : les appels suivants sont en O(1) tant que
+     * la grille n'est pas remplacée et qu'aucune case ne change de façon à modifier
+     * le chemin (mur, entrée, sortie, ou clé tant qu'elle n'est pas ramassée),
+     * voir {@link #setType(int, int, TypeCellule)}.
+     *
+     * Tant qu'une sortie est verrouillée et la clé pas encore ramassée, le calcul est
+     * confié à un {@link SolveurCles} : la longueur comprend alors le détour par la clé.
+     * Ramasser la clé ne vide pas le cache, qui garde l'optimum du niveau.
      *
      * @return la longueur du plus court chemin
      */
     public int calculePlusCourtChemin() {
-        Pathfinder pathfinder = new Pathfinder();
-        return pathfinder.findShortestPath(cellules, largeurMax, hauteurMax);
+        if (plusCourtChemin >= 0) {
+            return plusCourtChemin;
+        }
+        int entree = index.getEntree();
+        if (!cleObtenue && contientSortieVerrouillee()) {
+            if (solveurCles == null) {
+                solveurCles = new SolveurCles();
+            }
+            plusCourtChemin = new Pathfinder(solveurCles).findShortestPath(grille, entree, index.getSorties());
+        } else {
+            plusCourtChemin = new Pathfinder(solveur).findShortestPath(grille, entree, index.getSorties());
+        }
+        return plusCourtChemin;
+    }
+
+    private boolean contientSortieVerrouillee() {
+        ListeIndices sorties = index.getSorties();
+        for (int i = 0; i < sorties.taille(); i++) {
+            if (grille.getCode(sorties.get(i)) == TypeCellule.SORTIE_VERROUILLEE.code()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Choisit le solveur utilisé par {@link #calculePlusCourtChemin()}.
+     * Tous les solveurs donnent la même longueur ; seul le coût du calcul change.
+     *
+     * @param solveur la stratégie de recherche, voir {@link TypeLabyrinthe#creerSolveur()}
+     */
+    public void setSolveur(Solveur solveur) {
+        this.solveur = solveur;
+        this.plusCourtChemin = -1;
+    }
+
+    public Solveur getSolveur() {
+        return solveur;
     }
 
     public boolean isJeuEnCours() {
@@ -116,13 +238,35 @@ public class Labyrinthe {
     }
 
     public void setJoueurY(int joueurY) {
-        this.joueurY = joueurY;
-        notifyObservers();
+        placerJoueur(joueurX, joueurY);
     }
 
     public void setJoueurX(int joueurX) {
-        this.joueurX =  joueurX;
-        notifyObservers();
+        placerJoueur(joueurX, joueurY);
+    }
+
+    /**
+     * Place le joueur en (x, y) sans vérifier la case.
+     * Les observateurs reçoivent un seul {@link ChangementLabyrinthe.JoueurDeplace}.
+     *
+     * @param x la nouvelle position x
+     * @param y la nouvelle position y
+     */
+    public void placerJoueur(int x, int y) {
+        debuterTransaction();
+        try {
+            if (!deplacementEnAttente) {
+                deplacementEnAttente = true;
+                departX = joueurX;
+                departY = joueurY;
+                marquer(joueurX, joueurY);
+            }
+            this.joueurX = x;
+            this.joueurY = y;
+            marquer(x, y);
+        } finally {
+            validerTransaction();
+        }
     }
 
     public boolean getCleObtenue(){
@@ -131,6 +275,8 @@ public class Labyrinthe {
 
     public void setCleObtenue(){
         this.cleObtenue = true;
+        champCle = null;
+        majSortiesVerrouillees();
     }
 
     /**
@@ -141,31 +287,28 @@ public class Labyrinthe {
      * @return true si le déplacement est possible, false sinon
      */
     public boolean peutDeplacer(int x, int y) {
-        if (x < 0 || x >= largeurMax || y < 0 || y >= hauteurMax) {
-            return false;
-        } else if (cellules[x][y] == null || cellules[x][y].estMur()) {
-            return false;
-        }
-
-        if (cellules[x][y].estSortie() && cellules[x][y] instanceof modele.Cellules.Sortie sortie) {
-            if (sortie.estVerrouillee() && !cleObtenue) {
-                return false;
-            }
-        }
+        return x >= 0 && x < largeurMax && y >= 0 && y < hauteurMax
+                && passage.estPassable(x * hauteurMax + y);
+    }
 
-        return !cellules[x][y].estMur();
+    /**
+     * Retourne le bitmap des cases traversables, tenu à jour par le labyrinthe.
+     *
+     * @return le bitmap de passage
+     */
+    public BitmapPassage getPassage() {
+        return passage;
     }
 
     public boolean deplacer(int x, int y) {
         if (!peutDeplacer(x, y)) return false;
 
-        setJoueurX(x);
-        setJoueurY(y);
+        placerJoueur(x, y);
         return true;
     }
 
     public boolean estSurSortie(int x, int y) {
-        return cellules[x][y].estSortie();
+        return getType(x, y).estSortie();
     }
 
     public int getLargeurMax() {
@@ -176,46 +319,580 @@ public class Labyrinthe {
         return hauteurMax;
     }
 
+    public Grille getGrille() {
+        return grille;
+    }
+
+    /**
+     * Remplace la grille du labyrinthe, qui en devient propriétaire.
+     *
+     * Si l'ancienne grille est {@link AutoCloseable}, comme une
+     * {@link modele.grille.GrilleHorsTas}, elle est fermée : sa mémoire hors tas ou sa
+     * projection de fichier est libérée, et elle n'est plus utilisable ensuite.
+     *
+     * Une nouvelle grille est un nouveau niveau : la clé n'y est pas encore ramassée.
+     * C'est la seule façon de revenir sur un ramassage, voir {@link #ramasserCle(int, int)}.
+     *
+     * @param grille la nouvelle grille
+     */
+    public void setGrille(Grille grille) {
+        Grille ancienne = this.grille;
+        debuterTransaction();
+        try {
+            this.grille = grille;
+            this.cleObtenue = false;
+            this.index = IndexCellules.indexer(grille);
+            this.passage = BitmapPassage.calculer(grille, cleObtenue);
+            this.plusCourtChemin = -1;
+            solveur.grilleModifiee();
+            oublierChampsDistances();
+            if (recherche != null) {
+                recherche = new RechercheIncrementale(grille, index.getSorties());
+            }
+            reinitialisationEnAttente = true;
+        } finally {
+            validerTransaction();
+        }
+        if (ancienne != grille) {
+            fermer(ancienne);
+        }
+    }
+
+    /**
+     * Libère la grille du labyrinthe si elle détient des ressources hors du tas
+     * ({@link AutoCloseable}). Le labyrinthe n'est plus utilisable ensuite.
+     */
+    public void libererGrille() {
+        fermer(grille);
+    }
+
+    private static void fermer(Grille grille) {
+        if (grille instanceof AutoCloseable ressource) {
+            try {
+                ressource.close();
+            } catch (Exception e) {
+                throw new IllegalStateException("Impossible de libérer la grille", e);
+            }
+        }
+    }
+
+    public IndexCellules getIndex() {
+        return index;
+    }
+
+    /**
+     * Retourne le type de la case (x, y).
+     *
+     * @param x la coordonnée x de la cellule
+     * @param y la coordonnée y de la cellule
+     * @return le type de la case
+     */
+    public TypeCellule getType(int x, int y) {
+        return grille.getType(x, y);
+    }
+
+    /**
+     * Modifie le type de la case (x, y). Sans effet, et sans changement envoyé aux
+     * observateurs, si la case a déjà ce type.
+     *
+     * @param x    la coordonnée x de la cellule
+     * @param y    la coordonnée y de la cellule
+     * @param type le nouveau type
+     */
+    public void setType(int x, int y, TypeCellule type) {
+        int indice = grille.indice(x, y);
+        TypeCellule ancien = TypeCellule.depuisCode(grille.getCode(indice));
+        if (ancien == type) {
+            // Rien ne change : ni nouvelle version, ni instantané, ni changement envoyé
+            return;
+        }
+        grille.setCode(indice, type.code());
+        index.remplacer(indice, ancien, type);
+        passage.definir(indice, BitmapPassage.estPassable(type.code(), cleObtenue));
+        if (modifieChemin(ancien) || modifieChemin(type)
+                || (!cleObtenue && (ancien.estCle() || type.estCle()))) {
+            plusCourtChemin = -1;
+            solveur.grilleModifiee();
+        }
+        if (recherche != null && (ancien.estMur() != type.estMur() || ancien.estSortie() != type.estSortie())) {
+            recherche.caseModifiee(indice);
+        }
+        if (ancien.estMur() || type.estMur() || ancien.estSortie() || type.estSortie()) {
+            oublierChampsDistances();
+        } else if (ancien.estCle() || type.estCle()) {
+            // Seule la phase « aller à la clé » dépend des clés
+            champCle = null;
+        }
+
+        debuterTransaction();
+        marquer(x, y);
+        validerTransaction();
+    }
+
+    /**
+     * Tient à jour, pour un labyrinthe qui change en cours de partie (murs mobiles,
+     * éditeur...), une {@link RechercheIncrementale} de la case du joueur à la sortie.
+     *
+     * Sans elle, poser ou retirer un mur oublie le champ des distances à la sortie, qui
+     * est recalculé en entier à la requête suivante. Avec elle, tant que ce champ n'a pas
+     * été recalculé, {@link #distanceVictoire()} et {@link #indice()} sont servis par la
+     * recherche, qui ne répare que la zone touchée par les changements. La phase
+     * « aller à la clé » reste servie par les champs.
+     */
+    public void activerRechercheIncrementale() {
+        if (recherche == null && grille != null) {
+            recherche = new RechercheIncrementale(grille, index.getSorties());
+        }
+    }
+
+    /**
+     * Retourne la recherche incrémentale du labyrinthe.
+     *
+     * @return la recherche, ou null si elle n'est pas activée
+     */
+    public RechercheIncrementale getRechercheIncrementale() {
+        return recherche;
+    }
+
+    private boolean rechercheIncrementaleUtilisable() {
+        return recherche != null && champSortie == null && !phaseCle();
+    }
+
+    /**
+     * Calcule dès maintenant les champs de distances utilisés par {@link #indice()},
+     * {@link #distanceVictoire()} et {@link #progression()}, pour qu'aucune recherche
+     * n'ait lieu pendant la partie.
+     */
+    public void calculerChampsDistances() {
+        getChampSortie();
+        getChampCle();
+        if (distanceInitiale < 0) {
+            int entree = index.getEntree();
+            distanceInitiale = entree < 0 ? ChampDistances.INACCESSIBLE
+                    : distanceVictoire(entree / hauteurMax, entree % hauteurMax);
+        }
+    }
+
+    /**
+     * Retourne le champ des distances à la sortie la plus proche, calculé une fois
+     * puis gardé tant qu'aucun mur ni aucune sortie ne change.
+     * Toutes les cases non murées sont traversables, sorties verrouillées comprises.
+     *
+     * @return le champ des distances à la sortie
+     */
+    public ChampDistances getChampSortie() {
+        if (champSortie == null) {
+            champSortie = ChampDistances.calculer(grille, index.getSorties().versTableau(), false);
+        }
+        return champSortie;
+    }
+
+    /**
+     * Retourne le champ des distances jusqu'à la victoire en passant par une clé :
+     * pour chaque case, la distance à une clé plus la distance de cette clé à la sortie.
+     * Les sorties verrouillées y sont infranchissables.
+     *
+     * Le champ est abandonné dès que la clé est ramassée : la seconde phase n'a besoin
+     * que du champ de la sortie, qui reste valable.
+     *
+     * @return le champ de la phase « clé », ou null si aucune clé n'est à ramasser
+     */
+    public ChampDistances getChampCle() {
+        if (!phaseCle()) {
+            return null;
+        }
+        if (champCle == null) {
+            ChampDistances sortie = getChampSortie();
+            ListeIndices cles = index.getCles();
+            int[] sources = new int[cles.taille()];
+            int[] decalages = new int[cles.taille()];
+            int nombre = 0;
+            for (int i = 0; i < cles.taille(); i++) {
+                int cle = cles.get(i);
+                int decalage = sortie.distance(cle);
+                // Une clé d'où la sortie est inaccessible ne mène nulle part
+                if (decalage != ChampDistances.INACCESSIBLE) {
+                    sources[nombre] = cle;
+                    decalages[nombre++] = decalage;
+                }
+            }
+            champCle = ChampDistances.calculer(grille, Arrays.copyOf(sources, nombre), Arrays.copyOf(decalages, nombre), true);
+        }
+        return champCle;
+    }
+
+    private boolean phaseCle() {
+        return !cleObtenue && !index.getCles().estVide();
+    }
+
+    private void oublierChampsDistances() {
+        champSortie = null;
+        champCle = null;
+        distanceInitiale = -1;
+    }
+
+    /**
+     * Retourne le nombre minimal de déplacements restant pour gagner depuis une case,
+     * clé comprise si elle n'a pas encore été ramassée.
+     *
+     * @param x la coordonnée x de la case
+     * @param y la coordonnée y de la case
+     * @return le nombre de déplacements, ou {@link ChampDistances#INACCESSIBLE}
+     */
+    public int distanceVictoire(int x, int y) {
+        ChampDistances champ = phaseCle() ? getChampCle() : getChampSortie();
+        return champ.distance(x * hauteurMax + y);
+    }
+
+    /**
+     * Retourne le nombre minimal de déplacements restant au joueur pour gagner.
+     *
+     * @return le nombre de déplacements, ou {@link ChampDistances#INACCESSIBLE}
+     */
+    public int distanceVictoire() {
+        if (rechercheIncrementaleUtilisable()) {
+            return recherche.distance(joueurX * hauteurMax + joueurY);
+        }
+        return distanceVictoire(joueurX, joueurY);
+    }
+
+    /**
+     * Indique la direction qui rapproche le joueur de la victoire : de la clé tant
+     * qu'elle n'est pas ramassée, puis de la sortie. Une seule lecture du champ
+     * par voisin, sans recherche.
+     *
+     * @return la direction conseillée, ou null si le joueur est arrivé ou ne peut plus gagner
+     */
+    public Direction indice() {
+        if (rechercheIncrementaleUtilisable()) {
+            int suivante = recherche.caseSuivante(joueurX * hauteurMax + joueurY);
+            for (Direction direction : DIRECTIONS) {
+                int x = joueurX + direction.dx();
+                int y = joueurY + direction.dy();
+                if (peutDeplacer(x, y) && x * hauteurMax + y == suivante) {
+                    return direction;
+                }
+            }
+            return null;
+        }
+        int distance = distanceVictoire();
+        if (distance <= 0) {
+            return null;
+        }
+        for (Direction direction : DIRECTIONS) {
+            int x = joueurX + direction.dx();
+            int y = joueurY + direction.dy();
+            if (peutDeplacer(x, y) && distanceVictoire(x, y) == distance - 1) {
+                return direction;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retourne la progression du joueur vers la victoire, entre 0 (à l'entrée)
+     * et 1 (sur la sortie), d'après la distance restante.
+     *
+     * @return la progression, 0 si la victoire est inaccessible depuis l'entrée
+     */
+    public double progression() {
+        calculerChampsDistances();
+        int restante = distanceVictoire();
+        if (distanceInitiale <= 0 || restante < 0) {
+            return 0;
+        }
+        return Math.max(0, Math.min(1, 1 - restante / (double) distanceInitiale));
+    }
+
+    /**
+     * Indique si un type de case compte pour le plus court chemin :
+     * les murs bloquent le parcours, qui part de l'entrée et s'arrête sur une sortie.
+     * Un piège se traverse comme un chemin ; une clé aussi, mais tant qu'elle n'est pas
+     * ramassée, sa position fixe le détour du {@link SolveurCles} : {@link #setType}
+     * la traite à part.
+     */
+    private static boolean modifieChemin(TypeCellule type) {
+        return type.estMur() || type.estEntree() || type.estSortie();
+    }
+
+    /**
+     * Ramasse la clé présente en (x, y) : la case devient un chemin
+     * et toutes les sorties sont déverrouillées.
+     *
+     * Le ramassage est définitif : les sorties réécrites ne se reverrouillent pas et le
+     * plus court chemin en cache reste celui du niveau. Pour rejouer le niveau, il faut
+     * lui redonner une grille neuve par {@link #setGrille(Grille)}.
+     *
+     * @param x la coordonnée x de la cellule
+     * @param y la coordonnée y de la cellule
+     * @return true si une clé a été ramassée
+     */
+    public boolean ramasserCle(int x, int y) {
+        if (cleObtenue || !getType(x, y).estCle()) {
+            return false;
+        }
+        debuterTransaction();
+        try {
+            setCleObtenue();
+            setType(x, y, TypeCellule.CHEMIN);
+
+            ListeIndices sorties = index.getSorties();
+            for (int i = 0; i < sorties.taille(); i++) {
+                int sortie = sorties.get(i);
+                if (grille.getCode(sortie) == TypeCellule.SORTIE_VERROUILLEE.code()) {
+                    grille.setCode(sortie, TypeCellule.SORTIE.code());
+                    marquer(sortie / hauteurMax, sortie % hauteurMax);
+                }
+            }
+        } finally {
+            validerTransaction();
+        }
+        return true;
+    }
+
+    /**
+     * Retourne la cellule partagée correspondant à la case (x, y).
+     *
+     * @param x la coordonnée x de la cellule
+     * @param y la coordonnée y de la cellule
+     * @return la cellule partagée du type de la case
+     */
+    public Cellule getCellule(int x, int y) {
+        return Cellule.depuisType(getType(x, y));
+    }
+
+    /**
+     * Construit une matrice de cellules à partir de la grille.
+     * Les cellules sont des instances partagées : modifier la matrice
+     * retournée n'a aucun effet sur le labyrinthe.
+     *
+     * @return une matrice de cellules
+     */
     public Cellule[][] getCellules() {
+        if (grille == null) {
+            return null;
+        }
+        Cellule[][] cellules = new Cellule[largeurMax][hauteurMax];
+        for (int i = 0; i < largeurMax; i++) {
+            for (int j = 0; j < hauteurMax; j++) {
+                cellules[i][j] = getCellule(i, j);
+            }
+        }
         return cellules;
     }
 
+    /**
+     * Remplit la grille à partir d'une matrice de cellules.
+     * Les cases nulles deviennent des murs.
+     *
+     * @param cellules une matrice de cellules
+     */
     public void setCellules(Cellule[][] cellules) {
-        this.cellules = cellules;
+        GrilleTableau nouvelleGrille = new GrilleTableau(largeurMax, hauteurMax);
+        for (int i = 0; i < largeurMax; i++) {
+            for (int j = 0; j < hauteurMax; j++) {
+                if (cellules[i][j] != null) {
+                    nouvelleGrille.setType(i, j, cellules[i][j].getType());
+                }
+            }
+        }
+        setGrille(nouvelleGrille);
     }
 
+    /**
+     * Ajoute un observateur, conservé tant qu'il n'est pas retiré.
+     *
+     * @param observer l'observateur
+     */
     public void addObserver(LabyrintheObserver observer) {
-        observers.add(observer);
+        observers.add(new Abonnement(observer, false));
+        abonnes = null;
+    }
+
+    /**
+     * Ajoute un observateur référencé faiblement : le labyrinthe ne l'empêche
+     * pas d'être libéré, par exemple un contrôleur dont la scène a été fermée.
+     *
+     * @param observer l'observateur
+     */
+    public void addObserverFaible(LabyrintheObserver observer) {
+        observers.add(new Abonnement(observer, true));
+        abonnes = null;
+    }
+
+    /**
+     * Retire un observateur, qu'il ait été ajouté normalement ou faiblement.
+     *
+     * @param observer l'observateur
+     */
+    public void removeObserver(LabyrintheObserver observer) {
+        observers.removeIf(abonnement -> {
+            LabyrintheObserver o = abonnement.get();
+            return o == null || o == observer;
+        });
+        abonnes = null;
     }
 
+    /**
+     * Demande à tous les observateurs de tout redessiner.
+     */
     public void notifyObservers() {
-        observers.forEach(LabyrintheObserver::update);
+        debuterTransaction();
+        reinitialisationEnAttente = true;
+        validerTransaction();
     }
 
-    public boolean isCleObtenue() {
-        return cleObtenue;
+    /**
+     * Ouvre une transaction : les modifications suivantes ne sont envoyées aux
+     * observateurs qu'à la fermeture de la transaction la plus externe,
+     * sous la forme d'un seul changement. Les transactions peuvent s'imbriquer.
+     */
+    public void debuterTransaction() {
+        profondeurTransaction++;
     }
 
+    /**
+     * Ferme une transaction ouverte par {@link #debuterTransaction()}.
+     * À la fermeture de la plus externe, le changement regroupé est envoyé.
+     */
+    public void validerTransaction() {
+        if (profondeurTransaction == 0) {
+            throw new IllegalStateException("Aucune transaction en cours");
+        }
+        if (--profondeurTransaction > 0) {
+            return;
+        }
+
+        boolean reinitialisation = reinitialisationEnAttente;
+        boolean deplacement = deplacementEnAttente;
+        if (!reinitialisation && !deplacement && zoneXMin > zoneXMax) {
+            return;
+        }
+        version++;
+        if (instantanesActives) {
+            publierInstantane();
+        }
+        if (observers.isEmpty()) {
+            viderModificationsEnAttente();
+            return;
+        }
+
+        ChangementLabyrinthe changement;
+        if (reinitialisation) {
+            changement = new ChangementLabyrinthe.Reinitialisation(
+                    new ZoneModifiee(0, 0, largeurMax - 1, hauteurMax - 1));
+        } else {
+            ZoneModifiee zone = new ZoneModifiee(zoneXMin, zoneYMin, zoneXMax, zoneYMax);
+            changement = deplacement
+                    ? new ChangementLabyrinthe.JoueurDeplace(departX, departY, joueurX, joueurY, zone)
+                    : new ChangementLabyrinthe.CellulesModifiees(zone);
+        }
+        viderModificationsEnAttente();
 
-    public void setPositionCle(int x, int y) {
-        this.cleX = x;
-        this.cleY = y;
+        // Un observateur peut s'abonner ou se désabonner pendant l'envoi : on parcourt
+        // une copie, qui n'est refaite qu'après un tel changement
+        if (abonnes == null) {
+            abonnes = observers.toArray(new Abonnement[0]);
+        }
+        for (Abonnement abonnement : abonnes) {
+            LabyrintheObserver observer = abonnement.get();
+            if (observer == null) {
+                observers.remove(abonnement);
+                abonnes = null;
+            } else {
+                observer.changement(changement);
+            }
+        }
     }
 
-    public void setPositionSortie(int x, int y) {
-        this.sortieX = x;
-        this.sortieY = y;
+    /**
+     * Publie un instantané après chaque transaction validée, en commençant
+     * par l'état courant.
+     */
+    public void activerInstantanes() {
+        instantanesActives = true;
+        publierInstantane();
+    }
+
+    /**
+     * Retourne le dernier instantané publié. Peut être appelé depuis n'importe quel thread.
+     *
+     * @return le dernier instantané, ou null si les instantanés ne sont pas activés
+     */
+    public InstantaneLabyrinthe getInstantane() {
+        return instantane;
+    }
+
+    /**
+     * Retourne le numéro de la dernière transaction validée ayant modifié le labyrinthe.
+     *
+     * @return la version courante
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    private void publierInstantane() {
+        if (grille != null) {
+            instantane = new InstantaneLabyrinthe(grille.figer(), joueurX, joueurY, cleObtenue, version);
+        }
+    }
+
+    private void marquer(int x, int y) {
+        zoneXMin = Math.min(zoneXMin, x);
+        zoneYMin = Math.min(zoneYMin, y);
+        zoneXMax = Math.max(zoneXMax, x);
+        zoneYMax = Math.max(zoneYMax, y);
+    }
+
+    private void viderModificationsEnAttente() {
+        reinitialisationEnAttente = false;
+        deplacementEnAttente = false;
+        zoneXMin = Integer.MAX_VALUE;
+        zoneYMin = Integer.MAX_VALUE;
+        zoneXMax = Integer.MIN_VALUE;
+        zoneYMax = Integer.MIN_VALUE;
+    }
+
+    public boolean isCleObtenue() {
+        return cleObtenue;
     }
 
     public int getSortieX() {
-        return sortieX;
+        ListeIndices sorties = index.getSorties();
+        return sorties.estVide() ? -1 : sorties.get(0) / hauteurMax;
     }
 
     public int getSortieY() {
-        return sortieY;
+        ListeIndices sorties = index.getSorties();
+        return sorties.estVide() ? -1 : sorties.get(0) % hauteurMax;
     }
 
-    public void resetCleObtenue() {
-        this.cleObtenue = false;
+    private void majSortiesVerrouillees() {
+        if (grille == null) {
+            return;
+        }
+        ListeIndices sorties = index.getSorties();
+        for (int i = 0; i < sorties.taille(); i++) {
+            int sortie = sorties.get(i);
+            passage.definir(sortie, BitmapPassage.estPassable(grille.getCode(sortie), cleObtenue));
+        }
+    }
+
+    /**
+     * Observateur enregistré, conservé par une référence forte ou faible.
+     */
+    private static final class Abonnement {
+        private final LabyrintheObserver fort;
+        private final WeakReference<LabyrintheObserver> faible;
+
+        Abonnement(LabyrintheObserver observer, boolean referenceFaible) {
+            this.fort = referenceFaible ? null : observer;
+            this.faible = referenceFaible ? new WeakReference<>(observer) : null;
+        }
+
+        LabyrintheObserver get() {
+            return fort != null ? fort : faible.get();
+        }
     }
-}
\ No newline at end of file
+}
@@ -10,4 +10,14 @@ public interface LabyrintheObserver {
      * Méthode appelée lorsqu'une mise à jour du labyrinthe est nécessaire.
      */
     void update();
+
+    /**
+     * Méthode appelée une fois par action logique (déplacement, génération...)
+     * avec le détail du changement. Par défaut, délègue à {@link #update()}.
+     *
+     * @param changement le changement regroupé
+     */
+    default void changement(ChangementLabyrinthe changement) {
+        update();
+    }
 }
@@ -1,96 +1,150 @@
 package modele;
 
-import modele.Cellules.Cellule;
-
-import java.util.LinkedList;
+import modele.chemins.MoteurBFS;
+import modele.chemins.Solveur;
+import modele.chemins.SolveurALT;
+import modele.chemins.SolveurBFS;
+import modele.chemins.SolveurBidirectionnel;
+import modele.grille.Grille;
+import modele.grille.ListeIndices;
+import modele.grille.TypeCellule;
 
 /**
  * Classe responsable du calcul de chemins dans un labyrinthe.
- * Utilise l'algorithme BFS (Breadth-First Search) pour trouver le plus court chemin.
+ *
+ * Le calcul est délégué à une stratégie {@link Solveur} : parcours en largeur (BFS)
+ * par défaut, ou A* / Jump Point Search selon le type de labyrinthe
+ * (voir {@link TypeLabyrinthe#creerSolveur()}), ou BFS bidirectionnel
+ * (voir {@link #bidirectionnel()}), ou A* guidé par des repères pour les
+ * requêtes répétées sur un grand labyrinthe (voir {@link #avecReperes(int)}).
  */
 public class Pathfinder {
 
+    private final Solveur solveur;
+
+    /**
+     * Crée un pathfinder utilisant le parcours en largeur.
+     */
+    public Pathfinder() {
+        this(new SolveurBFS());
+    }
+
+    /**
+     * Crée un pathfinder utilisant un solveur donné.
+     *
+     * @param solveur la stratégie de recherche
+     */
+    public Pathfinder(Solveur solveur) {
+        this.solveur = solveur;
+    }
+
+    /**
+     * Crée un pathfinder en mode bidirectionnel : les fronts partent de l'entrée
+     * et des sorties et se rejoignent au milieu.
+     *
+     * @return le pathfinder bidirectionnel
+     */
+    public static Pathfinder bidirectionnel() {
+        return new Pathfinder(new SolveurBidirectionnel());
+    }
+
+    /**
+     * Crée un pathfinder guidé par des repères : chaque recherche A* minore la distance
+     * restante par l'inégalité triangulaire sur les distances de quelques cases repères.
+     * Les repères coûtent un BFS chacun à la première recherche sur une grille, et deux
+     * octets par case : le mode ne vaut que pour de nombreuses requêtes sur la même grille.
+     *
+     * @param nombreReperes le nombre de repères, qui règle mémoire et préparation
+     * @return le pathfinder guidé par des repères
+     */
+    public static Pathfinder avecReperes(int nombreReperes) {
+        return new Pathfinder(new SolveurALT(nombreReperes));
+    }
+
     /**
      * Calcule la longueur du plus court chemin entre l'entrée et la sortie du labyrinthe.
-     * Utilise un algorithme BFS (parcours en largeur) qui garantit de trouver le chemin le plus court
-     * dans un graphe non pondéré.
+     * L'entrée et les sorties sont retrouvées en parcourant la grille une fois.
      *
-     * @param cellules la grille de cellules du labyrinthe
-     * @param largeurMax la largeur maximale de la grille
-     * @param hauteurMax la hauteur maximale de la grille
+     * @param grille la grille du labyrinthe
      * @return la longueur du plus court chemin, ou 0 si aucun chemin n'existe
      */
-    public int findShortestPath(Cellule[][] cellules, int largeurMax, int hauteurMax) {
-        int startX = -1;
-        int startY = -1;
-        int endX = -1;
-        int endY = -1;
-
-        for (int i = 0; i < largeurMax; i++) {
-            for (int j = 0; j < hauteurMax; j++) {
-                if (cellules[i][j] != null && cellules[i][j].estEntree()) {
-                    startX = i;
-                    startY = j;
-                }
-                if (cellules[i][j] != null && cellules[i][j].estSortie()) {
-                    endX = i;
-                    endY = j;
-                }
+    public int findShortestPath(Grille grille) {
+        byte entree = TypeCellule.ENTREE.code();
+        int depart = -1;
+        ListeIndices sorties = new ListeIndices();
+        int taille = grille.getTaille();
+        for (int i = 0; i < taille; i++) {
+            byte code = grille.getCode(i);
+            if (code == entree && depart < 0) {
+                depart = i;
+            } else if (TypeCellule.depuisCode(code).estSortie()) {
+                sorties.ajouter(i);
             }
         }
+        return findShortestPath(grille, depart, sorties);
+    }
 
-        if (startX == -1 || endX == -1) {
+    /**
+     * Calcule la longueur du plus court chemin entre une case de départ et la sortie
+     * la plus proche.
+     *
+     * @param grille  la grille du labyrinthe
+     * @param depart  l'indice de la case de départ (en général l'entrée), -1 si inconnue
+     * @param sorties les indices des sorties de la grille
+     * @return la longueur du plus court chemin, ou 0 si aucun chemin n'existe
+     */
+    public int findShortestPath(Grille grille, int depart, ListeIndices sorties) {
+        if (depart < 0) {
             return 0;
         }
+        return Math.max(0, solveur.plusCourtChemin(grille, depart, sorties));
+    }
 
-        boolean[][] visited = new boolean[largeurMax][hauteurMax];
-        int[][] prevX = new int[largeurMax][hauteurMax];
-        int[][] prevY = new int[largeurMax][hauteurMax];
-        int[][] dist = new int[largeurMax][hauteurMax];
-        for (int i = 0; i < largeurMax; i++) {
-            for (int j = 0; j < hauteurMax; j++) {
-                prevX[i][j] = -1;
-                prevY[i][j] = -1;
-                dist[i][j] = -1;
-            }
+    /**
+     * Calcule la distance entre deux cases quelconques. Avec des repères, la recherche
+     * est guidée par eux ; sinon, un BFS simple est utilisé quel que soit le solveur.
+     *
+     * @param grille  la grille du labyrinthe
+     * @param depart  l'indice de la case de départ
+     * @param arrivee l'indice de la case d'arrivée
+     * @return le nombre de déplacements, ou -1 si l'arrivée est inaccessible
+     */
+    public int distance(Grille grille, int depart, int arrivee) {
+        if (solveur instanceof SolveurALT alt) {
+            return alt.distance(grille, depart, arrivee);
         }
+        return MoteurBFS.local().parcourirJusqua(grille, depart, arrivee);
+    }
 
-        LinkedList<int[]> queue = new LinkedList<>();
-        queue.add(new int[]{startX, startY});
-        visited[startX][startY] = true;
-        dist[startX][startY] = 0;
-
-        int[][] direction = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
-
-        while (!queue.isEmpty()) {
-            int[] courant = queue.removeFirst();
-            int cx = courant[0];
-            int cy = courant[1];
-
-            if (cx == endX && cy == endY) {
-                break;
-            }
-
-            for (int[] d : direction) {
-                int nx = cx + d[0];
-                int ny = cy + d[1];
-
-                if (nx < 0 || nx >= largeurMax || ny < 0 || ny >= hauteurMax) continue;
-                if (visited[nx][ny]) continue;
-                if (cellules[nx][ny] == null) continue;
-                if (cellules[nx][ny].estMur()) continue;
-
-                visited[nx][ny] = true;
-                prevX[nx][ny] = cx;
-                prevY[nx][ny] = cy;
-                dist[nx][ny] = dist[cx][cy] + 1;
-                queue.addLast(new int[]{nx, ny});
-            }
+    /**
+     * Calcule le plus court chemin entre une case de départ et la sortie la plus proche.
+     * En mode bidirectionnel, le chemin est reconstruit à partir de la jonction des
+     * deux fronts ; sinon, un BFS simple est utilisé quel que soit le solveur.
+     *
+     * @param grille  la grille du labyrinthe
+     * @param depart  l'indice de la case de départ, -1 si inconnue
+     * @param sorties les indices des sorties de la grille
+     * @return les indices des cases du départ à la sortie, ou un tableau vide si aucun chemin n'existe
+     */
+    public int[] findPath(Grille grille, int depart, ListeIndices sorties) {
+        if (depart < 0) {
+            return new int[0];
         }
-
-        if (dist[endX][endY] == -1) {
-            return 0;
+        if (solveur instanceof SolveurBidirectionnel bidirectionnel) {
+            bidirectionnel.plusCourtChemin(grille, depart, sorties);
+            return bidirectionnel.dernierChemin();
         }
-        return dist[endX][endY];
+        MoteurBFS moteur = MoteurBFS.local();
+        int sortie = moteur.parcourirJusquaSortie(grille, depart);
+        return sortie < 0 ? new int[0] : moteur.chemin(sortie);
+    }
+
+    /**
+     * Retourne le solveur utilisé.
+     *
+     * @return la stratégie de recherche
+     */
+    public Solveur getSolveur() {
+        return solveur;
     }
 }
@@ -0,0 +1,59 @@
+package modele;
+
+/**
+ * Résultat d'un déplacement demandé à {@link Jeu#avancer(Direction)}.
+ *
+ * Un seul résultat est renvoyé par déplacement, du plus important au moins important :
+ * une victoire l'emporte sur une défaite (atteindre la sortie avec le dernier
+ * déplacement autorisé est une victoire), une défaite sur le ramassage de la clé.
+ */
+public enum ResultatDeplacement {
+
+    /**
+     * Aucune partie en cours : rien n'a été fait.
+     */
+    PARTIE_TERMINEE,
+
+    /**
+     * La case visée n'est pas traversable : le joueur n'a pas bougé.
+     */
+    BLOQUE,
+
+    /**
+     * Le joueur a changé de case.
+     */
+    DEPLACE,
+
+    /**
+     * Le joueur a changé de case et ramassé la clé : les sorties sont ouvertes.
+     */
+    CLE_RAMASSEE,
+
+    /**
+     * Le joueur a atteint la sortie : la partie est gagnée.
+     */
+    VICTOIRE,
+
+    /**
+     * Le nombre maximal de déplacements est atteint : la partie est perdue.
+     */
+    DEFAITE;
+
+    /**
+     * Indique si le joueur a bougé.
+     *
+     * @return true sauf pour {@link #PARTIE_TERMINEE} et {@link #BLOQUE}
+     */
+    public boolean aBouge() {
+        return this != PARTIE_TERMINEE && this != BLOQUE;
+    }
+
+    /**
+     * Indique si ce déplacement a terminé la partie.
+     *
+     * @return true pour {@link #VICTOIRE} et {@link #DEFAITE}
+     */
+    public boolean estFinDePartie() {
+        return this == VICTOIRE || this == DEFAITE;
+    }
+}
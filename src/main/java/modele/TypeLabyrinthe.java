@@ -1,8 +1,13 @@
 package modele;
 
+import modele.chemins.Solveur;
+import modele.chemins.SolveurBFS;
+import modele.chemins.SolveurAEtoile;
 import modele.generateurs.GenerateurLabyrinthe;
 import modele.generateurs.GenerateurAleatoire;
+import modele.generateurs.GenerateurKruskal;
 import modele.generateurs.GenerateurParfait;
+import modele.generateurs.GenerateurWilson;
 
 /**
  * Enumération des types de labyrinthe disponibles.
@@ -19,6 +24,43 @@ public enum TypeLabyrinthe {
         public GenerateurLabyrinthe creerGenerateur(int largeur, int hauteur, double pourcentageMurs, int distanceMin) {
             return new GenerateurParfait(largeur, hauteur, distanceMin);
         }
+
+        @Override
+        public Solveur creerSolveur() {
+            return new SolveurBFS();
+        }
+    },
+
+    /**
+     * Labyrinthe parfait aux impasses courtes et nombreuses.
+     * Utilise un générateur de type GenerateurKruskal.
+     */
+    KRUSKAL("Parfait (Kruskal)") {
+        @Override
+        public GenerateurLabyrinthe creerGenerateur(int largeur, int hauteur, double pourcentageMurs, int distanceMin) {
+            return new GenerateurKruskal(largeur, hauteur, distanceMin);
+        }
+
+        @Override
+        public Solveur creerSolveur() {
+            return new SolveurBFS();
+        }
+    },
+
+    /**
+     * Labyrinthe parfait tiré uniformément parmi tous les labyrinthes parfaits.
+     * Utilise un générateur de type GenerateurWilson.
+     */
+    WILSON("Parfait (Wilson)") {
+        @Override
+        public GenerateurLabyrinthe creerGenerateur(int largeur, int hauteur, double pourcentageMurs, int distanceMin) {
+            return new GenerateurWilson(largeur, hauteur, distanceMin);
+        }
+
+        @Override
+        public Solveur creerSolveur() {
+            return new SolveurBFS();
+        }
     },
 
     /**
@@ -30,6 +72,11 @@ public enum TypeLabyrinthe {
         public GenerateurLabyrinthe creerGenerateur(int largeur, int hauteur, double pourcentageMurs, int distanceMin) {
             return new GenerateurAleatoire(largeur, hauteur, pourcentageMurs);
         }
+
+        @Override
+        public Solveur creerSolveur() {
+            return new SolveurAEtoile();
+        }
     };
 
     private String nom;
@@ -64,4 +111,30 @@ public enum TypeLabyrinthe {
      * @return un générateur de labyrinthe adapté au type
      */
     public abstract GenerateurLabyrinthe creerGenerateur(int largeur, int hauteur, double pourcentageMurs, int distanceMin);
-}
\ No newline at end of file
+
+
+    /**
+     * Crée un générateur de labyrinthe correspondant à ce type, avec une graine fixée :
+     * les mêmes paramètres et la même graine redonnent toujours le même labyrinthe.
+     *
+     * @param largeur largeur du labyrinthe
+     * @param hauteur hauteur du labyrinthe
+     * @param pourcentageMurs pourcentage de murs (utilisé par certains générateurs)
+     * @param distanceMin distance minimale entre l'entrée et la sortie (pour certains générateurs)
+     * @param graine graine de la génération
+     * @return un générateur de labyrinthe adapté au type
+     */
+    public GenerateurLabyrinthe creerGenerateur(int largeur, int hauteur, double pourcentageMurs, int distanceMin, long graine) {
+        GenerateurLabyrinthe generateur = creerGenerateur(largeur, hauteur, pourcentageMurs, distanceMin);
+        generateur.setGraine(graine);
+        return generateur;
+    }
+
+
+    /**
+     * Crée le solveur de plus court chemin le plus rapide pour ce type de labyrinthe.
+     *
+     * @return un solveur adapté au type
+     */
+    public abstract Solveur creerSolveur();
+}
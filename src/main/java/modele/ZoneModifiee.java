@@ -0,0 +1,56 @@
+package modele;
+
+/**
+ * Rectangle de cases touchées par un changement du labyrinthe.
+ * Les bornes sont incluses.
+ *
+ * @param xMin première ligne modifiée
+ * @param yMin première colonne modifiée
+ * @param xMax dernière ligne modifiée
+ * @param yMax dernière colonne modifiée
+ */
+public record ZoneModifiee(int xMin, int yMin, int xMax, int yMax) {
+
+    /**
+     * Crée une zone réduite à une seule case.
+     *
+     * @param x coordonnée X de la case
+     * @param y coordonnée Y de la case
+     * @return la zone
+     */
+    public static ZoneModifiee caseUnique(int x, int y) {
+        return new ZoneModifiee(x, y, x, y);
+    }
+
+    /**
+     * Retourne le plus petit rectangle contenant cette zone et une autre.
+     *
+     * @param autre l'autre zone
+     * @return l'union des deux zones
+     */
+    public ZoneModifiee union(ZoneModifiee autre) {
+        return new ZoneModifiee(
+                Math.min(xMin, autre.xMin), Math.min(yMin, autre.yMin),
+                Math.max(xMax, autre.xMax), Math.max(yMax, autre.yMax));
+    }
+
+    /**
+     * Indique si une case appartient à la zone.
+     *
+     * @param x coordonnée X
+     * @param y coordonnée Y
+     * @return true si la case est dans la zone
+     */
+    public boolean contient(int x, int y) {
+        return x >= xMin && x <= xMax && y >= yMin && y <= yMax;
+    }
+
+    /**
+     * Retourne le nombre de cases couvertes par la zone.
+     *
+     * @return le nombre de cases
+     */
+    public int getNombreCases() {
+        return (xMax - xMin + 1) * (yMax - yMin + 1);
+    }
+}
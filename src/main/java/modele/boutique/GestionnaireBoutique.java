@@ -1,18 +1,11 @@
 package modele.boutique;
 
-import controleur.boutique.ControleurBoutique;
-import controleur.boutique.ControleurCasier;
-import controleur.AppControleur;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Scene;
-import javafx.stage.Stage;
-import modele.Jeu;
 import modele.Joueur;
-import vue.Router;
 
 /**
  * Gestionnaire central de la boutique suivant le pattern Singleton.
- * Coordonne l'accès aux services de la boutique et gère l'ouverture de l'interface.
+ * Coordonne l'accès aux services de la boutique. L'ouverture des écrans est faite
+ * par {@code controleur.boutique.NavigationBoutique} : cette classe ne dépend pas de JavaFX.
  */
 public class GestionnaireBoutique {
     private final IServiceAchat serviceAchat;
@@ -28,73 +21,16 @@ public class GestionnaireBoutique {
     }
 
     /**
-     * Ouvre la vue Boutique sur le stage principal en initialisant son contrôleur.
+     * Recopie le score du joueur dans son inventaire avant l'ouverture de la boutique
+     * ou du casier.
      *
-     * @param stagePrincipal le stage de l'application
-     * @param joueur         l'objet Joueur courant
-     * @param jeu            l'instance du jeu
-     * @param appControleur  le contrôleur principal de l'application
+     * @param joueur le joueur courant
      */
-    public void ouvrirBoutique(Stage stagePrincipal, Joueur joueur, Jeu jeu, AppControleur appControleur) {
-        if (joueur == null) {
-            System.err.println("Impossible d'ouvrir la boutique : joueur null");
-            return;
-        }
-
+    public void synchroniserScore(Joueur joueur) {
         String idJoueur = joueur.getPseudo();
         InventaireJoueur inventaire = depotInventaire.charger(idJoueur);
         inventaire.setScore(joueur.getScore());
         depotInventaire.sauvegarder(idJoueur, inventaire);
-
-        try {
-            FXMLLoader chargeur = new FXMLLoader(getClass().getResource("/boutique/Boutique.fxml"));
-            Scene scene = new Scene(chargeur.load());
-            ControleurBoutique controleur = chargeur.getController();
-            controleur.initialiser(serviceAchat, serviceEquipement, depotCosmetique, depotInventaire, joueur);
-            controleur.setJeu(jeu);
-            controleur.setAppControleur(appControleur);
-            stagePrincipal.setTitle("Boutique");
-            stagePrincipal.setScene(scene);
-            stagePrincipal.setMaximized(true);
-            Router.addToHistory("/Boutique.fxml");
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-    }
-
-    /**
-     * Ouvre la vue Inventaire (Casier) sur le stage principal en initialisant son contrôleur.
-     *
-     * @param stagePrincipal le stage de l'application
-     * @param joueur         l'objet Joueur courant
-     * @param jeu            l'instance du jeu
-     * @param appControleur  le contrôleur principal de l'application
-     */
-    public void ouvrirInventaire(Stage stagePrincipal, Joueur joueur, Jeu jeu, AppControleur appControleur) {
-        if (joueur == null) {
-            System.err.println("Impossible d'ouvrir l'inventaire : joueur null");
-            return;
-        }
-
-        String idJoueur = joueur.getPseudo();
-        InventaireJoueur inventaire = depotInventaire.charger(idJoueur);
-        inventaire.setScore(joueur.getScore());
-        depotInventaire.sauvegarder(idJoueur, inventaire);
-
-        try {
-            FXMLLoader chargeur = new FXMLLoader(getClass().getResource("/boutique/InventaireCosmetique.fxml"));
-            Scene scene = new Scene(chargeur.load());
-            ControleurCasier controleur = chargeur.getController();
-            controleur.initialiser(serviceEquipement, depotCosmetique, depotInventaire, joueur);
-            controleur.setJeu(jeu);
-            controleur.setAppControleur(appControleur);
-            stagePrincipal.setTitle("Mon Casier");
-            stagePrincipal.setScene(scene);
-            stagePrincipal.setMaximized(true);
-            Router.addToHistory("/InventaireCosmetique.fxml");
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
     }
 
     /**
@@ -119,4 +55,20 @@ public class GestionnaireBoutique {
     public String obtenirTextureEquipee(String idJoueur, TypeCosmetique type) {
         return serviceEquipement.obtenirTextureEquipee(idJoueur, type);
     }
+
+    public IServiceAchat getServiceAchat() {
+        return serviceAchat;
+    }
+
+    public IServiceEquipement getServiceEquipement() {
+        return serviceEquipement;
+    }
+
+    public IDepotCosmetique getDepotCosmetique() {
+        return depotCosmetique;
+    }
+
+    public IDepotInventaire getDepotInventaire() {
+        return depotInventaire;
+    }
 }
@@ -0,0 +1,350 @@
+package modele.chemins;
+
+import modele.grille.Grille;
+
+import java.util.Arrays;
+
+/**
+ * Index des distances d'un labyrinthe parfait, où les cases accessibles forment un arbre.
+ *
+ * Dans un arbre, la distance entre deux cases vaut
+ * {@code profondeur(a) + profondeur(b) - 2 × profondeur(ancêtre commun)}.
+ * L'index enregistre une fois le tour d'Euler de l'arbre depuis une racine, puis
+ * trouve l'ancêtre commun de deux cases par une requête de minimum sur ce tour :
+ * la construction est en O(n) et chaque distance est ensuite obtenue en O(1),
+ * sans parcours.
+ *
+ * Les cases sont numérotées dans l'ordre préfixe ; l'ancêtre commun est alors
+ * la case de plus petit numéro entre les premières apparitions des deux cases
+ * dans le tour. Le minimum est cherché dans des blocs de 32 positions, par un
+ * masque de la pile des minimums de chaque préfixe de bloc, et entre les blocs
+ * par une table clairsemée sur leurs minimums.
+ *
+ * L'index vaut aussi carte des distances depuis la racine : il remplace le BFS
+ * d'un générateur de labyrinthe parfait.
+ */
+public final class ArbreChemins implements CarteDistances {
+    private static final int BLOC = 32;
+    private static final int DECALAGE_BLOC = 5;
+
+    private final int largeurMax;
+    private final int hauteurMax;
+    /** Numéro préfixe de chaque case, -1 hors de l'arbre. */
+    private final int[] numero;
+    /** Case de chaque numéro. */
+    private final int[] cellule;
+    private final int[] profondeur;
+    /** Première position de chaque numéro dans le tour d'Euler. */
+    private final int[] premiere;
+    /** Tour d'Euler, en numéros. */
+    private final int[] tour;
+    /** Pour chaque position du tour, la pile des minimums du préfixe de son bloc. */
+    private final int[] masques;
+    /** {@code table[k][b]} : minimum des blocs b à b + 2^k - 1. */
+    private final int[][] table;
+    private final int nombreCases;
+
+
+    private ArbreChemins(Grille grille, int[] numero, int[] cellule, int[] profondeur,
+                         int[] premiere, int[] tour, int nombreCases) {
+        this.largeurMax = grille.getLargeurMax();
+        this.hauteurMax = grille.getHauteurMax();
+        this.numero = numero;
+        this.cellule = cellule;
+        this.profondeur = profondeur;
+        this.premiere = premiere;
+        this.tour = tour;
+        this.nombreCases = nombreCases;
+        this.masques = new int[tour.length];
+        this.table = construireTable();
+    }
+
+
+    /**
+     * Indexe l'arbre des cases non murées accessibles depuis une racine.
+     *
+     * @param grille la grille d'un labyrinthe parfait
+     * @param racine indice de la case racine, en général l'entrée
+     * @return l'index
+     * @throws IllegalArgumentException si la racine est un mur ou si les cases
+     *                                  accessibles forment un cycle
+     */
+    public static ArbreChemins indexer(Grille grille, int racine) {
+        if (grille.estMur(racine)) {
+            throw new IllegalArgumentException("La racine de l'arbre ne peut pas être un mur");
+        }
+        int taille = grille.getTaille();
+        int largeurMax = grille.getLargeurMax();
+        int hauteurMax = grille.getHauteurMax();
+
+        // Les tableaux par numéro sont dimensionnés au nombre de cases ouvertes, pas à la grille
+        int ouvertes = 0;
+        for (int i = 0; i < taille; i++) {
+            if (!grille.estMur(i)) {
+                ouvertes++;
+            }
+        }
+        int[] numero = new int[taille];
+        Arrays.fill(numero, -1);
+        int[] cellule = new int[ouvertes];
+        int[] profondeur = new int[ouvertes];
+        int[] premiere = new int[ouvertes];
+        int[] tour = new int[2 * ouvertes];
+        int longueurTour = 0;
+        int nombre = 0;
+
+        // Parcours en profondeur itératif : la pile garde le numéro et la prochaine direction
+        int[] pile = new int[ouvertes];
+        byte[] direction = new byte[ouvertes];
+        int sommet = 0;
+
+        numero[racine] = nombre;
+        cellule[nombre] = racine;
+        premiere[nombre] = longueurTour;
+        tour[longueurTour++] = nombre;
+        pile[sommet++] = nombre++;
+
+        while (sommet > 0) {
+            int courant = pile[sommet - 1];
+            int indice = cellule[courant];
+            int pere = sommet > 1 ? pile[sommet - 2] : -1;
+            int voisin = -1;
+            while (voisin < 0 && direction[sommet - 1] < 4) {
+                int candidat = voisin(indice, direction[sommet - 1]++, largeurMax, hauteurMax);
+                if (candidat < 0 || grille.estMur(candidat)) {
+                    continue;
+                }
+                if (numero[candidat] < 0) {
+                    voisin = candidat;
+                } else if (numero[candidat] != pere) {
+                    throw new IllegalArgumentException("Les cases accessibles forment un cycle : le labyrinthe n'est pas parfait");
+                }
+            }
+
+            if (voisin < 0) {
+                sommet--;
+                if (sommet > 0) {
+                    tour[longueurTour++] = pile[sommet - 1];
+                }
+                continue;
+            }
+            numero[voisin] = nombre;
+            cellule[nombre] = voisin;
+            profondeur[nombre] = profondeur[courant] + 1;
+            premiere[nombre] = longueurTour;
+            tour[longueurTour++] = nombre;
+            direction[sommet] = 0;
+            pile[sommet++] = nombre++;
+        }
+
+        if (nombre < ouvertes) {
+            cellule = Arrays.copyOf(cellule, nombre);
+            profondeur = Arrays.copyOf(profondeur, nombre);
+            premiere = Arrays.copyOf(premiere, nombre);
+        }
+        return new ArbreChemins(grille, numero, cellule, profondeur, premiere, Arrays.copyOf(tour, longueurTour), nombre);
+    }
+
+
+    private static int voisin(int indice, int direction, int largeurMax, int hauteurMax) {
+        int x = indice / hauteurMax;
+        int y = indice - x * hauteurMax;
+        return switch (direction) {
+            case 0 -> x > 0 ? indice - hauteurMax : -1;
+            case 1 -> y + 1 < hauteurMax ? indice + 1 : -1;
+            case 2 -> x + 1 < largeurMax ? indice + hauteurMax : -1;
+            default -> y > 0 ? indice - 1 : -1;
+        };
+    }
+
+
+    private int[][] construireTable() {
+        int nombreBlocs = (tour.length + BLOC - 1) >>> DECALAGE_BLOC;
+        int niveaux = 32 - Integer.numberOfLeadingZeros(nombreBlocs);
+        int[][] table = new int[niveaux][];
+        table[0] = new int[nombreBlocs];
+
+        for (int bloc = 0; bloc < nombreBlocs; bloc++) {
+            int debut = bloc << DECALAGE_BLOC;
+            int fin = Math.min(debut + BLOC, tour.length);
+            int pileMinimums = 0;
+            for (int i = debut; i < fin; i++) {
+                // Dépile les positions dont la valeur dépasse celle de i
+                while (pileMinimums != 0 && tour[debut + 31 - Integer.numberOfLeadingZeros(pileMinimums)] > tour[i]) {
+                    pileMinimums &= ~Integer.highestOneBit(pileMinimums);
+                }
+                pileMinimums |= 1 << (i - debut);
+                masques[i] = pileMinimums;
+            }
+            table[0][bloc] = tour[debut + Integer.numberOfTrailingZeros(masques[fin - 1])];
+        }
+
+        for (int k = 1; k < niveaux; k++) {
+            int longueur = nombreBlocs - (1 << k) + 1;
+            table[k] = new int[longueur];
+            for (int b = 0; b < longueur; b++) {
+                table[k][b] = Math.min(table[k - 1][b], table[k - 1][b + (1 << (k - 1))]);
+            }
+        }
+        return table;
+    }
+
+
+    /**
+     * Minimum du tour entre deux positions d'un même bloc, bornes comprises.
+     */
+    private int minimumBloc(int debut, int fin) {
+        int base = debut & -BLOC;
+        int pileMinimums = masques[fin] & (-1 << (debut - base));
+        return tour[base + Integer.numberOfTrailingZeros(pileMinimums)];
+    }
+
+
+    /**
+     * Minimum du tour entre deux positions, bornes comprises.
+     */
+    private int minimum(int debut, int fin) {
+        int blocDebut = debut >>> DECALAGE_BLOC;
+        int blocFin = fin >>> DECALAGE_BLOC;
+        if (blocDebut == blocFin) {
+            return minimumBloc(debut, fin);
+        }
+        int resultat = Math.min(minimumBloc(debut, (blocDebut << DECALAGE_BLOC) + BLOC - 1),
+                minimumBloc(blocFin << DECALAGE_BLOC, fin));
+        if (blocFin - blocDebut > 1) {
+            int premierBloc = blocDebut + 1;
+            int k = 31 - Integer.numberOfLeadingZeros(blocFin - premierBloc);
+            resultat = Math.min(resultat, Math.min(table[k][premierBloc], table[k][blocFin - (1 << k)]));
+        }
+        return resultat;
+    }
+
+
+    private int numeroAncetreCommun(int a, int b) {
+        int pa = premiere[a];
+        int pb = premiere[b];
+        return pa <= pb ? minimum(pa, pb) : minimum(pb, pa);
+    }
+
+
+    /**
+     * Indique si une case fait partie de l'arbre.
+     *
+     * @param indice indice de la case
+     * @return true si la case est accessible depuis la racine
+     */
+    public boolean contient(int indice) {
+        return numero[indice] >= 0;
+    }
+
+
+    /**
+     * Retourne le plus proche ancêtre commun de deux cases, relativement à la racine.
+     *
+     * @param a indice de la première case
+     * @param b indice de la seconde case
+     * @return l'indice de l'ancêtre commun, ou -1 si l'une des cases est hors de l'arbre
+     */
+    public int ancetreCommun(int a, int b) {
+        if (numero[a] < 0 || numero[b] < 0) {
+            return -1;
+        }
+        return cellule[numeroAncetreCommun(numero[a], numero[b])];
+    }
+
+
+    /**
+     * Retourne la distance entre deux cases de l'arbre, en O(1).
+     *
+     * @param a indice de la première case
+     * @param b indice de la seconde case
+     * @return le nombre de déplacements, ou -1 si l'une des cases est hors de l'arbre
+     */
+    public int distance(int a, int b) {
+        int na = numero[a];
+        int nb = numero[b];
+        if (na < 0 || nb < 0) {
+            return -1;
+        }
+        return profondeur[na] + profondeur[nb] - 2 * profondeur[numeroAncetreCommun(na, nb)];
+    }
+
+
+    /**
+     * Retourne la distance d'une case à la plus proche d'une liste de cases.
+     *
+     * @param depart indice de la case de départ
+     * @param cibles indices des cibles
+     * @return la plus petite distance, ou -1 si aucune cible n'est dans l'arbre du départ
+     */
+    public int distanceMinimale(int depart, int[] cibles) {
+        int meilleure = -1;
+        for (int cible : cibles) {
+            int d = distance(depart, cible);
+            if (d >= 0 && (meilleure < 0 || d < meilleure)) {
+                meilleure = d;
+            }
+        }
+        return meilleure;
+    }
+
+
+    /**
+     * Retourne la profondeur d'une case, c'est-à-dire sa distance à la racine.
+     *
+     * @param indice indice de la case
+     * @return la profondeur, ou -1 si la case est hors de l'arbre
+     */
+    @Override
+    public int distance(int indice) {
+        int n = numero[indice];
+        return n < 0 ? -1 : profondeur[n];
+    }
+
+
+    /**
+     * Reconstruit l'unique chemin de la racine jusqu'à une case.
+     *
+     * @param arrivee indice d'une case de l'arbre
+     * @return les indices des cases du chemin, racine et arrivée comprises,
+     *         ou un tableau vide si la case est hors de l'arbre
+     */
+    @Override
+    public int[] chemin(int arrivee) {
+        int n = numero[arrivee];
+        if (n < 0) {
+            return new int[0];
+        }
+        // Le parent est l'unique voisin de l'arbre un niveau plus haut
+        int[] chemin = new int[profondeur[n] + 1];
+        int courante = arrivee;
+        for (int i = chemin.length - 1; i > 0; i--) {
+            chemin[i] = courante;
+            for (int direction = 0; direction < 4; direction++) {
+                int candidat = voisin(courante, direction, largeurMax, hauteurMax);
+                if (candidat >= 0 && numero[candidat] >= 0 && profondeur[numero[candidat]] == i - 1) {
+                    courante = candidat;
+                    break;
+                }
+            }
+        }
+        chemin[0] = courante;
+        return chemin;
+    }
+
+
+    @Override
+    public int getNombreAtteintes() {
+        return nombreCases;
+    }
+
+
+    /**
+     * Retourne l'indice de la racine de l'arbre.
+     *
+     * @return l'indice de la racine
+     */
+    public int getRacine() {
+        return cellule[0];
+    }
+}
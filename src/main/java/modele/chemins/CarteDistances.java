@@ -0,0 +1,34 @@
+package modele.chemins;
+
+/**
+ * Résultat d'un parcours en largeur complet : distances et plus courts chemins
+ * depuis la case de départ vers chaque case atteinte.
+ */
+public interface CarteDistances {
+
+    /**
+     * Retourne la distance d'une case à la case de départ.
+     *
+     * @param indice indice de la case
+     * @return la distance, ou -1 si la case n'a pas été atteinte
+     */
+    int distance(int indice);
+
+
+    /**
+     * Reconstruit le plus court chemin du départ jusqu'à une case atteinte.
+     *
+     * @param arrivee indice d'une case atteinte
+     * @return les indices des cases du chemin, départ et arrivée compris,
+     *         ou un tableau vide si la case n'a pas été atteinte
+     */
+    int[] chemin(int arrivee);
+
+
+    /**
+     * Retourne le nombre de cases atteintes par le parcours.
+     *
+     * @return le nombre de cases atteintes
+     */
+    int getNombreAtteintes();
+}
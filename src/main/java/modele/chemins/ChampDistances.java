@@ -0,0 +1,165 @@
+package modele.chemins;
+
+import modele.grille.Grille;
+import modele.grille.TypeCellule;
+
+import java.util.Arrays;
+
+/**
+ * Champ de distances persistant : pour chaque case, le nombre minimal de déplacements
+ * jusqu'à la plus proche de plusieurs sources.
+ *
+ * Chaque source peut partir avec un décalage : le champ vaut alors
+ * {@code min(distance(case, source) + décalage(source))}. C'est ce qui permet
+ * d'exprimer « aller à une clé, puis de la clé à la sortie » en un seul champ,
+ * avec pour décalage de chaque clé sa distance à la sortie.
+ *
+ * Le calcul est un BFS multi-source fait une seule fois ; ensuite chaque
+ * lecture est en O(1). Le propriétaire du champ doit le jeter quand la grille
+ * change d'une façon qui modifie les distances.
+ */
+public final class ChampDistances {
+
+    /** Distance d'une case d'où aucune source n'est accessible. */
+    public static final int INACCESSIBLE = -1;
+
+    private static final byte SORTIE_VERROUILLEE = TypeCellule.SORTIE_VERROUILLEE.code();
+
+    private final int[] distances;
+
+
+    private ChampDistances(int[] distances) {
+        this.distances = distances;
+    }
+
+
+    /**
+     * Calcule le champ de distances depuis des sources de même décalage nul.
+     *
+     * @param grille                       la grille
+     * @param sources                      indices des sources
+     * @param verrouilleesInfranchissables true si les sorties verrouillées bloquent le passage
+     * @return le champ calculé
+     */
+    public static ChampDistances calculer(Grille grille, int[] sources, boolean verrouilleesInfranchissables) {
+        return calculer(grille, sources, new int[sources.length], verrouilleesInfranchissables);
+    }
+
+
+    /**
+     * Calcule le champ de distances depuis des sources décalées.
+     *
+     * Les sources sont injectées dans la file au moment où le parcours atteint leur
+     * décalage, ce qui garde l'ordre du BFS sans file de priorité.
+     *
+     * @param grille                       la grille
+     * @param sources                      indices des sources
+     * @param decalages                    distance de départ de chaque source (positive ou nulle)
+     * @param verrouilleesInfranchissables true si les sorties verrouillées bloquent le passage
+     * @return le champ calculé
+     */
+    public static ChampDistances calculer(Grille grille, int[] sources, int[] decalages,
+                                          boolean verrouilleesInfranchissables) {
+        int taille = grille.getTaille();
+        int hauteurMax = grille.getHauteurMax();
+        int[] distances = new int[taille];
+        Arrays.fill(distances, INACCESSIBLE);
+
+        // Sources triées par décalage croissant
+        Integer[] ordre = new Integer[sources.length];
+        for (int i = 0; i < ordre.length; i++) {
+            ordre[i] = i;
+        }
+        Arrays.sort(ordre, (a, b) -> Integer.compare(decalages[a], decalages[b]));
+
+        int[] file = new int[taille];
+        int lecture = 0;
+        int ecriture = 0;
+        int prochaine = 0;
+
+        while (true) {
+            if (lecture == ecriture) {
+                if (prochaine == ordre.length) {
+                    break;
+                }
+                int niveau = decalages[ordre[prochaine]];
+                while (prochaine < ordre.length && decalages[ordre[prochaine]] <= niveau) {
+                    ecriture = injecter(grille, distances, file, ecriture, sources[ordre[prochaine]],
+                            decalages[ordre[prochaine]]);
+                    prochaine++;
+                }
+                continue;
+            }
+
+            int courante = file[lecture];
+            int suivante = distances[courante] + 1;
+            // Les sources du niveau suivant passent avant les cases que ce niveau va découvrir
+            while (prochaine < ordre.length && decalages[ordre[prochaine]] <= suivante) {
+                ecriture = injecter(grille, distances, file, ecriture, sources[ordre[prochaine]],
+                        decalages[ordre[prochaine]]);
+                prochaine++;
+            }
+            lecture++;
+
+            int y = courante % hauteurMax;
+            if (courante >= hauteurMax) {
+                ecriture = visiter(grille, distances, file, ecriture, courante - hauteurMax, suivante, verrouilleesInfranchissables);
+            }
+            if (courante + hauteurMax < taille) {
+                ecriture = visiter(grille, distances, file, ecriture, courante + hauteurMax, suivante, verrouilleesInfranchissables);
+            }
+            if (y > 0) {
+                ecriture = visiter(grille, distances, file, ecriture, courante - 1, suivante, verrouilleesInfranchissables);
+            }
+            if (y < hauteurMax - 1) {
+                ecriture = visiter(grille, distances, file, ecriture, courante + 1, suivante, verrouilleesInfranchissables);
+            }
+        }
+        return new ChampDistances(distances);
+    }
+
+
+    private static int injecter(Grille grille, int[] distances, int[] file, int ecriture, int source, int decalage) {
+        if (distances[source] != INACCESSIBLE || grille.estMur(source)) {
+            return ecriture;
+        }
+        distances[source] = decalage;
+        file[ecriture] = source;
+        return ecriture + 1;
+    }
+
+
+    private static int visiter(Grille grille, int[] distances, int[] file, int ecriture, int voisine,
+                               int distance, boolean verrouilleesInfranchissables) {
+        if (distances[voisine] != INACCESSIBLE || grille.estMur(voisine)) {
+            return ecriture;
+        }
+        if (verrouilleesInfranchissables && grille.getCode(voisine) == SORTIE_VERROUILLEE) {
+            return ecriture;
+        }
+        distances[voisine] = distance;
+        file[ecriture] = voisine;
+        return ecriture + 1;
+    }
+
+
+    /**
+     * Retourne la distance d'une case à la source la plus proche, décalage compris.
+     *
+     * @param indice indice de la case
+     * @return la distance, ou {@link #INACCESSIBLE}
+     */
+    public int distance(int indice) {
+        return distances[indice];
+    }
+
+
+    /**
+     * Retourne le nombre de cases couvertes par le champ.
+     *
+     * @return la taille de la grille
+     */
+    public int getTaille() {
+        return distances.length;
+    }
+}
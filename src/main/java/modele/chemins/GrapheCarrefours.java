@@ -0,0 +1,276 @@
+package modele.chemins;
+
+import modele.grille.Grille;
+import modele.grille.TypeCellule;
+
+import java.util.Arrays;
+
+/**
+ * Graphe des carrefours d'une grille : chaque couloir est réduit à une arête pondérée.
+ *
+ * Les nœuds sont les cases qui ne sont pas de simples couloirs : carrefours,
+ * culs-de-sac, et toutes les cases particulières (entrée, sorties, clés, pièges).
+ * Un couloir est une case {@link TypeCellule#CHEMIN} qui a exactement deux voisines
+ * ouvertes ; une suite de couloirs entre deux nœuds devient une arête dont le poids
+ * est le nombre de déplacements. Dans un labyrinthe parfait, la plupart des cases
+ * sont des couloirs et le graphe est plusieurs fois plus petit que la grille.
+ *
+ * Les arêtes sont rangées au format CSR : celles du nœud {@code n} occupent les
+ * positions {@code debut[n]} à {@code debut[n + 1] - 1} des tableaux de voisins
+ * et de poids. Comme les solveurs, le graphe traite toute case non murée comme
+ * traversable, sorties verrouillées comprises.
+ *
+ * Le graphe décrit la grille au moment de sa construction ; il doit être
+ * reconstruit quand un mur ou une case particulière change.
+ */
+public final class GrapheCarrefours {
+    private static final byte CHEMIN = TypeCellule.CHEMIN.code();
+
+    private final Grille grille;
+    /** Numéro de nœud de chaque case, -1 pour un couloir ou un mur. */
+    private final int[] noeud;
+    /** Case de chaque nœud. */
+    private final int[] cellule;
+    private final int[] debut;
+    private final int[] voisins;
+    private final int[] poids;
+
+
+    private GrapheCarrefours(Grille grille, int[] noeud, int[] cellule, int[] debut, int[] voisins, int[] poids) {
+        this.grille = grille;
+        this.noeud = noeud;
+        this.cellule = cellule;
+        this.debut = debut;
+        this.voisins = voisins;
+        this.poids = poids;
+    }
+
+
+    /**
+     * Construit le graphe des carrefours d'une grille, en parcourant chaque couloir
+     * une fois depuis chacune de ses extrémités.
+     *
+     * @param grille la grille
+     * @return le graphe
+     */
+    public static GrapheCarrefours construire(Grille grille) {
+        int taille = grille.getTaille();
+        int[] noeud = new int[taille];
+        Arrays.fill(noeud, -1);
+
+        int nombre = 0;
+        int nombreAretes = 0;
+        for (int i = 0; i < taille; i++) {
+            if (grille.estMur(i)) {
+                continue;
+            }
+            int degre = degre(grille, i);
+            if (grille.getCode(i) != CHEMIN || degre != 2) {
+                noeud[i] = nombre++;
+                nombreAretes += degre;
+            }
+        }
+
+        int[] cellule = new int[nombre];
+        int[] debut = new int[nombre + 1];
+        int[] voisins = new int[nombreAretes];
+        int[] poids = new int[nombreAretes];
+        int[] ouvertes = new int[4];
+        int arete = 0;
+        for (int i = 0; i < taille; i++) {
+            int n = noeud[i];
+            if (n < 0) {
+                continue;
+            }
+            cellule[n] = i;
+            debut[n] = arete;
+            int degre = voisinesOuvertes(grille, i, ouvertes);
+            for (int d = 0; d < degre; d++) {
+                long fin = suivreCouloir(grille, noeud, i, ouvertes[d]);
+                voisins[arete] = noeud[(int) fin];
+                poids[arete++] = (int) (fin >>> 32);
+            }
+        }
+        debut[nombre] = arete;
+        return new GrapheCarrefours(grille, noeud, cellule, debut, voisins, poids);
+    }
+
+
+    /**
+     * Suit un couloir jusqu'au prochain nœud.
+     *
+     * @param grille     la grille
+     * @param noeud      numéros de nœud des cases
+     * @param precedente case d'où l'on vient
+     * @param courante   première case du couloir
+     * @return le nombre de déplacements dans les 32 bits de poids fort, la case du nœud
+     *         atteint dans ceux de poids faible, ou -1 si le couloir boucle sur lui-même
+     */
+    private static long suivreCouloir(Grille grille, int[] noeud, int precedente, int courante) {
+        int depart = precedente;
+        int hauteurMax = grille.getHauteurMax();
+        long longueur = 1;
+        while (noeud[courante] < 0) {
+            int suivante = -1;
+            int y = courante % hauteurMax;
+            if (courante >= hauteurMax && courante - hauteurMax != precedente && !grille.estMur(courante - hauteurMax)) {
+                suivante = courante - hauteurMax;
+            } else if (courante + hauteurMax < grille.getTaille() && courante + hauteurMax != precedente
+                    && !grille.estMur(courante + hauteurMax)) {
+                suivante = courante + hauteurMax;
+            } else if (y > 0 && courante - 1 != precedente && !grille.estMur(courante - 1)) {
+                suivante = courante - 1;
+            } else if (y + 1 < hauteurMax && courante + 1 != precedente && !grille.estMur(courante + 1)) {
+                suivante = courante + 1;
+            }
+            if (suivante == depart && noeud[depart] < 0) {
+                return -1;
+            }
+            precedente = courante;
+            courante = suivante;
+            longueur++;
+        }
+        return (longueur << 32) | courante;
+    }
+
+
+    private static int degre(Grille grille, int indice) {
+        return voisinesOuvertes(grille, indice, null);
+    }
+
+
+    /**
+     * Compte, et range si un tableau est fourni, les voisines non murées d'une case.
+     */
+    private static int voisinesOuvertes(Grille grille, int indice, int[] ouvertes) {
+        int hauteurMax = grille.getHauteurMax();
+        int y = indice % hauteurMax;
+        int nombre = 0;
+        if (indice >= hauteurMax && !grille.estMur(indice - hauteurMax)) {
+            nombre = ranger(ouvertes, nombre, indice - hauteurMax);
+        }
+        if (indice + hauteurMax < grille.getTaille() && !grille.estMur(indice + hauteurMax)) {
+            nombre = ranger(ouvertes, nombre, indice + hauteurMax);
+        }
+        if (y > 0 && !grille.estMur(indice - 1)) {
+            nombre = ranger(ouvertes, nombre, indice - 1);
+        }
+        if (y + 1 < hauteurMax && !grille.estMur(indice + 1)) {
+            nombre = ranger(ouvertes, nombre, indice + 1);
+        }
+        return nombre;
+    }
+
+
+    private static int ranger(int[] ouvertes, int nombre, int indice) {
+        if (ouvertes != null) {
+            ouvertes[nombre] = indice;
+        }
+        return nombre + 1;
+    }
+
+
+    /**
+     * Relie une case de couloir aux deux nœuds qui l'encadrent.
+     *
+     * @param indice   une case de couloir
+     * @param extremes reçoit, pour chaque extrémité, le nœud atteint puis la distance ;
+     *                 au moins quatre entiers
+     * @return le nombre d'extrémités trouvées, 0 si le couloir est une boucle sans nœud
+     */
+    int rejoindreNoeuds(int indice, int[] extremes) {
+        int[] ouvertes = new int[4];
+        int degre = voisinesOuvertes(grille, indice, ouvertes);
+        int nombre = 0;
+        for (int d = 0; d < degre; d++) {
+            long fin = suivreCouloir(grille, noeud, indice, ouvertes[d]);
+            if (fin >= 0) {
+                extremes[2 * nombre] = noeud[(int) fin];
+                extremes[2 * nombre + 1] = (int) (fin >>> 32);
+                nombre++;
+            }
+        }
+        return nombre;
+    }
+
+
+    /**
+     * Retourne le numéro de nœud d'une case.
+     *
+     * @param indice indice de la case
+     * @return le numéro du nœud, ou -1 si la case est un couloir ou un mur
+     */
+    public int noeud(int indice) {
+        return noeud[indice];
+    }
+
+
+    /**
+     * Retourne la case d'un nœud.
+     *
+     * @param noeud numéro du nœud
+     * @return l'indice de la case
+     */
+    public int cellule(int noeud) {
+        return cellule[noeud];
+    }
+
+
+    /**
+     * Retourne la position de la première arête d'un nœud ; celles du nœud
+     * s'arrêtent à {@code debut(noeud + 1)}.
+     *
+     * @param noeud numéro du nœud, jusqu'au nombre de nœuds compris
+     * @return la position dans les tableaux d'arêtes
+     */
+    public int debut(int noeud) {
+        return debut[noeud];
+    }
+
+
+    /**
+     * Retourne le nœud d'arrivée d'une arête.
+     *
+     * @param arete position de l'arête
+     * @return le numéro du nœud voisin
+     */
+    public int voisin(int arete) {
+        return voisins[arete];
+    }
+
+
+    /**
+     * Retourne le nombre de déplacements d'une arête.
+     *
+     * @param arete position de l'arête
+     * @return la longueur du couloir
+     */
+    public int poids(int arete) {
+        return poids[arete];
+    }
+
+
+    public int getNombreNoeuds() {
+        return cellule.length;
+    }
+
+
+    /**
+     * Retourne le nombre d'arêtes, chaque couloir comptant une fois dans chaque sens.
+     *
+     * @return le nombre d'arêtes orientées
+     */
+    public int getNombreAretes() {
+        return voisins.length;
+    }
+
+
+    /**
+     * Retourne la grille d'où le graphe a été construit.
+     *
+     * @return la grille
+     */
+    public Grille getGrille() {
+        return grille;
+    }
+}
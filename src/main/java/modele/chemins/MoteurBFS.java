@@ -0,0 +1,246 @@
+package modele.chemins;
+
+import modele.grille.Grille;
+import modele.grille.TypeCellule;
+
+/**
+ * Parcours en largeur (BFS) réutilisable sur les indices plats d'une {@link Grille}.
+ *
+ * Les cases traversables sont toutes celles qui ne sont pas des murs.
+ * Le moteur ne fait aucune allocation par recherche une fois ses tableaux
+ * dimensionnés :
+ * - la file est un tableau d'entiers (chaque case y entre au plus une fois) ;
+ * - les cases atteintes sont marquées par un numéro d'époque incrémenté à chaque
+ *   recherche, ce qui évite de remettre les tableaux à zéro ;
+ * - distances et parents sont lus dans des tableaux plats, valides pour les seules
+ *   cases atteintes par la dernière recherche.
+ *
+ * Un moteur n'est pas partagé entre threads : {@link #local()} en fournit un par thread.
+ */
+public final class MoteurBFS implements CarteDistances {
+
+    private static final ThreadLocal<MoteurBFS> LOCAL = ThreadLocal.withInitial(MoteurBFS::new);
+
+    private int[] file = new int[0];
+    private int[] marque = new int[0];
+    private int[] distance = new int[0];
+    private int[] parent = new int[0];
+    private int epoque;
+    private int nombreAtteintes;
+    private int nombreDeveloppees;
+
+
+    /**
+     * Retourne le moteur du thread courant, réutilisé d'une recherche à l'autre.
+     *
+     * @return le moteur de ce thread
+     */
+    public static MoteurBFS local() {
+        return LOCAL.get();
+    }
+
+
+    /**
+     * Parcourt toutes les cases accessibles depuis une case de départ.
+     *
+     * @param grille la grille
+     * @param depart indice de la case de départ
+     */
+    public void parcourir(Grille grille, int depart) {
+        explorer(grille, depart, -1, false);
+    }
+
+
+    /**
+     * Parcourt la grille jusqu'à atteindre une case d'arrivée.
+     *
+     * @param grille  la grille
+     * @param depart  indice de la case de départ
+     * @param arrivee indice de la case d'arrivée
+     * @return la distance jusqu'à l'arrivée, ou -1 si elle est inaccessible
+     */
+    public int parcourirJusqua(Grille grille, int depart, int arrivee) {
+        return explorer(grille, depart, arrivee, false) < 0 ? -1 : distance[arrivee];
+    }
+
+
+    /**
+     * Parcourt la grille jusqu'à la sortie (verrouillée ou non) la plus proche.
+     *
+     * @param grille la grille
+     * @param depart indice de la case de départ
+     * @return l'indice de la sortie atteinte, ou -1 si aucune n'est accessible
+     */
+    public int parcourirJusquaSortie(Grille grille, int depart) {
+        return explorer(grille, depart, -1, true);
+    }
+
+
+    private int explorer(Grille grille, int depart, int arrivee, boolean chercherSortie) {
+        int taille = grille.getTaille();
+        int hauteurMax = grille.getHauteurMax();
+        preparer(taille);
+
+        int[] file = this.file;
+        int[] marque = this.marque;
+        int[] distance = this.distance;
+        int[] parent = this.parent;
+        int epoque = this.epoque;
+        byte sortie = TypeCellule.SORTIE.code();
+        byte sortieVerrouillee = TypeCellule.SORTIE_VERROUILLEE.code();
+
+        int lecture = 0;
+        int ecriture = 0;
+        file[ecriture++] = depart;
+        marque[depart] = epoque;
+        distance[depart] = 0;
+        parent[depart] = -1;
+        int trouvee = -1;
+
+        while (lecture < ecriture) {
+            int courante = file[lecture++];
+
+            if (courante == arrivee) {
+                trouvee = courante;
+                break;
+            }
+            if (chercherSortie) {
+                byte code = grille.getCode(courante);
+                if (code == sortie || code == sortieVerrouillee) {
+                    trouvee = courante;
+                    break;
+                }
+            }
+
+            int suivante = distance[courante] + 1;
+            int y = courante % hauteurMax;
+
+            int voisine = courante - hauteurMax;
+            if (voisine >= 0 && marque[voisine] != epoque && !grille.estMur(voisine)) {
+                marque[voisine] = epoque;
+                distance[voisine] = suivante;
+                parent[voisine] = courante;
+                file[ecriture++] = voisine;
+            }
+            voisine = courante + hauteurMax;
+            if (voisine < taille && marque[voisine] != epoque && !grille.estMur(voisine)) {
+                marque[voisine] = epoque;
+                distance[voisine] = suivante;
+                parent[voisine] = courante;
+                file[ecriture++] = voisine;
+            }
+            voisine = courante - 1;
+            if (y > 0 && marque[voisine] != epoque && !grille.estMur(voisine)) {
+                marque[voisine] = epoque;
+                distance[voisine] = suivante;
+                parent[voisine] = courante;
+                file[ecriture++] = voisine;
+            }
+            voisine = courante + 1;
+            if (y < hauteurMax - 1 && marque[voisine] != epoque && !grille.estMur(voisine)) {
+                marque[voisine] = epoque;
+                distance[voisine] = suivante;
+                parent[voisine] = courante;
+                file[ecriture++] = voisine;
+            }
+        }
+
+        nombreAtteintes = ecriture;
+        nombreDeveloppees = lecture;
+        return trouvee;
+    }
+
+
+    /**
+     * Dimensionne les tableaux et ouvre une nouvelle époque.
+     */
+    private void preparer(int taille) {
+        if (marque.length < taille) {
+            file = new int[taille];
+            marque = new int[taille];
+            distance = new int[taille];
+            parent = new int[taille];
+            epoque = 0;
+        }
+        if (epoque == Integer.MAX_VALUE) {
+            java.util.Arrays.fill(marque, 0);
+            epoque = 0;
+        }
+        epoque++;
+    }
+
+
+    /**
+     * Indique si une case a été atteinte par la dernière recherche.
+     *
+     * @param indice indice de la case
+     * @return true si la case a été atteinte
+     */
+    public boolean estAtteinte(int indice) {
+        return marque[indice] == epoque;
+    }
+
+
+    /**
+     * Retourne la distance d'une case à la case de départ de la dernière recherche.
+     *
+     * @param indice indice de la case
+     * @return la distance, ou -1 si la case n'a pas été atteinte
+     */
+    @Override
+    public int distance(int indice) {
+        return marque[indice] == epoque ? distance[indice] : -1;
+    }
+
+
+    /**
+     * Retourne la case précédente sur le plus court chemin depuis le départ.
+     *
+     * @param indice indice d'une case atteinte
+     * @return l'indice du parent, ou -1 pour la case de départ ou une case non atteinte
+     */
+    public int parent(int indice) {
+        return marque[indice] == epoque ? parent[indice] : -1;
+    }
+
+
+    /**
+     * Retourne le nombre de cases atteintes (mises en file) par la dernière recherche.
+     *
+     * @return le nombre de cases atteintes
+     */
+    @Override
+    public int getNombreAtteintes() {
+        return nombreAtteintes;
+    }
+
+
+    /**
+     * Retourne le nombre de cases sorties de la file par la dernière recherche.
+     *
+     * @return le nombre de cases développées
+     */
+    public int getNombreDeveloppees() {
+        return nombreDeveloppees;
+    }
+
+
+    /**
+     * Reconstruit le plus court chemin du départ jusqu'à une case atteinte.
+     *
+     * @param arrivee indice d'une case atteinte par la dernière recherche
+     * @return les indices des cases du chemin, départ et arrivée compris,
+     *         ou un tableau vide si la case n'a pas été atteinte
+     */
+    @Override
+    public int[] chemin(int arrivee) {
+        if (!estAtteinte(arrivee)) {
+            return new int[0];
+        }
+        int[] chemin = new int[distance[arrivee] + 1];
+        for (int i = chemin.length - 1, courante = arrivee; i >= 0; i--, courante = parent[courante]) {
+            chemin[i] = courante;
+        }
+        return chemin;
+    }
+}
@@ -0,0 +1,338 @@
+package modele.chemins;
+
+import modele.grille.Grille;
+import modele.grille.ListeIndices;
+import modele.grille.TypeCellule;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parcours en largeur multi-cœur, synchronisé par niveau, pour les très grandes grilles.
+ *
+ * Chaque niveau du front est découpé en morceaux développés en parallèle dans un
+ * {@link ForkJoinPool}. Une case est réclamée par un compare-and-set sur un bitset
+ * partagé (un bit par case, via un {@link VarHandle}) : seul le thread qui l'a
+ * réclamée écrit sa distance et son parent, puis l'ajoute au front suivant par
+ * blocs réservés avec un compteur atomique. La fin de chaque niveau (la jointure
+ * des tâches) publie ces écritures avant le niveau suivant.
+ *
+ * Un front trop petit pour amortir la répartition, ou un pool d'un seul thread,
+ * est développé sur le thread appelant, sans opération atomique. C'est le cas
+ * permanent des labyrinthes parfaits, dont le front ne compte que quelques cases.
+ *
+ * Les tableaux sont réutilisés d'un parcours à l'autre, et chaque thread du pool
+ * garde son propre tampon de cases trouvées d'un niveau à l'autre ; un moteur ne
+ * sert qu'à un parcours à la fois.
+ */
+public final class MoteurBFSParallele implements Solveur, CarteDistances {
+
+    /** En dessous de cette taille de front, le niveau est développé sans tâches. */
+    private static final int SEUIL_PARALLELE = 1 << 12;
+
+    /** Nombre de cases du front développées par une tâche feuille. */
+    private static final int TAILLE_MORCEAU = 1 << 10;
+
+    private static final byte SORTIE = TypeCellule.SORTIE.code();
+    private static final byte SORTIE_VERROUILLEE = TypeCellule.SORTIE_VERROUILLEE.code();
+
+    /**
+     * Tampon où une tâche feuille range ses cases avant de les copier dans le front suivant,
+     * un par thread et partagé par tous les moteurs : une feuille ne lance aucune tâche,
+     * le tampon de son thread ne sert donc qu'à elle jusqu'à ce qu'elle ait fini.
+     */
+    private static final ThreadLocal<int[]> TAMPONS = ThreadLocal.withInitial(() -> new int[4 * TAILLE_MORCEAU]);
+
+    private final ForkJoinPool pool;
+    private final int seuilParallele;
+    private final AtomicInteger curseur = new AtomicInteger();
+    private final AtomicInteger sortieTrouvee = new AtomicInteger(-1);
+
+    private static final VarHandle MOTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private long[] visite = new long[0];
+    private int[] distance = new int[0];
+    private int[] parent = new int[0];
+    private int[] front = new int[0];
+    private int[] suivant = new int[0];
+    private int taille;
+    private int nombreAtteintes;
+    private int nombreDeveloppees;
+
+
+    /**
+     * Crée un moteur utilisant le pool commun.
+     */
+    public MoteurBFSParallele() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Crée un moteur utilisant un pool donné, par exemple pour fixer le nombre de threads.
+     *
+     * @param pool le pool d'exécution
+     */
+    public MoteurBFSParallele(ForkJoinPool pool) {
+        this(pool, SEUIL_PARALLELE);
+    }
+
+    /**
+     * Crée un moteur avec un seuil de parallélisation donné (tests).
+     *
+     * @param pool           le pool d'exécution
+     * @param seuilParallele taille de front à partir de laquelle un niveau est découpé en tâches
+     */
+    MoteurBFSParallele(ForkJoinPool pool, int seuilParallele) {
+        this.pool = pool;
+        this.seuilParallele = seuilParallele;
+    }
+
+
+    /**
+     * Parcourt toutes les cases accessibles depuis une case de départ.
+     *
+     * @param grille la grille
+     * @param depart indice de la case de départ
+     */
+    public void parcourir(Grille grille, int depart) {
+        explorer(grille, depart, false);
+    }
+
+
+    /**
+     * Parcourt la grille jusqu'au niveau de la sortie (verrouillée ou non) la plus proche.
+     *
+     * @param grille la grille
+     * @param depart indice de la case de départ
+     * @return l'indice d'une sortie la plus proche, ou -1 si aucune n'est accessible
+     */
+    public int parcourirJusquaSortie(Grille grille, int depart) {
+        return explorer(grille, depart, true);
+    }
+
+
+    @Override
+    public int plusCourtChemin(Grille grille, int depart, ListeIndices sorties) {
+        int sortie = parcourirJusquaSortie(grille, depart);
+        return sortie < 0 ? -1 : distance[sortie];
+    }
+
+
+    private int explorer(Grille grille, int depart, boolean chercherSortie) {
+        preparer(grille.getTaille());
+        sortieTrouvee.set(-1);
+
+        visite[depart >>> 6] |= 1L << depart;
+        distance[depart] = 0;
+        parent[depart] = -1;
+        nombreAtteintes = 1;
+        nombreDeveloppees = 0;
+        if (chercherSortie && estSortie(grille.getCode(depart))) {
+            return depart;
+        }
+
+        front[0] = depart;
+        int tailleFront = 1;
+        while (tailleFront > 0) {
+            curseur.set(0);
+            if (tailleFront < seuilParallele || pool.getParallelism() == 1) {
+                curseur.set(developper(grille, 0, tailleFront, chercherSortie, false, suivant, 0));
+            } else {
+                pool.invoke(new Developpement(grille, 0, tailleFront, chercherSortie));
+            }
+            nombreDeveloppees += tailleFront;
+
+            if (chercherSortie && sortieTrouvee.get() >= 0) {
+                return sortieTrouvee.get();
+            }
+            int[] tampon = front;
+            front = suivant;
+            suivant = tampon;
+            tailleFront = curseur.get();
+            nombreAtteintes += tailleFront;
+        }
+        return -1;
+    }
+
+
+    /**
+     * Développe les cases {@code front[debut..fin)} et range les cases réclamées
+     * dans un tableau de destination.
+     *
+     * @return la position qui suit la dernière case rangée
+     */
+    private int developper(Grille grille, int debut, int fin, boolean chercherSortie, boolean concurrent,
+                           int[] trouvees, int nombre) {
+        int hauteurMax = grille.getHauteurMax();
+
+        for (int k = debut; k < fin; k++) {
+            int courante = front[k];
+            int y = courante % hauteurMax;
+
+            if (courante >= hauteurMax) {
+                nombre = visiter(grille, courante - hauteurMax, courante, chercherSortie, concurrent, trouvees, nombre);
+            }
+            if (courante + hauteurMax < taille) {
+                nombre = visiter(grille, courante + hauteurMax, courante, chercherSortie, concurrent, trouvees, nombre);
+            }
+            if (y > 0) {
+                nombre = visiter(grille, courante - 1, courante, chercherSortie, concurrent, trouvees, nombre);
+            }
+            if (y < hauteurMax - 1) {
+                nombre = visiter(grille, courante + 1, courante, chercherSortie, concurrent, trouvees, nombre);
+            }
+        }
+        return nombre;
+    }
+
+
+    /**
+     * Réclame une voisine si elle est traversable et libre, puis la range.
+     *
+     * @return la nouvelle position dans le tableau de destination
+     */
+    private int visiter(Grille grille, int voisine, int courante, boolean chercherSortie, boolean concurrent,
+                        int[] trouvees, int nombre) {
+        if (grille.estMur(voisine)) {
+            return nombre;
+        }
+        if (concurrent) {
+            if (!reclamer(visite, voisine)) {
+                return nombre;
+            }
+        } else {
+            long bit = 1L << voisine;
+            if ((visite[voisine >>> 6] & bit) != 0) {
+                return nombre;
+            }
+            visite[voisine >>> 6] |= bit;
+        }
+        distance[voisine] = distance[courante] + 1;
+        parent[voisine] = courante;
+        trouvees[nombre] = voisine;
+        if (chercherSortie && estSortie(grille.getCode(voisine))) {
+            sortieTrouvee.compareAndSet(-1, voisine);
+        }
+        return nombre + 1;
+    }
+
+
+    /**
+     * Réclame une case : le premier thread qui pose son bit la développera.
+     *
+     * @return true si la case n'était pas encore visitée
+     */
+    private static boolean reclamer(long[] visite, int indice) {
+        int mot = indice >>> 6;
+        long bit = 1L << indice;
+        while (true) {
+            long valeur = (long) MOTS.getVolatile(visite, mot);
+            if ((valeur & bit) != 0) {
+                return false;
+            }
+            if (MOTS.compareAndSet(visite, mot, valeur, valeur | bit)) {
+                return true;
+            }
+        }
+    }
+
+
+    private static boolean estSortie(byte code) {
+        return code == SORTIE || code == SORTIE_VERROUILLEE;
+    }
+
+
+    private void preparer(int taille) {
+        this.taille = taille;
+        int mots = (taille + 63) >>> 6;
+        if (distance.length < taille) {
+            visite = new long[mots];
+            distance = new int[taille];
+            parent = new int[taille];
+            front = new int[taille];
+            suivant = new int[taille];
+        } else {
+            Arrays.fill(visite, 0, mots, 0L);
+        }
+    }
+
+
+    /**
+     * Indique si une case a été atteinte par le dernier parcours.
+     *
+     * @param indice indice de la case
+     * @return true si la case a été atteinte
+     */
+    public boolean estAtteinte(int indice) {
+        return (visite[indice >>> 6] & (1L << indice)) != 0;
+    }
+
+
+    @Override
+    public int distance(int indice) {
+        return estAtteinte(indice) ? distance[indice] : -1;
+    }
+
+
+    @Override
+    public int[] chemin(int arrivee) {
+        if (!estAtteinte(arrivee)) {
+            return new int[0];
+        }
+        int[] chemin = new int[distance[arrivee] + 1];
+        for (int i = chemin.length - 1, courante = arrivee; i >= 0; i--, courante = parent[courante]) {
+            chemin[i] = courante;
+        }
+        return chemin;
+    }
+
+
+    @Override
+    public int getNombreAtteintes() {
+        return nombreAtteintes;
+    }
+
+
+    @Override
+    public int getNombreDeveloppees() {
+        return nombreDeveloppees;
+    }
+
+
+    /**
+     * Découpe une tranche du front en moitiés jusqu'à la taille d'un morceau.
+     */
+    private final class Developpement extends RecursiveAction {
+        private final Grille grille;
+        private final int debut;
+        private final int fin;
+        private final boolean chercherSortie;
+
+        Developpement(Grille grille, int debut, int fin, boolean chercherSortie) {
+            this.grille = grille;
+            this.debut = debut;
+            this.fin = fin;
+            this.chercherSortie = chercherSortie;
+        }
+
+        @Override
+        protected void compute() {
+            if (fin - debut <= TAILLE_MORCEAU) {
+                // Chaque feuille range ses cases à part, puis réserve sa place dans le front suivant
+                int[] trouvees = TAMPONS.get();
+                int nombre = developper(grille, debut, fin, chercherSortie, true, trouvees, 0);
+                if (nombre > 0) {
+                    System.arraycopy(trouvees, 0, suivant, curseur.getAndAdd(nombre), nombre);
+                }
+                return;
+            }
+            int milieu = (debut + fin) >>> 1;
+            invokeAll(new Developpement(grille, debut, milieu, chercherSortie),
+                      new Developpement(grille, milieu, fin, chercherSortie));
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package modele.chemins;
+
+import modele.grille.Grille;
+import modele.grille.ListeIndices;
+import modele.grille.TypeCellule;
+
+import java.util.Arrays;
+
+/**
+ * Plus court chemin vers la sortie la plus proche, réparé au fil des changements
+ * de la grille plutôt que recalculé (D* Lite).
+ *
+ * La recherche part des sorties et remonte vers la case de départ, guidée par la
+ * distance de Manhattan à ce départ. Chaque case garde deux valeurs : {@code g}, sa
+ * distance connue aux sorties, et {@code rhs}, celle qu'annoncent ses voisines. Quand
+ * une case change, seules ses voisines sont réévaluées ; les écarts se propagent
+ * ensuite dans la file de priorité, et la recherche s'arrête dès que le départ est
+ * cohérent. Un mur posé loin du chemin ne coûte presque rien, un mur qui le coupe
+ * ne coûte que la zone du détour.
+ *
+ * Le départ peut se déplacer entre deux requêtes sans rien invalider : le décalage
+ * des estimations est absorbé par un terme ajouté aux clés ({@code km}).
+ *
+ * Le gain dépend des détours possibles. Sur une grille ouverte, une réparation coûte
+ * quelques microsecondes loin du chemin et reste bien moins chère qu'un BFS quand elle
+ * le coupe. Dans un labyrinthe parfait, couper l'unique chemin oblige à relever les
+ * distances de tout le sous-arbre coupé, puis à les rabaisser quand il rouvre : cette
+ * réparation coûte plus qu'un nouveau BFS.
+ *
+ * Comme les solveurs, la recherche traite toute case non murée comme traversable,
+ * sorties verrouillées comprises, et s'arrête sur n'importe quelle sortie. Elle tient
+ * trois tableaux par case, seize octets en tout.
+ */
+public final class RechercheIncrementale {
+    private static final int INFINI = Integer.MAX_VALUE / 2;
+    private static final long ABSENTE = -1;
+
+    private final Grille grille;
+    private final int hauteurMax;
+    private final int[] g;
+    private final int[] rhs;
+    /** Clé de chaque case dans la file, {@link #ABSENTE} hors de la file. */
+    private final long[] cle;
+    private final TasBinaire file = new TasBinaire();
+    private final int[] voisines = new int[4];
+    private int depart = -1;
+    private int km;
+    private int nombreDeveloppees;
+
+
+    /**
+     * Prépare la recherche sur une grille ; rien n'est calculé avant la première requête.
+     *
+     * @param grille  la grille
+     * @param sorties indices des sorties de la grille, verrouillées ou non
+     */
+    public RechercheIncrementale(Grille grille, ListeIndices sorties) {
+        this.grille = grille;
+        this.hauteurMax = grille.getHauteurMax();
+        int taille = grille.getTaille();
+        this.g = new int[taille];
+        this.rhs = new int[taille];
+        this.cle = new long[taille];
+        Arrays.fill(g, INFINI);
+        Arrays.fill(rhs, INFINI);
+        Arrays.fill(cle, ABSENTE);
+        for (int i = 0; i < sorties.taille(); i++) {
+            int sortie = sorties.get(i);
+            if (!grille.estMur(sortie)) {
+                rhs[sortie] = 0;
+                // Le départ est encore inconnu : la clé sans estimation minore la vraie,
+                // que la première requête rétablira en réinsérant la sortie
+                ranger(sortie, cleDe(sortie));
+            }
+        }
+    }
+
+
+    /**
+     * Retourne la distance d'une case de départ à la sortie la plus proche, en ne
+     * réparant que ce que les changements signalés depuis la dernière requête imposent.
+     *
+     * @param depart indice de la case de départ, en général celle du joueur
+     * @return le nombre de déplacements, ou -1 si aucune sortie n'est accessible
+     */
+    public int distance(int depart) {
+        nombreDeveloppees = 0;
+        if (grille.estMur(depart)) {
+            return -1;
+        }
+        deplacerDepart(depart);
+        calculer();
+        return g[depart] >= INFINI ? -1 : g[depart];
+    }
+
+
+    /**
+     * Retourne la case voisine par laquelle passe un plus court chemin vers la sortie.
+     *
+     * @param depart indice de la case de départ
+     * @return l'indice de la case suivante, ou -1 si le départ est une sortie ou
+     *         si aucune sortie n'est accessible
+     */
+    public int caseSuivante(int depart) {
+        int d = distance(depart);
+        if (d <= 0) {
+            return -1;
+        }
+        int nombre = voisinesOuvertes(depart);
+        for (int v = 0; v < nombre; v++) {
+            if (g[voisines[v]] == d - 1) {
+                return voisines[v];
+            }
+        }
+        return -1;
+    }
+
+
+    /**
+     * Signale qu'une case a changé : mur posé ou retiré, sortie ajoutée ou retirée.
+     * La case et ses voisines sont réévaluées ; la réparation elle-même attend la
+     * prochaine requête.
+     *
+     * @param indice indice de la case modifiée, déjà mise à jour dans la grille
+     */
+    public void caseModifiee(int indice) {
+        mettreAJour(indice);
+        int x = indice / hauteurMax;
+        int y = indice - x * hauteurMax;
+        if (x > 0) {
+            mettreAJour(indice - hauteurMax);
+        }
+        if (indice + hauteurMax < grille.getTaille()) {
+            mettreAJour(indice + hauteurMax);
+        }
+        if (y > 0) {
+            mettreAJour(indice - 1);
+        }
+        if (y + 1 < hauteurMax) {
+            mettreAJour(indice + 1);
+        }
+    }
+
+
+    private void deplacerDepart(int nouveau) {
+        if (depart >= 0 && depart != nouveau) {
+            km += manhattan(depart, nouveau);
+        }
+        depart = nouveau;
+    }
+
+
+    /**
+     * Traite la file jusqu'à ce que le départ soit cohérent et qu'aucune case
+     * restante ne puisse plus améliorer sa distance.
+     */
+    private void calculer() {
+        while (true) {
+            long sommet = cleSommet();
+            if (sommet == Long.MAX_VALUE || (sommet >= cleDe(depart) && g[depart] == rhs[depart])) {
+                return;
+            }
+            int u = file.valeurMin();
+            long nouvelle = cleDe(u);
+            nombreDeveloppees++;
+            if (sommet < nouvelle) {
+                // Le départ a bougé depuis l'insertion : la clé a vieilli
+                ranger(u, nouvelle);
+            } else if (g[u] > rhs[u]) {
+                g[u] = rhs[u];
+                retirer(u);
+                mettreAJourVoisines(u);
+            } else {
+                g[u] = INFINI;
+                mettreAJour(u);
+                mettreAJourVoisines(u);
+            }
+        }
+    }
+
+
+    private void mettreAJourVoisines(int indice) {
+        int nombre = voisinesOuvertes(indice);
+        for (int v = 0; v < nombre; v++) {
+            mettreAJour(voisines[v]);
+        }
+    }
+
+
+    /**
+     * Recalcule la valeur annoncée par les voisines d'une case et la (re)place dans
+     * la file si elle diffère de sa distance connue.
+     */
+    private void mettreAJour(int indice) {
+        if (grille.estMur(indice)) {
+            rhs[indice] = INFINI;
+        } else if (TypeCellule.depuisCode(grille.getCode(indice)).estSortie()) {
+            rhs[indice] = 0;
+        } else {
+            // Sans passer par le tableau des voisines, que l'appelant parcourt peut-être
+            int x = indice / hauteurMax;
+            int y = indice - x * hauteurMax;
+            int min = INFINI;
+            if (x > 0 && !grille.estMur(indice - hauteurMax)) {
+                min = Math.min(min, g[indice - hauteurMax] + 1);
+            }
+            if (indice + hauteurMax < grille.getTaille() && !grille.estMur(indice + hauteurMax)) {
+                min = Math.min(min, g[indice + hauteurMax] + 1);
+            }
+            if (y > 0 && !grille.estMur(indice - 1)) {
+                min = Math.min(min, g[indice - 1] + 1);
+            }
+            if (y + 1 < hauteurMax && !grille.estMur(indice + 1)) {
+                min = Math.min(min, g[indice + 1] + 1);
+            }
+            rhs[indice] = Math.min(min, INFINI);
+        }
+        if (g[indice] != rhs[indice]) {
+            ranger(indice, cleDe(indice));
+        } else {
+            retirer(indice);
+        }
+    }
+
+
+    /**
+     * Range les voisines non murées d'une case dans {@link #voisines}.
+     */
+    private int voisinesOuvertes(int indice) {
+        int x = indice / hauteurMax;
+        int y = indice - x * hauteurMax;
+        int nombre = 0;
+        if (x > 0 && !grille.estMur(indice - hauteurMax)) {
+            voisines[nombre++] = indice - hauteurMax;
+        }
+        if (indice + hauteurMax < grille.getTaille() && !grille.estMur(indice + hauteurMax)) {
+            voisines[nombre++] = indice + hauteurMax;
+        }
+        if (y > 0 && !grille.estMur(indice - 1)) {
+            voisines[nombre++] = indice - 1;
+        }
+        if (y + 1 < hauteurMax && !grille.estMur(indice + 1)) {
+            voisines[nombre++] = indice + 1;
+        }
+        return nombre;
+    }
+
+
+    /**
+     * Clé de priorité d'une case : d'abord {@code min(g, rhs) + h + km}, puis {@code min(g, rhs)}.
+     */
+    private long cleDe(int indice) {
+        int m = Math.min(g[indice], rhs[indice]);
+        if (m >= INFINI) {
+            return Long.MAX_VALUE;
+        }
+        // Tant qu'aucun départ n'est connu, une estimation nulle reste une minoration
+        long premiere = (long) m + (depart < 0 ? 0 : manhattan(indice, depart)) + km;
+        return (premiere << 32) | m;
+    }
+
+
+    private int manhattan(int a, int b) {
+        return Math.abs(a / hauteurMax - b / hauteurMax) + Math.abs(a % hauteurMax - b % hauteurMax);
+    }
+
+
+    private void ranger(int indice, long nouvelle) {
+        cle[indice] = nouvelle;
+        file.ajouter(nouvelle, indice);
+    }
+
+
+    private void retirer(int indice) {
+        cle[indice] = ABSENTE;
+    }
+
+
+    /**
+     * Retourne la plus petite clé à jour de la file, après avoir écarté les entrées périmées.
+     */
+    private long cleSommet() {
+        while (!file.estVide()) {
+            if (cle[file.valeurMin()] == file.cleMin()) {
+                return file.cleMin();
+            }
+            file.retirerMin();
+        }
+        return Long.MAX_VALUE;
+    }
+
+
+    /**
+     * Retourne le nombre de cases traitées par la dernière requête.
+     *
+     * @return le nombre de cases développées
+     */
+    public int getNombreDeveloppees() {
+        return nombreDeveloppees;
+    }
+
+
+    /**
+     * Retourne la grille suivie.
+     *
+     * @return la grille
+     */
+    public Grille getGrille() {
+        return grille;
+    }
+}
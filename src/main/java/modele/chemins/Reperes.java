@@ -0,0 +1,227 @@
+package modele.chemins;
+
+import modele.grille.Grille;
+
+import java.util.Arrays;
+
+/**
+ * Repères d'une grille : quelques cases dont on connaît la distance à toutes les autres.
+ *
+ * Pour tout repère r, l'inégalité triangulaire donne
+ * {@code d(a, b) >= |d(r, b) - d(r, a)|}. Le maximum sur les repères est une
+ * minoration admissible et cohérente de la distance entre deux cases, bien plus
+ * serrée que la distance de Manhattan dans un labyrinthe, où les murs imposent
+ * de longs détours ; elle guide la recherche de {@link SolveurALT}.
+ *
+ * Les repères sont choisis par le point le plus éloigné : chacun est la case la plus
+ * loin, en déplacements, des repères déjà choisis, ce qui les répartit aux confins
+ * du labyrinthe. Leur nombre règle le compromis : la préparation coûte un BFS par
+ * repère, plus un pour trouver le premier, et la mémoire deux octets par case et par
+ * repère, quatre dès qu'une distance dépasse 65 534. Les distances d'une même case
+ * sont rangées côte à côte, pour qu'une estimation ne lise qu'une ligne de cache.
+ *
+ * Les repères décrivent la grille au moment de leur calcul ; ils doivent être
+ * recalculés quand un mur change.
+ */
+public final class Reperes {
+    /** Distance absente dans le tableau compact : case non atteinte par le repère. */
+    private static final char ABSENTE = Character.MAX_VALUE;
+
+    private final Grille grille;
+    /** Case de chaque repère. */
+    private final int[] cases;
+    /** Distances sur 16 bits, {@code nombre} par case ; null une fois élargies. */
+    private char[] courtes;
+    /** Distances sur 32 bits, -1 pour une case non atteinte ; null tant qu'elles tiennent sur 16 bits. */
+    private int[] longues;
+
+
+    private Reperes(Grille grille, int nombre) {
+        this.grille = grille;
+        this.cases = new int[nombre];
+        this.courtes = new char[grille.getTaille() * nombre];
+    }
+
+
+    /**
+     * Choisit des repères et calcule leurs distances à toutes les cases.
+     *
+     * @param grille la grille
+     * @param nombre le nombre de repères
+     * @return les repères
+     * @throws IllegalArgumentException si le nombre n'est pas strictement positif,
+     *                                  si la grille n'a aucune case ouverte ou si
+     *                                  les distances ne tiennent pas dans un tableau
+     */
+    public static Reperes choisir(Grille grille, int nombre) {
+        if (nombre < 1) {
+            throw new IllegalArgumentException("Il faut au moins un repère");
+        }
+        int taille = grille.getTaille();
+        if ((long) taille * nombre > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Trop de repères (" + nombre + ") pour une grille de " + taille + " cases");
+        }
+        int premiere = 0;
+        while (premiere < taille && grille.estMur(premiere)) {
+            premiere++;
+        }
+        if (premiere == taille) {
+            throw new IllegalArgumentException("La grille n'a aucune case ouverte");
+        }
+
+        Reperes reperes = new Reperes(grille, nombre);
+        MoteurBFS moteur = MoteurBFS.local();
+        // Distance de chaque case au repère le plus proche ; MAX_VALUE tant qu'aucun ne l'atteint
+        int[] eloignement = new int[taille];
+        Arrays.fill(eloignement, Integer.MAX_VALUE);
+        moteur.parcourir(grille, premiere);
+        int repere = rapprocher(grille, moteur, eloignement);
+        Arrays.fill(eloignement, Integer.MAX_VALUE);
+
+        for (int r = 0; r < nombre; r++) {
+            reperes.cases[r] = repere;
+            moteur.parcourir(grille, repere);
+            reperes.enregistrer(r, moteur);
+            repere = rapprocher(grille, moteur, eloignement);
+        }
+        return reperes;
+    }
+
+
+    /**
+     * Met à jour la distance de chaque case au repère le plus proche.
+     *
+     * @return la case ouverte la plus éloignée des repères, une case qu'aucun
+     *         n'atteint en priorité
+     */
+    private static int rapprocher(Grille grille, MoteurBFS moteur, int[] eloignement) {
+        int plusEloignee = -1;
+        for (int i = 0; i < eloignement.length; i++) {
+            if (grille.estMur(i)) {
+                continue;
+            }
+            int d = moteur.distance(i);
+            if (d >= 0 && d < eloignement[i]) {
+                eloignement[i] = d;
+            }
+            if (plusEloignee < 0 || eloignement[i] > eloignement[plusEloignee]) {
+                plusEloignee = i;
+            }
+        }
+        return plusEloignee;
+    }
+
+
+    private void enregistrer(int repere, MoteurBFS moteur) {
+        int nombre = cases.length;
+        for (int i = 0, position = repere; i < grille.getTaille(); i++, position += nombre) {
+            int d = moteur.distance(i);
+            if (courtes != null && d >= ABSENTE) {
+                elargir();
+            }
+            if (courtes != null) {
+                courtes[position] = d < 0 ? ABSENTE : (char) d;
+            } else {
+                longues[position] = d;
+            }
+        }
+    }
+
+
+    /**
+     * Passe les distances sur 32 bits, quand l'une d'elles dépasse la capacité compacte.
+     */
+    private void elargir() {
+        longues = new int[courtes.length];
+        for (int i = 0; i < courtes.length; i++) {
+            longues[i] = courtes[i] == ABSENTE ? -1 : courtes[i];
+        }
+        courtes = null;
+    }
+
+
+    /**
+     * Minore la distance entre deux cases par l'inégalité triangulaire sur chaque repère.
+     * Un repère qui n'atteint pas l'une des deux cases n'apporte rien.
+     *
+     * @param a indice de la première case
+     * @param b indice de la seconde case
+     * @return une minoration de la distance, 0 si aucun repère ne les atteint toutes deux
+     */
+    public int minoration(int a, int b) {
+        int nombre = cases.length;
+        int pa = a * nombre;
+        int pb = b * nombre;
+        int max = 0;
+        if (courtes != null) {
+            for (int r = 0; r < nombre; r++) {
+                char da = courtes[pa + r];
+                char db = courtes[pb + r];
+                if (da != ABSENTE && db != ABSENTE) {
+                    max = Math.max(max, Math.abs(da - db));
+                }
+            }
+        } else {
+            for (int r = 0; r < nombre; r++) {
+                int da = longues[pa + r];
+                int db = longues[pb + r];
+                if (da >= 0 && db >= 0) {
+                    max = Math.max(max, Math.abs(da - db));
+                }
+            }
+        }
+        return max;
+    }
+
+
+    /**
+     * Retourne la distance d'un repère à une case.
+     *
+     * @param repere numéro du repère
+     * @param indice indice de la case
+     * @return la distance, ou -1 si le repère n'atteint pas la case
+     */
+    public int distance(int repere, int indice) {
+        int position = indice * cases.length + repere;
+        if (courtes != null) {
+            return courtes[position] == ABSENTE ? -1 : courtes[position];
+        }
+        return longues[position];
+    }
+
+
+    /**
+     * Retourne la case d'un repère.
+     *
+     * @param repere numéro du repère
+     * @return l'indice de la case
+     */
+    public int repere(int repere) {
+        return cases[repere];
+    }
+
+
+    public int getNombre() {
+        return cases.length;
+    }
+
+
+    /**
+     * Retourne la mémoire occupée par les distances.
+     *
+     * @return le nombre d'octets des tableaux de distances
+     */
+    public long getOctets() {
+        return courtes != null ? 2L * courtes.length : 4L * longues.length;
+    }
+
+
+    /**
+     * Retourne la grille d'où les repères ont été calculés.
+     *
+     * @return la grille
+     */
+    public Grille getGrille() {
+        return grille;
+    }
+}
@@ -0,0 +1,43 @@
+package modele.chemins;
+
+import modele.grille.Grille;
+import modele.grille.ListeIndices;
+
+/**
+ * Stratégie de calcul du plus court chemin entre une case et la sortie la plus proche.
+ *
+ * Toutes les cases qui ne sont pas des murs sont traversables, sorties verrouillées
+ * comprises : la longueur calculée est celle du tracé, indépendamment de la clé.
+ * Seul {@link SolveurCles} tient compte des verrous.
+ * Un solveur garde ses tableaux de travail d'une recherche à l'autre et ne doit
+ * donc pas être partagé entre threads.
+ */
+public interface Solveur {
+
+    /**
+     * Calcule la longueur du plus court chemin jusqu'à la sortie la plus proche.
+     *
+     * @param grille  la grille
+     * @param depart  indice de la case de départ
+     * @param sorties indices des sorties de la grille, verrouillées ou non
+     * @return la longueur du chemin, ou -1 si aucune sortie n'est accessible
+     */
+    int plusCourtChemin(Grille grille, int depart, ListeIndices sorties);
+
+
+    /**
+     * Retourne le nombre de cases développées par la dernière recherche,
+     * pour comparer les solveurs entre eux.
+     *
+     * @return le nombre de cases développées
+     */
+    int getNombreDeveloppees();
+
+
+    /**
+     * Prévient le solveur qu'un mur, l'entrée ou une sortie de la grille a changé.
+     * Seuls les solveurs qui gardent un prétraitement de la grille ont à s'en soucier.
+     */
+    default void grilleModifiee() {
+    }
+}
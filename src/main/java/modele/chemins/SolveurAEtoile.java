@@ -0,0 +1,37 @@
+package modele.chemins;
+
+/**
+ * Recherche A* guidée par la distance de Manhattan à la sortie la plus proche.
+ *
+ * Sur une grille ouverte, seules les cases proches de la ligne droite vers la sortie
+ * sont développées, là où le BFS explore tout le disque autour de l'entrée.
+ */
+public final class SolveurAEtoile extends SolveurHeuristique {
+
+    @Override
+    protected int rechercher(int depart) {
+        ouvrir(depart, 0);
+        int courante;
+        while ((courante = fermerMeilleure()) >= 0) {
+            if (estSortie(courante)) {
+                return cout[courante];
+            }
+            int x = courante / hauteurMax;
+            int y = courante % hauteurMax;
+            int g = cout[courante] + 1;
+            if (libre(x - 1, y)) {
+                ouvrir(courante - hauteurMax, g);
+            }
+            if (libre(x + 1, y)) {
+                ouvrir(courante + hauteurMax, g);
+            }
+            if (libre(x, y - 1)) {
+                ouvrir(courante - 1, g);
+            }
+            if (libre(x, y + 1)) {
+                ouvrir(courante + 1, g);
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,218 @@
+package modele.chemins;
+
+import modele.grille.Grille;
+import modele.grille.ListeIndices;
+
+import java.util.Arrays;
+
+/**
+ * Recherche A* guidée par les {@link Reperes} de la grille (ALT : A*, repères,
+ * inégalité triangulaire).
+ *
+ * L'estimation d'une case est, pour la cible la plus favorable, le maximum de sa
+ * distance de Manhattan et de la minoration par les repères : toutes deux sont
+ * admissibles et cohérentes, leur maximum aussi, et la longueur trouvée reste exacte.
+ *
+ * Contrairement à {@link SolveurAEtoile}, la recherche s'arrête sur les cases de la
+ * liste passée et non sur les codes de sortie : {@link #distance(Grille, int, int)}
+ * répond ainsi aux requêtes entre deux cases quelconques (indices, robots, statistiques).
+ *
+ * Les repères sont calculés à la première recherche sur une grille, puis réutilisés
+ * tant que la même grille est passée et que {@link #grilleModifiee()} n'a pas été
+ * appelé. Leur préparation coûte plusieurs BFS : ce solveur ne vaut que pour de
+ * nombreuses requêtes sur une même grille.
+ *
+ * Sur un labyrinthe parfait, huit repères divisent par quatre ou cinq le nombre de
+ * cases développées et une requête est environ 1,4 fois plus rapide qu'un BFS, le
+ * développement d'une case coûtant plus cher. Sur une grille ouverte, la distance
+ * de Manhattan est déjà presque exacte, les repères n'apportent rien et
+ * {@link SolveurAEtoile} reste préférable.
+ */
+public final class SolveurALT extends SolveurHeuristique {
+
+    private final int nombreReperes;
+    private Reperes reperes;
+    private Reperes courants;
+    private int[] cibles = new int[0];
+    /** File à seaux : les cases ouvertes d'estimation f sont dans le seau f % 3, en pile. */
+    private final int[][] seaux = {new int[64], new int[64], new int[64]};
+    private final int[] tailles = new int[3];
+    private int fCourant;
+    private int enAttente;
+
+
+    /**
+     * Crée un solveur qui choisira ses repères à la première recherche.
+     *
+     * @param nombreReperes le nombre de repères : chacun coûte un BFS à la préparation
+     *                      et deux octets par case
+     * @throws IllegalArgumentException si le nombre n'est pas strictement positif
+     */
+    public SolveurALT(int nombreReperes) {
+        if (nombreReperes < 1) {
+            throw new IllegalArgumentException("Il faut au moins un repère");
+        }
+        this.nombreReperes = nombreReperes;
+    }
+
+
+    /**
+     * Crée un solveur à partir de repères déjà calculés.
+     *
+     * @param reperes les repères ; ils seront recalculés en même nombre si la grille change
+     */
+    public SolveurALT(Reperes reperes) {
+        this(reperes.getNombre());
+        this.reperes = reperes;
+    }
+
+
+    /**
+     * Calcule la distance entre deux cases.
+     *
+     * @param grille  la grille
+     * @param depart  indice de la case de départ
+     * @param arrivee indice de la case d'arrivée
+     * @return le nombre de déplacements, ou -1 si l'arrivée est inaccessible
+     */
+    public int distance(Grille grille, int depart, int arrivee) {
+        ListeIndices cible = new ListeIndices();
+        cible.ajouter(arrivee);
+        return plusCourtChemin(grille, depart, cible);
+    }
+
+
+    @Override
+    protected int rechercher(int depart) {
+        courants = getReperes(grille);
+        if (cibles.length < nombreSorties) {
+            cibles = new int[nombreSorties];
+        }
+        for (int i = 0; i < nombreSorties; i++) {
+            cibles[i] = sortiesX[i] * hauteurMax + sortiesY[i];
+        }
+
+        tailles[0] = tailles[1] = tailles[2] = 0;
+        enAttente = 0;
+        fCourant = estimer(depart);
+        ouvrirCase(depart, 0);
+        int courante;
+        while ((courante = fermerSuivante()) >= 0) {
+            if (estCible(courante)) {
+                return cout[courante];
+            }
+            int x = courante / hauteurMax;
+            int y = courante % hauteurMax;
+            int g = cout[courante] + 1;
+            if (libre(x - 1, y)) {
+                ouvrirCase(courante - hauteurMax, g);
+            }
+            if (libre(x + 1, y)) {
+                ouvrirCase(courante + hauteurMax, g);
+            }
+            if (libre(x, y - 1)) {
+                ouvrirCase(courante - 1, g);
+            }
+            if (libre(x, y + 1)) {
+                ouvrirCase(courante + 1, g);
+            }
+        }
+        return -1;
+    }
+
+
+    /**
+     * Ouvre une case si le coût proposé améliore celui déjà connu. L'estimation étant
+     * cohérente et entière, une voisine a une estimation totale f, f + 1 ou f + 2 :
+     * trois seaux suffisent, et chaque opération est en O(1) là où un tas coûte un log.
+     */
+    private void ouvrirCase(int indice, int g) {
+        if (fermee[indice] == epoque || (marque[indice] == epoque && cout[indice] <= g)) {
+            return;
+        }
+        marque[indice] = epoque;
+        cout[indice] = g;
+        int seau = (g + estimer(indice)) % 3;
+        int[] pile = seaux[seau];
+        if (tailles[seau] == pile.length) {
+            pile = Arrays.copyOf(pile, pile.length * 2);
+            seaux[seau] = pile;
+        }
+        pile[tailles[seau]++] = indice;
+        enAttente++;
+    }
+
+
+    /**
+     * Retire et ferme une case ouverte de plus petite estimation totale ; à égalité,
+     * la dernière ouverte, donc la plus avancée.
+     *
+     * @return l'indice de la case, ou -1 s'il n'en reste aucune
+     */
+    private int fermerSuivante() {
+        while (enAttente > 0) {
+            int seau = fCourant % 3;
+            if (tailles[seau] == 0) {
+                fCourant++;
+                continue;
+            }
+            int indice = seaux[seau][--tailles[seau]];
+            enAttente--;
+            if (fermee[indice] != epoque) {
+                fermee[indice] = epoque;
+                nombreDeveloppees++;
+                return indice;
+            }
+        }
+        return -1;
+    }
+
+
+    private boolean estCible(int indice) {
+        for (int i = 0; i < nombreSorties; i++) {
+            if (cibles[i] == indice) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    @Override
+    protected int estimer(int indice) {
+        int x = indice / hauteurMax;
+        int y = indice % hauteurMax;
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < nombreSorties; i++) {
+            int manhattan = Math.abs(x - sortiesX[i]) + Math.abs(y - sortiesY[i]);
+            int d = Math.max(manhattan, courants.minoration(indice, cibles[i]));
+            if (d < min) {
+                min = d;
+            }
+        }
+        return min;
+    }
+
+
+    /**
+     * Retourne les repères d'une grille, calculés s'ils ne le sont pas encore.
+     *
+     * @param grille la grille
+     * @return les repères de cette grille
+     */
+    public Reperes getReperes(Grille grille) {
+        if (reperes == null || reperes.getGrille() != grille) {
+            reperes = Reperes.choisir(grille, nombreReperes);
+        }
+        return reperes;
+    }
+
+
+    /**
+     * Oublie les repères calculés : la grille a changé.
+     */
+    @Override
+    public void grilleModifiee() {
+        reperes = null;
+    }
+}
@@ -0,0 +1,28 @@
+package modele.chemins;
+
+import modele.grille.Grille;
+import modele.grille.ListeIndices;
+
+/**
+ * Parcours en largeur non informé, délégué au {@link MoteurBFS} du thread courant.
+ *
+ * C'est le solveur le plus adapté aux labyrinthes parfaits : les couloirs
+ * d'une case de large ne laissent aucune marge à une heuristique.
+ */
+public final class SolveurBFS implements Solveur {
+
+    private int nombreDeveloppees;
+
+    @Override
+    public int plusCourtChemin(Grille grille, int depart, ListeIndices sorties) {
+        MoteurBFS moteur = MoteurBFS.local();
+        int sortie = moteur.parcourirJusquaSortie(grille, depart);
+        nombreDeveloppees = moteur.getNombreDeveloppees();
+        return sortie < 0 ? -1 : moteur.distance(sortie);
+    }
+
+    @Override
+    public int getNombreDeveloppees() {
+        return nombreDeveloppees;
+    }
+}
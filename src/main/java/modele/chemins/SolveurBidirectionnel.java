@@ -0,0 +1,195 @@
+package modele.chemins;
+
+import modele.grille.Grille;
+import modele.grille.ListeIndices;
+
+/**
+ * Parcours en largeur bidirectionnel : un front part du départ, l'autre de toutes
+ * les sorties à la fois, et ils se rejoignent au milieu.
+ *
+ * Chaque étape développe une couche complète du plus petit des deux fronts ;
+ * la recherche s'arrête à la fin de la première couche où les fronts se touchent,
+ * en gardant la meilleure jonction de cette couche, ce qui donne la même longueur
+ * que le BFS simple. Le gain dépend de la croissance des boules autour des deux
+ * extrémités : il est net sur une grille ramifiée, mais les labyrinthes parfaits
+ * creusés par backtracking n'ont que de longs couloirs peu ramifiés, où les deux
+ * fronts réunis couvrent autant de cases qu'un seul (voir SolveurPerformanceTest).
+ *
+ * Les tableaux sont réutilisés d'une recherche à l'autre (marques par époque) ;
+ * seul {@link #dernierChemin()} alloue, pour le tableau qu'il retourne.
+ */
+public final class SolveurBidirectionnel implements Solveur {
+
+    private int[] fileAvant = new int[0];
+    private int[] fileArriere = new int[0];
+    private int[] marqueAvant = new int[0];
+    private int[] marqueArriere = new int[0];
+    private int[] distanceAvant = new int[0];
+    private int[] distanceArriere = new int[0];
+    private int[] parentAvant = new int[0];
+    private int[] parentArriere = new int[0];
+    private int epoque;
+
+    private int nombreDeveloppees;
+    private int jonctionAvant = -1;
+    private int jonctionArriere = -1;
+    private int longueur = -1;
+
+
+    @Override
+    public int plusCourtChemin(Grille grille, int depart, ListeIndices sorties) {
+        preparer(grille.getTaille());
+        nombreDeveloppees = 0;
+        jonctionAvant = -1;
+        jonctionArriere = -1;
+        longueur = -1;
+
+        int epoque = this.epoque;
+        int debutAvant = 0, finAvant = 0;
+        int debutArriere = 0, finArriere = 0;
+
+        fileAvant[finAvant++] = depart;
+        marqueAvant[depart] = epoque;
+        distanceAvant[depart] = 0;
+        parentAvant[depart] = -1;
+
+        for (int i = 0; i < sorties.taille(); i++) {
+            int sortie = sorties.get(i);
+            if (marqueArriere[sortie] == epoque) {
+                continue;
+            }
+            if (sortie == depart) {
+                jonctionAvant = depart;
+                jonctionArriere = depart;
+                longueur = 0;
+                return 0;
+            }
+            fileArriere[finArriere++] = sortie;
+            marqueArriere[sortie] = epoque;
+            distanceArriere[sortie] = 0;
+            parentArriere[sortie] = -1;
+        }
+
+        int hauteurMax = grille.getHauteurMax();
+        int taille = grille.getTaille();
+
+        while (debutAvant < finAvant && debutArriere < finArriere) {
+            boolean avant = finAvant - debutAvant <= finArriere - debutArriere;
+            int[] file = avant ? fileAvant : fileArriere;
+            int[] marque = avant ? marqueAvant : marqueArriere;
+            int[] distance = avant ? distanceAvant : distanceArriere;
+            int[] parent = avant ? parentAvant : parentArriere;
+            int[] marqueOpposee = avant ? marqueArriere : marqueAvant;
+            int[] distanceOpposee = avant ? distanceArriere : distanceAvant;
+
+            int lecture = avant ? debutAvant : debutArriere;
+            int ecriture = avant ? finAvant : finArriere;
+            int finCouche = ecriture;
+
+            while (lecture < finCouche) {
+                int courante = file[lecture++];
+                nombreDeveloppees++;
+                int suivante = distance[courante] + 1;
+                int y = courante % hauteurMax;
+
+                for (int k = 0; k < 4; k++) {
+                    int voisine;
+                    if (k == 0) {
+                        voisine = courante - hauteurMax;
+                        if (voisine < 0) continue;
+                    } else if (k == 1) {
+                        voisine = courante + hauteurMax;
+                        if (voisine >= taille) continue;
+                    } else if (k == 2) {
+                        if (y == 0) continue;
+                        voisine = courante - 1;
+                    } else {
+                        if (y == hauteurMax - 1) continue;
+                        voisine = courante + 1;
+                    }
+                    if (grille.estMur(voisine)) {
+                        continue;
+                    }
+                    if (marqueOpposee[voisine] == epoque) {
+                        int total = suivante + distanceOpposee[voisine];
+                        if (longueur < 0 || total < longueur) {
+                            longueur = total;
+                            jonctionAvant = avant ? courante : voisine;
+                            jonctionArriere = avant ? voisine : courante;
+                        }
+                    }
+                    if (marque[voisine] != epoque) {
+                        marque[voisine] = epoque;
+                        distance[voisine] = suivante;
+                        parent[voisine] = courante;
+                        file[ecriture++] = voisine;
+                    }
+                }
+            }
+
+            if (avant) {
+                debutAvant = lecture;
+                finAvant = ecriture;
+            } else {
+                debutArriere = lecture;
+                finArriere = ecriture;
+            }
+            if (longueur >= 0) {
+                return longueur;
+            }
+        }
+        return -1;
+    }
+
+
+    private void preparer(int taille) {
+        if (marqueAvant.length < taille) {
+            fileAvant = new int[taille];
+            fileArriere = new int[taille];
+            marqueAvant = new int[taille];
+            marqueArriere = new int[taille];
+            distanceAvant = new int[taille];
+            distanceArriere = new int[taille];
+            parentAvant = new int[taille];
+            parentArriere = new int[taille];
+            epoque = 0;
+        }
+        if (epoque == Integer.MAX_VALUE) {
+            java.util.Arrays.fill(marqueAvant, 0);
+            java.util.Arrays.fill(marqueArriere, 0);
+            epoque = 0;
+        }
+        epoque++;
+    }
+
+
+    /**
+     * Reconstruit le chemin trouvé par la dernière recherche.
+     *
+     * @return les indices des cases du départ jusqu'à la sortie, bornes comprises,
+     *         ou un tableau vide si aucune sortie n'était accessible
+     */
+    public int[] dernierChemin() {
+        if (longueur < 0) {
+            return new int[0];
+        }
+        int[] chemin = new int[longueur + 1];
+        int i = distanceAvant[jonctionAvant];
+        for (int courante = jonctionAvant; courante >= 0; courante = parentAvant[courante]) {
+            chemin[i--] = courante;
+        }
+        if (jonctionArriere != jonctionAvant) {
+            i = distanceAvant[jonctionAvant] + 1;
+            for (int courante = jonctionArriere; courante >= 0; courante = parentArriere[courante]) {
+                chemin[i++] = courante;
+            }
+        }
+        return chemin;
+    }
+
+
+    @Override
+    public int getNombreDeveloppees() {
+        return nombreDeveloppees;
+    }
+}
@@ -0,0 +1,123 @@
+package modele.chemins;
+
+import modele.grille.Grille;
+import modele.grille.ListeIndices;
+
+/**
+ * Dijkstra sur le {@link GrapheCarrefours} de la grille plutôt que BFS sur ses cases.
+ *
+ * Le graphe est construit à la première recherche sur une grille, puis réutilisé
+ * tant que la même grille est passée et que {@link #grilleModifiee()} n'a pas été
+ * appelé : c'est au propriétaire de la grille de le prévenir quand un mur ou une
+ * case particulière change. Un départ au milieu d'un couloir est relié aux deux
+ * nœuds qui l'encadrent avant la recherche.
+ *
+ * Sur un labyrinthe parfait, le graphe garde environ une case ouverte sur dix et
+ * une requête est 2 à 3 fois plus rapide qu'un BFS ; mais sa construction coûte
+ * plusieurs BFS. Ce solveur ne vaut donc que pour plusieurs requêtes sur une même
+ * grille : pour une requête isolée, {@link SolveurBFS} reste le meilleur choix.
+ */
+public final class SolveurCarrefours implements Solveur {
+
+    private final TasBinaire ouverts = new TasBinaire();
+    private final int[] extremes = new int[8];
+    private GrapheCarrefours graphe;
+    private int[] distance = new int[0];
+    private int[] marque = new int[0];
+    private int[] sortie = new int[0];
+    private int epoque;
+    private int nombreDeveloppees;
+
+
+    @Override
+    public int plusCourtChemin(Grille grille, int depart, ListeIndices sorties) {
+        nombreDeveloppees = 0;
+        if (sorties.estVide() || grille.estMur(depart)) {
+            return -1;
+        }
+        GrapheCarrefours graphe = getGraphe(grille);
+        preparer(graphe.getNombreNoeuds());
+        for (int i = 0; i < sorties.taille(); i++) {
+            int n = graphe.noeud(sorties.get(i));
+            if (n >= 0) {
+                sortie[n] = epoque;
+            }
+        }
+
+        int noeudDepart = graphe.noeud(depart);
+        if (noeudDepart >= 0) {
+            atteindre(noeudDepart, 0);
+        } else {
+            int nombre = graphe.rejoindreNoeuds(depart, extremes);
+            for (int e = 0; e < nombre; e++) {
+                atteindre(extremes[2 * e], extremes[2 * e + 1]);
+            }
+        }
+
+        while (!ouverts.estVide()) {
+            int d = (int) ouverts.cleMin();
+            int n = ouverts.retirerMin();
+            if (d > distance[n]) {
+                continue;
+            }
+            nombreDeveloppees++;
+            if (sortie[n] == epoque) {
+                return d;
+            }
+            for (int a = graphe.debut(n), fin = graphe.debut(n + 1); a < fin; a++) {
+                atteindre(graphe.voisin(a), d + graphe.poids(a));
+            }
+        }
+        return -1;
+    }
+
+
+    private void atteindre(int noeud, int d) {
+        if (marque[noeud] != epoque || d < distance[noeud]) {
+            marque[noeud] = epoque;
+            distance[noeud] = d;
+            ouverts.ajouter(d, noeud);
+        }
+    }
+
+
+    private void preparer(int nombreNoeuds) {
+        if (distance.length < nombreNoeuds) {
+            distance = new int[nombreNoeuds];
+            marque = new int[nombreNoeuds];
+            sortie = new int[nombreNoeuds];
+            epoque = 0;
+        }
+        ouverts.vider();
+        epoque++;
+    }
+
+
+    /**
+     * Retourne le graphe des carrefours d'une grille, construit s'il ne l'est pas encore.
+     *
+     * @param grille la grille
+     * @return le graphe de cette grille
+     */
+    public GrapheCarrefours getGraphe(Grille grille) {
+        if (graphe == null || graphe.getGrille() != grille) {
+            graphe = GrapheCarrefours.construire(grille);
+        }
+        return graphe;
+    }
+
+
+    /**
+     * Oublie le graphe construit : la grille a changé.
+     */
+    @Override
+    public void grilleModifiee() {
+        graphe = null;
+    }
+
+
+    @Override
+    public int getNombreDeveloppees() {
+        return nombreDeveloppees;
+    }
+}
@@ -0,0 +1,185 @@
+package modele.chemins;
+
+import modele.grille.Grille;
+import modele.grille.ListeIndices;
+import modele.grille.TypeCellule;
+
+import java.util.Arrays;
+
+/**
+ * Solveur des labyrinthes à clés : parcours en largeur sur les états
+ * (case, clés détenues), qui respecte les verrous.
+ *
+ * Contrairement aux autres {@link Solveur}, une sortie verrouillée n'est franchissable
+ * qu'une fois la clé qui l'ouvre ramassée : la longueur calculée est le vrai nombre
+ * minimal de déplacements d'une partie, détour par la clé compris.
+ *
+ * Les clés détenues forment un masque, un bit par sorte de clé. Chaque code de case
+ * est associé, par deux tables, à la clé qu'il donne et à celles qu'il exige ; une
+ * nouvelle sorte de clé et de porte n'ajoute qu'un bit et deux entrées de table.
+ * Le jeu n'en connaît qu'une aujourd'hui ({@link TypeCellule#CLE} ouvre toutes les
+ * {@link TypeCellule#SORTIE_VERROUILLEE}), soit deux couches d'états.
+ *
+ * Chaque masque atteint a sa propre couche de cases visitées, un bit par case,
+ * allouée à la première visite : seules les combinaisons de clés réellement
+ * rencontrées coûtent de la mémoire.
+ */
+public final class SolveurCles implements Solveur {
+
+    /** Nombre de sortes de clés, donc de bits du masque. */
+    private static final int NOMBRE_CLES = 1;
+
+    /** Pour chaque code de case, le masque de la clé ramassée en y entrant. */
+    private static final int[] CLE_DONNEE = new int[TypeCellule.values().length];
+    /** Pour chaque code de case, le masque des clés nécessaires pour y entrer. */
+    private static final int[] CLES_EXIGEES = new int[TypeCellule.values().length];
+
+    static {
+        CLE_DONNEE[TypeCellule.CLE.code()] = 1;
+        CLES_EXIGEES[TypeCellule.SORTIE_VERROUILLEE.code()] = 1;
+        CLES_EXIGEES[TypeCellule.MUR.code()] = -1;
+    }
+
+    private final long[][] visites = new long[1 << NOMBRE_CLES][];
+    private long[] file = new long[0];
+    private long[] estSortie = new long[0];
+    private int nombreDeveloppees;
+
+
+    /**
+     * Calcule le nombre minimal de déplacements jusqu'à une sortie, sans clé au départ.
+     *
+     * @param grille  la grille
+     * @param depart  indice de la case de départ
+     * @param sorties indices des sorties de la grille, verrouillées ou non
+     * @return la longueur du chemin, ou -1 si aucune sortie n'est accessible
+     */
+    @Override
+    public int plusCourtChemin(Grille grille, int depart, ListeIndices sorties) {
+        return plusCourtChemin(grille, depart, sorties, 0);
+    }
+
+
+    /**
+     * Calcule le nombre minimal de déplacements jusqu'à une sortie, avec des clés
+     * déjà en poche.
+     *
+     * @param grille  la grille
+     * @param depart  indice de la case de départ
+     * @param sorties indices des sorties de la grille, verrouillées ou non
+     * @param cles    masque des clés détenues au départ
+     * @return la longueur du chemin, ou -1 si aucune sortie n'est accessible
+     */
+    public int plusCourtChemin(Grille grille, int depart, ListeIndices sorties, int cles) {
+        int taille = grille.getTaille();
+        int hauteurMax = grille.getHauteurMax();
+        preparer(taille, sorties);
+        nombreDeveloppees = 0;
+
+        int masqueDepart = cles | CLE_DONNEE[grille.getCode(depart)];
+        visiter(masqueDepart, depart);
+        file[0] = etat(masqueDepart, depart);
+        int lecture = 0;
+        int ecriture = 1;
+        int distance = 0;
+
+        while (lecture < ecriture) {
+            int finNiveau = ecriture;
+            while (lecture < finNiveau) {
+                long courant = file[lecture++];
+                int masque = (int) (courant >>> 32);
+                int indice = (int) courant;
+                nombreDeveloppees++;
+                if ((estSortie[indice >>> 6] & (1L << indice)) != 0) {
+                    return distance;
+                }
+
+                int y = indice % hauteurMax;
+                if (indice >= hauteurMax) {
+                    ecriture = suivre(grille, masque, indice - hauteurMax, ecriture);
+                }
+                if (indice + hauteurMax < taille) {
+                    ecriture = suivre(grille, masque, indice + hauteurMax, ecriture);
+                }
+                if (y > 0) {
+                    ecriture = suivre(grille, masque, indice - 1, ecriture);
+                }
+                if (y + 1 < hauteurMax) {
+                    ecriture = suivre(grille, masque, indice + 1, ecriture);
+                }
+            }
+            distance++;
+        }
+        return -1;
+    }
+
+
+    private int suivre(Grille grille, int masque, int voisin, int ecriture) {
+        byte code = grille.getCode(voisin);
+        int exigees = CLES_EXIGEES[code];
+        if (exigees < 0 || (exigees & masque) != exigees) {
+            return ecriture;
+        }
+        int suivant = masque | CLE_DONNEE[code];
+        if (!visiter(suivant, voisin)) {
+            return ecriture;
+        }
+        if (ecriture == file.length) {
+            file = Arrays.copyOf(file, file.length * 2);
+        }
+        file[ecriture] = etat(suivant, voisin);
+        return ecriture + 1;
+    }
+
+
+    /**
+     * Marque un état comme visité.
+     *
+     * @return true si l'état n'avait pas encore été visité
+     */
+    private boolean visiter(int masque, int indice) {
+        long[] couche = visites[masque];
+        if (couche == null) {
+            couche = new long[estSortie.length];
+            visites[masque] = couche;
+        }
+        long bit = 1L << indice;
+        if ((couche[indice >>> 6] & bit) != 0) {
+            return false;
+        }
+        couche[indice >>> 6] |= bit;
+        return true;
+    }
+
+
+    private static long etat(int masque, int indice) {
+        return ((long) masque << 32) | indice;
+    }
+
+
+    private void preparer(int taille, ListeIndices sorties) {
+        int mots = (taille + 63) >>> 6;
+        if (estSortie.length != mots) {
+            estSortie = new long[mots];
+            Arrays.fill(visites, null);
+            file = new long[Math.max(16, taille)];
+        } else {
+            Arrays.fill(estSortie, 0);
+            for (long[] couche : visites) {
+                if (couche != null) {
+                    Arrays.fill(couche, 0);
+                }
+            }
+        }
+        for (int i = 0; i < sorties.taille(); i++) {
+            int sortie = sorties.get(i);
+            estSortie[sortie >>> 6] |= 1L << sortie;
+        }
+    }
+
+
+    @Override
+    public int getNombreDeveloppees() {
+        return nombreDeveloppees;
+    }
+}
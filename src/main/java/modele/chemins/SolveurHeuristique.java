@@ -0,0 +1,190 @@
+package modele.chemins;
+
+import modele.grille.Grille;
+import modele.grille.ListeIndices;
+import modele.grille.TypeCellule;
+
+/**
+ * Base commune des solveurs guidés par la distance de Manhattan à la sortie la plus proche.
+ *
+ * Elle gère les tableaux de travail (coût depuis le départ, cases ouvertes et fermées
+ * marquées par époque) et la file de priorité, réutilisés d'une recherche à l'autre.
+ * La clé de priorité range d'abord par coût estimé total, puis, à égalité, la case
+ * la plus avancée en premier, ce qui évite d'explorer tout un plateau de cases
+ * équivalentes sur une grille ouverte.
+ */
+abstract class SolveurHeuristique implements Solveur {
+
+    private static final byte SORTIE = TypeCellule.SORTIE.code();
+    private static final byte SORTIE_VERROUILLEE = TypeCellule.SORTIE_VERROUILLEE.code();
+
+    protected final TasBinaire ouverts = new TasBinaire();
+    protected int[] cout = new int[0];
+    protected int[] marque = new int[0];
+    protected int[] fermee = new int[0];
+    protected int epoque;
+    protected int nombreDeveloppees;
+
+    protected Grille grille;
+    protected int largeurMax;
+    protected int hauteurMax;
+
+    protected int[] sortiesX = new int[0];
+    protected int[] sortiesY = new int[0];
+    protected int nombreSorties;
+
+
+    @Override
+    public final int plusCourtChemin(Grille grille, int depart, ListeIndices sorties) {
+        nombreDeveloppees = 0;
+        if (sorties.estVide()) {
+            return -1;
+        }
+        preparer(grille, sorties);
+        try {
+            return rechercher(depart);
+        } finally {
+            this.grille = null;
+        }
+    }
+
+
+    /**
+     * Lance la recherche une fois les tableaux prêts.
+     *
+     * @param depart indice de la case de départ
+     * @return la longueur du chemin, ou -1 si aucune sortie n'est accessible
+     */
+    protected abstract int rechercher(int depart);
+
+
+    @Override
+    public int getNombreDeveloppees() {
+        return nombreDeveloppees;
+    }
+
+
+    private void preparer(Grille grille, ListeIndices sorties) {
+        this.grille = grille;
+        this.largeurMax = grille.getLargeurMax();
+        this.hauteurMax = grille.getHauteurMax();
+
+        int taille = grille.getTaille();
+        if (marque.length < taille) {
+            cout = new int[taille];
+            marque = new int[taille];
+            fermee = new int[taille];
+            epoque = 0;
+        }
+        if (epoque == Integer.MAX_VALUE) {
+            java.util.Arrays.fill(marque, 0);
+            java.util.Arrays.fill(fermee, 0);
+            epoque = 0;
+        }
+        epoque++;
+        ouverts.vider();
+
+        nombreSorties = sorties.taille();
+        if (sortiesX.length < nombreSorties) {
+            sortiesX = new int[nombreSorties];
+            sortiesY = new int[nombreSorties];
+        }
+        for (int i = 0; i < nombreSorties; i++) {
+            sortiesX[i] = sorties.get(i) / hauteurMax;
+            sortiesY[i] = sorties.get(i) % hauteurMax;
+        }
+    }
+
+
+    /**
+     * Distance de Manhattan d'une case à la sortie la plus proche.
+     *
+     * @param x ligne de la case
+     * @param y colonne de la case
+     * @return une minoration admissible et cohérente de la distance restante
+     */
+    protected final int heuristique(int x, int y) {
+        int min = Integer.MAX_VALUE;
+        for (int i = 0; i < nombreSorties; i++) {
+            int d = Math.abs(x - sortiesX[i]) + Math.abs(y - sortiesY[i]);
+            if (d < min) {
+                min = d;
+            }
+        }
+        return min;
+    }
+
+
+    /**
+     * Estimation de la distance restante depuis une case, utilisée pour ordonner la file.
+     * Par défaut la distance de Manhattan ; une sous-classe peut la resserrer, à
+     * condition qu'elle reste admissible et cohérente.
+     *
+     * @param indice indice de la case
+     * @return une minoration de la distance à la sortie la plus proche
+     */
+    protected int estimer(int indice) {
+        return heuristique(indice / hauteurMax, indice % hauteurMax);
+    }
+
+
+    /**
+     * Ouvre une case si le coût proposé améliore celui déjà connu.
+     *
+     * @param indice indice de la case
+     * @param g      coût depuis le départ
+     * @return true si la case a été (ré)ouverte
+     */
+    protected final boolean ouvrir(int indice, int g) {
+        if (fermee[indice] == epoque || (marque[indice] == epoque && cout[indice] <= g)) {
+            return false;
+        }
+        marque[indice] = epoque;
+        cout[indice] = g;
+        int f = g + estimer(indice);
+        ouverts.ajouter(((long) f << 32) | (Integer.MAX_VALUE - g), indice);
+        return true;
+    }
+
+
+    /**
+     * Retire la meilleure case ouverte qui n'est pas encore fermée, et la ferme.
+     *
+     * @return l'indice de la case, ou -1 s'il n'en reste aucune
+     */
+    protected final int fermerMeilleure() {
+        while (!ouverts.estVide()) {
+            int indice = ouverts.retirerMin();
+            if (fermee[indice] != epoque) {
+                fermee[indice] = epoque;
+                nombreDeveloppees++;
+                return indice;
+            }
+        }
+        return -1;
+    }
+
+
+    /**
+     * Indique si une case existe et n'est pas un mur.
+     *
+     * @param x ligne
+     * @param y colonne
+     * @return true si la case est traversable
+     */
+    protected final boolean libre(int x, int y) {
+        return x >= 0 && x < largeurMax && y >= 0 && y < hauteurMax && !grille.estMur(x * hauteurMax + y);
+    }
+
+
+    /**
+     * Indique si la case à un indice donné est une sortie, verrouillée ou non.
+     *
+     * @param indice indice de la case
+     * @return true pour une sortie
+     */
+    protected final boolean estSortie(int indice) {
+        byte code = grille.getCode(indice);
+        return code == SORTIE || code == SORTIE_VERROUILLEE;
+    }
+}
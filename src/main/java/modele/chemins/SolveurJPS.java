@@ -0,0 +1,123 @@
+package modele.chemins;
+
+/**
+ * Jump Point Search pour grilles à 4 voisins, sur la base d'A*.
+ *
+ * Au lieu d'ouvrir chaque voisin, la recherche saute en ligne droite jusqu'à
+ * la prochaine case intéressante (point de saut) : une sortie, ou une case dont
+ * un voisin latéral devient accessible alors qu'il ne l'était pas juste avant
+ * (voisin forcé). Les déplacements le long des lignes (x) vérifient en plus,
+ * à chaque pas, si un saut le long des colonnes (y) trouverait un point de saut.
+ *
+ * Le coût d'un saut est sa longueur, si bien que la longueur calculée est
+ * exactement celle du BFS. La méthode n'est rentable que sur des salles ouvertes
+ * avec peu d'obstacles : sur les murs épars d'un labyrinthe aléatoire, chaque pas
+ * le long des lignes relance des sauts latéraux et A* reste plus rapide
+ * (voir SolveurPerformanceTest).
+ */
+public final class SolveurJPS extends SolveurHeuristique {
+
+    /** Direction d'arrivée sur chaque case ouverte : 0 pour le départ, sinon 1 + ordinal. */
+    private byte[] arrivee = new byte[0];
+
+    private static final int[] DX = {-1, 1, 0, 0};
+    private static final int[] DY = {0, 0, -1, 1};
+
+
+    @Override
+    protected int rechercher(int depart) {
+        if (arrivee.length < cout.length) {
+            arrivee = new byte[cout.length];
+        }
+        ouvrir(depart, 0);
+        arrivee[depart] = 0;
+
+        int courante;
+        while ((courante = fermerMeilleure()) >= 0) {
+            if (estSortie(courante)) {
+                return cout[courante];
+            }
+            int x = courante / hauteurMax;
+            int y = courante % hauteurMax;
+            int dir = arrivee[courante] - 1;
+
+            if (dir < 0) {
+                for (int d = 0; d < 4; d++) {
+                    sauterDepuis(courante, x, y, d);
+                }
+            } else if (DX[dir] != 0) {
+                // Le long des lignes : on continue, et on tourne vers les colonnes
+                sauterDepuis(courante, x, y, dir);
+                sauterDepuis(courante, x, y, 2);
+                sauterDepuis(courante, x, y, 3);
+            } else {
+                // Le long des colonnes : on continue, et on tourne vers les lignes
+                sauterDepuis(courante, x, y, dir);
+                sauterDepuis(courante, x, y, 0);
+                sauterDepuis(courante, x, y, 1);
+            }
+        }
+        return -1;
+    }
+
+
+    /**
+     * Saute depuis une case dans une direction et ouvre le point de saut trouvé.
+     */
+    private void sauterDepuis(int courante, int x, int y, int dir) {
+        int point = DX[dir] != 0
+                ? sauterLignes(x + DX[dir], y, DX[dir])
+                : sauterColonnes(x, y + DY[dir], DY[dir]);
+        if (point >= 0) {
+            int distance = Math.abs(point / hauteurMax - x) + Math.abs(point % hauteurMax - y);
+            if (ouvrir(point, cout[courante] + distance)) {
+                arrivee[point] = (byte) (dir + 1);
+            }
+        }
+    }
+
+
+    /**
+     * Avance le long d'une ligne de colonnes (y varie) jusqu'au prochain point de saut.
+     *
+     * @return l'indice du point de saut, ou -1 si un mur ou le bord arrête le saut
+     */
+    private int sauterColonnes(int x, int y, int dy) {
+        while (libre(x, y)) {
+            int indice = x * hauteurMax + y;
+            if (estSortie(indice)) {
+                return indice;
+            }
+            if ((libre(x - 1, y) && !libre(x - 1, y - dy)) || (libre(x + 1, y) && !libre(x + 1, y - dy))) {
+                return indice;
+            }
+            y += dy;
+        }
+        return -1;
+    }
+
+
+    /**
+     * Avance le long des lignes (x varie) jusqu'au prochain point de saut.
+     * Une case est aussi un point de saut si un saut le long des colonnes,
+     * à gauche ou à droite, en trouverait un.
+     *
+     * @return l'indice du point de saut, ou -1 si un mur ou le bord arrête le saut
+     */
+    private int sauterLignes(int x, int y, int dx) {
+        while (libre(x, y)) {
+            int indice = x * hauteurMax + y;
+            if (estSortie(indice)) {
+                return indice;
+            }
+            if ((libre(x, y - 1) && !libre(x - dx, y - 1)) || (libre(x, y + 1) && !libre(x - dx, y + 1))) {
+                return indice;
+            }
+            if (sauterColonnes(x, y + 1, 1) >= 0 || sauterColonnes(x, y - 1, -1) >= 0) {
+                return indice;
+            }
+            x += dx;
+        }
+        return -1;
+    }
+}
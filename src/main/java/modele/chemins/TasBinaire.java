@@ -0,0 +1,112 @@
+package modele.chemins;
+
+/**
+ * Tas binaire minimum sur des clés {@code long}, associées chacune à un indice de case.
+ *
+ * Les tableaux grandissent au besoin et sont conservés après {@link #vider()} :
+ * un tas réutilisé n'alloue plus rien une fois sa capacité atteinte.
+ * Une même case peut être insérée plusieurs fois (suppression paresseuse) ;
+ * c'est à l'appelant d'ignorer les entrées périmées.
+ */
+final class TasBinaire {
+
+    private long[] cles = new long[64];
+    private int[] valeurs = new int[64];
+    private int taille;
+
+
+    /**
+     * Insère une case avec sa clé.
+     *
+     * @param cle    priorité, la plus petite sort en premier
+     * @param valeur indice de la case
+     */
+    void ajouter(long cle, int valeur) {
+        if (taille == cles.length) {
+            cles = java.util.Arrays.copyOf(cles, taille * 2);
+            valeurs = java.util.Arrays.copyOf(valeurs, taille * 2);
+        }
+        int i = taille++;
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (cles[p] <= cle) {
+                break;
+            }
+            cles[i] = cles[p];
+            valeurs[i] = valeurs[p];
+            i = p;
+        }
+        cles[i] = cle;
+        valeurs[i] = valeur;
+    }
+
+
+    /**
+     * Retourne la plus petite clé sans la retirer.
+     *
+     * @return la clé minimale
+     */
+    long cleMin() {
+        return cles[0];
+    }
+
+
+    /**
+     * Retourne l'indice de case de la plus petite clé sans le retirer.
+     *
+     * @return l'indice associé à la clé minimale
+     */
+    int valeurMin() {
+        return valeurs[0];
+    }
+
+
+    /**
+     * Retire l'entrée de plus petite clé.
+     *
+     * @return l'indice de case associé
+     */
+    int retirerMin() {
+        int min = valeurs[0];
+        int n = --taille;
+        long cle = cles[n];
+        int valeur = valeurs[n];
+        int i = 0;
+        while (true) {
+            int e = 2 * i + 1;
+            if (e >= n) {
+                break;
+            }
+            if (e + 1 < n && cles[e + 1] < cles[e]) {
+                e++;
+            }
+            if (cle <= cles[e]) {
+                break;
+            }
+            cles[i] = cles[e];
+            valeurs[i] = valeurs[e];
+            i = e;
+        }
+        cles[i] = cle;
+        valeurs[i] = valeur;
+        return min;
+    }
+
+
+    /**
+     * Indique si le tas est vide.
+     *
+     * @return true s'il ne reste aucune entrée
+     */
+    boolean estVide() {
+        return taille == 0;
+    }
+
+
+    /**
+     * Retire toutes les entrées en conservant la capacité.
+     */
+    void vider() {
+        taille = 0;
+    }
+}
@@ -4,11 +4,12 @@
 package modele.generateurs;
 
 import java.util.LinkedList;
-import modele.Cellules.*;
 import modele.Labyrinthe;
+import modele.grille.Grille;
+import modele.grille.TypeCellule;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 
 /**
@@ -18,12 +19,18 @@ import java.util.Random;
  * - Un chemin principal est creusé à partir de l'entrée
  * - Des chemins secondaires peuvent être ajoutés pour enrichir la carte
  * - Des murs sont ensuite remplacés aléatoirement par des chemins
- *   jusqu'à atteindre le pourcentage de murs souhaité
+ *   jusqu'à atteindre le pourcentage de murs souhaité, en un seul tirage
+ *   sans remise parmi les murs restants
+ *
+ * Chacune de ces trois étapes tire dans son propre flux, détaché de la graine du
+ * générateur (voir {@link GenerateurLabyrinthe#setGraine(long)}).
  */
 public class GenerateurAleatoire extends GenerateurLabyrinthe {
     double pourcentageMurs;
     private int nbChemins = 0;
-    Cellule[][] cellules;
+    /** Flux aléatoire de l'étape en cours. */
+    private SplittableRandom aleatoire;
+    Grille grille;
 
 
     /**
@@ -31,10 +38,14 @@ public class GenerateurAleatoire extends GenerateurLabyrinthe {
      *
      * @param largeur largeur maximale du labyrinthe
      * @param hauteur hauteur maximale du labyrinthe
-     * @param pourcentageMurs pourcentage de cellules qui doivent être des murs
+     * @param pourcentageMurs pourcentage de cellules qui doivent être des murs, de 0 à 100
+     * @throws IllegalArgumentException si le pourcentage n'est pas entre 0 et 100
      */
     public GenerateurAleatoire(int largeur, int hauteur, double pourcentageMurs) {
         super(largeur, hauteur);
+        if (!(pourcentageMurs >= 0.0 && pourcentageMurs <= 100.0)) {
+            throw new IllegalArgumentException("Pourcentage de murs invalide : " + pourcentageMurs);
+        }
         this.pourcentageMurs = pourcentageMurs;
     }
 
@@ -54,24 +65,22 @@ public class GenerateurAleatoire extends GenerateurLabyrinthe {
      */
     public void generer(Labyrinthe lab) {
         nbChemins = 0;
+        SplittableRandom racine = creerAleatoire();
 
-        cellules = new Cellule[largeurMax][hauteurMax];
-        for (int i = 0; i < largeurMax; i++) {
-            for (int j = 0; j < hauteurMax; j++) {
-                cellules[i][j] = new Mur(i, j);
-            }
-        }
+        grille = creerGrille();
 
         int entreeX = 0;
         int entreeY = 1;
-        cellules[entreeX][entreeY] = new Entree(entreeX, entreeY);
-        faireChemin(cellules, entreeX, entreeY, lab);
+        grille.setType(entreeX, entreeY, TypeCellule.ENTREE);
+        aleatoire = racine.split();
+        faireChemin(grille, entreeX, entreeY);
 
+        aleatoire = racine.split();
         for (int i = 1; i < largeurMax - 1; i++) {
             for (int j = 1; j < hauteurMax - 1; j++) {
-                if (cellules[i][j].estChemin()) {
+                if (grille.getType(i, j).estChemin()) {
                     if (i % 10 == 0) {
-                        faireCheminAlternatif(cellules, i, j);
+                        faireCheminAlternatif(grille, i, j);
                     }
                 }
             }
@@ -81,22 +90,55 @@ public class GenerateurAleatoire extends GenerateurLabyrinthe {
         double pourcentageCheminsVoulu = 100.0 - pourcentageMurs;
         int nbCheminsVoulu = (int) (totalCellules * pourcentageCheminsVoulu / 100.0);
 
-        Random random = new Random();
+        convertirMurs(grille, nbCheminsVoulu, racine.split());
 
-        while (nbChemins < nbCheminsVoulu) {
-            int i = random.nextInt(largeurMax - 2) + 1;
-            int j = random.nextInt(hauteurMax - 2) + 1;
+        lab.debuterTransaction();
+        try {
+            lab.setGrille(grille);
+            lab.placerJoueur(entreeX, entreeY);
+            lab.setJeuEnCours(true);
+        } finally {
+            lab.validerTransaction();
+        }
+    }
 
-            if (cellules[i][j].estMur()) {
-                cellules[i][j] = new Chemin(i, j);
-                nbChemins++;
+
+    /**
+     * Convertit des murs intérieurs en chemins, tirés au hasard, jusqu'à compter
+     * exactement le nombre de chemins voulu.
+     *
+     * Les murs restants sont rassemblés dans un tableau d'indices, puis un mélange de
+     * Fisher-Yates partiel tire sans remise ceux à convertir : un seul passage sur la
+     * grille et un tirage par mur converti, quel que soit le pourcentage visé. Si les
+     * étapes précédentes ont déjà creusé plus de chemins que voulu, rien n'est converti.
+     *
+     * @param grille grille des cellules
+     * @param nbCheminsVoulu nombre de cases intérieures qui doivent être des chemins
+     * @param random flux aléatoire de l'étape
+     */
+    private void convertirMurs(Grille grille, int nbCheminsVoulu, SplittableRandom random) {
+        int totalCellules = (largeurMax - 2) * (hauteurMax - 2);
+        int[] murs = new int[totalCellules];
+        int nbMurs = 0;
+        for (int i = 1; i < largeurMax - 1; i++) {
+            int debut = grille.indice(i, 0);
+            for (int j = 1; j < hauteurMax - 1; j++) {
+                if (grille.estMur(debut + j)) {
+                    murs[nbMurs++] = debut + j;
+                }
             }
         }
 
-        lab.setCellules(cellules);
-        lab.setJoueurX(entreeX);
-        lab.setJoueurY(entreeY);
-        lab.setJeuEnCours(true);
+        // Le pourcentage étant borné, la cible ne dépasse jamais les cases intérieures
+        int aConvertir = Math.max(0, nbCheminsVoulu - (totalCellules - nbMurs));
+
+        for (int k = 0; k < aConvertir; k++) {
+            int tire = k + random.nextInt(nbMurs - k);
+            int indice = murs[tire];
+            murs[tire] = murs[k];
+            grille.setCode(indice, TypeCellule.CHEMIN.code());
+        }
+        nbChemins = totalCellules - nbMurs + aConvertir;
     }
 
 
@@ -108,20 +150,19 @@ public class GenerateurAleatoire extends GenerateurLabyrinthe {
      * - on remonte dans la pile
      * - à la fin, la dernière case visitée devient la sortie
      *
-     * @param cellules tableau des cellules
+     * @param grille grille des cellules
      * @param startX coordonnée X de départ
      * @param startY coordonnée Y de départ
-     * @param lab labyrinthe à modifier
      */
-    public void faireChemin(Cellule[][] cellules, int startX, int startY, Labyrinthe lab) {
-        Random random = new Random();
+    public void faireChemin(Grille grille, int startX, int startY) {
+        SplittableRandom random = aleatoire();
         LinkedList<int[]> pile = new LinkedList<>();
         boolean[][] visite = new boolean[largeurMax][hauteurMax];
 
         int x = startX;
         int y = startY;
 
-        cellules[x][y] = new Entree(x, y);
+        grille.setType(x, y, TypeCellule.ENTREE);
         visite[x][y] = true;
         pile.push(new int[]{x, y});
 
@@ -150,7 +191,7 @@ public class GenerateurAleatoire extends GenerateurLabyrinthe {
                 int nx = suivant[0];
                 int ny = suivant[1];
 
-                cellules[nx][ny] = new Chemin(nx, ny);
+                grille.setType(nx, ny, TypeCellule.CHEMIN);
                 nbChemins++;
                 derniereVisite = new int[]{nx, ny};
                 visite[nx][ny] = true;
@@ -169,17 +210,14 @@ public class GenerateurAleatoire extends GenerateurLabyrinthe {
 
         if (!pile.isEmpty()) {
             int[] derniere = pile.peek();
-            cellules[derniere[0]][derniere[1]] = new Sortie(derniere[0], derniere[1]);
-            lab.setPositionSortie(derniere[0], derniere[1]);
+            grille.setType(derniere[0], derniere[1], TypeCellule.SORTIE);
         } else if (derniereVisite != null) {
-            cellules[derniereVisite[0]][derniereVisite[1]] = new Sortie(derniereVisite[0], derniereVisite[1]);
-            lab.setPositionSortie(derniereVisite[0], derniereVisite[1]);
+            grille.setType(derniereVisite[0], derniereVisite[1], TypeCellule.SORTIE);
         } else {
             int ex = startX;
             int ey = startY + 1;
             if (ey > 0 && ey < hauteurMax - 1) {
-                cellules[ex][ey] = new Sortie(ex, ey);
-                lab.setPositionSortie(ex, ey);
+                grille.setType(ex, ey, TypeCellule.SORTIE);
             }
         }
     }
@@ -190,12 +228,12 @@ public class GenerateurAleatoire extends GenerateurLabyrinthe {
      * Le chemin continue tant qu'il existe au moins une direction adjacente
      * où se trouve un mur.
      *
-     * @param cellules tableau des cellules
+     * @param grille grille des cellules
      * @param startX position X de départ
      * @param startY position Y de départ
      */
-    public void faireCheminAlternatif(Cellule[][] cellules, int startX, int startY) {
-        Random random = new Random();
+    public void faireCheminAlternatif(Grille grille, int startX, int startY) {
+        SplittableRandom random = aleatoire();
         int[][] directions = {{0, -1}, {0, 1}, {-1, 0}, {1, 0}};
 
         int x = startX;
@@ -208,7 +246,7 @@ public class GenerateurAleatoire extends GenerateurLabyrinthe {
                 int nx = x + d[0];
                 int ny = y + d[1];
                 if (nx > 0 && ny > 0 && nx < largeurMax - 1 && ny < hauteurMax - 1) {
-                    if (cellules[nx][ny].estMur()) {
+                    if (grille.estMur(grille.indice(nx, ny))) {
                         possibles.add(new int[]{nx, ny});
                     }
                 }
@@ -220,7 +258,7 @@ public class GenerateurAleatoire extends GenerateurLabyrinthe {
             int nx = suivant[0];
             int ny = suivant[1];
 
-            cellules[nx][ny] = new Chemin(nx, ny);
+            grille.setType(nx, ny, TypeCellule.CHEMIN);
             nbChemins++;
 
             x = nx;
@@ -228,4 +266,14 @@ public class GenerateurAleatoire extends GenerateurLabyrinthe {
         }
     }
 
+
+    /**
+     * Retourne le flux de l'étape en cours ; hors d'une génération, un flux issu de la graine.
+     */
+    private SplittableRandom aleatoire() {
+        if (aleatoire == null) {
+            aleatoire = creerAleatoire();
+        }
+        return aleatoire;
+    }
 }
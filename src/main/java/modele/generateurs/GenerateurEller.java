@@ -0,0 +1,191 @@
+package modele.generateurs;
+
+import modele.Labyrinthe;
+import modele.grille.Grille;
+import modele.grille.TypeCellule;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+
+/**
+ * Générateur d'un labyrinthe parfait ligne par ligne (algorithme d'Eller).
+ *
+ * Comme pour {@link GenerateurParfait}, les cellules sont aux coordonnées impaires et
+ * les murs entre elles aux coordonnées paires ; mais au lieu de creuser toute la
+ * grille par exploration en profondeur, l'algorithme ne garde que la ligne courante :
+ * - chaque cellule de la ligne appartient à un ensemble, celui des cellules
+ *   qu'elle rejoint par les lignes déjà produites
+ * - deux cellules voisines d'ensembles différents sont reliées au hasard, et
+ *   leurs ensembles fusionnés
+ * - chaque ensemble creuse au moins un passage vers la ligne suivante, faute de
+ *   quoi il resterait isolé ; les cellules non reliées y commencent un nouvel ensemble
+ * - sur la dernière ligne, tous les ensembles restants sont fusionnés
+ *
+ * La mémoire de travail est en O(hauteur) : quelques tableaux par cellule de la ligne,
+ * quelle que soit la largeur. Les lignes sont remises à un {@link RecepteurLignes}
+ * au fur et à mesure : une grille, un fichier ou un rendu peuvent les consommer
+ * pendant la génération, et la largeur n'est plus limitée par la mémoire.
+ *
+ * L'entrée est placée sur le bord X = 0 et la sortie sur la ligne qui suit la dernière
+ * ligne de cellules, toutes deux face à une cellule : le chemin de l'une à l'autre
+ * traverse toute la largeur. Sans vue d'ensemble, la distance minimale des autres
+ * générateurs ne peut pas être visée.
+ *
+ * Les positions de l'entrée et de la sortie puis le creusage tirent chacun dans leur
+ * propre flux, détaché de la graine du générateur.
+ */
+public class GenerateurEller extends GenerateurLabyrinthe {
+    private static final byte MUR = TypeCellule.MUR.code();
+    private static final byte CHEMIN = TypeCellule.CHEMIN.code();
+
+    /** Nombre de cellules par ligne. */
+    private final int cellules;
+
+
+    /**
+     * Constructeur du générateur.
+     *
+     * @param largeur largeur du labyrinthe, le nombre de lignes produites étant largeur + 2
+     * @param hauteur hauteur du labyrinthe
+     * @throws IllegalArgumentException si une dimension n'est pas strictement positive
+     */
+    public GenerateurEller(int largeur, int hauteur) {
+        super(largeur, hauteur);
+        if (largeur < 1 || hauteur < 1) {
+            throw new IllegalArgumentException("Dimensions invalides : " + largeur + " × " + hauteur);
+        }
+        this.cellules = (hauteurMax - 1) / 2;
+    }
+
+
+    /**
+     * Génère le labyrinthe dans une grille, puis y place le joueur sur l'entrée.
+     *
+     * @param lab labyrinthe à remplir
+     */
+    @Override
+    public void generer(Labyrinthe lab) {
+        Grille grille = creerGrille();
+        int entreeY = generer(RecepteurLignes.vers(grille));
+
+        lab.debuterTransaction();
+        try {
+            lab.setGrille(grille);
+            lab.placerJoueur(0, entreeY);
+        } finally {
+            lab.validerTransaction();
+        }
+    }
+
+
+    /**
+     * Génère le labyrinthe ligne par ligne, sans grille.
+     *
+     * @param recepteur destination des lignes, appelée pour chaque X de 0 à largeur + 1
+     * @return la coordonnée Y de l'entrée, sur la ligne X = 0
+     */
+    public int generer(RecepteurLignes recepteur) {
+        SplittableRandom racine = creerAleatoire();
+        SplittableRandom placement = racine.split();
+        SplittableRandom rand = racine.split();
+
+        int entreeY = 2 * placement.nextInt(cellules) + 1;
+        int sortieY = 2 * placement.nextInt(cellules) + 1;
+        int derniereX = largeurMax % 2 == 1 ? largeurMax - 2 : largeurMax - 3;
+
+        byte[] ligne = new byte[hauteurMax];
+        // Ensemble de chaque cellule, numéroté de 0 à cellules - 1 au début de chaque ligne ;
+        // les nouveaux ensembles d'une ligne prennent provisoirement les numéros suivants
+        int[] ensemble = new int[cellules];
+        int[] parent = new int[2 * cellules];
+        int[] restantes = new int[2 * cellules];
+        boolean[] relie = new boolean[2 * cellules];
+        int[] numero = new int[2 * cellules];
+        for (int j = 0; j < cellules; j++) {
+            ensemble[j] = j;
+            parent[j] = j;
+        }
+
+        Arrays.fill(ligne, MUR);
+        ligne[entreeY] = TypeCellule.ENTREE.code();
+        recepteur.recevoir(0, ligne);
+
+        for (int x = 1; x <= derniereX; x += 2) {
+            boolean derniere = x == derniereX;
+
+            // Ligne de cellules : passages entre voisines d'ensembles différents
+            Arrays.fill(ligne, MUR);
+            ligne[1] = CHEMIN;
+            for (int j = 0; j + 1 < cellules; j++) {
+                ligne[2 * j + 3] = CHEMIN;
+                int a = trouver(parent, ensemble[j]);
+                int b = trouver(parent, ensemble[j + 1]);
+                if (a != b && (derniere || rand.nextBoolean())) {
+                    parent[b] = a;
+                    ligne[2 * j + 2] = CHEMIN;
+                }
+            }
+            recepteur.recevoir(x, ligne);
+            if (derniere) {
+                break;
+            }
+
+            // Ligne de murs : au moins un passage par ensemble vers la ligne suivante
+            for (int j = 0; j < cellules; j++) {
+                int racineJ = trouver(parent, ensemble[j]);
+                ensemble[j] = racineJ;
+                restantes[racineJ]++;
+            }
+            Arrays.fill(ligne, MUR);
+            for (int j = 0; j < cellules; j++) {
+                int racineJ = ensemble[j];
+                restantes[racineJ]--;
+                if ((restantes[racineJ] == 0 && !relie[racineJ]) || rand.nextBoolean()) {
+                    relie[racineJ] = true;
+                    ligne[2 * j + 1] = CHEMIN;
+                } else {
+                    ensemble[j] = cellules + j;
+                }
+            }
+            recepteur.recevoir(x + 1, ligne);
+
+            // Renumérotation compacte pour la ligne suivante
+            Arrays.fill(numero, -1);
+            int suivant = 0;
+            for (int j = 0; j < cellules; j++) {
+                int e = ensemble[j];
+                if (numero[e] < 0) {
+                    numero[e] = suivant++;
+                }
+                ensemble[j] = numero[e];
+            }
+            for (int j = 0; j < cellules; j++) {
+                parent[j] = j;
+            }
+            Arrays.fill(relie, false);
+        }
+
+        for (int x = derniereX + 1; x < largeurMax; x++) {
+            Arrays.fill(ligne, MUR);
+            if (x == derniereX + 1) {
+                ligne[sortieY] = TypeCellule.SORTIE.code();
+            }
+            recepteur.recevoir(x, ligne);
+        }
+        return entreeY;
+    }
+
+
+    /**
+     * Retourne le représentant d'un ensemble, en raccourcissant le chemin parcouru
+     * (compression par division par deux).
+     */
+    private static int trouver(int[] parent, int e) {
+        while (parent[e] != e) {
+            parent[e] = parent[parent[e]];
+            e = parent[e];
+        }
+        return e;
+    }
+}
@@ -0,0 +1,99 @@
+package modele.generateurs;
+
+import modele.grille.Grille;
+
+import java.util.SplittableRandom;
+
+
+/**
+ * Générateur d'un labyrinthe parfait par l'algorithme de Kruskal randomisé.
+ *
+ * Toutes les cellules de la {@link Trame} sont ouvertes, puis les murs qui les
+ * séparent sont tirés dans un ordre aléatoire : un mur est ouvert s'il relie deux
+ * cellules encore dans des ensembles distincts de l'{@link UnionFind}. Les arêtes
+ * sont numérotées dans un seul tableau d'entiers (2c vers la voisine en X, 2c + 1
+ * vers la voisine en Y) et mélangées au fil des tirages : deux tableaux d'entiers en
+ * tout, sans pile ni objet par cellule.
+ *
+ * Là où le backtracking creuse de longs couloirs, Kruskal donne beaucoup d'impasses
+ * courtes et des embranchements fréquents. L'entrée, la sortie et la clé sont placées
+ * exactement comme dans {@link GenerateurParfait}.
+ */
+public class GenerateurKruskal extends GenerateurParfait {
+
+    /**
+     * Constructeur standard.
+     *
+     * @param largeur largeur maximale du labyrinthe
+     * @param hauteur hauteur maximale du labyrinthe
+     * @param distanceMin distance minimale souhaitée entre l'entrée et la sortie
+     */
+    public GenerateurKruskal(int largeur, int hauteur, int distanceMin) {
+        super(largeur, hauteur, distanceMin);
+    }
+
+
+    /**
+     * Constructeur avec activation du mode "clé obligatoire".
+     *
+     * @param largeur largeur maximale du labyrinthe
+     * @param hauteur hauteur maximale du labyrinthe
+     * @param distanceMin distance minimale souhaitée entre l'entrée et la sortie
+     * @param cleEnPoche true pour placer une clé avant la sortie
+     */
+    public GenerateurKruskal(int largeur, int hauteur, int distanceMin, boolean cleEnPoche) {
+        super(largeur, hauteur, distanceMin, cleEnPoche);
+    }
+
+
+    /**
+     * Ouvre les cellules, puis les murs retenus par Kruskal jusqu'à ce qu'il ne reste
+     * qu'un ensemble.
+     */
+    @Override
+    protected void creuser(Grille grille, int startX, int startY, SplittableRandom rand) {
+        Trame trame = new Trame(grille, startY);
+        if (trame.estVide()) {
+            return;
+        }
+        int lignes = trame.lignes;
+        int cellules = trame.colonnes * lignes;
+
+        // Cellule c = cx * lignes + cy
+        int[] aretes = new int[2 * cellules];
+        int nombre = 0;
+        for (int cx = 0; cx < trame.colonnes; cx++) {
+            for (int cy = 0; cy < lignes; cy++) {
+                int c = cx * lignes + cy;
+                trame.ouvrir(trame.x(cx), trame.y(cy));
+                if (cx + 1 < trame.colonnes) {
+                    aretes[nombre++] = 2 * c;
+                }
+                if (cy + 1 < lignes) {
+                    aretes[nombre++] = 2 * c + 1;
+                }
+            }
+        }
+
+        UnionFind ensembles = new UnionFind(cellules);
+        for (int i = 0; i < nombre && ensembles.getNombreEnsembles() > 1; i++) {
+            // Mélange de Fisher-Yates mené au fil des arêtes tirées
+            int j = i + rand.nextInt(nombre - i);
+            int arete = aretes[j];
+            aretes[j] = aretes[i];
+
+            int c = arete >> 1;
+            boolean versX = (arete & 1) == 0;
+            if (!ensembles.unir(c, versX ? c + lignes : c + 1)) {
+                continue;
+            }
+            int cx = c / lignes;
+            int cy = c - cx * lignes;
+            if (versX) {
+                trame.ouvrir(trame.x(cx) + 1, trame.y(cy));
+            } else {
+                trame.ouvrir(trame.x(cx), trame.y(cy) + 1);
+            }
+        }
+    }
+}
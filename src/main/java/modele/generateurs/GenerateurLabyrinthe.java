@@ -1,6 +1,11 @@
 package modele.generateurs;
 
 import modele.Labyrinthe;
+import modele.grille.FabriqueGrille;
+import modele.grille.Grille;
+import modele.grille.GrilleTableau;
+
+import java.util.SplittableRandom;
 
 
 /**
@@ -14,12 +19,18 @@ import modele.Labyrinthe;
  * - la largeur et la hauteur souhaitées du labyrinthe
  * - la largeur et la hauteur réelles (largeur + 2, hauteur + 2) pour inclure
  *   les murs périphériques
+ * - le stockage de la grille produite, choisi via une {@link FabriqueGrille}
+ *   (tableau en mémoire par défaut)
+ * - la graine de la génération : avec les mêmes paramètres, une même graine redonne
+ *   toujours le même labyrinthe, qui peut ainsi être rejoué, partagé ou mis en cache
  */
 public abstract class GenerateurLabyrinthe {
     int largeur;
     int hauteur;
     int largeurMax;
     int hauteurMax;
+    private FabriqueGrille fabriqueGrille = GrilleTableau::new;
+    private long graine = new SplittableRandom().nextLong();
 
 
     /**
@@ -44,4 +55,61 @@ public abstract class GenerateurLabyrinthe {
      * @param lab labyrinthe à remplir avec les cellules générées
      */
     public abstract void generer(Labyrinthe lab);
+
+
+    /**
+     * Définit le stockage des grilles générées, par exemple
+     * {@link modele.grille.GrilleHorsTas#allouer} pour les très grands labyrinthes.
+     *
+     * @param fabriqueGrille fabrique de grilles
+     */
+    public void setFabriqueGrille(FabriqueGrille fabriqueGrille) {
+        this.fabriqueGrille = fabriqueGrille;
+    }
+
+
+    /**
+     * Fixe la graine de la génération. Sans appel, une graine est tirée au hasard
+     * à la création du générateur ; {@link #getGraine()} permet de la retrouver.
+     *
+     * @param graine graine sur 64 bits
+     */
+    public void setGraine(long graine) {
+        this.graine = graine;
+    }
+
+
+    /**
+     * Retourne la graine de la génération, pour rejouer le même labyrinthe.
+     *
+     * @return la graine
+     */
+    public long getGraine() {
+        return graine;
+    }
+
+
+    /**
+     * Crée le flux aléatoire racine d'une génération, issu de la graine.
+     *
+     * Chaque étape de la génération en détache son propre flux par
+     * {@link SplittableRandom#split()}, toujours dans le même ordre : le nombre de
+     * tirages d'une étape ne décale pas ceux des suivantes, et des étapes menées sur
+     * des threads différents ne se disputent aucun générateur partagé.
+     *
+     * @return un nouveau flux, identique pour une même graine
+     */
+    protected SplittableRandom creerAleatoire() {
+        return new SplittableRandom(graine);
+    }
+
+
+    /**
+     * Crée une grille remplie de murs aux dimensions du générateur.
+     *
+     * @return la nouvelle grille
+     */
+    protected Grille creerGrille() {
+        return fabriqueGrille.creer(largeurMax, hauteurMax);
+    }
 }
@@ -1,7 +1,12 @@
 package modele.generateurs;
 
-import modele.Cellules.*;
 import modele.Labyrinthe;
+import modele.chemins.ArbreChemins;
+import modele.chemins.CarteDistances;
+import modele.chemins.MoteurBFS;
+import modele.grille.Grille;
+import modele.grille.ListeIndices;
+import modele.grille.TypeCellule;
 
 import java.util.*;
 
@@ -20,8 +25,26 @@ import java.util.*;
  *   depuis l'entrée
  * - En mode "clé en poche", une clé est placée sur le chemin optimal
  *   vers la sortie, et la sortie se situe au-delà de la clé
+ *
+ * Les cases creusées formant un arbre, les distances ne sont pas calculées par BFS :
+ * un {@link ArbreChemins} est indexé une fois depuis l'entrée et ne sert qu'au
+ * placement. Il n'est pas confié au labyrinthe, qui ne demande qu'une distance par
+ * grille : l'index est libéré dès la fin de la génération. Au-delà de
+ * {@link #SEUIL_ARBRE} cases, l'index coûterait trop de mémoire, même le temps de la
+ * génération, et l'on revient à un BFS.
+ *
+ * Le creusage et le placement de la sortie tirent chacun dans leur propre flux,
+ * détaché de la graine du générateur (voir {@link GenerateurLabyrinthe#setGraine(long)}).
  */
 public class GenerateurParfait extends GenerateurLabyrinthe {
+    private static final byte CHEMIN = TypeCellule.CHEMIN.code();
+
+    /**
+     * Nombre de cases à partir duquel les distances sont calculées par BFS plutôt
+     * que par l'index d'arbre (environ 18 octets par case).
+     */
+    private static final int SEUIL_ARBRE = 1 << 22;
+
     int distanceMin;
     boolean cleEnPoche = false;
 
@@ -66,34 +89,53 @@ public class GenerateurParfait extends GenerateurLabyrinthe {
      * @param lab labyrinthe à remplir
      */
     public void generer(Labyrinthe lab) {
-        System.out.println("=== DEBUT GENERATION PARFAIT ===");
-        System.out.println("Distance minimale requise: " + distanceMin);
-        System.out.println("Mode clé activé: " + cleEnPoche);
-
-        Cellule[][] cellules = new Cellule[largeurMax][hauteurMax];
-        for (int i = 0; i < largeurMax; i++) {
-            for (int j = 0; j < hauteurMax; j++) {
-                cellules[i][j] = new Mur(i, j);
-            }
-        }
+        Grille grille = creerGrille();
 
-        Random rand = new Random();
+        SplittableRandom racine = creerAleatoire();
+        SplittableRandom rand = racine.split();
+        SplittableRandom aleatoirePlacement = racine.split();
 
         int entreeX = 0;
         int entreeY = 1 + rand.nextInt(Math.max(1, hauteur - 2));
-        cellules[entreeX][entreeY] = new Entree(entreeX, entreeY);
-        System.out.println("Entrée placée à: (" + entreeX + ", " + entreeY + ")");
-
-        lab.setJoueurX(entreeX);
-        lab.setJoueurY(entreeY);
+        grille.setType(entreeX, entreeY, TypeCellule.ENTREE);
 
         int startX = entreeX + 1;
         int startY = entreeY;
 
         if (startX < largeurMax - 1) {
-            cellules[startX][startY] = new Chemin(startX, startY);
+            grille.setType(startX, startY, TypeCellule.CHEMIN);
         }
 
+        creuser(grille, startX, startY, rand);
+
+        CarteDistances distances = calculerDistances(grille, entreeX, entreeY);
+        if (cleEnPoche) {
+            placerCleEtSortie(grille, distances, aleatoirePlacement);
+        } else {
+            placerSortieAvecDistance(grille, distances, aleatoirePlacement);
+        }
+
+        lab.debuterTransaction();
+        try {
+            lab.setGrille(grille);
+            lab.placerJoueur(entreeX, entreeY);
+        } finally {
+            lab.validerTransaction();
+        }
+    }
+
+
+    /**
+     * Creuse le labyrinthe depuis la première case par exploration en profondeur
+     * (backtracking) : les cellules sont à deux cases l'une de l'autre, et le mur
+     * qui les sépare est ouvert quand l'exploration passe de l'une à l'autre.
+     *
+     * @param grille grille remplie de murs, où la première case est déjà creusée
+     * @param startX coordonnée X de la première case
+     * @param startY coordonnée Y de la première case
+     * @param rand flux aléatoire du creusage
+     */
+    protected void creuser(Grille grille, int startX, int startY, SplittableRandom rand) {
         Stack<int[]> pile = new Stack<>();
         boolean[][] visite = new boolean[largeurMax][hauteurMax];
         pile.push(new int[]{startX, startY});
@@ -119,8 +161,8 @@ public class GenerateurParfait extends GenerateurLabyrinthe {
                 int nx = x + directions[dir][0];
                 int ny = y + directions[dir][1];
 
-                cellules[x + directions[dir][0]/2][y + directions[dir][1]/2] = new Chemin(x + directions[dir][0]/2, y + directions[dir][1]/2);
-                cellules[nx][ny] = new Chemin(nx, ny);
+                grille.setType(x + directions[dir][0]/2, y + directions[dir][1]/2, TypeCellule.CHEMIN);
+                grille.setType(nx, ny, TypeCellule.CHEMIN);
 
                 visite[nx][ny] = true;
                 pile.push(new int[]{nx, ny});
@@ -128,15 +170,6 @@ public class GenerateurParfait extends GenerateurLabyrinthe {
                 pile.pop();
             }
         }
-
-        if (cleEnPoche) {
-            placerCleEtSortie(cellules, entreeX, entreeY, lab);
-        } else {
-            placerSortieAvecDistance(cellules, entreeX, entreeY);
-        }
-
-        lab.setCellules(cellules);
-        System.out.println("=== FIN GENERATION PARFAIT ===");
     }
 
 
@@ -145,115 +178,72 @@ public class GenerateurParfait extends GenerateurLabyrinthe {
      * (distanceMin + 5) depuis l'entrée.
      * Si aucun candidat ne correspond, choisit la case la plus proche.
      *
-     * @param cellules tableau des cellules du labyrinthe
-     * @param entreeX coordonnée X de l'entrée
-     * @param entreeY coordonnée Y de l'entrée
+     * @param grille grille du labyrinthe
+     * @param distances carte des distances depuis l'entrée
+     * @param rand flux aléatoire du placement
      */
-    private void placerSortieAvecDistance(Cellule[][] cellules, int entreeX, int entreeY) {
-        int[][] distances = calculerDistances(cellules, entreeX, entreeY);
-
+    private void placerSortieAvecDistance(Grille grille, CarteDistances distances, SplittableRandom rand) {
         int distanceMax = distanceMin + 5;
-        List<int[]> candidats = new ArrayList<>();
-
-        for (int i = 0; i < largeurMax; i++) {
-            for (int j = 0; j < hauteurMax; j++) {
-                if (cellules[i][j].estChemin() &&
-                    distances[i][j] >= distanceMin &&
-                    distances[i][j] <= distanceMax) {
-                    candidats.add(new int[]{i, j, distances[i][j]});
-                }
+        ListeIndices candidats = new ListeIndices();
+        int taille = grille.getTaille();
+
+        for (int i = 0; i < taille; i++) {
+            int distance = distances.distance(i);
+            if (grille.getCode(i) == CHEMIN && distance >= distanceMin && distance <= distanceMax) {
+                candidats.ajouter(i);
             }
         }
 
-        System.out.println("Distance min requise: " + distanceMin);
-        System.out.println("Distance max autorisée: " + distanceMax);
-        System.out.println("Candidats dans la plage: " + candidats.size());
+        if (candidats.taille() > 0) {
+            int choisi = candidats.get(rand.nextInt(candidats.taille()));
 
-        if (!candidats.isEmpty()) {
-            Random rand = new Random();
-            int[] choisi = candidats.get(rand.nextInt(candidats.size()));
-            int sortieX = choisi[0];
-            int sortieY = choisi[1];
-            int distanceSortie = choisi[2];
-
-            cellules[sortieX][sortieY] = new Sortie(sortieX, sortieY);
-            System.out.println("Sortie placée à (" + sortieX + ", " + sortieY + ") avec distance: " + distanceSortie);
+            grille.setCode(choisi, TypeCellule.SORTIE.code());
         } else {
-            System.out.println("Aucun candidat dans la plage, recherche du meilleur compromis");
-            int meilleureX = -1, meilleureY = -1, meilleureDiff = Integer.MAX_VALUE;
-
-            for (int i = 0; i < largeurMax; i++) {
-                for (int j = 0; j < hauteurMax; j++) {
-                    if (cellules[i][j].estChemin() && distances[i][j] > 0) {
-                        int diff = Math.abs(distances[i][j] - distanceMin);
-                        if (diff < meilleureDiff) {
-                            meilleureDiff = diff;
-                            meilleureX = i;
-                            meilleureY = j;
-                        }
+            int meilleure = -1, meilleureDiff = Integer.MAX_VALUE;
+
+            for (int i = 0; i < taille; i++) {
+                int distance = distances.distance(i);
+                if (grille.getCode(i) == CHEMIN && distance > 0) {
+                    int diff = Math.abs(distance - distanceMin);
+                    if (diff < meilleureDiff) {
+                        meilleureDiff = diff;
+                        meilleure = i;
                     }
                 }
             }
 
-            if (meilleureX != -1 && meilleureY != -1) {
-                cellules[meilleureX][meilleureY] = new Sortie(meilleureX, meilleureY);
-                System.out.println("Sortie placée (fallback) à (" + meilleureX + ", " + meilleureY + ") avec distance: " + distances[meilleureX][meilleureY]);
+            if (meilleure != -1) {
+                grille.setCode(meilleure, TypeCellule.SORTIE.code());
             }
         }
     }
 
 
     /**
-     * Calcule les distances depuis l'entrée vers toutes les cases accessibles
-     * en utilisant un parcours en largeur (BFS).
+     * Calcule les distances depuis l'entrée vers toutes les cases accessibles.
+     *
+     * En dessous de {@link #SEUIL_ARBRE} cases, un seul parcours en profondeur indexe
+     * l'arbre des cases creusées : il donne les distances depuis l'entrée, les chemins,
+     * et les distances en O(1) entre deux cases quelconques. Au-delà, c'est le BFS du
+     * moteur du thread courant, dont les distances et les parents restent valides
+     * jusqu'à la prochaine recherche lancée sur ce thread. Le front d'un labyrinthe
+     * parfait ne compte que quelques cases : un BFS multi-cœur n'y gagnerait rien.
      *
-     * @param cellules tableau du labyrinthe
+     * @param grille grille du labyrinthe
      * @param entreeX coordonnée X de départ
      * @param entreeY coordonnée Y de départ
-     * @return matrice des distances (-1 pour les cellules non accessibles)
+     * @return la carte des distances (-1 pour les cellules non accessibles)
      */
-    private int[][] calculerDistances(Cellule[][] cellules, int entreeX, int entreeY) {
-        int[][] distances = new int[largeurMax][hauteurMax];
-        boolean[][] visite = new boolean[largeurMax][hauteurMax];
-
-        for (int i = 0; i < largeurMax; i++) {
-            for (int j = 0; j < hauteurMax; j++) {
-                distances[i][j] = -1;
-            }
-        }
-
-        Queue<int[]> queue = new LinkedList<>();
-        queue.add(new int[]{entreeX, entreeY});
-        distances[entreeX][entreeY] = 0;
-        visite[entreeX][entreeY] = true;
-
-        int[][] directions = {{0, 1}, {1, 0}, {0, -1}, {-1, 0}};
-        int cellulesParcourues = 0;
-
-        while (!queue.isEmpty()) {
-            int[] pos = queue.poll();
-            int x = pos[0];
-            int y = pos[1];
-            cellulesParcourues++;
-
-            for (int[] dir : directions) {
-                int nx = x + dir[0];
-                int ny = y + dir[1];
-
-                if (nx >= 0 && nx < largeurMax && ny >= 0 && ny < hauteurMax
-                        && !visite[nx][ny]) {
-
-                    Cellule cellule = cellules[nx][ny];
-                    if (cellule.estChemin() || cellule.estEntree()) {
-                        visite[nx][ny] = true;
-                        distances[nx][ny] = distances[x][y] + 1;
-                        queue.add(new int[]{nx, ny});
-                    }
-                }
-            }
+    private CarteDistances calculerDistances(Grille grille, int entreeX, int entreeY) {
+        int depart = grille.indice(entreeX, entreeY);
+        CarteDistances distances;
+        if (grille.getTaille() < SEUIL_ARBRE) {
+            distances = ArbreChemins.indexer(grille, depart);
+        } else {
+            MoteurBFS moteur = MoteurBFS.local();
+            moteur.parcourir(grille, depart);
+            distances = moteur;
         }
-
-        System.out.println("BFS: " + cellulesParcourues + " cellules parcourues");
         return distances;
     }
 
@@ -261,61 +251,52 @@ public class GenerateurParfait extends GenerateurLabyrinthe {
      * Mode avancé : place une clé et la sortie.
      * La clé est sur le chemin optimal vers la sortie et doit être récupérée avant.
      *
-     * @param cellules tableau du labyrinthe
-     * @param entreeX coordonnée X de l'entrée
-     * @param entreeY coordonnée Y de l'entrée
-     * @param lab labyrinthe à mettre à jour
+     * @param grille grille du labyrinthe
+     * @param distances carte des distances depuis l'entrée
+     * @param rand flux aléatoire du placement
      */
-    private void placerCleEtSortie(Cellule[][] cellules, int entreeX, int entreeY, Labyrinthe lab) {
-
-        int[][] distances = calculerDistances(cellules, entreeX, entreeY);
+    private void placerCleEtSortie(Grille grille, CarteDistances distances, SplittableRandom rand) {
+        int taille = grille.getTaille();
 
         int distanceMax = 0;
-        for (int i = 0; i < largeurMax; i++) {
-            for (int j = 0; j < hauteurMax; j++) {
-                if (cellules[i][j].estChemin() && distances[i][j] > distanceMax) {
-                    distanceMax = distances[i][j];
-                }
+        for (int i = 0; i < taille; i++) {
+            if (grille.getCode(i) == CHEMIN && distances.distance(i) > distanceMax) {
+                distanceMax = distances.distance(i);
             }
         }
 
 
         if (distanceMax < 6) {
-            placementSimple(cellules, distances, distanceMax, lab);
+            placementSimple(grille, distances, distanceMax);
             return;
         }
 
         int distanceMinSortie = Math.max(6, (int)(distanceMax * 0.7));
-        List<int[]> candidatsSortie = new ArrayList<>();
+        ListeIndices candidatsSortie = new ListeIndices();
 
-        for (int i = 0; i < largeurMax; i++) {
-            for (int j = 0; j < hauteurMax; j++) {
-                if (cellules[i][j].estChemin() && distances[i][j] >= distanceMinSortie) {
-                    candidatsSortie.add(new int[]{i, j, distances[i][j]});
-                }
+        for (int i = 0; i < taille; i++) {
+            if (grille.getCode(i) == CHEMIN && distances.distance(i) >= distanceMinSortie) {
+                candidatsSortie.ajouter(i);
             }
         }
 
-        if (candidatsSortie.isEmpty()) {
-            placementSimple(cellules, distances, distanceMax, lab);
+        if (candidatsSortie.taille() == 0) {
+            placementSimple(grille, distances, distanceMax);
             return;
         }
 
-        Random rand = new Random();
-        int[] positionSortie = candidatsSortie.get(rand.nextInt(candidatsSortie.size()));
-        int sortieX = positionSortie[0];
-        int sortieY = positionSortie[1];
-
+        int sortie = candidatsSortie.get(rand.nextInt(candidatsSortie.taille()));
 
-        List<int[]> cheminOptimal = trouverCheminOptimal(cellules, entreeX, entreeY, sortieX, sortieY);
+        // La carte part de l'entrée : elle donne déjà le chemin optimal
+        int[] cheminOptimal = distances.chemin(sortie);
 
-        if (cheminOptimal.size() < 4) {
-            placementSimple(cellules, distances, distanceMax, lab);
+        if (cheminOptimal.length < 4) {
+            placementSimple(grille, distances, distanceMax);
             return;
         }
 
 
-        int tailleChemin = cheminOptimal.size();
+        int tailleChemin = cheminOptimal.length;
         int indexMinCle = Math.max(2, (int)(tailleChemin * 0.3));
         int indexMaxCle = Math.min(tailleChemin - 3, (int)(tailleChemin * 0.7));
 
@@ -325,15 +306,10 @@ public class GenerateurParfait extends GenerateurLabyrinthe {
         }
 
         int indexCle = indexMinCle + rand.nextInt(Math.max(1, indexMaxCle - indexMinCle));
-        int[] positionCle = cheminOptimal.get(indexCle);
-        int cleX = positionCle[0];
-        int cleY = positionCle[1];
 
-        cellules[cleX][cleY] = new Cle(cleX, cleY);
-        lab.setPositionCle(cleX, cleY);
+        grille.setCode(cheminOptimal[indexCle], TypeCellule.CLE.code());
 
-        cellules[sortieX][sortieY] = new Sortie(sortieX, sortieY, true);
-        lab.setPositionSortie(sortieX, sortieY);
+        grille.setCode(sortie, TypeCellule.SORTIE_VERROUILLEE.code());
     }
 
 
@@ -341,109 +317,37 @@ public class GenerateurParfait extends GenerateurLabyrinthe {
      * Placement simple pour les petits labyrinthes.
      * Place la sortie sur la case la plus éloignée et la clé à mi-chemin.
      *
-     * @param cellules tableau du labyrinthe
-     * @param distances matrice des distances depuis l'entrée
+     * @param grille grille du labyrinthe
+     * @param distances carte des distances depuis l'entrée
      * @param distanceMax distance maximale parcourue
-     * @param lab labyrinthe à mettre à jour
      */
-    private void placementSimple(Cellule[][] cellules, int[][] distances, int distanceMax, Labyrinthe lab) {
+    private void placementSimple(Grille grille, CarteDistances distances, int distanceMax) {
         List<int[]> tousLesChemins = new ArrayList<>();
+        int taille = grille.getTaille();
 
-        for (int i = 0; i < largeurMax; i++) {
-            for (int j = 0; j < hauteurMax; j++) {
-                if (cellules[i][j].estChemin() && distances[i][j] > 0) {
-                    tousLesChemins.add(new int[]{i, j, distances[i][j]});
-                }
+        for (int i = 0; i < taille; i++) {
+            if (grille.getCode(i) == CHEMIN && distances.distance(i) > 0) {
+                tousLesChemins.add(new int[]{i, distances.distance(i)});
             }
         }
 
         if (tousLesChemins.size() < 2) {
-            System.out.println("[MODE CLE] Pas assez de chemins disponibles");
             return;
         }
 
-        tousLesChemins.sort((a, b) -> Integer.compare(b[2], a[2]));
+        tousLesChemins.sort((a, b) -> Integer.compare(b[1], a[1]));
 
         int[] sortie = tousLesChemins.get(0);
-        cellules[sortie[0]][sortie[1]] = new Sortie(sortie[0], sortie[1], true);
-        lab.setPositionSortie(sortie[0], sortie[1]);
+        grille.setCode(sortie[0], TypeCellule.SORTIE_VERROUILLEE.code());
 
         int indexCle = Math.min(tousLesChemins.size() / 2, tousLesChemins.size() - 1);
         int[] cle = tousLesChemins.get(indexCle);
 
-        if (cle[0] != sortie[0] || cle[1] != sortie[1]) {
-            cellules[cle[0]][cle[1]] = new Cle(cle[0], cle[1]);
-            lab.setPositionCle(cle[0], cle[1]);
+        if (cle[0] != sortie[0]) {
+            grille.setCode(cle[0], TypeCellule.CLE.code());
         } else if (tousLesChemins.size() > 2) {
             int[] cleAlt = tousLesChemins.get(1);
-            cellules[cleAlt[0]][cleAlt[1]] = new Cle(cleAlt[0], cleAlt[1]);
-            lab.setPositionCle(cleAlt[0], cleAlt[1]);
+            grille.setCode(cleAlt[0], TypeCellule.CLE.code());
         }
     }
-
-
-    /**
-     * Trouve le chemin optimal entre deux points en reconstruisant
-     * le parcours BFS.
-     *
-     * @param cellules tableau du labyrinthe
-     * @param startX coordonnée X de départ
-     * @param startY coordonnée Y de départ
-     * @param endX coordonnée X d'arrivée
-     * @param endY coordonnée Y d'arrivée
-     * @return liste ordonnée des coordonnées du chemin optimal
-     */
-    private List<int[]> trouverCheminOptimal(Cellule[][] cellules, int startX, int startY, int endX, int endY) {
-        Queue<int[]> queue = new LinkedList<>();
-        boolean[][] visite = new boolean[largeurMax][hauteurMax];
-        int[][][] parent = new int[largeurMax][hauteurMax][2];
-
-        queue.add(new int[]{startX, startY});
-        visite[startX][startY] = true;
-        parent[startX][startY][0] = -1;
-        parent[startX][startY][1] = -1;
-
-        int[][] directions = {{0, 1}, {1, 0}, {0, -1}, {-1, 0}};
-
-        while (!queue.isEmpty()) {
-            int[] pos = queue.poll();
-            int x = pos[0];
-            int y = pos[1];
-
-            if (x == endX && y == endY) {
-                break;
-            }
-
-            for (int[] dir : directions) {
-                int nx = x + dir[0];
-                int ny = y + dir[1];
-
-                if (nx >= 0 && nx < largeurMax && ny >= 0 && ny < hauteurMax
-                        && !visite[nx][ny]) {
-
-                    Cellule cellule = cellules[nx][ny];
-                    if (cellule.estChemin() || cellule.estEntree() || (nx == endX && ny == endY)) {
-                        visite[nx][ny] = true;
-                        parent[nx][ny][0] = x;
-                        parent[nx][ny][1] = y;
-                        queue.add(new int[]{nx, ny});
-                    }
-                }
-            }
-        }
-
-        List<int[]> chemin = new ArrayList<>();
-        int currentX = endX;
-        int currentY = endY;
-
-        while (currentX != -1 && currentY != -1) {
-            chemin.add(0, new int[]{currentX, currentY});
-            int parentX = parent[currentX][currentY][0];
-            int parentY = parent[currentX][currentY][1];
-            currentX = parentX;
-            currentY = parentY;
-        }
-
-        return chemin;
-    }
 }
@@ -0,0 +1,239 @@
+package modele.generateurs;
+
+import modele.grille.Grille;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+
+/**
+ * Générateur d'un labyrinthe parfait creusé en parallèle, par tuiles.
+ *
+ * Les cellules sont découpées en tuiles carrées. Chaque tuile est creusée par
+ * exploration en profondeur, indépendamment des autres, dans un
+ * {@link ForkJoinPool} : elle devient un arbre couvrant de ses propres cellules,
+ * et n'écrit que dans ses cellules et les murs qui les séparent, jamais sur la
+ * frontière d'une autre. Les tuiles sont ensuite cousues par un algorithme de
+ * Kruskal sur le graphe des tuiles voisines : chaque frontière retenue par un
+ * {@link UnionFind} reçoit un seul passage, placé au hasard. Un arbre d'arbres
+ * reliés par un arbre reste un arbre : le labyrinthe est parfait, et l'entrée et
+ * la sortie sont placées exactement comme dans {@link GenerateurParfait}.
+ *
+ * Chaque tuile tire dans son propre flux, détaché de celui du creusage dans l'ordre
+ * des tuiles avant le lancement des tâches : le labyrinthe ne dépend que de la graine,
+ * pas du nombre de threads ni de l'ordre d'exécution.
+ *
+ * Les frontières de tuiles ne comptant qu'un passage, les longs couloirs du
+ * backtracking s'y arrêtent : de près, la texture est la même ; de loin, la grille
+ * des tuiles se devine.
+ */
+public class GenerateurParfaitParallele extends GenerateurParfait {
+
+    /** Côté d'une tuile, en cellules : assez grand pour amortir une tâche et la couture. */
+    static final int COTE_TUILE = 128;
+
+    private final ForkJoinPool pool;
+    private final int coteTuile;
+
+
+    /**
+     * Constructeur standard, sur le pool commun.
+     *
+     * @param largeur largeur maximale du labyrinthe
+     * @param hauteur hauteur maximale du labyrinthe
+     * @param distanceMin distance minimale souhaitée entre l'entrée et la sortie
+     */
+    public GenerateurParfaitParallele(int largeur, int hauteur, int distanceMin) {
+        this(largeur, hauteur, distanceMin, false, ForkJoinPool.commonPool());
+    }
+
+
+    /**
+     * Constructeur avec un pool donné, par exemple pour fixer le nombre de threads.
+     *
+     * @param largeur largeur maximale du labyrinthe
+     * @param hauteur hauteur maximale du labyrinthe
+     * @param distanceMin distance minimale souhaitée entre l'entrée et la sortie
+     * @param cleEnPoche true pour placer une clé avant la sortie
+     * @param pool le pool d'exécution
+     */
+    public GenerateurParfaitParallele(int largeur, int hauteur, int distanceMin, boolean cleEnPoche, ForkJoinPool pool) {
+        this(largeur, hauteur, distanceMin, cleEnPoche, pool, COTE_TUILE);
+    }
+
+
+    /**
+     * Constructeur avec un côté de tuile donné (tests).
+     *
+     * @param coteTuile côté d'une tuile, en cellules
+     */
+    GenerateurParfaitParallele(int largeur, int hauteur, int distanceMin, boolean cleEnPoche, ForkJoinPool pool,
+                               int coteTuile) {
+        super(largeur, hauteur, distanceMin, cleEnPoche);
+        if (coteTuile < 1) {
+            throw new IllegalArgumentException("Côté de tuile invalide : " + coteTuile);
+        }
+        this.pool = pool;
+        this.coteTuile = coteTuile;
+    }
+
+
+    /**
+     * Creuse les tuiles en parallèle, puis les coud en un seul arbre.
+     *
+     * Les cellules sont sur la même {@link Trame} que celle du backtracking depuis
+     * la première case.
+     */
+    @Override
+    protected void creuser(Grille grille, int startX, int startY, SplittableRandom rand) {
+        Trame trame = new Trame(grille, startY);
+        if (trame.estVide()) {
+            return;
+        }
+
+        int tuilesX = (trame.colonnes + coteTuile - 1) / coteTuile;
+        int tuilesY = (trame.lignes + coteTuile - 1) / coteTuile;
+        SplittableRandom[] flux = new SplittableRandom[tuilesX * tuilesY];
+        for (int t = 0; t < flux.length; t++) {
+            flux[t] = rand.split();
+        }
+        pool.invoke(new Creusage(trame, tuilesY, flux, 0, flux.length));
+
+        coudre(trame, tuilesX, tuilesY, rand);
+    }
+
+
+    /**
+     * Relie les tuiles par un arbre couvrant aléatoire de leur graphe de voisinage,
+     * un passage par frontière retenue.
+     */
+    private void coudre(Trame trame, int tuilesX, int tuilesY, SplittableRandom rand) {
+        // Arête 2t : tuile t et sa voisine en X ; arête 2t + 1 : tuile t et sa voisine en Y
+        int[] aretes = new int[2 * tuilesX * tuilesY];
+        int nombre = 0;
+        for (int tx = 0; tx < tuilesX; tx++) {
+            for (int ty = 0; ty < tuilesY; ty++) {
+                int t = tx * tuilesY + ty;
+                if (tx + 1 < tuilesX) {
+                    aretes[nombre++] = 2 * t;
+                }
+                if (ty + 1 < tuilesY) {
+                    aretes[nombre++] = 2 * t + 1;
+                }
+            }
+        }
+
+        UnionFind tuiles = new UnionFind(tuilesX * tuilesY);
+        for (int i = 0; i < nombre && tuiles.getNombreEnsembles() > 1; i++) {
+            // Mélange de Fisher-Yates mené au fil des arêtes tirées
+            int j = i + rand.nextInt(nombre - i);
+            int arete = aretes[j];
+            aretes[j] = aretes[i];
+
+            int t = arete >> 1;
+            int tx = t / tuilesY;
+            int ty = t - tx * tuilesY;
+            boolean versX = (arete & 1) == 0;
+            if (!tuiles.unir(t, versX ? t + tuilesY : t + 1)) {
+                continue;
+            }
+            if (versX) {
+                int cx = (tx + 1) * coteTuile - 1;
+                int debut = ty * coteTuile;
+                int cy = debut + rand.nextInt(Math.min(trame.lignes, debut + coteTuile) - debut);
+                trame.ouvrir(trame.x(cx) + 1, trame.y(cy));
+            } else {
+                int cy = (ty + 1) * coteTuile - 1;
+                int debut = tx * coteTuile;
+                int cx = debut + rand.nextInt(Math.min(trame.colonnes, debut + coteTuile) - debut);
+                trame.ouvrir(trame.x(cx), trame.y(cy) + 1);
+            }
+        }
+    }
+
+
+    /**
+     * Découpe une plage de tuiles en moitiés jusqu'à une seule tuile, creusée sur place.
+     */
+    private final class Creusage extends RecursiveAction {
+        private final Trame trame;
+        private final int tuilesY;
+        private final SplittableRandom[] flux;
+        private final int debut;
+        private final int fin;
+
+        Creusage(Trame trame, int tuilesY, SplittableRandom[] flux, int debut, int fin) {
+            this.trame = trame;
+            this.tuilesY = tuilesY;
+            this.flux = flux;
+            this.debut = debut;
+            this.fin = fin;
+        }
+
+        @Override
+        protected void compute() {
+            if (fin - debut == 1) {
+                creuserTuile(debut / tuilesY, debut % tuilesY);
+                return;
+            }
+            int milieu = (debut + fin) >>> 1;
+            invokeAll(new Creusage(trame, tuilesY, flux, debut, milieu),
+                      new Creusage(trame, tuilesY, flux, milieu, fin));
+        }
+
+        /**
+         * Creuse une tuile par exploration en profondeur, sur une pile d'entiers.
+         */
+        private void creuserTuile(int tx, int ty) {
+            SplittableRandom rand = flux[tx * tuilesY + ty];
+            int cx0 = tx * coteTuile;
+            int cy0 = ty * coteTuile;
+            int largeurTuile = Math.min(coteTuile, trame.colonnes - cx0);
+            int hauteurTuile = Math.min(coteTuile, trame.lignes - cy0);
+            int taille = largeurTuile * hauteurTuile;
+
+            // Cellule locale c = lx * hauteurTuile + ly
+            boolean[] visite = new boolean[taille];
+            int[] pile = new int[taille];
+            int[] candidates = new int[4];
+            int sommet = 0;
+            int depart = rand.nextInt(taille);
+            pile[sommet++] = depart;
+            visite[depart] = true;
+            trame.ouvrir(trame.x(cx0 + depart / hauteurTuile), trame.y(cy0 + depart % hauteurTuile));
+
+            while (sommet > 0) {
+                int c = pile[sommet - 1];
+                int lx = c / hauteurTuile;
+                int ly = c - lx * hauteurTuile;
+                int nombre = 0;
+                if (ly + 1 < hauteurTuile && !visite[c + 1]) {
+                    candidates[nombre++] = c + 1;
+                }
+                if (lx + 1 < largeurTuile && !visite[c + hauteurTuile]) {
+                    candidates[nombre++] = c + hauteurTuile;
+                }
+                if (ly > 0 && !visite[c - 1]) {
+                    candidates[nombre++] = c - 1;
+                }
+                if (lx > 0 && !visite[c - hauteurTuile]) {
+                    candidates[nombre++] = c - hauteurTuile;
+                }
+                if (nombre == 0) {
+                    sommet--;
+                    continue;
+                }
+                int n = candidates[rand.nextInt(nombre)];
+                visite[n] = true;
+                pile[sommet++] = n;
+                int x = trame.x(cx0 + lx);
+                int y = trame.y(cy0 + ly);
+                int nx = trame.x(cx0 + n / hauteurTuile);
+                int ny = trame.y(cy0 + n % hauteurTuile);
+                trame.ouvrir((x + nx) / 2, (y + ny) / 2);
+                trame.ouvrir(nx, ny);
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package modele.generateurs;
+
+import modele.grille.Grille;
+
+import java.util.SplittableRandom;
+
+
+/**
+ * Générateur d'un labyrinthe parfait par l'algorithme de Wilson (marches aléatoires
+ * à boucles effacées).
+ *
+ * Une cellule tirée au hasard forme l'arbre de départ. Depuis chaque cellule qui n'y
+ * est pas encore, une marche aléatoire avance jusqu'à toucher l'arbre en notant, pour
+ * chaque cellule traversée, la direction de sa dernière sortie : repasser par une
+ * cellule écrase sa direction, ce qui efface la boucle. Le chemin ainsi retracé est
+ * greffé à l'arbre. Tous les arbres couvrants de la {@link Trame} sont équiprobables :
+ * le labyrinthe n'a pas le biais vers les longs couloirs du backtracking ni celui
+ * vers les impasses courtes de {@link GenerateurKruskal}.
+ *
+ * La mémoire de travail se limite à un octet de direction et un booléen par cellule.
+ * Les premières marches, tant que l'arbre est petit, sont longues : la génération est
+ * plus lente que celle des autres générateurs parfaits.
+ */
+public class GenerateurWilson extends GenerateurParfait {
+
+    /**
+     * Constructeur standard.
+     *
+     * @param largeur largeur maximale du labyrinthe
+     * @param hauteur hauteur maximale du labyrinthe
+     * @param distanceMin distance minimale souhaitée entre l'entrée et la sortie
+     */
+    public GenerateurWilson(int largeur, int hauteur, int distanceMin) {
+        super(largeur, hauteur, distanceMin);
+    }
+
+
+    /**
+     * Constructeur avec activation du mode "clé obligatoire".
+     *
+     * @param largeur largeur maximale du labyrinthe
+     * @param hauteur hauteur maximale du labyrinthe
+     * @param distanceMin distance minimale souhaitée entre l'entrée et la sortie
+     * @param cleEnPoche true pour placer une clé avant la sortie
+     */
+    public GenerateurWilson(int largeur, int hauteur, int distanceMin, boolean cleEnPoche) {
+        super(largeur, hauteur, distanceMin, cleEnPoche);
+    }
+
+
+    /**
+     * Greffe chaque cellule à l'arbre par une marche aléatoire à boucles effacées.
+     */
+    @Override
+    protected void creuser(Grille grille, int startX, int startY, SplittableRandom rand) {
+        Trame trame = new Trame(grille, startY);
+        if (trame.estVide()) {
+            return;
+        }
+        int colonnes = trame.colonnes;
+        int lignes = trame.lignes;
+        int cellules = colonnes * lignes;
+
+        // Cellule c = cx * lignes + cy ; directions : +Y, +X, -Y, -X
+        int[] decalages = {1, lignes, -1, -lignes};
+        byte[] direction = new byte[cellules];
+        boolean[] dansArbre = new boolean[cellules];
+
+        int racine = rand.nextInt(cellules);
+        dansArbre[racine] = true;
+        trame.ouvrir(trame.x(racine / lignes), trame.y(racine % lignes));
+
+        for (int depart = 0; depart < cellules; depart++) {
+            if (dansArbre[depart]) {
+                continue;
+            }
+
+            // Marche jusqu'à l'arbre ; seule la dernière sortie de chaque cellule compte
+            int c = depart;
+            int cx = c / lignes;
+            int cy = c - cx * lignes;
+            while (!dansArbre[c]) {
+                int d;
+                do {
+                    d = rand.nextInt(4);
+                } while ((d == 0 && cy + 1 >= lignes) || (d == 1 && cx + 1 >= colonnes)
+                        || (d == 2 && cy == 0) || (d == 3 && cx == 0));
+                direction[c] = (byte) d;
+                c += decalages[d];
+                if ((d & 1) == 0) {
+                    cy += 1 - d;
+                } else {
+                    cx += 2 - d;
+                }
+            }
+
+            // Greffe du chemin sans boucles
+            c = depart;
+            cx = c / lignes;
+            cy = c - cx * lignes;
+            while (!dansArbre[c]) {
+                dansArbre[c] = true;
+                int d = direction[c];
+                int x = trame.x(cx);
+                int y = trame.y(cy);
+                trame.ouvrir(x, y);
+                if ((d & 1) == 0) {
+                    trame.ouvrir(x, y + 1 - d);
+                    cy += 1 - d;
+                } else {
+                    trame.ouvrir(x + 2 - d, y);
+                    cx += 2 - d;
+                }
+                c += decalages[d];
+            }
+        }
+    }
+}
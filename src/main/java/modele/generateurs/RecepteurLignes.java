@@ -0,0 +1,67 @@
+package modele.generateurs;
+
+import modele.grille.Grille;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Destination des lignes produites par un générateur qui travaille ligne par ligne,
+ * comme {@link GenerateurEller}.
+ *
+ * Une ligne est l'ensemble des cases de même coordonnée X, rangées par Y croissant :
+ * c'est une tranche contiguë de la grille ({@code x * hauteurMax} à
+ * {@code x * hauteurMax + hauteurMax - 1}). Les lignes arrivent dans l'ordre, de
+ * {@code x = 0} à {@code x = largeurMax - 1}.
+ */
+@FunctionalInterface
+public interface RecepteurLignes {
+
+    /**
+     * Reçoit une ligne complète.
+     *
+     * Le tableau est réutilisé pour la ligne suivante : le récepteur doit le copier
+     * s'il veut le garder au-delà de l'appel.
+     *
+     * @param x     coordonnée X de la ligne
+     * @param codes codes des cases de la ligne, de longueur {@code hauteurMax}
+     */
+    void recevoir(int x, byte[] codes);
+
+
+    /**
+     * Crée un récepteur qui écrit les lignes dans une grille, en mémoire ou projetée
+     * sur un fichier par {@link modele.grille.GrilleHorsTas#creerFichier}.
+     *
+     * @param grille grille aux dimensions du générateur
+     * @return le récepteur
+     */
+    static RecepteurLignes vers(Grille grille) {
+        return (x, codes) -> {
+            int debut = x * grille.getHauteurMax();
+            for (int y = 0; y < codes.length; y++) {
+                grille.setCode(debut + y, codes[y]);
+            }
+        };
+    }
+
+
+    /**
+     * Crée un récepteur qui écrit les codes bruts des lignes dans un flux, un octet
+     * par case, sans jamais garder plus d'une ligne en mémoire.
+     *
+     * @param flux flux de sortie, que l'appelant ferme
+     * @return le récepteur
+     * @throws UncheckedIOException si une écriture échoue
+     */
+    static RecepteurLignes vers(OutputStream flux) {
+        return (x, codes) -> {
+            try {
+                flux.write(codes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+}
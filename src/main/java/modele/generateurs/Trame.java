@@ -0,0 +1,56 @@
+package modele.generateurs;
+
+import modele.grille.Grille;
+import modele.grille.TypeCellule;
+
+
+/**
+ * Position des cellules d'un labyrinthe parfait dans sa grille : la cellule
+ * (cx, cy) est en (2 cx + 1, decalageY + 2 cy), et les murs qui la séparent de ses
+ * voisines sont aux coordonnées intermédiaires.
+ *
+ * C'est la trame que parcourt le backtracking de {@link GenerateurParfait} depuis la
+ * première case, commune aux générateurs qui creusent autrement.
+ */
+final class Trame {
+    final Grille grille;
+    final int decalageY;
+    final int colonnes;
+    final int lignes;
+
+
+    /**
+     * Crée la trame dont la première case, en X = 1, a pour ordonnée startY.
+     *
+     * @param grille grille du labyrinthe
+     * @param startY ordonnée de la première case
+     */
+    Trame(Grille grille, int startY) {
+        this.grille = grille;
+        this.decalageY = 2 - (startY & 1);
+        this.colonnes = (grille.getLargeurMax() - 1) / 2;
+        this.lignes = (grille.getHauteurMax() - decalageY) / 2;
+    }
+
+
+    /**
+     * Indique si la trame ne compte aucune cellule.
+     *
+     * @return true si la grille est trop petite pour une cellule
+     */
+    boolean estVide() {
+        return colonnes <= 0 || lignes <= 0;
+    }
+
+    int x(int cx) {
+        return 2 * cx + 1;
+    }
+
+    int y(int cy) {
+        return decalageY + 2 * cy;
+    }
+
+    void ouvrir(int x, int y) {
+        grille.setCode(grille.indice(x, y), TypeCellule.CHEMIN.code());
+    }
+}
@@ -0,0 +1,83 @@
+package modele.generateurs;
+
+import java.util.Arrays;
+
+/**
+ * Partition d'éléments numérotés de 0 à n - 1 en ensembles disjoints, sur un seul
+ * tableau d'entiers : un élément y donne son parent, une racine l'opposé de la taille
+ * de son ensemble.
+ *
+ * La recherche raccourcit le chemin parcouru (division par deux) et l'union rattache
+ * le plus petit ensemble au plus grand : chaque opération coûte un temps quasi constant,
+ * sans aucune allocation.
+ */
+final class UnionFind {
+    private final int[] parent;
+    private int nombreEnsembles;
+
+
+    /**
+     * Crée une partition où chaque élément est seul dans son ensemble.
+     *
+     * @param taille nombre d'éléments
+     */
+    UnionFind(int taille) {
+        this.parent = new int[taille];
+        Arrays.fill(parent, -1);
+        this.nombreEnsembles = taille;
+    }
+
+
+    /**
+     * Retourne le représentant de l'ensemble d'un élément.
+     *
+     * @param e l'élément
+     * @return la racine de son ensemble
+     */
+    int trouver(int e) {
+        while (parent[e] >= 0) {
+            int p = parent[e];
+            if (parent[p] >= 0) {
+                parent[e] = parent[p];
+                p = parent[p];
+            }
+            e = p;
+        }
+        return e;
+    }
+
+
+    /**
+     * Réunit les ensembles de deux éléments.
+     *
+     * @param a premier élément
+     * @param b second élément
+     * @return true si les deux ensembles étaient distincts
+     */
+    boolean unir(int a, int b) {
+        int ra = trouver(a);
+        int rb = trouver(b);
+        if (ra == rb) {
+            return false;
+        }
+        if (parent[ra] > parent[rb]) {
+            int t = ra;
+            ra = rb;
+            rb = t;
+        }
+        parent[ra] += parent[rb];
+        parent[rb] = ra;
+        nombreEnsembles--;
+        return true;
+    }
+
+
+    /**
+     * Retourne le nombre d'ensembles distincts.
+     *
+     * @return le nombre d'ensembles
+     */
+    int getNombreEnsembles() {
+        return nombreEnsembles;
+    }
+}
@@ -0,0 +1,105 @@
+package modele.grille;
+
+/**
+ * Bitmap des cases traversables d'une grille, un bit par case dans des mots {@code long}.
+ *
+ * Valider un déplacement revient alors à tester un seul bit, sans relire le code
+ * de la case ni consulter l'état de la clé. Une sortie verrouillée n'est traversable
+ * que si la clé a été obtenue ; le propriétaire du bitmap doit le prévenir via
+ * {@link #definir(int, boolean)} quand une case ou l'état de la clé change.
+ */
+public final class BitmapPassage {
+    private static final byte MUR = TypeCellule.MUR.code();
+    private static final byte SORTIE_VERROUILLEE = TypeCellule.SORTIE_VERROUILLEE.code();
+
+    private final long[] mots;
+    private final int taille;
+
+
+    private BitmapPassage(int taille) {
+        this.taille = taille;
+        this.mots = new long[(taille + 63) >>> 6];
+    }
+
+
+    /**
+     * Construit le bitmap d'une grille en un seul parcours.
+     *
+     * @param grille     la grille
+     * @param cleObtenue true si les sorties verrouillées sont ouvertes
+     * @return le bitmap
+     */
+    public static BitmapPassage calculer(Grille grille, boolean cleObtenue) {
+        int taille = grille.getTaille();
+        BitmapPassage bitmap = new BitmapPassage(taille);
+        long[] mots = bitmap.mots;
+        for (int i = 0; i < taille; i++) {
+            if (estPassable(grille.getCode(i), cleObtenue)) {
+                mots[i >>> 6] |= 1L << i;
+            }
+        }
+        return bitmap;
+    }
+
+
+    /**
+     * Indique si un code de case est traversable.
+     *
+     * @param code       code de la case
+     * @param cleObtenue true si la clé a été obtenue
+     * @return true si la case est traversable
+     */
+    public static boolean estPassable(byte code, boolean cleObtenue) {
+        return code != MUR && (code != SORTIE_VERROUILLEE || cleObtenue);
+    }
+
+
+    /**
+     * Indique si la case à un indice donné est traversable.
+     *
+     * @param indice indice de la case, dans la grille
+     * @return true si la case est traversable
+     */
+    public boolean estPassable(int indice) {
+        return (mots[indice >>> 6] & (1L << indice)) != 0;
+    }
+
+
+    /**
+     * Met à jour le bit d'une case.
+     *
+     * @param indice   indice de la case
+     * @param passable true si la case devient traversable
+     */
+    public void definir(int indice, boolean passable) {
+        if (passable) {
+            mots[indice >>> 6] |= 1L << indice;
+        } else {
+            mots[indice >>> 6] &= ~(1L << indice);
+        }
+    }
+
+
+    /**
+     * Retourne le nombre de cases traversables.
+     *
+     * @return le nombre de bits à 1
+     */
+    public int compter() {
+        int total = 0;
+        for (long mot : mots) {
+            total += Long.bitCount(mot);
+        }
+        return total;
+    }
+
+
+    /**
+     * Retourne le nombre de cases couvertes par le bitmap.
+     *
+     * @return la taille de la grille
+     */
+    public int getTaille() {
+        return taille;
+    }
+}
@@ -0,0 +1,19 @@
+package modele.grille;
+
+/**
+ * Fabrique de grilles utilisée par les générateurs.
+ * Permet de choisir le stockage (tableau en mémoire, hors tas, fichier projeté)
+ * sans modifier les algorithmes de génération.
+ */
+@FunctionalInterface
+public interface FabriqueGrille {
+
+    /**
+     * Crée une grille remplie de murs.
+     *
+     * @param largeurMax nombre de lignes
+     * @param hauteurMax nombre de colonnes
+     * @return la nouvelle grille
+     */
+    Grille creer(int largeurMax, int hauteurMax);
+}
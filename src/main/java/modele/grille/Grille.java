@@ -0,0 +1,134 @@
+package modele.grille;
+
+/**
+ * Stockage compact des cellules d'un labyrinthe.
+ *
+ * Une grille contient {@code largeurMax × hauteurMax} cases, chacune représentée
+ * par le code d'un {@link TypeCellule}. Les cases sont rangées ligne par ligne :
+ * la case (x, y) se trouve à l'indice {@code x * hauteurMax + y}.
+ *
+ * Les parcours (BFS, rendu, génération) travaillent directement sur ces indices
+ * pour éviter tout objet intermédiaire.
+ */
+public interface Grille {
+
+    /**
+     * Retourne le nombre de lignes de la grille (murs périphériques compris).
+     *
+     * @return la largeur réelle
+     */
+    int getLargeurMax();
+
+
+    /**
+     * Retourne le nombre de colonnes de la grille (murs périphériques compris).
+     *
+     * @return la hauteur réelle
+     */
+    int getHauteurMax();
+
+
+    /**
+     * Retourne le code de la case à un indice donné.
+     *
+     * @param indice indice de la case
+     * @return le code du type de la case
+     */
+    byte getCode(int indice);
+
+
+    /**
+     * Modifie le code de la case à un indice donné.
+     *
+     * @param indice indice de la case
+     * @param code   nouveau code
+     */
+    void setCode(int indice, byte code);
+
+
+    /**
+     * Retourne le nombre total de cases.
+     *
+     * @return largeurMax × hauteurMax
+     */
+    default int getTaille() {
+        return getLargeurMax() * getHauteurMax();
+    }
+
+
+    /**
+     * Convertit des coordonnées en indice.
+     *
+     * @param x coordonnée X (ligne)
+     * @param y coordonnée Y (colonne)
+     * @return l'indice de la case
+     */
+    default int indice(int x, int y) {
+        return x * getHauteurMax() + y;
+    }
+
+
+    /**
+     * Indique si des coordonnées sont dans la grille.
+     *
+     * @param x coordonnée X
+     * @param y coordonnée Y
+     * @return true si la case existe
+     */
+    default boolean contient(int x, int y) {
+        return x >= 0 && x < getLargeurMax() && y >= 0 && y < getHauteurMax();
+    }
+
+
+    /**
+     * Retourne le type de la case (x, y).
+     *
+     * @param x coordonnée X
+     * @param y coordonnée Y
+     * @return le type de la case
+     */
+    default TypeCellule getType(int x, int y) {
+        return TypeCellule.depuisCode(getCode(indice(x, y)));
+    }
+
+
+    /**
+     * Modifie le type de la case (x, y).
+     *
+     * @param x    coordonnée X
+     * @param y    coordonnée Y
+     * @param type nouveau type
+     */
+    default void setType(int x, int y, TypeCellule type) {
+        setCode(indice(x, y), type.code());
+    }
+
+
+    /**
+     * Indique si la case à un indice donné est un mur.
+     *
+     * @param indice indice de la case
+     * @return true si la case est un mur
+     */
+    default boolean estMur(int indice) {
+        return getCode(indice) == TypeCellule.MUR.code();
+    }
+
+
+    /**
+     * Retourne un instantané immuable de l'état courant de la grille.
+     *
+     * L'instantané peut être lu depuis n'importe quel thread sans verrou ;
+     * les modifications ultérieures de cette grille ne s'y voient pas.
+     * Par défaut, les cases sont copiées dans un tableau.
+     *
+     * @return une grille immuable
+     */
+    default Grille figer() {
+        byte[] codes = new byte[getTaille()];
+        for (int i = 0; i < codes.length; i++) {
+            codes[i] = getCode(i);
+        }
+        return GrilleTableau.immuable(getLargeurMax(), getHauteurMax(), codes);
+    }
+}
@@ -0,0 +1,219 @@
+package modele.grille;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Grille stockée hors du tas Java, dans un {@link MemorySegment}.
+ *
+ * Destinée aux très grands labyrinthes (10^8 cases et plus) : les cases ne sont
+ * pas vues par le ramasse-miettes et peuvent être projetées depuis un fichier.
+ * Un labyrinthe enregistré ainsi se rouvre sans être regénéré, et plusieurs
+ * processus peuvent le projeter en lecture seule en même temps.
+ *
+ * Format du fichier : un en-tête de {@value #TAILLE_ENTETE} octets (nombre magique,
+ * largeurMax, hauteurMax) suivi d'un octet par case, dans l'ordre des indices.
+ *
+ * La mémoire est libérée par {@link #close()} ; la grille n'est plus utilisable ensuite.
+ * Confiée à un {@link modele.Labyrinthe}, elle lui appartient : il la ferme quand il la
+ * remplace, par exemple quand un générateur le remplit de nouveau.
+ */
+public class GrilleHorsTas implements Grille, AutoCloseable {
+    private static final int MAGIQUE = 0x4C414231;
+    static final long TAILLE_ENTETE = 16;
+
+    private final Arena arena;
+    private final MemorySegment cases;
+    private final int largeurMax;
+    private final int hauteurMax;
+    private final boolean lectureSeule;
+    private Grille derniereFigee;
+
+
+    private GrilleHorsTas(Arena arena, MemorySegment cases, int largeurMax, int hauteurMax, boolean lectureSeule) {
+        this.arena = arena;
+        this.cases = cases;
+        this.largeurMax = largeurMax;
+        this.hauteurMax = hauteurMax;
+        this.lectureSeule = lectureSeule;
+    }
+
+
+    /**
+     * Alloue une grille hors tas remplie de murs.
+     *
+     * @param largeurMax nombre de lignes
+     * @param hauteurMax nombre de colonnes
+     * @return la grille allouée
+     */
+    public static GrilleHorsTas allouer(int largeurMax, int hauteurMax) {
+        Arena arena = Arena.ofShared();
+        MemorySegment cases = arena.allocate(taille(largeurMax, hauteurMax));
+        return new GrilleHorsTas(arena, cases, largeurMax, hauteurMax, false);
+    }
+
+
+    /**
+     * Crée (ou écrase) un fichier de grille et le projette en mémoire en lecture/écriture.
+     * Toutes les cases sont des murs.
+     *
+     * @param fichier    chemin du fichier
+     * @param largeurMax nombre de lignes
+     * @param hauteurMax nombre de colonnes
+     * @return la grille projetée
+     * @throws IOException si le fichier ne peut pas être créé
+     */
+    public static GrilleHorsTas creerFichier(Path fichier, int largeurMax, int hauteurMax) throws IOException {
+        long taille = taille(largeurMax, hauteurMax);
+        Arena arena = Arena.ofShared();
+        try (FileChannel canal = FileChannel.open(fichier, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MemorySegment segment = canal.map(FileChannel.MapMode.READ_WRITE, 0, TAILLE_ENTETE + taille, arena);
+            segment.set(ValueLayout.JAVA_INT_UNALIGNED, 0, MAGIQUE);
+            segment.set(ValueLayout.JAVA_INT_UNALIGNED, 4, largeurMax);
+            segment.set(ValueLayout.JAVA_INT_UNALIGNED, 8, hauteurMax);
+            return new GrilleHorsTas(arena, segment.asSlice(TAILLE_ENTETE, taille), largeurMax, hauteurMax, false);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+
+    /**
+     * Projette en mémoire un fichier de grille existant.
+     *
+     * @param fichier      chemin du fichier
+     * @param lectureSeule true pour une projection en lecture seule (partageable entre processus)
+     * @return la grille projetée
+     * @throws IOException si le fichier est illisible ou n'est pas un fichier de grille
+     */
+    public static GrilleHorsTas ouvrirFichier(Path fichier, boolean lectureSeule) throws IOException {
+        FileChannel.MapMode mode = lectureSeule ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE;
+        Arena arena = Arena.ofShared();
+        try (FileChannel canal = lectureSeule
+                ? FileChannel.open(fichier, StandardOpenOption.READ)
+                : FileChannel.open(fichier, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (canal.size() < TAILLE_ENTETE) {
+                throw new IOException("Fichier de grille trop court : " + fichier);
+            }
+            MemorySegment segment = canal.map(mode, 0, canal.size(), arena);
+            if (segment.get(ValueLayout.JAVA_INT_UNALIGNED, 0) != MAGIQUE) {
+                throw new IOException("Fichier de grille invalide : " + fichier);
+            }
+            int largeurMax = segment.get(ValueLayout.JAVA_INT_UNALIGNED, 4);
+            int hauteurMax = segment.get(ValueLayout.JAVA_INT_UNALIGNED, 8);
+            long taille = taille(largeurMax, hauteurMax);
+            if (canal.size() < TAILLE_ENTETE + taille) {
+                throw new IOException("Fichier de grille tronqué : " + fichier);
+            }
+            return new GrilleHorsTas(arena, segment.asSlice(TAILLE_ENTETE, taille), largeurMax, hauteurMax, lectureSeule);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+
+    private static long taille(int largeurMax, int hauteurMax) {
+        long taille = (long) largeurMax * hauteurMax;
+        if (largeurMax <= 0 || hauteurMax <= 0 || taille > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Dimensions de grille invalides : " + largeurMax + "×" + hauteurMax);
+        }
+        return taille;
+    }
+
+    @Override
+    public int getLargeurMax() {
+        return largeurMax;
+    }
+
+    @Override
+    public int getHauteurMax() {
+        return hauteurMax;
+    }
+
+    @Override
+    public int getTaille() {
+        return (int) cases.byteSize();
+    }
+
+    @Override
+    public int indice(int x, int y) {
+        return x * hauteurMax + y;
+    }
+
+    @Override
+    public byte getCode(int indice) {
+        return cases.get(ValueLayout.JAVA_BYTE, indice);
+    }
+
+    @Override
+    public void setCode(int indice, byte code) {
+        if (lectureSeule) {
+            throw new UnsupportedOperationException("Grille projetée en lecture seule");
+        }
+        if (derniereFigee != null) {
+            if (getCode(indice) == code) {
+                return;
+            }
+            derniereFigee = null;
+        }
+        cases.set(ValueLayout.JAVA_BYTE, indice, code);
+    }
+
+    /**
+     * Copie les cases dans un instantané immuable sur le tas.
+     * Même une projection en lecture seule est copiée : la projection disparaît avec
+     * {@link #close()}, alors que l'instantané peut survivre à la grille.
+     *
+     * Comme pour {@link GrilleTableau#figer()}, le dernier instantané est gardé et
+     * resservi tant qu'aucune écriture par {@link #setCode(int, byte)} ne change une
+     * case : un labyrinthe dont seul le joueur bouge ne recopie pas sa grille à chaque
+     * transaction. Les écritures d'un autre processus dans le fichier projeté ne sont
+     * pas vues par les instantanés déjà pris.
+     *
+     * @return une grille immuable
+     */
+    @Override
+    public Grille figer() {
+        if (derniereFigee == null) {
+            derniereFigee = GrilleTableau.immuable(largeurMax, hauteurMax, cases.toArray(ValueLayout.JAVA_BYTE));
+        }
+        return derniereFigee;
+    }
+
+    /**
+     * Indique si la grille est en lecture seule.
+     *
+     * @return true si les modifications sont interdites
+     */
+    public boolean estLectureSeule() {
+        return lectureSeule;
+    }
+
+    /**
+     * Écrit sur le disque les modifications d'une grille projetée depuis un fichier.
+     * Sans effet pour une grille allouée en mémoire.
+     */
+    public void forcer() {
+        if (cases.isMapped() && !lectureSeule) {
+            cases.force();
+        }
+    }
+
+    /**
+     * Libère la mémoire (ou la projection) de la grille. Sans effet si elle est déjà libérée.
+     */
+    @Override
+    public void close() {
+        if (arena.scope().isAlive()) {
+            arena.close();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package modele.grille;
+
+/**
+ * Grille stockée dans un tableau d'octets plat.
+ *
+ * Chaque case occupe un seul octet, contre plusieurs dizaines pour un objet
+ * {@link modele.Cellules.Cellule} et sa référence dans un tableau à deux dimensions.
+ * À la création, toutes les cases sont des murs.
+ *
+ * {@link #figer()} applique la copie sur écriture : l'instantané partage le tableau
+ * de la grille, et c'est la première écriture suivante qui le duplique. Un instantané
+ * ne coûte donc rien tant que le labyrinthe ne change pas, et au plus une copie par
+ * modification.
+ */
+public class GrilleTableau implements Grille {
+    private static final byte MUR = TypeCellule.MUR.code();
+
+    private final int largeurMax;
+    private final int hauteurMax;
+    private byte[] cases;
+    private final boolean immuable;
+    private GrilleTableau derniereFigee;
+
+
+    /**
+     * Crée une grille remplie de murs.
+     *
+     * @param largeurMax nombre de lignes
+     * @param hauteurMax nombre de colonnes
+     */
+    public GrilleTableau(int largeurMax, int hauteurMax) {
+        this(largeurMax, hauteurMax, new byte[largeurMax * hauteurMax], false);
+    }
+
+    private GrilleTableau(int largeurMax, int hauteurMax, byte[] cases, boolean immuable) {
+        this.largeurMax = largeurMax;
+        this.hauteurMax = hauteurMax;
+        this.cases = cases;
+        this.immuable = immuable;
+    }
+
+    /**
+     * Crée une grille immuable à partir de codes déjà copiés.
+     * Le tableau ne doit plus être modifié par l'appelant.
+     *
+     * @param largeurMax nombre de lignes
+     * @param hauteurMax nombre de colonnes
+     * @param cases      codes des cases
+     * @return la grille immuable
+     */
+    static GrilleTableau immuable(int largeurMax, int hauteurMax, byte[] cases) {
+        return new GrilleTableau(largeurMax, hauteurMax, cases, true);
+    }
+
+    @Override
+    public int getLargeurMax() {
+        return largeurMax;
+    }
+
+    @Override
+    public int getHauteurMax() {
+        return hauteurMax;
+    }
+
+    @Override
+    public int getTaille() {
+        return cases.length;
+    }
+
+    @Override
+    public int indice(int x, int y) {
+        return x * hauteurMax + y;
+    }
+
+    @Override
+    public byte getCode(int indice) {
+        return cases[indice];
+    }
+
+    @Override
+    public void setCode(int indice, byte code) {
+        if (immuable) {
+            throw new UnsupportedOperationException("Instantané de grille immuable");
+        }
+        if (derniereFigee != null) {
+            if (cases[indice] == code) {
+                return;
+            }
+            // Le tableau est partagé avec un instantané : on le duplique avant d'écrire
+            cases = cases.clone();
+            derniereFigee = null;
+        }
+        cases[indice] = code;
+    }
+
+    @Override
+    public boolean estMur(int indice) {
+        return cases[indice] == MUR;
+    }
+
+    @Override
+    public GrilleTableau figer() {
+        if (immuable) {
+            return this;
+        }
+        if (derniereFigee == null) {
+            derniereFigee = new GrilleTableau(largeurMax, hauteurMax, cases, true);
+        }
+        return derniereFigee;
+    }
+
+    /**
+     * Indique si la grille est un instantané immuable.
+     *
+     * @return true si les modifications sont interdites
+     */
+    public boolean estImmuable() {
+        return immuable;
+    }
+}
@@ -0,0 +1,114 @@
+package modele.grille;
+
+/**
+ * Index des cases particulières d'une grille : entrée, sorties, clés et pièges.
+ *
+ * L'index est construit en un seul parcours de la grille, puis tenu à jour à
+ * chaque modification de case, ce qui permet de retrouver l'entrée ou la sortie
+ * en O(1) au lieu de parcourir toute la grille.
+ */
+public class IndexCellules {
+    private int entree = -1;
+    private final ListeIndices sorties = new ListeIndices();
+    private final ListeIndices cles = new ListeIndices();
+    private final ListeIndices pieges = new ListeIndices();
+
+
+    /**
+     * Construit l'index d'une grille en la parcourant une fois.
+     *
+     * @param grille grille à indexer
+     * @return l'index des cases particulières
+     */
+    public static IndexCellules indexer(Grille grille) {
+        IndexCellules index = new IndexCellules();
+        int taille = grille.getTaille();
+        for (int i = 0; i < taille; i++) {
+            byte code = grille.getCode(i);
+            if (code != TypeCellule.MUR.code() && code != TypeCellule.CHEMIN.code()) {
+                index.ajouter(i, TypeCellule.depuisCode(code));
+            }
+        }
+        return index;
+    }
+
+
+    /**
+     * Met à jour l'index après le changement de type d'une case.
+     *
+     * @param indice indice de la case
+     * @param ancien ancien type
+     * @param nouveau nouveau type
+     */
+    public void remplacer(int indice, TypeCellule ancien, TypeCellule nouveau) {
+        if (ancien == nouveau) {
+            return;
+        }
+        retirer(indice, ancien);
+        ajouter(indice, nouveau);
+    }
+
+    private void ajouter(int indice, TypeCellule type) {
+        switch (type) {
+            case ENTREE -> entree = indice;
+            case SORTIE, SORTIE_VERROUILLEE -> sorties.ajouter(indice);
+            case CLE -> cles.ajouter(indice);
+            case PIEGE -> pieges.ajouter(indice);
+            default -> { }
+        }
+    }
+
+    private void retirer(int indice, TypeCellule type) {
+        switch (type) {
+            case ENTREE -> {
+                if (entree == indice) {
+                    entree = -1;
+                }
+            }
+            case SORTIE, SORTIE_VERROUILLEE -> sorties.retirer(indice);
+            case CLE -> cles.retirer(indice);
+            case PIEGE -> pieges.retirer(indice);
+            default -> { }
+        }
+    }
+
+
+    /**
+     * Retourne l'indice de l'entrée.
+     *
+     * @return l'indice de l'entrée, ou -1 s'il n'y en a pas
+     */
+    public int getEntree() {
+        return entree;
+    }
+
+
+    /**
+     * Retourne les indices des sorties, verrouillées ou non.
+     *
+     * @return la liste des sorties
+     */
+    public ListeIndices getSorties() {
+        return sorties;
+    }
+
+
+    /**
+     * Retourne les indices des clés encore présentes.
+     *
+     * @return la liste des clés
+     */
+    public ListeIndices getCles() {
+        return cles;
+    }
+
+
+    /**
+     * Retourne les indices des pièges.
+     *
+     * @return la liste des pièges
+     */
+    public ListeIndices getPieges() {
+        return pieges;
+    }
+}
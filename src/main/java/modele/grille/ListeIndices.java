@@ -0,0 +1,87 @@
+package modele.grille;
+
+import java.util.Arrays;
+
+/**
+ * Liste d'indices de cases stockée dans un tableau d'entiers.
+ * Prévue pour de petits ensembles (sorties, clés, pièges) : l'ajout et la
+ * lecture sont en O(1), la suppression en O(taille).
+ */
+public class ListeIndices {
+    private int[] indices = new int[2];
+    private int taille;
+
+
+    /**
+     * Ajoute un indice à la fin de la liste.
+     *
+     * @param indice indice de case
+     */
+    public void ajouter(int indice) {
+        if (taille == indices.length) {
+            indices = Arrays.copyOf(indices, taille * 2);
+        }
+        indices[taille++] = indice;
+    }
+
+
+    /**
+     * Retire une occurrence d'un indice, si elle existe.
+     *
+     * @param indice indice de case
+     * @return true si l'indice était présent
+     */
+    public boolean retirer(int indice) {
+        for (int i = 0; i < taille; i++) {
+            if (indices[i] == indice) {
+                indices[i] = indices[--taille];
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * Retourne l'indice à une position de la liste.
+     *
+     * @param position position dans la liste
+     * @return l'indice de case
+     */
+    public int get(int position) {
+        if (position >= taille) {
+            throw new IndexOutOfBoundsException(position);
+        }
+        return indices[position];
+    }
+
+
+    /**
+     * Retourne le nombre d'indices.
+     *
+     * @return la taille de la liste
+     */
+    public int taille() {
+        return taille;
+    }
+
+
+    /**
+     * Indique si la liste est vide.
+     *
+     * @return true si aucun indice n'est présent
+     */
+    public boolean estVide() {
+        return taille == 0;
+    }
+
+
+    /**
+     * Retourne une copie des indices.
+     *
+     * @return tableau des indices
+     */
+    public int[] versTableau() {
+        return Arrays.copyOf(indices, taille);
+    }
+}
@@ -0,0 +1,135 @@
+package modele.grille;
+
+/**
+ * Enumération des types de cellules d'un labyrinthe.
+ *
+ * Chaque type est stocké dans une {@link Grille} sous la forme d'un simple octet
+ * (son code), ce qui évite d'allouer un objet par case. Le code de {@link #MUR}
+ * vaut 0 : une grille fraîchement allouée ne contient donc que des murs.
+ */
+public enum TypeCellule {
+
+    /**
+     * Mur, non traversable.
+     */
+    MUR,
+
+    /**
+     * Chemin traversable.
+     */
+    CHEMIN,
+
+    /**
+     * Entrée du labyrinthe, position de départ du joueur.
+     */
+    ENTREE,
+
+    /**
+     * Sortie déverrouillée.
+     */
+    SORTIE,
+
+    /**
+     * Sortie verrouillée, accessible seulement une fois la clé obtenue.
+     */
+    SORTIE_VERROUILLEE,
+
+    /**
+     * Case contenant une clé.
+     */
+    CLE,
+
+    /**
+     * Case piégée.
+     */
+    PIEGE;
+
+    private static final TypeCellule[] VALEURS = values();
+
+    private final byte code;
+
+    TypeCellule() {
+        this.code = (byte) ordinal();
+    }
+
+
+    /**
+     * Retourne le code (octet) utilisé pour stocker ce type dans une grille.
+     *
+     * @return le code du type
+     */
+    public byte code() {
+        return code;
+    }
+
+
+    /**
+     * Retourne le type correspondant à un code de grille.
+     *
+     * @param code code stocké dans la grille
+     * @return le type associé
+     */
+    public static TypeCellule depuisCode(byte code) {
+        return VALEURS[code];
+    }
+
+
+    /**
+     * Indique si ce type est un mur.
+     *
+     * @return true pour {@link #MUR}
+     */
+    public boolean estMur() {
+        return this == MUR;
+    }
+
+
+    /**
+     * Indique si ce type est un chemin.
+     *
+     * @return true pour {@link #CHEMIN}
+     */
+    public boolean estChemin() {
+        return this == CHEMIN;
+    }
+
+
+    /**
+     * Indique si ce type est l'entrée.
+     *
+     * @return true pour {@link #ENTREE}
+     */
+    public boolean estEntree() {
+        return this == ENTREE;
+    }
+
+
+    /**
+     * Indique si ce type est une sortie, verrouillée ou non.
+     *
+     * @return true pour {@link #SORTIE} et {@link #SORTIE_VERROUILLEE}
+     */
+    public boolean estSortie() {
+        return this == SORTIE || this == SORTIE_VERROUILLEE;
+    }
+
+
+    /**
+     * Indique si ce type est une clé.
+     *
+     * @return true pour {@link #CLE}
+     */
+    public boolean estCle() {
+        return this == CLE;
+    }
+
+
+    /**
+     * Indique si ce type est un piège.
+     *
+     * @return true pour {@link #PIEGE}
+     */
+    public boolean estPiege() {
+        return this == PIEGE;
+    }
+}
@@ -6,9 +6,9 @@ import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Paint;
-import modele.Cellules.Cellule;
 import modele.Jeu;
 import modele.Labyrinthe;
+import modele.grille.Grille;
 
 /**
  * Classe responsable du rendu graphique du labyrinthe.
@@ -41,7 +41,7 @@ public class AveugleRendu implements Rendu {
      */
     public Canvas rendu(Labyrinthe labyrinthe) {
         this.labyrinthe = labyrinthe;
-        return creerCanvasLabyrinthe(labyrinthe.getCellules());
+        return creerCanvasLabyrinthe(labyrinthe.getGrille());
     }
 
     /**
@@ -61,16 +61,16 @@ public class AveugleRendu implements Rendu {
      */
     public void afficherLabyrinthe() {
         conteneurLabyrinthe.getChildren().clear();
-        conteneurLabyrinthe.getChildren().add(creerCanvasLabyrinthe(this.labyrinthe.getCellules()));
+        conteneurLabyrinthe.getChildren().add(creerCanvasLabyrinthe(this.labyrinthe.getGrille()));
     }
 
     /**
      * Crée un Canvas représentant le labyrinthe.
      *
-     * @param labyrinthe Le labyrinthe sous forme de matrice de cellules.
+     * @param grille La grille du labyrinthe.
      * @return Le Canvas représentant le labyrinthe.
      */
-    private Canvas creerCanvasLabyrinthe(Cellule[][] labyrinthe) {
+    private Canvas creerCanvasLabyrinthe(Grille grille) {
         double heightVBox = conteneurLabyrinthe.getHeight();
         double widthVBox = conteneurLabyrinthe.getWidth();
 
@@ -4,8 +4,8 @@ import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
-import modele.Cellules.Cellule;
 import modele.Labyrinthe;
+import modele.grille.Grille;
 
 /**
  * Classe responsable du rendu graphique de la minimap pour la VUE_CARTE.
@@ -33,7 +33,7 @@ public class CarteMinimapRendu implements Rendu {
      */
     public Canvas rendu(Labyrinthe labyrinthe) {
         this.labyrinthe = labyrinthe;
-        return creerCanvasCarteLabyrinthe(labyrinthe.getCellules());
+        return creerCanvasCarteLabyrinthe(labyrinthe.getGrille());
     }
 
     @Override
@@ -46,17 +46,17 @@ public class CarteMinimapRendu implements Rendu {
      */
     public void afficherLabyrinthe() {
         contienLabyrinthe.getChildren().clear();
-        contienLabyrinthe.getChildren().add(creerCanvasCarteLabyrinthe(this.labyrinthe.getCellules()));
+        contienLabyrinthe.getChildren().add(creerCanvasCarteLabyrinthe(this.labyrinthe.getGrille()));
     }
 
     /**
      * Crée un Canvas représentant la minimap pour la VUE_CARTE.
      * Cette version affiche une minimap légèrement différente avec un cadre doré.
      *
-     * @param cellules La matrice de cellules du labyrinthe.
+     * @param grille La grille du labyrinthe.
      * @return Le Canvas représentant la minimap.
      */
-    private Canvas creerCanvasCarteLabyrinthe(Cellule[][] cellules) {
+    private Canvas creerCanvasCarteLabyrinthe(Grille grille) {
         int tailleCellule = 20;
         int largeurMax = this.labyrinthe.getLargeurMax();
         int hauteurMax = this.labyrinthe.getHauteurMax();
@@ -70,7 +70,7 @@ public class CarteMinimapRendu implements Rendu {
                 double x = j * tailleCellule;
                 double y = i * tailleCellule;
 
-                gc.drawImage(cellules[i][j].getTexture(), x, y, tailleCellule, tailleCellule);
+                gc.drawImage(TexturesCellules.getTexture(grille.getType(i, j)), x, y, tailleCellule, tailleCellule);
             }
         }
 
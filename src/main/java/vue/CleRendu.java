@@ -4,12 +4,10 @@ import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.layout.VBox;
-import modele.Cellules.Cellule;
-import modele.Cellules.Chemin;
-import modele.Cellules.Mur;
-import modele.Cellules.Sortie;
 import modele.Jeu;
 import modele.Labyrinthe;
+import modele.grille.Grille;
+import modele.grille.TypeCellule;
 import modele.boutique.TypeCosmetique;
 
 /**
@@ -25,10 +23,6 @@ public class CleRendu implements Rendu {
     private int lastBlockedX = -1;
     private int lastBlockedY = -1;
     private final Jeu jeu;
-
-    private final Mur mur = new Mur();
-    private final Chemin chemin = new Chemin();
-    private final Sortie sortie = new Sortie();
     private Image imageJoueur;
 
     /**
@@ -50,9 +44,9 @@ public class CleRendu implements Rendu {
      * Initialise les textures équipées par le joueur.
      */
     private void initTextureEquipe() {
-        mur.setImagePath(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_MUR));
-        chemin.setImagePath(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_CHEMIN));
-        sortie.setImagePath(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_SORTIE));
+        TexturesCellules.setTextureMur(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_MUR));
+        TexturesCellules.setTextureChemin(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_CHEMIN));
+        TexturesCellules.setTextureSortie(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_SORTIE));
         imageJoueur = new Image(getClass().getResourceAsStream(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_JOUEUR)));
     }
 
@@ -66,7 +60,7 @@ public class CleRendu implements Rendu {
     @Override
     public Canvas rendu(Labyrinthe labyrinthe) {
         this.labyrinthe = labyrinthe;
-        return creerCanvasModeCle(labyrinthe.getCellules());
+        return creerCanvasModeCle(labyrinthe.getGrille());
     }
 
     /**
@@ -87,16 +81,16 @@ public class CleRendu implements Rendu {
      */
     public void afficherLabyrinthe() {
         conteneurLabyrinthe.getChildren().clear();
-        conteneurLabyrinthe.getChildren().add(creerCanvasModeCle(this.labyrinthe.getCellules()));
+        conteneurLabyrinthe.getChildren().add(creerCanvasModeCle(this.labyrinthe.getGrille()));
     }
 
     /**
      * Crée un Canvas représentant le labyrinthe pour le mode Clé.
      *
-     * @param cellules Le labyrinthe sous forme de matrice de cellules.
+     * @param grille La grille du labyrinthe.
      * @return Le Canvas représentant le labyrinthe.
      */
-    private Canvas creerCanvasModeCle(Cellule[][] cellules) {
+    private Canvas creerCanvasModeCle(Grille grille) {
         int joueurX = this.labyrinthe.getJoueurX();
         int joueurY = this.labyrinthe.getJoueurY();
 
@@ -144,17 +138,17 @@ public class CleRendu implements Rendu {
                 boolean dansPorteeVision = (distanceX <= porteeVision && distanceY <= porteeVision);
 
                 if (dansPorteeVision) {
-                    if (cellules[i][j].estChemin() || cellules[i][j].estEntree()) {
-                        gc.drawImage(chemin.getTexture(), x, y, tailleCellule, tailleCellule);
-                    } else if (cellules[i][j].estSortie()) {
-                        gc.drawImage(sortie.getTexture(), x, y, tailleCellule, tailleCellule);
-                    } else if (cellules[i][j].estMur()) {
-                        gc.drawImage(mur.getTexture(), x, y, tailleCellule, tailleCellule);
-                    } else if (cellules[i][j].estCle()) {
+                    if (grille.getType(i, j).estChemin() || grille.getType(i, j).estEntree()) {
+                        gc.drawImage(TexturesCellules.getTexture(TypeCellule.CHEMIN), x, y, tailleCellule, tailleCellule);
+                    } else if (grille.getType(i, j).estSortie()) {
+                        gc.drawImage(TexturesCellules.getTexture(TypeCellule.SORTIE), x, y, tailleCellule, tailleCellule);
+                    } else if (grille.getType(i, j).estMur()) {
+                        gc.drawImage(TexturesCellules.getTexture(TypeCellule.MUR), x, y, tailleCellule, tailleCellule);
+                    } else if (grille.getType(i, j).estCle()) {
                         if (cleObtenue) {
-                            gc.drawImage(chemin.getTexture(), x, y, tailleCellule, tailleCellule);
+                            gc.drawImage(TexturesCellules.getTexture(TypeCellule.CHEMIN), x, y, tailleCellule, tailleCellule);
                         } else {
-                            gc.drawImage(chemin.getTexture(), x, y, tailleCellule, tailleCellule);
+                            gc.drawImage(TexturesCellules.getTexture(TypeCellule.CHEMIN), x, y, tailleCellule, tailleCellule);
                         }
                     } else {
                         gc.clearRect(x, y, tailleCellule, tailleCellule);
@@ -176,7 +170,7 @@ public class CleRendu implements Rendu {
 
                 if (i == joueurX && j == joueurY) {
                     gc.drawImage(imageJoueur, x, y, tailleCellule, tailleCellule);
-                } else if (dansPorteeVision && cellules[i][j].estCle() && !cleObtenue) {
+                } else if (dansPorteeVision && grille.getType(i, j).estCle() && !cleObtenue) {
                     gc.drawImage(imgCle, x, y, tailleCellule, tailleCellule);
                 }
             }
@@ -188,16 +182,16 @@ public class CleRendu implements Rendu {
                 int distanceY = Math.abs(j - joueurY);
                 boolean dansPorteeVision = (distanceX <= porteeVision && distanceY <= porteeVision);
 
-                if (dansPorteeVision && cellules[i][j].estMur()) {
+                if (dansPorteeVision && grille.getType(i, j).estMur()) {
                     double x = j * tailleCellule - halfOverlap;
                     double y = i * tailleCellule - halfOverlap;
                     double w = tailleCellule + overlap;
                     double h = tailleCellule + overlap;
 
                     if (i == lastBlockedX && j == lastBlockedY) {
-                        gc.drawImage(mur.getTextureBlocked(), x, y, w, h);
+                        gc.drawImage(TexturesCellules.getTextureMurBloque(), x, y, w, h);
                     } else {
-                        gc.drawImage(mur.getTexture(), x, y, w, h);
+                        gc.drawImage(TexturesCellules.getTexture(TypeCellule.MUR), x, y, w, h);
                     }
                 }
             }
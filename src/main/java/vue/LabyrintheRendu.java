@@ -5,12 +5,10 @@ import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.layout.VBox;
-import modele.Cellules.Cellule;
-import modele.Cellules.Chemin;
-import modele.Cellules.Mur;
-import modele.Cellules.Sortie;
 import modele.Jeu;
 import modele.Labyrinthe;
+import modele.grille.Grille;
+import modele.grille.TypeCellule;
 
 /**
  * Classe responsable du rendu graphique du labyrinthe.
@@ -21,10 +19,6 @@ public class LabyrintheRendu implements Rendu {
     private VBox contienLabyrinthe;
     private int lastBlockedX = -1;
     private int lastBlockedY = -1;
-
-    private Mur mur = new Mur();
-    private Chemin chemin = new Chemin();
-    private Sortie sortie = new Sortie();
     private Image imageJoueur;
 
     /**
@@ -42,9 +36,9 @@ public class LabyrintheRendu implements Rendu {
     }
 
     private void initTextureEquipe() {
-        mur.setImagePath(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_MUR));
-        chemin.setImagePath(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_CHEMIN));
-        sortie.setImagePath(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_SORTIE));
+        TexturesCellules.setTextureMur(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_MUR));
+        TexturesCellules.setTextureChemin(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_CHEMIN));
+        TexturesCellules.setTextureSortie(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_SORTIE));
         imageJoueur = new Image(getClass().getResourceAsStream(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_JOUEUR)));
     }
 
@@ -56,7 +50,7 @@ public class LabyrintheRendu implements Rendu {
      */
     public Canvas rendu(Labyrinthe labyrinthe) {
         this.labyrinthe = labyrinthe;
-        return creerCanvasLabyrinthe(labyrinthe.getCellules());
+        return creerCanvasLabyrinthe(labyrinthe.getGrille());
     }
 
     /**
@@ -76,16 +70,16 @@ public class LabyrintheRendu implements Rendu {
      */
     public void afficherLabyrinthe() {
         contienLabyrinthe.getChildren().clear();
-        contienLabyrinthe.getChildren().add(creerCanvasLabyrinthe(this.labyrinthe.getCellules()));
+        contienLabyrinthe.getChildren().add(creerCanvasLabyrinthe(this.labyrinthe.getGrille()));
     }
 
     /**
      * Crée un Canvas représentant le labyrinthe.
      *
-     * @param labyrinthe Le labyrinthe sous forme de matrice de cellules.
+     * @param grille La grille du labyrinthe.
      * @return Le Canvas représentant le labyrinthe.
      */
-    private Canvas creerCanvasLabyrinthe(Cellule[][] labyrinthe) {
+    private Canvas creerCanvasLabyrinthe(Grille grille) {
         double heightVBox = contienLabyrinthe.getHeight();
         double widthVBox = contienLabyrinthe.getWidth();
 
@@ -121,12 +115,12 @@ public class LabyrintheRendu implements Rendu {
                 double x = j * tailleCellule;
                 double y = i * tailleCellule;
 
-                if (labyrinthe[i][j].estChemin() || labyrinthe[i][j].estEntree()) {
-                    graphicsContext.drawImage(chemin.getTexture(), x, y, tailleCellule, tailleCellule);
-                } else if (labyrinthe[i][j].estSortie()) {
-                    graphicsContext.drawImage(sortie.getTexture(), x, y, tailleCellule, tailleCellule);
-                } else if (labyrinthe[i][j].estMur()) {
-                    graphicsContext.drawImage(mur.getTexture(), x, y, tailleCellule, tailleCellule);
+                if (grille.getType(i, j).estChemin() || grille.getType(i, j).estEntree()) {
+                    graphicsContext.drawImage(TexturesCellules.getTexture(TypeCellule.CHEMIN), x, y, tailleCellule, tailleCellule);
+                } else if (grille.getType(i, j).estSortie()) {
+                    graphicsContext.drawImage(TexturesCellules.getTexture(TypeCellule.SORTIE), x, y, tailleCellule, tailleCellule);
+                } else if (grille.getType(i, j).estMur()) {
+                    graphicsContext.drawImage(TexturesCellules.getTexture(TypeCellule.MUR), x, y, tailleCellule, tailleCellule);
                 } else {
                     graphicsContext.clearRect(x, y, tailleCellule, tailleCellule);
                 }
@@ -143,16 +137,16 @@ public class LabyrintheRendu implements Rendu {
 
         for (int i = 0; i < largeurMax; i++) {
             for (int j = 0; j < hauteurMax; j++) {
-                if (labyrinthe[i][j].estMur()) {
+                if (grille.getType(i, j).estMur()) {
                     double x = j * tailleCellule - halfOverlap;
                     double y = i * tailleCellule - halfOverlap;
                     double w = tailleCellule + overlap;
                     double h = tailleCellule + overlap;
 
                     if (i == lastBlockedX && j == lastBlockedY) {
-                        graphicsContext.drawImage(mur.getTextureBlocked(), x, y, w, h);
+                        graphicsContext.drawImage(TexturesCellules.getTextureMurBloque(), x, y, w, h);
                     } else {
-                        graphicsContext.drawImage(mur.getTexture(), x, y, w, h);
+                        graphicsContext.drawImage(TexturesCellules.getTexture(TypeCellule.MUR), x, y, w, h);
                     }
                 }
             }
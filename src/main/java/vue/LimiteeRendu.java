@@ -5,12 +5,10 @@ import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.layout.VBox;
-import modele.Cellules.Cellule;
-import modele.Cellules.Chemin;
-import modele.Cellules.Mur;
-import modele.Cellules.Sortie;
 import modele.Jeu;
 import modele.Labyrinthe;
+import modele.grille.Grille;
+import modele.grille.TypeCellule;
 
 public class LimiteeRendu implements Rendu {
 
@@ -21,10 +19,6 @@ public class LimiteeRendu implements Rendu {
     private int lastBlockedX = -1;
     private int lastBlockedY = -1;
     private Jeu jeu;
-
-    private Mur mur = new Mur();
-    private Chemin chemin = new Chemin();
-    private Sortie sortie = new Sortie();
     private Image imageJoueur;
 
     /**
@@ -58,9 +52,9 @@ public class LimiteeRendu implements Rendu {
      * Initialise les textures équipées par le joueur.
      */
     private void initTextureEquipe() {
-        mur.setImagePath(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_MUR));
-        chemin.setImagePath(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_CHEMIN));
-        sortie.setImagePath(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_SORTIE));
+        TexturesCellules.setTextureMur(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_MUR));
+        TexturesCellules.setTextureChemin(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_CHEMIN));
+        TexturesCellules.setTextureSortie(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_SORTIE));
         imageJoueur = new Image(getClass().getResourceAsStream(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_JOUEUR)));
     }
 
@@ -72,7 +66,7 @@ public class LimiteeRendu implements Rendu {
      */
     public Canvas rendu(Labyrinthe labyrinthe) {
         this.labyrinthe = labyrinthe;
-        return creerCanvasLimited(labyrinthe.getCellules());
+        return creerCanvasLimited(labyrinthe.getGrille());
     }
 
     /**
@@ -92,22 +86,21 @@ public class LimiteeRendu implements Rendu {
      */
     public void afficherLabyrinthe() {
         conteneurLabyrinthe.getChildren().clear();
-        conteneurLabyrinthe.getChildren().add(creerCanvasLimited(this.labyrinthe.getCellules()));
+        conteneurLabyrinthe.getChildren().add(creerCanvasLimited(this.labyrinthe.getGrille()));
     }
 
     /**
      * Crée un Canvas représentant le labyrinthe.
      *
-     * @param labyrinthe Le labyrinthe sous forme de matrice de cellules.
+     * @param grille La grille du labyrinthe.
      * @return Le Canvas représentant le labyrinthe.
      */
-    private Canvas creerCanvasLimited(Cellule[][] labyrinthe) {
+    private Canvas creerCanvasLimited(Grille grille) {
         int joueurX = this.labyrinthe.getJoueurX();
         int joueurY = this.labyrinthe.getJoueurY();
 
         int porteeVueLocale = this.porteeVision;
 
-        Cellule[][] cellules = this.labyrinthe.getCellules();
         int largeurMax = this.labyrinthe.getLargeurMax();
         int hauteurMax = this.labyrinthe.getHauteurMax();
 
@@ -148,12 +141,12 @@ public class LimiteeRendu implements Rendu {
                 boolean dansPorteeVision = (distanceX <= porteeVueLocale && distanceY <= porteeVueLocale);
 
                 if (dansPorteeVision) {
-                    if (cellules[i][j].estChemin() || cellules[i][j].estEntree()) {
-                        gc.drawImage(chemin.getTexture(), x, y, tailleCellule, tailleCellule);
-                    } else if (cellules[i][j].estSortie()) {
-                        gc.drawImage(sortie.getTexture(), x, y, tailleCellule, tailleCellule);
-                    } else if (cellules[i][j].estMur()) {
-                        gc.drawImage(mur.getTexture(), x, y, tailleCellule, tailleCellule);
+                    if (grille.getType(i, j).estChemin() || grille.getType(i, j).estEntree()) {
+                        gc.drawImage(TexturesCellules.getTexture(TypeCellule.CHEMIN), x, y, tailleCellule, tailleCellule);
+                    } else if (grille.getType(i, j).estSortie()) {
+                        gc.drawImage(TexturesCellules.getTexture(TypeCellule.SORTIE), x, y, tailleCellule, tailleCellule);
+                    } else if (grille.getType(i, j).estMur()) {
+                        gc.drawImage(TexturesCellules.getTexture(TypeCellule.MUR), x, y, tailleCellule, tailleCellule);
                     } else {
                         gc.clearRect(x, y, tailleCellule, tailleCellule);
                     }
@@ -175,16 +168,16 @@ public class LimiteeRendu implements Rendu {
                 int distanceY = Math.abs(j - joueurY);
                 boolean dansPorteeVision = (distanceX <= porteeVueLocale && distanceY <= porteeVueLocale);
 
-                if (dansPorteeVision && cellules[i][j].estMur()) {
+                if (dansPorteeVision && grille.getType(i, j).estMur()) {
                     double x = j * tailleCellule - halfOverlap;
                     double y = i * tailleCellule - halfOverlap;
                     double w = tailleCellule + overlap;
                     double h = tailleCellule + overlap;
 
                     if (i == lastBlockedX && j == lastBlockedY) {
-                        gc.drawImage(mur.getTextureBlocked(), x, y, w, h);
+                        gc.drawImage(TexturesCellules.getTextureMurBloque(), x, y, w, h);
                     } else {
-                        gc.drawImage(mur.getTexture(), x, y, w, h);
+                        gc.drawImage(TexturesCellules.getTexture(TypeCellule.MUR), x, y, w, h);
                     }
                 }
             }
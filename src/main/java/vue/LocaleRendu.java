@@ -6,12 +6,10 @@ import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.layout.VBox;
-import modele.Cellules.Cellule;
-import modele.Cellules.Chemin;
-import modele.Cellules.Mur;
-import modele.Cellules.Sortie;
 import modele.Jeu;
 import modele.Labyrinthe;
+import modele.grille.Grille;
+import modele.grille.TypeCellule;
 
 /**
  * Classe responsable du rendu graphique de la vue locale du joueur.
@@ -24,10 +22,6 @@ public class LocaleRendu implements Rendu {
     private int lastBlockedY = -1;
 
     private Jeu jeu;
-
-    private Mur mur = new Mur();
-    private Chemin chemin = new Chemin();
-    private Sortie sortie = new Sortie();
     private Image imageJoueur;
 
     /**
@@ -46,9 +40,9 @@ public class LocaleRendu implements Rendu {
     }
 
     private void initTextureEquipe() {
-        mur.setImagePath(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_MUR));
-        chemin.setImagePath(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_CHEMIN));
-        sortie.setImagePath(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_SORTIE));
+        TexturesCellules.setTextureMur(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_MUR));
+        TexturesCellules.setTextureChemin(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_CHEMIN));
+        TexturesCellules.setTextureSortie(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_SORTIE));
         imageJoueur = new Image(getClass().getResourceAsStream(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_JOUEUR)));
     }
 
@@ -112,7 +106,7 @@ public class LocaleRendu implements Rendu {
     private Canvas creerCanvasVueLocale() {
         int joueurX = this.labyrinthe.getJoueurX();
         int joueurY = this.labyrinthe.getJoueurY();
-        Cellule[][] cellules = this.labyrinthe.getCellules();
+        Grille grille = this.labyrinthe.getGrille();
         int largeurMax = this.labyrinthe.getLargeurMax();
         int hauteurMax = this.labyrinthe.getHauteurMax();
 
@@ -154,12 +148,12 @@ public class LocaleRendu implements Rendu {
                 double y = (dx + porteeVueLocale) * tailleCellule;
 
                 if (cellX >= 0 && cellX < largeurMax && cellY >= 0 && cellY < hauteurMax) {
-                    if (cellules[cellX][cellY].estChemin() || cellules[cellX][cellY].estEntree()) {
-                        gc.drawImage(chemin.getTexture(), x, y, tailleCellule, tailleCellule);
-                    } else if (cellules[cellX][cellY].estSortie()) {
-                        gc.drawImage(sortie.getTexture(), x, y, tailleCellule, tailleCellule);
-                    } else if (cellules[cellX][cellY].estMur()) {
-                        gc.drawImage(mur.getTexture(), x, y, tailleCellule, tailleCellule);
+                    if (grille.getType(cellX, cellY).estChemin() || grille.getType(cellX, cellY).estEntree()) {
+                        gc.drawImage(TexturesCellules.getTexture(TypeCellule.CHEMIN), x, y, tailleCellule, tailleCellule);
+                    } else if (grille.getType(cellX, cellY).estSortie()) {
+                        gc.drawImage(TexturesCellules.getTexture(TypeCellule.SORTIE), x, y, tailleCellule, tailleCellule);
+                    } else if (grille.getType(cellX, cellY).estMur()) {
+                        gc.drawImage(TexturesCellules.getTexture(TypeCellule.MUR), x, y, tailleCellule, tailleCellule);
                     } else {
                         gc.clearRect(x, y, tailleCellule, tailleCellule);
                     }
@@ -177,16 +171,16 @@ public class LocaleRendu implements Rendu {
                 int cellY = joueurY + dy;
 
                 if (cellX >= 0 && cellX < largeurMax && cellY >= 0 && cellY < hauteurMax) {
-                    if (cellules[cellX][cellY].estMur()) {
+                    if (grille.getType(cellX, cellY).estMur()) {
                         double x = (dy + porteeVueLocale) * tailleCellule - halfOverlap;
                         double y = (dx + porteeVueLocale) * tailleCellule - halfOverlap;
                         double w = tailleCellule + overlap;
                         double h = tailleCellule + overlap;
 
                         if (cellX == lastBlockedX && cellY == lastBlockedY) {
-                            gc.drawImage(mur.getTextureBlocked(), x, y, w, h);
+                            gc.drawImage(TexturesCellules.getTextureMurBloque(), x, y, w, h);
                         } else {
-                            gc.drawImage(mur.getTexture(), x, y, w, h);
+                            gc.drawImage(TexturesCellules.getTexture(TypeCellule.MUR), x, y, w, h);
                         }
                     }
                 }
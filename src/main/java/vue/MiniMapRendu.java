@@ -5,12 +5,10 @@ import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.layout.VBox;
-import modele.Cellules.Cellule;
-import modele.Cellules.Chemin;
-import modele.Cellules.Mur;
-import modele.Cellules.Sortie;
 import modele.Jeu;
 import modele.Labyrinthe;
+import modele.grille.Grille;
+import modele.grille.TypeCellule;
 
 /**
  * Classe responsable du rendu graphique du labyrinthe.
@@ -19,10 +17,6 @@ public class MiniMapRendu implements Rendu {
     private Labyrinthe labyrinthe;
     private VBox contienLabyrinthe;
     private Jeu jeu;
-
-    private Mur mur = new Mur();
-    private Chemin chemin = new Chemin();
-    private Sortie sortie = new Sortie();
     private Image imageJoueur;
 
     /**
@@ -43,9 +37,9 @@ public class MiniMapRendu implements Rendu {
      * Initialise les textures équipées par le joueur.
      */
     private void initTextureEquipe() {
-        mur.setImagePath(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_MUR));
-        chemin.setImagePath(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_CHEMIN));
-        sortie.setImagePath(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_SORTIE));
+        TexturesCellules.setTextureMur(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_MUR));
+        TexturesCellules.setTextureChemin(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_CHEMIN));
+        TexturesCellules.setTextureSortie(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_SORTIE));
         imageJoueur = new Image(getClass().getResourceAsStream(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_JOUEUR)));
     }
 
@@ -57,7 +51,7 @@ public class MiniMapRendu implements Rendu {
      */
     public Canvas rendu(Labyrinthe labyrinthe) {
         this.labyrinthe = labyrinthe;
-        return creerCanvasLabyrinthe(labyrinthe.getCellules());
+        return creerCanvasLabyrinthe(labyrinthe.getGrille());
     }
 
     @Override
@@ -70,16 +64,16 @@ public class MiniMapRendu implements Rendu {
      */
     public void afficherLabyrinthe() {
         contienLabyrinthe.getChildren().clear();
-        contienLabyrinthe.getChildren().add(creerCanvasLabyrinthe(this.labyrinthe.getCellules()));
+        contienLabyrinthe.getChildren().add(creerCanvasLabyrinthe(this.labyrinthe.getGrille()));
     }
 
     /**
      * Crée un Canvas représentant le labyrinthe.
      *
-     * @param labyrinthe Le labyrinthe sous forme de matrice de cellules.
+     * @param grille La grille du labyrinthe.
      * @return Le Canvas représentant le labyrinthe.
      */
-    private Canvas creerCanvasLabyrinthe(Cellule[][] labyrinthe) {
+    private Canvas creerCanvasLabyrinthe(Grille grille) {
         int tailleCellule = 20;
         int largeurMax = this.labyrinthe.getLargeurMax();
         int hauteurMax = this.labyrinthe.getHauteurMax();
@@ -92,12 +86,12 @@ public class MiniMapRendu implements Rendu {
                 double x = j * tailleCellule;
                 double y = i * tailleCellule;
 
-                if (labyrinthe[i][j].estChemin() || labyrinthe[i][j].estEntree()) {
-                    graphicsContext.drawImage(chemin.getTexture(), x, y, tailleCellule, tailleCellule);
-                } else if (labyrinthe[i][j].estSortie()) {
-                    graphicsContext.drawImage(sortie.getTexture(), x, y, tailleCellule, tailleCellule);
-                } else if (labyrinthe[i][j].estMur()) {
-                    graphicsContext.drawImage(mur.getTexture(), x, y, tailleCellule, tailleCellule);
+                if (grille.getType(i, j).estChemin() || grille.getType(i, j).estEntree()) {
+                    graphicsContext.drawImage(TexturesCellules.getTexture(TypeCellule.CHEMIN), x, y, tailleCellule, tailleCellule);
+                } else if (grille.getType(i, j).estSortie()) {
+                    graphicsContext.drawImage(TexturesCellules.getTexture(TypeCellule.SORTIE), x, y, tailleCellule, tailleCellule);
+                } else if (grille.getType(i, j).estMur()) {
+                    graphicsContext.drawImage(TexturesCellules.getTexture(TypeCellule.MUR), x, y, tailleCellule, tailleCellule);
                 } else {
                     graphicsContext.clearRect(x, y, tailleCellule, tailleCellule);
                 }
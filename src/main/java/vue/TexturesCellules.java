@@ -0,0 +1,99 @@
+package vue;
+
+import javafx.scene.image.Image;
+import modele.grille.TypeCellule;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Textures des cases du labyrinthe.
+ *
+ * Le modèle ne connaît que des {@link TypeCellule} ; c'est ici, dans la vue, que
+ * chaque type est associé à une image. Comme auparavant, les textures sont partagées
+ * par tous les rendus : les textures équipées en boutique (mur, chemin, sortie)
+ * remplacent celles par défaut pour toute l'application.
+ *
+ * Les images sont chargées à la première utilisation et gardées en cache par chemin.
+ */
+public final class TexturesCellules {
+
+    private static final Map<String, Image> images = new HashMap<>();
+    private static final String[] chemins = new String[TypeCellule.values().length];
+    private static String cheminMurBloque;
+
+    static {
+        chemins[TypeCellule.ENTREE.ordinal()] = "/img/chemin.png";
+        chemins[TypeCellule.CLE.ordinal()] = "/img/cle.png";
+        chemins[TypeCellule.PIEGE.ordinal()] = "/img/piege.png";
+    }
+
+    private TexturesCellules() {
+    }
+
+
+    /**
+     * Définit la texture des murs. La texture du mur bloqué est déduite en ajoutant
+     * "_blocked" avant l'extension du fichier.
+     *
+     * @param chemin chemin de la ressource image
+     */
+    public static void setTextureMur(String chemin) {
+        chemins[TypeCellule.MUR.ordinal()] = chemin;
+        cheminMurBloque = chemin.split("\\.")[0] + "_blocked.png";
+    }
+
+
+    /**
+     * Définit la texture des chemins.
+     *
+     * @param chemin chemin de la ressource image
+     */
+    public static void setTextureChemin(String chemin) {
+        chemins[TypeCellule.CHEMIN.ordinal()] = chemin;
+    }
+
+
+    /**
+     * Définit la texture des sorties, verrouillées ou non.
+     *
+     * @param chemin chemin de la ressource image
+     */
+    public static void setTextureSortie(String chemin) {
+        chemins[TypeCellule.SORTIE.ordinal()] = chemin;
+        chemins[TypeCellule.SORTIE_VERROUILLEE.ordinal()] = chemin;
+    }
+
+
+    /**
+     * Retourne la texture d'un type de case.
+     *
+     * @param type type de la case
+     * @return l'image, ou null si aucune texture n'est définie pour ce type
+     */
+    public static Image getTexture(TypeCellule type) {
+        return charger(chemins[type.ordinal()]);
+    }
+
+
+    /**
+     * Retourne la texture du mur sur lequel le joueur vient de buter.
+     *
+     * @return l'image du mur bloqué, ou null si aucune texture de mur n'est définie
+     */
+    public static Image getTextureMurBloque() {
+        return charger(cheminMurBloque);
+    }
+
+
+    private static Image charger(String chemin) {
+        if (chemin == null || chemin.isEmpty()) {
+            return null;
+        }
+        return images.computeIfAbsent(chemin, c -> {
+            InputStream flux = TexturesCellules.class.getResourceAsStream(c);
+            return flux == null ? null : new Image(flux);
+        });
+    }
+}
@@ -5,12 +5,10 @@ import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.layout.VBox;
-import modele.Cellules.Cellule;
-import modele.Cellules.Chemin;
-import modele.Cellules.Mur;
-import modele.Cellules.Sortie;
 import modele.Jeu;
 import modele.Labyrinthe;
+import modele.grille.Grille;
+import modele.grille.TypeCellule;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -27,10 +25,6 @@ public class UpdateRendu implements Rendu {
     private VBox conteneurLabyrinthe;
     private int porteeVision;
     private Jeu jeu;
-
-    private Mur mur = new Mur();
-    private Chemin chemin = new Chemin();
-    private Sortie sortie = new Sortie();
     private Image imageJoueur;
 
     // Set pour mémoriser les cellules explorées (révélées sur la carte)
@@ -60,9 +54,9 @@ public class UpdateRendu implements Rendu {
      * Initialise les textures équipées par le joueur.
      */
     private void initTextureEquipe() {
-        mur.setImagePath(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_MUR));
-        chemin.setImagePath(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_CHEMIN));
-        sortie.setImagePath(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_SORTIE));
+        TexturesCellules.setTextureMur(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_MUR));
+        TexturesCellules.setTextureChemin(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_CHEMIN));
+        TexturesCellules.setTextureSortie(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_SORTIE));
         imageJoueur = new Image(getClass().getResourceAsStream(jeu.getBoutique().obtenirTextureEquipee(jeu.getJoueur().getPseudo(), TypeCosmetique.TEXTURE_JOUEUR)));
     }
 
@@ -78,7 +72,7 @@ public class UpdateRendu implements Rendu {
         // Mettre à jour les cellules explorées en fonction de la position du joueur
         mettreAJourCellulesExplorees();
 
-        return creerCanvasCarte(labyrinthe.getCellules());
+        return creerCanvasCarte(labyrinthe.getGrille());
     }
 
     /**
@@ -110,10 +104,10 @@ public class UpdateRendu implements Rendu {
     /**
      * Crée un Canvas représentant la carte progressive.
      *
-     * @param cellules Les cellules du labyrinthe.
+     * @param grille La grille du labyrinthe.
      * @return Le Canvas représentant la carte.
      */
-    private Canvas creerCanvasCarte(Cellule[][] cellules) {
+    private Canvas creerCanvasCarte(Grille grille) {
         int largeurMax = this.labyrinthe.getLargeurMax();
         int hauteurMax = this.labyrinthe.getHauteurMax();
         int joueurX = this.labyrinthe.getJoueurX();
@@ -155,13 +149,13 @@ public class UpdateRendu implements Rendu {
                     gc.drawImage(imageJoueur, x, y, tailleCellule, tailleCellule);
                 } else if (cellulesExplorees.contains(cle)) {
                     // Cette cellule a été explorée, l'afficher selon son type
-                    if (cellules[i][j].estMur()) {
-                        gc.drawImage(mur.getTexture(), x, y, tailleCellule, tailleCellule);
-                    } else if (cellules[i][j].estChemin() || cellules[i][j].estEntree()) {
-                        gc.drawImage(chemin.getTexture(), x, y, tailleCellule, tailleCellule);
-                    } else if (cellules[i][j].estSortie()) {
+                    if (grille.getType(i, j).estMur()) {
+                        gc.drawImage(TexturesCellules.getTexture(TypeCellule.MUR), x, y, tailleCellule, tailleCellule);
+                    } else if (grille.getType(i, j).estChemin() || grille.getType(i, j).estEntree()) {
+                        gc.drawImage(TexturesCellules.getTexture(TypeCellule.CHEMIN), x, y, tailleCellule, tailleCellule);
+                    } else if (grille.getType(i, j).estSortie()) {
                         // NE PAS afficher la sortie sur la carte (selon les spécifications)
-                        gc.drawImage(chemin.getTexture(), x, y, tailleCellule, tailleCellule);
+                        gc.drawImage(TexturesCellules.getTexture(TypeCellule.CHEMIN), x, y, tailleCellule, tailleCellule);
                     }
                 } else {
                     // Cellule non explorée, afficher le brouillard
@@ -189,7 +183,7 @@ public class UpdateRendu implements Rendu {
      */
     public void afficherCarte() {
         conteneurLabyrinthe.getChildren().clear();
-        conteneurLabyrinthe.getChildren().add(creerCanvasCarte(this.labyrinthe.getCellules()));
+        conteneurLabyrinthe.getChildren().add(creerCanvasCarte(this.labyrinthe.getGrille()));
     }
 
     /**
@@ -0,0 +1,120 @@
+package modele;
+
+import modele.generateurs.GenerateurParfait;
+import modele.grille.Grille;
+import modele.grille.TypeCellule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/**
+ * Tests de performance de la validation des déplacements, sans interface graphique.
+ * Compare le bitmap de passage à la lecture directe des codes de la grille.
+ */
+public class DeplacementPerformanceTest {
+
+    private static final int NB_VALIDATIONS = 1 << 22;
+
+    /**
+     * Validation par lecture du code de la case, comme avant le bitmap de passage.
+     */
+    private static boolean peutDeplacerParCode(Labyrinthe lab, int x, int y) {
+        if (x < 0 || x >= lab.getLargeurMax() || y < 0 || y >= lab.getHauteurMax()) {
+            return false;
+        }
+        Grille grille = lab.getGrille();
+        byte code = grille.getCode(grille.indice(x, y));
+        if (code == TypeCellule.MUR.code()) {
+            return false;
+        }
+        return code != TypeCellule.SORTIE_VERROUILLEE.code() || lab.getCleObtenue();
+    }
+
+    /**
+     * Tire des cases cibles, débordant d'une case autour de la grille.
+     */
+    private static int[] tirerCibles(Labyrinthe lab, long graine) {
+        Random random = new Random(graine);
+        int[] cibles = new int[2 * NB_VALIDATIONS];
+        for (int i = 0; i < cibles.length; i += 2) {
+            cibles[i] = random.nextInt(lab.getLargeurMax() + 2) - 1;
+            cibles[i + 1] = random.nextInt(lab.getHauteurMax() + 2) - 1;
+        }
+        return cibles;
+    }
+
+    /**
+     * Retourne le débit en millions de validations par seconde.
+     */
+    private static double mesurer(Labyrinthe lab, int[] cibles, boolean bitmap, int[] acceptes) {
+        int total = 0;
+        long debut = System.nanoTime();
+        if (bitmap) {
+            for (int i = 0; i < cibles.length; i += 2) {
+                if (lab.peutDeplacer(cibles[i], cibles[i + 1])) {
+                    total++;
+                }
+            }
+        } else {
+            for (int i = 0; i < cibles.length; i += 2) {
+                if (peutDeplacerParCode(lab, cibles[i], cibles[i + 1])) {
+                    total++;
+                }
+            }
+        }
+        long fin = System.nanoTime();
+        acceptes[0] = total;
+        return NB_VALIDATIONS / ((fin - debut) / 1_000.0);
+    }
+
+    @Test
+    public void testPerformanceValidationDeplacements() {
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println("  TESTS DE PERFORMANCE - VALIDATION DES DÉPLACEMENTS");
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println();
+
+        int[] tailles = {10, 50, 100, 200, 500, 1000};
+        int nbMesures = 5;
+
+        System.out.println("Validations par mesure : " + NB_VALIDATIONS + ", nombre de mesures : " + nbMesures);
+        System.out.println();
+        System.out.printf("%-15s | %-22s | %-22s | %-10s%n",
+                "Taille (n×2n)", "Lecture code (M/s)", "Bitmap (M/s)", "Accélér.");
+        System.out.println("─────────────────────────────────────────────────────────────────────────────────");
+
+        for (int n : tailles) {
+            Labyrinthe lab = new Labyrinthe(n, n * 2, 0, 0);
+            new GenerateurParfait(n, n * 2, 0, true).generer(lab);
+            int[] cibles = tirerCibles(lab, n);
+            int[] acceptesCode = new int[1];
+            int[] acceptesBitmap = new int[1];
+
+            // Chauffe du JIT
+            mesurer(lab, cibles, false, acceptesCode);
+            mesurer(lab, cibles, true, acceptesBitmap);
+
+            double debitCode = 0;
+            double debitBitmap = 0;
+            for (int i = 0; i < nbMesures; i++) {
+                debitCode += mesurer(lab, cibles, false, acceptesCode);
+                debitBitmap += mesurer(lab, cibles, true, acceptesBitmap);
+            }
+            debitCode /= nbMesures;
+            debitBitmap /= nbMesures;
+
+            if (acceptesCode[0] != acceptesBitmap[0]) {
+                throw new AssertionError("Le bitmap et la grille ne valident pas les mêmes cases");
+            }
+
+            System.out.printf("%-15s | %-22s | %-22s | %-10s%n",
+                    n + "×" + (n * 2),
+                    String.format("%.1f", debitCode),
+                    String.format("%.1f", debitBitmap),
+                    String.format("×%.2f", debitBitmap / debitCode));
+        }
+
+        System.out.println();
+        System.out.println("═══════════════════════════════════════════════════════════════");
+    }
+}
@@ -4,6 +4,8 @@ import modele.boutique.GestionnaireBoutique;
 import modele.defi.Defi;
 import modele.defi.repository.DefiJson;
 import modele.defi.repository.DefisRepo;
+import modele.grille.GrilleTableau;
+import modele.grille.TypeCellule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -109,4 +111,122 @@ class JeuTest {
         assertEquals(10, nouveauLabyrinthe.getLargeur());
         assertEquals(10, nouveauLabyrinthe.getHauteur());
     }
+
+    /**
+     * Couloir vertical : entrée (0,1), clé (1,1), chemins, sortie verrouillée (4,1).
+     */
+    private Jeu jeuCouloir(ModeJeu mode) {
+        Labyrinthe couloir = new Labyrinthe(4, 3, 100);
+        GrilleTableau grille = new GrilleTableau(couloir.getLargeurMax(), couloir.getHauteurMax());
+        grille.setType(0, 1, TypeCellule.ENTREE);
+        grille.setType(1, 1, TypeCellule.CLE);
+        grille.setType(2, 1, TypeCellule.CHEMIN);
+        grille.setType(3, 1, TypeCellule.CHEMIN);
+        grille.setType(4, 1, TypeCellule.SORTIE_VERROUILLEE);
+        couloir.setGrille(grille);
+        couloir.placerJoueur(0, 1);
+        return new Jeu(mode, joueur, couloir, null, null);
+    }
+
+    @Test
+    void testAvancer() {
+        Jeu partie = jeuCouloir(ModeJeu.MODE_LIBRE);
+
+        assertEquals(ResultatDeplacement.BLOQUE, partie.avancer(Direction.GAUCHE));
+        assertEquals(ResultatDeplacement.CLE_RAMASSEE, partie.avancer(Direction.BAS));
+        assertTrue(partie.isRunning());
+        assertEquals(ResultatDeplacement.DEPLACE, partie.avancer(Direction.BAS));
+        assertEquals(ResultatDeplacement.DEPLACE, partie.avancer(Direction.BAS));
+        assertEquals(ResultatDeplacement.VICTOIRE, partie.avancer(Direction.BAS));
+
+        assertEquals(4, partie.getNombreDeplacements());
+        assertTrue(partie.estVictoire());
+        assertEquals(ResultatDeplacement.PARTIE_TERMINEE, partie.avancer(Direction.HAUT));
+    }
+
+    @Test
+    void testAvancerDefaiteModeProgression() {
+        Jeu partie = jeuCouloir(ModeJeu.MODE_PROGRESSION);
+        assertEquals(8, partie.getDeplacementsMax());
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(partie.avancer(Direction.BAS).aBouge());
+            assertTrue(partie.avancer(Direction.HAUT).aBouge());
+        }
+        assertEquals(ResultatDeplacement.DEPLACE, partie.avancer(Direction.BAS));
+        assertEquals(ResultatDeplacement.DEFAITE, partie.avancer(Direction.HAUT));
+        assertFalse(partie.getLabyrinthe().isJeuEnCours());
+        assertFalse(partie.estVictoire());
+    }
+
+    @Test
+    void testAvancerVictoireSurDernierDeplacement() {
+        Jeu partie = jeuCouloir(ModeJeu.MODE_PROGRESSION);
+
+        for (Direction direction : new Direction[]{Direction.BAS, Direction.HAUT, Direction.BAS, Direction.HAUT,
+                Direction.BAS, Direction.BAS, Direction.BAS}) {
+            assertTrue(partie.avancer(direction).aBouge());
+        }
+        assertEquals(ResultatDeplacement.VICTOIRE, partie.avancer(Direction.BAS));
+        assertEquals(8, partie.getNombreDeplacements());
+    }
+
+    @Test
+    void testVictoireImpossibleAvantDefaite() {
+        Jeu partie = jeuCouloir(ModeJeu.MODE_PROGRESSION);
+        assertFalse(partie.victoireImpossible());
+
+        for (int i = 0; i < 2; i++) {
+            assertTrue(partie.avancer(Direction.BAS).aBouge());
+            assertTrue(partie.avancer(Direction.HAUT).aBouge());
+        }
+        // 4 déplacements restants, sortie à 4 cases : encore jouable
+        assertEquals(4, partie.getDeplacementsRestants());
+        assertFalse(partie.victoireImpossible());
+
+        assertTrue(partie.avancer(Direction.BAS).aBouge());
+        assertTrue(partie.avancer(Direction.HAUT).aBouge());
+        // La défaite est prévue deux déplacements avant d'être constatée
+        assertTrue(partie.victoireImpossible());
+        assertTrue(partie.getLabyrinthe().isJeuEnCours());
+    }
+
+    @Test
+    void testScoreVueCleSurOptimumReel() {
+        Defi cle = new Defi("CLE4", 4, 10, 10, 0, 100, Vision.VUE_CLE, 10, TypeLabyrinthe.PARFAIT, 3);
+        Defi libre = new Defi("LIBRE4", 4, 10, 10, 0, 100, Vision.VUE_LIBRE, 10, TypeLabyrinthe.PARFAIT, 3);
+
+        // Optimum réel de 40 déplacements avec le détour par la clé : 60 déplacements ne sont pas pénalisés
+        assertEquals(100, CalculateurScore.calculerScore(cle, 60, 40));
+        assertEquals(100 - (60 - 15) / 2, CalculateurScore.calculerScore(libre, 60, 40));
+        assertEquals(CalculateurScore.calculerScore(cle, 60), CalculateurScore.calculerScore(libre, 60));
+    }
+
+    @Test
+    void testCourirJusquAuCarrefour() {
+        Jeu partie = jeuCouloir(ModeJeu.MODE_LIBRE);
+        List<ChangementLabyrinthe> recus = new java.util.ArrayList<>();
+        partie.getLabyrinthe().addObserver(new LabyrintheObserver() {
+            @Override
+            public void update() {
+            }
+
+            @Override
+            public void changement(ChangementLabyrinthe changement) {
+                recus.add(changement);
+            }
+        });
+
+        // La clé arrête la course dès le premier pas
+        assertEquals(ResultatDeplacement.CLE_RAMASSEE, partie.courir(Direction.BAS));
+        assertEquals(1, partie.getNombreDeplacements());
+
+        // Puis le couloir mène d'une traite à la sortie : trois pas, un seul changement
+        recus.clear();
+        assertEquals(ResultatDeplacement.VICTOIRE, partie.courir(Direction.BAS));
+        assertEquals(4, partie.getNombreDeplacements());
+        assertEquals(4, partie.getLabyrinthe().getJoueurX());
+        assertEquals(1, recus.size());
+        assertEquals(ResultatDeplacement.PARTIE_TERMINEE, partie.courir(Direction.HAUT));
+    }
 }
@@ -7,6 +7,13 @@ import modele.Cellules.Chemin;
 import modele.Cellules.Entree;
 import modele.Cellules.Mur;
 import modele.Cellules.Sortie;
+import modele.chemins.ChampDistances;
+import modele.grille.GrilleTableau;
+import modele.grille.TypeCellule;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -74,4 +81,387 @@ class LabyrintheTest {
 //        assertTrue(l.estSurSortie(3, 1), "La cellule (3,1) est une sortie");
 //    }
 
-}
\ No newline at end of file
+    @Test
+    void testGrillePeutDeplacer() {
+        Labyrinthe l = new Labyrinthe(3, 3, 100);
+        GrilleTableau grille = new GrilleTableau(l.getLargeurMax(), l.getHauteurMax());
+        grille.setType(0, 1, TypeCellule.ENTREE);
+        grille.setType(1, 1, TypeCellule.CHEMIN);
+        grille.setType(2, 1, TypeCellule.CHEMIN);
+        grille.setType(3, 1, TypeCellule.SORTIE_VERROUILLEE);
+        l.setGrille(grille);
+
+        assertTrue(l.peutDeplacer(1, 1));
+        assertFalse(l.peutDeplacer(0, 0));
+        assertFalse(l.peutDeplacer(-1, -1));
+        assertFalse(l.peutDeplacer(3, 1), "Une sortie verrouillée bloque le joueur sans clé");
+
+        l.setCleObtenue();
+        assertTrue(l.peutDeplacer(3, 1));
+        assertTrue(l.estSurSortie(3, 1));
+    }
+
+    @Test
+    void testCellulesPartagees() {
+        Labyrinthe l = new Labyrinthe(3, 3, 100);
+        int lm = l.getLargeurMax();
+        int hm = l.getHauteurMax();
+
+        Cellule[][] arr = new Cellule[lm][hm];
+        for (int i = 0; i < lm; i++) {
+            for (int j = 0; j < hm; j++) {
+                arr[i][j] = new Mur(i, j);
+            }
+        }
+        arr[0][1] = new Entree(0, 1);
+        arr[1][1] = new Chemin(1, 1);
+        arr[2][1] = new Sortie(2, 1, true);
+        l.setCellules(arr);
+
+        assertEquals(TypeCellule.ENTREE, l.getType(0, 1));
+        assertEquals(TypeCellule.SORTIE_VERROUILLEE, l.getType(2, 1));
+        assertSame(l.getCellule(0, 0), l.getCellule(4, 4), "Les cellules d'un même type sont partagées");
+        assertTrue(l.getCellules()[1][1].estChemin());
+
+        // Une cellule partagée ne se modifie pas ; une cellule construite, si
+        Cellule partagee = l.getCellule(2, 1);
+        assertThrows(UnsupportedOperationException.class, () -> partagee.setX(3));
+        assertThrows(UnsupportedOperationException.class, () -> ((Sortie) partagee).deverrouillee());
+        assertEquals(TypeCellule.SORTIE_VERROUILLEE, Cellule.depuisType(TypeCellule.SORTIE_VERROUILLEE).getType());
+        arr[2][1].setX(3);
+        assertEquals(3, arr[2][1].getX());
+    }
+
+    @Test
+    void testIndexEtRamassageCle() {
+        Labyrinthe l = new Labyrinthe(3, 3, 100);
+        GrilleTableau grille = new GrilleTableau(l.getLargeurMax(), l.getHauteurMax());
+        grille.setType(0, 1, TypeCellule.ENTREE);
+        grille.setType(1, 1, TypeCellule.CLE);
+        grille.setType(2, 1, TypeCellule.CHEMIN);
+        grille.setType(3, 1, TypeCellule.SORTIE_VERROUILLEE);
+        l.setGrille(grille);
+
+        assertEquals(grille.indice(0, 1), l.getIndex().getEntree());
+        assertEquals(3, l.getSortieX());
+        assertEquals(1, l.getSortieY());
+        assertEquals(1, l.getIndex().getCles().taille());
+        assertEquals(3, l.calculePlusCourtChemin());
+
+        assertFalse(l.ramasserCle(2, 1));
+        assertTrue(l.ramasserCle(1, 1));
+        assertEquals(TypeCellule.CHEMIN, l.getType(1, 1));
+        assertEquals(TypeCellule.SORTIE, l.getType(3, 1));
+        assertTrue(l.getIndex().getCles().estVide());
+
+        l.setType(2, 2, TypeCellule.PIEGE);
+        assertEquals(grille.indice(2, 2), l.getIndex().getPieges().get(0));
+    }
+
+    @Test
+    void testChangementsRegroupes() {
+        Labyrinthe l = new Labyrinthe(3, 3, 100);
+        GrilleTableau grille = new GrilleTableau(l.getLargeurMax(), l.getHauteurMax());
+        grille.setType(0, 1, TypeCellule.ENTREE);
+        grille.setType(1, 1, TypeCellule.CLE);
+        grille.setType(2, 1, TypeCellule.CHEMIN);
+        grille.setType(3, 1, TypeCellule.SORTIE_VERROUILLEE);
+        l.setGrille(grille);
+        l.placerJoueur(0, 1);
+
+        List<ChangementLabyrinthe> recus = new ArrayList<>();
+        LabyrintheObserver observer = new LabyrintheObserver() {
+            @Override
+            public void update() {
+            }
+
+            @Override
+            public void changement(ChangementLabyrinthe changement) {
+                recus.add(changement);
+            }
+        };
+        l.addObserver(observer);
+
+        l.debuterTransaction();
+        l.deplacer(1, 1);
+        l.ramasserCle(1, 1);
+        l.validerTransaction();
+
+        assertEquals(1, recus.size());
+        ChangementLabyrinthe.JoueurDeplace deplace =
+                assertInstanceOf(ChangementLabyrinthe.JoueurDeplace.class, recus.get(0));
+        assertEquals(0, deplace.ancienX());
+        assertEquals(1, deplace.nouveauX());
+        assertEquals(new ZoneModifiee(0, 1, 3, 1), deplace.zone());
+
+        l.setJoueurX(2);
+        assertEquals(2, recus.size());
+        assertEquals(new ZoneModifiee(1, 1, 2, 1), recus.get(1).zone());
+
+        l.setType(2, 2, TypeCellule.PIEGE);
+        assertInstanceOf(ChangementLabyrinthe.CellulesModifiees.class, recus.get(2));
+
+        // Réécrire le même type ne change rien : pas de nouvelle version ni de changement
+        long version = l.getVersion();
+        l.setType(2, 2, TypeCellule.PIEGE);
+        assertEquals(3, recus.size());
+        assertEquals(version, l.getVersion());
+
+        l.debuterTransaction();
+        l.setType(2, 2, TypeCellule.CHEMIN);
+        l.setGrille(grille);
+        l.validerTransaction();
+        assertInstanceOf(ChangementLabyrinthe.Reinitialisation.class, recus.get(3));
+
+        l.removeObserver(observer);
+        l.setJoueurX(1);
+        assertEquals(4, recus.size());
+    }
+
+    @Test
+    void testObservateurFaibleLibere() throws InterruptedException {
+        Labyrinthe l = new Labyrinthe(3, 3, 100);
+        l.setGrille(new GrilleTableau(l.getLargeurMax(), l.getHauteurMax()));
+        int[] appels = {0};
+
+        LabyrintheObserver observer = () -> appels[0]++;
+        l.addObserverFaible(observer);
+        l.setJoueurX(1);
+        assertEquals(1, appels[0]);
+
+        WeakReference<LabyrintheObserver> reference = new WeakReference<>(observer);
+        observer = null;
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        l.setJoueurX(2);
+        assertEquals(reference.get() == null ? 1 : 2, appels[0]);
+    }
+
+    @Test
+    void testInstantanesPublies() throws InterruptedException {
+        Labyrinthe l = new Labyrinthe(3, 3, 100);
+        GrilleTableau grille = new GrilleTableau(l.getLargeurMax(), l.getHauteurMax());
+        grille.setType(0, 1, TypeCellule.ENTREE);
+        grille.setType(1, 1, TypeCellule.CLE);
+        grille.setType(2, 1, TypeCellule.SORTIE_VERROUILLEE);
+        l.setGrille(grille);
+        l.placerJoueur(0, 1);
+        assertNull(l.getInstantane());
+
+        l.activerInstantanes();
+        InstantaneLabyrinthe avant = l.getInstantane();
+
+        l.debuterTransaction();
+        l.deplacer(1, 1);
+        l.ramasserCle(1, 1);
+        l.validerTransaction();
+        InstantaneLabyrinthe apres = l.getInstantane();
+
+        assertEquals(0, avant.joueurX());
+        assertEquals(TypeCellule.CLE, avant.getType(1, 1));
+        assertEquals(TypeCellule.SORTIE_VERROUILLEE, avant.getType(2, 1));
+        assertFalse(avant.cleObtenue());
+
+        assertEquals(1, apres.joueurX());
+        assertEquals(TypeCellule.SORTIE, apres.getType(2, 1));
+        assertTrue(apres.cleObtenue());
+        assertEquals(avant.version() + 1, apres.version());
+
+        int[] distance = new int[1];
+        Thread lecteur = new Thread(() -> distance[0] = apres.calculePlusCourtChemin());
+        lecteur.start();
+        lecteur.join();
+        assertEquals(2, distance[0]);
+    }
+
+    @Test
+    void testPlusCourtCheminEnCache() {
+        Labyrinthe l = new Labyrinthe(3, 3, 100);
+        GrilleTableau grille = new GrilleTableau(l.getLargeurMax(), l.getHauteurMax());
+        grille.setType(0, 1, TypeCellule.ENTREE);
+        grille.setType(1, 1, TypeCellule.CHEMIN);
+        grille.setType(2, 1, TypeCellule.CHEMIN);
+        grille.setType(3, 1, TypeCellule.SORTIE);
+        l.setGrille(grille);
+        assertEquals(3, l.calculePlusCourtChemin());
+
+        // Une écriture qui contourne le labyrinthe ne recalcule rien : la valeur vient du cache
+        grille.setType(2, 1, TypeCellule.MUR);
+        assertEquals(3, l.calculePlusCourtChemin());
+        grille.setType(2, 1, TypeCellule.CHEMIN);
+
+        l.setType(1, 1, TypeCellule.PIEGE);
+        assertEquals(3, l.calculePlusCourtChemin());
+
+        l.setType(2, 1, TypeCellule.MUR);
+        assertEquals(0, l.calculePlusCourtChemin());
+        l.setType(2, 1, TypeCellule.CHEMIN);
+        assertEquals(3, l.calculePlusCourtChemin());
+
+        l.setType(3, 1, TypeCellule.CHEMIN);
+        l.setType(2, 1, TypeCellule.SORTIE);
+        assertEquals(2, l.calculePlusCourtChemin());
+    }
+
+    @Test
+    void testDeplacerCleVideLeCache() {
+        // Entrée (0,1), sortie verrouillée (4,1), impasse (2,2)-(2,3)
+        Labyrinthe l = new Labyrinthe(3, 3, 100);
+        GrilleTableau grille = new GrilleTableau(l.getLargeurMax(), l.getHauteurMax());
+        grille.setType(0, 1, TypeCellule.ENTREE);
+        grille.setType(1, 1, TypeCellule.CLE);
+        grille.setType(2, 1, TypeCellule.CHEMIN);
+        grille.setType(3, 1, TypeCellule.CHEMIN);
+        grille.setType(4, 1, TypeCellule.SORTIE_VERROUILLEE);
+        grille.setType(2, 2, TypeCellule.CHEMIN);
+        grille.setType(2, 3, TypeCellule.CHEMIN);
+        l.setGrille(grille);
+        assertEquals(4, l.calculePlusCourtChemin());
+
+        // La clé au fond de l'impasse impose un aller-retour de 4 pas
+        l.setType(1, 1, TypeCellule.CHEMIN);
+        l.setType(2, 3, TypeCellule.CLE);
+        assertEquals(8, l.calculePlusCourtChemin());
+
+        // Une fois la clé ramassée, la déplacer ne compte plus
+        l.placerJoueur(2, 3);
+        assertTrue(l.ramasserCle(2, 3));
+        l.setType(3, 1, TypeCellule.CLE);
+        assertEquals(8, l.calculePlusCourtChemin());
+    }
+
+    @Test
+    void testNouvelleGrilleRemetLaCle() {
+        Labyrinthe l = new Labyrinthe(3, 3, 100);
+        GrilleTableau grille = new GrilleTableau(l.getLargeurMax(), l.getHauteurMax());
+        grille.setType(0, 1, TypeCellule.ENTREE);
+        grille.setType(1, 1, TypeCellule.CLE);
+        grille.setType(2, 1, TypeCellule.CHEMIN);
+        grille.setType(3, 1, TypeCellule.SORTIE_VERROUILLEE);
+        GrilleTableau niveau = grille.figer();
+        l.setGrille(grille);
+        assertTrue(l.ramasserCle(1, 1));
+        assertTrue(l.peutDeplacer(3, 1));
+
+        GrilleTableau neuve = new GrilleTableau(l.getLargeurMax(), l.getHauteurMax());
+        for (int i = 0; i < neuve.getTaille(); i++) {
+            neuve.setCode(i, niveau.getCode(i));
+        }
+        l.setGrille(neuve);
+        assertFalse(l.getCleObtenue());
+        assertFalse(l.peutDeplacer(3, 1), "La sortie du niveau rejoué est de nouveau verrouillée");
+        assertEquals(3, l.calculePlusCourtChemin());
+    }
+
+    @Test
+    void testIndiceEtChampsDistances() {
+        // Entrée (0,1), clé en cul-de-sac (2,3), sortie verrouillée (4,1)
+        Labyrinthe l = new Labyrinthe(3, 3, 100);
+        GrilleTableau grille = new GrilleTableau(l.getLargeurMax(), l.getHauteurMax());
+        grille.setType(0, 1, TypeCellule.ENTREE);
+        grille.setType(1, 1, TypeCellule.CHEMIN);
+        grille.setType(2, 1, TypeCellule.CHEMIN);
+        grille.setType(3, 1, TypeCellule.CHEMIN);
+        grille.setType(4, 1, TypeCellule.SORTIE_VERROUILLEE);
+        grille.setType(2, 2, TypeCellule.CHEMIN);
+        grille.setType(2, 3, TypeCellule.CLE);
+        l.setGrille(grille);
+        l.placerJoueur(0, 1);
+        l.calculerChampsDistances();
+
+        // 4 cases jusqu'à la clé, puis 4 jusqu'à la sortie
+        assertEquals(8, l.distanceVictoire());
+        assertEquals(0, l.progression());
+        List<Direction> suivies = new ArrayList<>();
+        Direction direction;
+        while ((direction = l.indice()) != null) {
+            suivies.add(direction);
+            l.placerJoueur(l.getJoueurX() + direction.dx(), l.getJoueurY() + direction.dy());
+            l.ramasserCle(l.getJoueurX(), l.getJoueurY());
+            if (l.getType(2, 3) == TypeCellule.CLE) {
+                assertNotNull(l.getChampCle());
+            }
+        }
+        assertEquals(List.of(Direction.BAS, Direction.BAS, Direction.DROITE, Direction.DROITE,
+                Direction.GAUCHE, Direction.GAUCHE, Direction.BAS, Direction.BAS), suivies);
+        assertTrue(l.estSurSortie(l.getJoueurX(), l.getJoueurY()));
+        assertEquals(1, l.progression());
+    }
+
+    @Test
+    void testRamassageCleGardeChampSortie() {
+        Labyrinthe l = new Labyrinthe(3, 3, 100);
+        GrilleTableau grille = new GrilleTableau(l.getLargeurMax(), l.getHauteurMax());
+        grille.setType(0, 1, TypeCellule.ENTREE);
+        grille.setType(1, 1, TypeCellule.CLE);
+        grille.setType(2, 1, TypeCellule.CHEMIN);
+        grille.setType(3, 1, TypeCellule.SORTIE_VERROUILLEE);
+        l.setGrille(grille);
+        l.placerJoueur(0, 1);
+        l.calculerChampsDistances();
+        ChampDistances sortie = l.getChampSortie();
+        assertNotNull(l.getChampCle());
+
+        l.placerJoueur(1, 1);
+        assertTrue(l.ramasserCle(1, 1));
+
+        // Seule la phase « clé » est abandonnée ; le champ de la sortie est le même objet
+        assertNull(l.getChampCle());
+        assertSame(sortie, l.getChampSortie());
+        assertEquals(2, l.distanceVictoire());
+
+        // Un mur, lui, invalide tout
+        l.setType(2, 1, TypeCellule.MUR);
+        assertNotSame(sortie, l.getChampSortie());
+        assertEquals(ChampDistances.INACCESSIBLE, l.distanceVictoire());
+        assertNull(l.indice());
+    }
+
+    @Test
+    void testRechercheIncrementaleSuitLesMurs() {
+        // Entrée (0,1), sortie (4,1) par un couloir direct ou par un détour à droite
+        Labyrinthe l = new Labyrinthe(3, 3, 100);
+        GrilleTableau grille = new GrilleTableau(l.getLargeurMax(), l.getHauteurMax());
+        grille.setType(0, 1, TypeCellule.ENTREE);
+        grille.setType(1, 1, TypeCellule.CHEMIN);
+        grille.setType(2, 1, TypeCellule.CHEMIN);
+        grille.setType(3, 1, TypeCellule.CHEMIN);
+        grille.setType(4, 1, TypeCellule.SORTIE);
+        grille.setType(1, 2, TypeCellule.CHEMIN);
+        grille.setType(1, 3, TypeCellule.CHEMIN);
+        grille.setType(2, 3, TypeCellule.CHEMIN);
+        grille.setType(3, 3, TypeCellule.CHEMIN);
+        grille.setType(4, 3, TypeCellule.CHEMIN);
+        grille.setType(4, 2, TypeCellule.CHEMIN);
+        l.setGrille(grille);
+        l.placerJoueur(0, 1);
+        l.activerRechercheIncrementale();
+        assertNotNull(l.getRechercheIncrementale());
+        assertEquals(4, l.distanceVictoire());
+
+        // Le couloir direct est coupé : le champ est oublié, la recherche prend le relais
+        l.setType(2, 1, TypeCellule.MUR);
+        assertEquals(8, l.distanceVictoire());
+        assertEquals(Direction.BAS, l.indice());
+        l.placerJoueur(1, 1);
+        assertEquals(Direction.DROITE, l.indice());
+        assertEquals(7, l.distanceVictoire());
+
+        l.setType(2, 1, TypeCellule.CHEMIN);
+        assertEquals(3, l.distanceVictoire());
+        assertEquals(Direction.BAS, l.indice());
+
+        l.setType(2, 1, TypeCellule.MUR);
+        l.setType(4, 3, TypeCellule.MUR);
+        assertEquals(ChampDistances.INACCESSIBLE, l.distanceVictoire());
+        assertNull(l.indice());
+
+        // Le champ recalculé en entier donne les mêmes distances
+        l.setType(4, 3, TypeCellule.CHEMIN);
+        int incrementale = l.distanceVictoire();
+        l.calculerChampsDistances();
+        assertEquals(l.getChampSortie().distance(1 * l.getHauteurMax() + 1), incrementale);
+    }
+}
@@ -0,0 +1,56 @@
+package modele;
+
+import modele.generateurs.GenerateurLabyrinthe;
+import modele.grille.Grille;
+
+import java.util.Random;
+
+/**
+ * Aides communes aux tests qui génèrent des labyrinthes ou y tirent des cases.
+ */
+public final class OutilsLabyrinthe {
+
+    private OutilsLabyrinthe() {
+    }
+
+    /**
+     * Remplit un nouveau labyrinthe aux dimensions données avec un générateur.
+     *
+     * @param generateur le générateur
+     * @param largeur    largeur du labyrinthe
+     * @param hauteur    hauteur du labyrinthe
+     * @return le labyrinthe généré
+     */
+    public static Labyrinthe generer(GenerateurLabyrinthe generateur, int largeur, int hauteur) {
+        Labyrinthe lab = new Labyrinthe(largeur, hauteur, 0, 0);
+        generateur.generer(lab);
+        return lab;
+    }
+
+    /**
+     * Génère un labyrinthe carré d'un type donné, avec 30 % de murs et une distance
+     * minimale égale au côté.
+     *
+     * @param type le type de labyrinthe
+     * @param n    le côté
+     * @return le labyrinthe généré
+     */
+    public static Labyrinthe generer(TypeLabyrinthe type, int n) {
+        return generer(type.creerGenerateur(n, n, 30, n), n, n);
+    }
+
+    /**
+     * Tire une case qui n'est pas un mur.
+     *
+     * @param random le générateur de nombres
+     * @param grille la grille, qui doit compter au moins une case ouverte
+     * @return l'indice de la case
+     */
+    public static int caseOuverte(Random random, Grille grille) {
+        int indice;
+        do {
+            indice = random.nextInt(grille.getTaille());
+        } while (grille.estMur(indice));
+        return indice;
+    }
+}
@@ -1,7 +1,10 @@
 package modele;
 
 import modele.generateurs.GenerateurAleatoire;
+import modele.generateurs.GenerateurKruskal;
+import modele.generateurs.GenerateurLabyrinthe;
 import modele.generateurs.GenerateurParfait;
+import modele.generateurs.GenerateurWilson;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
@@ -40,6 +43,19 @@ public class PerformanceTest {
         return fin - debut;
     }
 
+    /**
+     * Mesure le temps de génération d'un labyrinthe parfait par un générateur donné
+     */
+    private long mesurerTemps(GenerateurLabyrinthe gen, int largeur, int hauteur, int distanceMin) {
+        Labyrinthe lab = new Labyrinthe(largeur, hauteur, 0, distanceMin);
+
+        long debut = System.nanoTime();
+        gen.generer(lab);
+        long fin = System.nanoTime();
+
+        return fin - debut;
+    }
+
     /**
      * Effectue plusieurs mesures et calcule la moyenne
      */
@@ -163,6 +179,58 @@ public class PerformanceTest {
         System.out.println("═══════════════════════════════════════════════════════════════");
     }
 
+    @Test
+    public void testPerformanceGenerateursParfaits() {
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println("  TESTS DE PERFORMANCE - BACKTRACKING, KRUSKAL ET WILSON");
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println();
+
+        // Mêmes tailles que le générateur parfait, distance minimale n
+        int[] tailles = {10, 20, 30, 50, 75, 100, 150, 200};
+        int nbMesures = 5; // Nombre de mesures par configuration
+
+        System.out.println("Nombre de mesures par configuration : " + nbMesures);
+        System.out.println("Distance minimale : n (où n est la largeur)");
+        System.out.println();
+
+        System.out.printf("%-15s | %-20s | %-20s | %-20s%n",
+            "Taille (n×2n)", "Backtracking", "Kruskal", "Wilson");
+        System.out.println("─────────────────────────────────────────────────────────────────────────────────");
+
+        for (int n : tailles) {
+            int largeur = n;
+            int hauteur = n * 2;
+
+            System.out.printf("%-15s | ", largeur + "×" + hauteur);
+
+            for (int g = 0; g < 3; g++) {
+                List<Long> mesures = new ArrayList<>();
+
+                // Effectuer plusieurs mesures
+                for (int i = 0; i < nbMesures; i++) {
+                    GenerateurLabyrinthe gen = switch (g) {
+                        case 0 -> new GenerateurParfait(largeur, hauteur, n);
+                        case 1 -> new GenerateurKruskal(largeur, hauteur, n);
+                        default -> new GenerateurWilson(largeur, hauteur, n);
+                    };
+                    mesures.add(mesurerTemps(gen, largeur, hauteur, n));
+                }
+
+                double moyenneMs = nsEnMs(moyenneMesures(mesures));
+
+                System.out.printf("%-20s", String.format("%.2f ms", moyenneMs));
+                if (g < 2) {
+                    System.out.print(" | ");
+                }
+            }
+            System.out.println();
+        }
+
+        System.out.println();
+        System.out.println("═══════════════════════════════════════════════════════════════");
+    }
+
     @Test
     public void testPerformanceComplet() {
         System.out.println("\n\n");
@@ -174,5 +242,7 @@ public class PerformanceTest {
         testPerformanceAleatoire();
         System.out.println("\n\n");
         testPerformanceParfait();
+        System.out.println("\n\n");
+        testPerformanceGenerateursParfaits();
     }
 }
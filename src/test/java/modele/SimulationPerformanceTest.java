@@ -0,0 +1,177 @@
+package modele;
+
+import modele.generateurs.GenerateurParfait;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simulation de parties complètes sans interface graphique : génération,
+ * puis un robot qui longe le mur de droite jusqu'à la sortie.
+ */
+public class SimulationPerformanceTest {
+
+    // Haut, droite, bas, gauche (sens horaire)
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    /**
+     * Joue une partie en suivant le mur de droite.
+     *
+     * @return le nombre de déplacements, ou -1 si la sortie n'est pas atteinte
+     */
+    private static int jouerPartie(int largeur, int hauteur) {
+        Labyrinthe lab = new Labyrinthe(largeur, hauteur, 0, largeur);
+        new GenerateurParfait(largeur, hauteur, largeur).generer(lab);
+        Jeu jeu = new Jeu(ModeJeu.MODE_LIBRE, null, lab, null, null);
+
+        int direction = 2;
+        int limite = 4 * lab.getLargeurMax() * lab.getHauteurMax();
+        ResultatDeplacement resultat = ResultatDeplacement.DEPLACE;
+        while (!resultat.estFinDePartie() && jeu.getNombreDeplacements() < limite) {
+            // Droite, tout droit, gauche, demi-tour
+            for (int essai = 1; essai <= 4; essai++) {
+                int d = (direction + 2 - essai) & 3;
+                resultat = jeu.avancer(DIRECTIONS[d]);
+                if (resultat != ResultatDeplacement.BLOQUE) {
+                    direction = d;
+                    break;
+                }
+            }
+        }
+        return resultat == ResultatDeplacement.VICTOIRE ? jeu.getNombreDeplacements() : -1;
+    }
+
+    @Test
+    public void testModeleSansJavaFX() throws IOException, URISyntaxException {
+        Path racine = Path.of(Labyrinthe.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        List<Path> classes;
+        try (Stream<Path> fichiers = Files.walk(racine.resolve("modele"))) {
+            classes = fichiers.filter(f -> f.toString().endsWith(".class")).toList();
+        }
+        assertFalse(classes.isEmpty());
+        for (Path classe : classes) {
+            String contenu = new String(Files.readAllBytes(classe), StandardCharsets.ISO_8859_1);
+            assertFalse(contenu.contains("javafx/"), classe + " référence JavaFX");
+            assertFalse(contenu.contains("Lvue/") || contenu.contains("\u0001vue/"), classe + " référence la vue");
+        }
+    }
+
+    @Test
+    public void testPerformanceSimulation() {
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println("  TESTS DE PERFORMANCE - PARTIES SIMULÉES SANS INTERFACE");
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println();
+
+        int[] tailles = {10, 20, 30, 50};
+        int nbParties = 500;
+
+        System.out.println("Parties par taille : " + nbParties + " (robot qui longe le mur de droite)");
+        System.out.println();
+        System.out.printf("%-15s | %-20s | %-20s%n", "Taille (n×2n)", "Parties / s", "Déplacements moyens");
+        System.out.println("─────────────────────────────────────────────────────────────────────────────────");
+
+        for (int n : tailles) {
+            // Chauffe du JIT
+            for (int i = 0; i < nbParties / 10; i++) {
+                jouerPartie(n, n * 2);
+            }
+
+            long deplacements = 0;
+            long debut = System.nanoTime();
+            for (int i = 0; i < nbParties; i++) {
+                int resultat = jouerPartie(n, n * 2);
+                assertTrue(resultat > 0, "Le robot doit atteindre la sortie d'un labyrinthe parfait");
+                deplacements += resultat;
+            }
+            double secondes = (System.nanoTime() - debut) / 1e9;
+
+            System.out.printf("%-15s | %-20s | %-20s%n",
+                    n + "×" + (n * 2),
+                    String.format("%.0f", nbParties / secondes),
+                    String.format("%.0f", deplacements / (double) nbParties));
+        }
+
+        System.out.println();
+        System.out.println("═══════════════════════════════════════════════════════════════");
+    }
+
+    @Test
+    public void testPerformanceMoteurDeplacement() {
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println("  TESTS DE PERFORMANCE - MOTEUR DE DÉPLACEMENT (Jeu.avancer)");
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println();
+
+        int[] tailles = {20, 100, 500};
+        int nbDeplacements = 1 << 22;
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+
+        System.out.println("Déplacements aléatoires par mesure : " + nbDeplacements);
+        System.out.println();
+        System.out.println("Sans observateur, puis avec un observateur et les instantanés activés (comme l'interface).");
+        System.out.println();
+        System.out.printf("%-15s | %-10s | %-18s | %-18s | %-20s%n",
+                "Taille (n×2n)", "Observé", "ns / déplacement", "M déplacements / s", "Octets / déplacement");
+        System.out.println("──────────────────────────────────────────────────────────────────────────────────────────");
+
+        for (int n : tailles) {
+            java.util.Random random = new java.util.Random(n);
+            byte[] tirages = new byte[nbDeplacements];
+            for (int i = 0; i < tirages.length; i++) {
+                tirages[i] = (byte) random.nextInt(4);
+            }
+
+            for (boolean observe : new boolean[]{false, true}) {
+                Labyrinthe lab = new Labyrinthe(n, n * 2, 0, 0);
+                new GenerateurParfait(n, n * 2, 0, true).generer(lab);
+                Jeu jeu = new Jeu(ModeJeu.MODE_LIBRE, null, lab, null, null);
+                int entreeX = lab.getJoueurX();
+                int entreeY = lab.getJoueurY();
+                long[] recus = {0};
+                if (observe) {
+                    lab.addObserver(() -> recus[0]++);
+                    lab.activerInstantanes();
+                }
+
+                long octets = 0;
+                long duree = 0;
+                for (int mesure = 0; mesure < 3; mesure++) {
+                    long octetsAvant = threads.getCurrentThreadAllocatedBytes();
+                    long debut = System.nanoTime();
+                    for (byte tirage : tirages) {
+                        if (jeu.avancer(DIRECTIONS[tirage]) == ResultatDeplacement.VICTOIRE) {
+                            lab.placerJoueur(entreeX, entreeY);
+                            lab.setJeuEnCours(true);
+                        }
+                    }
+                    duree = System.nanoTime() - debut;
+                    octets = threads.getCurrentThreadAllocatedBytes() - octetsAvant;
+                }
+                if (observe) {
+                    assertTrue(recus[0] > 0);
+                    assertEquals(lab.getVersion(), lab.getInstantane().version());
+                }
+
+                System.out.printf("%-15s | %-10s | %-18s | %-18s | %-20s%n",
+                        n + "×" + (n * 2),
+                        observe ? "oui" : "non",
+                        String.format("%.1f", duree / (double) nbDeplacements),
+                        String.format("%.1f", nbDeplacements / (duree / 1_000.0)),
+                        String.format("%.3f", octets / (double) nbDeplacements));
+            }
+        }
+
+        System.out.println();
+        System.out.println("═══════════════════════════════════════════════════════════════");
+    }
+}
@@ -0,0 +1,144 @@
+package modele.chemins;
+
+import modele.Labyrinthe;
+import modele.generateurs.GenerateurParfait;
+import modele.grille.Grille;
+import modele.grille.GrilleTableau;
+import modele.grille.TypeCellule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static modele.OutilsLabyrinthe.caseOuverte;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vérifie les distances de l'index d'arbre contre le BFS, et mesure le gain
+ * d'une requête en O(1) sur un parcours par requête.
+ */
+public class ArbreCheminsTest {
+
+    private static Labyrinthe genererParfait(int n, boolean cle) {
+        Labyrinthe lab = new Labyrinthe(n, n * 2, 0, 0);
+        new GenerateurParfait(n, n * 2, n * 4, cle).generer(lab);
+        return lab;
+    }
+
+    @Test
+    public void testDistancesIdentiquesAuBFS() {
+        Random random = new Random(16);
+        MoteurBFS moteur = new MoteurBFS();
+        for (int n = 3; n <= 60; n += 7) {
+            Labyrinthe lab = genererParfait(n, n % 2 == 0);
+            Grille grille = lab.getGrille();
+            int entree = lab.getIndex().getEntree();
+            ArbreChemins arbre = ArbreChemins.indexer(grille, entree);
+
+            for (int essai = 0; essai < 300; essai++) {
+                int a = caseOuverte(random, grille);
+                int b = caseOuverte(random, grille);
+                assertEquals(moteur.parcourirJusqua(grille, a, b), arbre.distance(a, b), "n = " + n + ", " + a + " → " + b);
+            }
+            moteur.parcourir(grille, entree);
+            for (int i = 0; i < grille.getTaille(); i++) {
+                assertEquals(moteur.distance(i), arbre.distance(i));
+            }
+        }
+    }
+
+    @Test
+    public void testAncetreCommunEtCheminDansUnPeigne() {
+        // R . . .    rangée 0 : le dos du peigne, enraciné en (0,0)
+        // . # . #    les dents descendent des colonnes 0 et 2
+        // . # . #
+        Grille grille = new GrilleTableau(3, 4);
+        for (int y = 0; y < 4; y++) {
+            grille.setType(0, y, TypeCellule.CHEMIN);
+        }
+        for (int x = 1; x < 3; x++) {
+            grille.setType(x, 0, TypeCellule.CHEMIN);
+            grille.setType(x, 2, TypeCellule.CHEMIN);
+        }
+        ArbreChemins arbre = ArbreChemins.indexer(grille, grille.indice(0, 0));
+
+        assertEquals(8, arbre.getNombreAtteintes());
+        assertEquals(grille.indice(0, 0), arbre.getRacine());
+        assertEquals(grille.indice(0, 2), arbre.ancetreCommun(grille.indice(2, 2), grille.indice(0, 3)));
+        assertEquals(grille.indice(0, 0), arbre.ancetreCommun(grille.indice(2, 0), grille.indice(2, 2)));
+        assertEquals(6, arbre.distance(grille.indice(2, 0), grille.indice(2, 2)));
+        assertEquals(-1, arbre.distance(grille.indice(1, 1), grille.indice(0, 0)));
+        assertEquals(-1, arbre.ancetreCommun(grille.indice(1, 1), grille.indice(0, 0)));
+        assertArrayEquals(new int[]{grille.indice(0, 0), grille.indice(0, 1), grille.indice(0, 2), grille.indice(1, 2)},
+                arbre.chemin(grille.indice(1, 2)));
+        assertEquals(2, arbre.distanceMinimale(grille.indice(1, 0), new int[]{grille.indice(1, 2), grille.indice(0, 1)}));
+    }
+
+    @Test
+    public void testCycleRefuse() {
+        Grille grille = new GrilleTableau(2, 2);
+        for (int i = 0; i < 4; i++) {
+            grille.setCode(i, TypeCellule.CHEMIN.code());
+        }
+        assertThrows(IllegalArgumentException.class, () -> ArbreChemins.indexer(grille, 0));
+    }
+
+    @Test
+    public void testPerformanceRequetesDeDistance() {
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println("  TESTS DE PERFORMANCE - DISTANCES DANS UN LABYRINTHE PARFAIT");
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println();
+
+        int[] tailles = {50, 200, 500};
+        int nbRequetes = 200;
+        Random random = new Random(1);
+        MoteurBFS moteur = new MoteurBFS();
+
+        System.out.println("Requêtes case → case aléatoires par mesure : " + nbRequetes);
+        System.out.println();
+        System.out.printf("%-15s | %-16s | %-18s | %-18s | %-10s%n",
+                "Taille (n×2n)", "Index (ms)", "µs / requête (BFS)", "ns / requête (LCA)", "Gain");
+        System.out.println("──────────────────────────────────────────────────────────────────────────────────────");
+
+        for (int n : tailles) {
+            Labyrinthe lab = genererParfait(n, false);
+            Grille grille = lab.getGrille();
+            int[] paires = new int[2 * nbRequetes];
+            for (int i = 0; i < paires.length; i++) {
+                paires[i] = caseOuverte(random, grille);
+            }
+
+            long dureeIndex = 0, dureeBFS = 0, dureeArbre = 0;
+            long total = 0;
+            ArbreChemins arbre = null;
+            for (int mesure = 0; mesure < 3; mesure++) {
+                long debut = System.nanoTime();
+                arbre = ArbreChemins.indexer(grille, lab.getIndex().getEntree());
+                dureeIndex = System.nanoTime() - debut;
+
+                debut = System.nanoTime();
+                for (int i = 0; i < nbRequetes; i++) {
+                    total += moteur.parcourirJusqua(grille, paires[2 * i], paires[2 * i + 1]);
+                }
+                dureeBFS = System.nanoTime() - debut;
+
+                debut = System.nanoTime();
+                for (int i = 0; i < nbRequetes; i++) {
+                    total -= arbre.distance(paires[2 * i], paires[2 * i + 1]);
+                }
+                dureeArbre = System.nanoTime() - debut;
+            }
+            assertEquals(0, total);
+
+            System.out.printf("%-15s | %-16s | %-18s | %-18s | %-10s%n",
+                    n + "×" + (n * 2),
+                    String.format("%.2f", dureeIndex / 1_000_000.0),
+                    String.format("%.1f", dureeBFS / 1_000.0 / nbRequetes),
+                    String.format("%.0f", dureeArbre / (double) nbRequetes),
+                    String.format("×%.0f", dureeBFS / (double) Math.max(1, dureeArbre)));
+        }
+
+        System.out.println();
+        System.out.println("═══════════════════════════════════════════════════════════════");
+    }
+}
@@ -0,0 +1,77 @@
+package modele.chemins;
+
+import modele.grille.Grille;
+import modele.grille.GrilleTableau;
+import modele.grille.ListeIndices;
+import modele.grille.TypeCellule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vérifie le champ de distances multi-source contre un BFS lancé depuis chaque case.
+ */
+public class ChampDistancesTest {
+
+    @Test
+    public void testChampIdentiqueAuBFS() {
+        Random random = new Random(15);
+        MoteurBFS moteur = new MoteurBFS();
+
+        for (int essai = 0; essai < 60; essai++) {
+            Grille grille = new GrilleTableau(4 + random.nextInt(20), 4 + random.nextInt(20));
+            double densite = random.nextDouble() * 0.4;
+            for (int i = 0; i < grille.getTaille(); i++) {
+                if (random.nextDouble() >= densite) {
+                    grille.setCode(i, TypeCellule.CHEMIN.code());
+                }
+            }
+            ListeIndices sorties = new ListeIndices();
+            for (int s = 0; s < 1 + random.nextInt(3); s++) {
+                int indice = random.nextInt(grille.getTaille());
+                grille.setCode(indice, TypeCellule.SORTIE.code());
+                sorties.ajouter(indice);
+            }
+
+            ChampDistances champ = ChampDistances.calculer(grille, sorties.versTableau(), false);
+            for (int i = 0; i < grille.getTaille(); i++) {
+                int attendu = -1;
+                if (!grille.estMur(i) && moteur.parcourirJusquaSortie(grille, i) >= 0) {
+                    attendu = moteur.distance(moteur.parcourirJusquaSortie(grille, i));
+                }
+                assertEquals(attendu, champ.distance(i), "essai " + essai + ", case " + i);
+            }
+        }
+    }
+
+    @Test
+    public void testSourcesDecalees() {
+        // A . . . . B   avec A décalée de 4 et B de 0 : le milieu penche vers B
+        Grille grille = new GrilleTableau(1, 6);
+        for (int i = 0; i < 6; i++) {
+            grille.setCode(i, TypeCellule.CHEMIN.code());
+        }
+        ChampDistances champ = ChampDistances.calculer(grille, new int[]{0, 5}, new int[]{4, 0}, false);
+
+        assertArrayEquals(new int[]{4, 4, 3, 2, 1, 0}, new int[]{
+                champ.distance(0), champ.distance(1), champ.distance(2),
+                champ.distance(3), champ.distance(4), champ.distance(5)});
+    }
+
+    @Test
+    public void testSortieVerrouilleeInfranchissable() {
+        // S . V . C : la sortie verrouillée coupe le couloir
+        Grille grille = new GrilleTableau(1, 5);
+        grille.setType(0, 0, TypeCellule.CHEMIN);
+        grille.setType(0, 1, TypeCellule.CHEMIN);
+        grille.setType(0, 2, TypeCellule.SORTIE_VERROUILLEE);
+        grille.setType(0, 3, TypeCellule.CHEMIN);
+        grille.setType(0, 4, TypeCellule.CLE);
+
+        assertEquals(4, ChampDistances.calculer(grille, new int[]{4}, false).distance(0));
+        assertEquals(ChampDistances.INACCESSIBLE, ChampDistances.calculer(grille, new int[]{4}, true).distance(0));
+        assertEquals(1, ChampDistances.calculer(grille, new int[]{4}, true).distance(3));
+    }
+}
@@ -0,0 +1,86 @@
+package modele.chemins;
+
+import modele.grille.Grille;
+import modele.grille.GrilleTableau;
+import modele.grille.ListeIndices;
+import modele.grille.TypeCellule;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vérifie la réduction des couloirs en arêtes pondérées.
+ */
+public class GrapheCarrefoursTest {
+
+    @Test
+    public void testCouloirsReduits() {
+        // E . . + . S     un couloir de l'entrée au carrefour (0,3),
+        // # # # . # #     puis une branche qui descend vers un cul-de-sac
+        // # # # . . .
+        Grille grille = new GrilleTableau(3, 6);
+        grille.setType(0, 0, TypeCellule.ENTREE);
+        for (int y = 1; y < 5; y++) {
+            grille.setType(0, y, TypeCellule.CHEMIN);
+        }
+        grille.setType(0, 5, TypeCellule.SORTIE);
+        grille.setType(1, 3, TypeCellule.CHEMIN);
+        for (int y = 3; y < 6; y++) {
+            grille.setType(2, y, TypeCellule.CHEMIN);
+        }
+        GrapheCarrefours graphe = GrapheCarrefours.construire(grille);
+
+        // Entrée, carrefour, sortie et cul-de-sac
+        assertEquals(4, graphe.getNombreNoeuds());
+        assertEquals(6, graphe.getNombreAretes());
+        assertEquals(-1, graphe.noeud(grille.indice(0, 1)));
+        int entree = graphe.noeud(grille.indice(0, 0));
+        int carrefour = graphe.noeud(grille.indice(0, 3));
+        assertEquals(1, graphe.debut(entree + 1) - graphe.debut(entree));
+        assertEquals(carrefour, graphe.voisin(graphe.debut(entree)));
+        assertEquals(3, graphe.poids(graphe.debut(entree)));
+
+        ListeIndices sorties = new ListeIndices();
+        sorties.ajouter(grille.indice(0, 5));
+        SolveurCarrefours solveur = new SolveurCarrefours();
+        assertEquals(5, solveur.plusCourtChemin(grille, grille.indice(0, 0), sorties));
+        // Départ au milieu d'un couloir, puis au fond du cul-de-sac
+        assertEquals(3, solveur.plusCourtChemin(grille, grille.indice(0, 2), sorties));
+        assertEquals(6, solveur.plusCourtChemin(grille, grille.indice(2, 5), sorties));
+        assertSame(graphe.getNombreNoeuds(), solveur.getGraphe(grille).getNombreNoeuds());
+    }
+
+    @Test
+    public void testBoucleSansNoeud() {
+        // Un anneau de chemins, sans carrefour ni case particulière
+        Grille grille = new GrilleTableau(3, 3);
+        for (int i = 0; i < 9; i++) {
+            if (i != 4) {
+                grille.setCode(i, TypeCellule.CHEMIN.code());
+            }
+        }
+        assertEquals(0, GrapheCarrefours.construire(grille).getNombreNoeuds());
+
+        ListeIndices sorties = new ListeIndices();
+        sorties.ajouter(4);
+        assertEquals(-1, new SolveurCarrefours().plusCourtChemin(grille, 0, sorties));
+    }
+
+    @Test
+    public void testGrilleModifiee() {
+        // E . . S
+        Grille grille = new GrilleTableau(1, 4);
+        grille.setType(0, 0, TypeCellule.ENTREE);
+        grille.setType(0, 1, TypeCellule.CHEMIN);
+        grille.setType(0, 2, TypeCellule.CHEMIN);
+        grille.setType(0, 3, TypeCellule.SORTIE);
+        ListeIndices sorties = new ListeIndices();
+        sorties.ajouter(3);
+
+        SolveurCarrefours solveur = new SolveurCarrefours();
+        assertEquals(3, solveur.plusCourtChemin(grille, 0, sorties));
+        grille.setType(0, 2, TypeCellule.MUR);
+        solveur.grilleModifiee();
+        assertEquals(-1, solveur.plusCourtChemin(grille, 0, sorties));
+    }
+}
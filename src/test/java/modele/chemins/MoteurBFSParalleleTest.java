@@ -0,0 +1,131 @@
+package modele.chemins;
+
+import modele.Labyrinthe;
+import modele.TypeLabyrinthe;
+import modele.grille.Grille;
+import modele.grille.GrilleTableau;
+import modele.grille.ListeIndices;
+import modele.grille.TypeCellule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static modele.OutilsLabyrinthe.generer;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du parcours en largeur parallèle : résultats identiques au moteur séquentiel,
+ * et mesure de la montée en charge de 1 à 8 threads.
+ */
+public class MoteurBFSParalleleTest {
+
+    private static Grille grilleAleatoire(Random random, int n, double densiteMurs) {
+        Grille grille = new GrilleTableau(n, n + random.nextInt(n));
+        for (int i = 0; i < grille.getTaille(); i++) {
+            if (random.nextDouble() >= densiteMurs) {
+                grille.setCode(i, TypeCellule.CHEMIN.code());
+            }
+        }
+        return grille;
+    }
+
+    @Test
+    public void testDistancesIdentiquesAuMoteurSequentiel() {
+        Random random = new Random(3);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            // Seuil minimal : chaque niveau est découpé en tâches, même petit
+            MoteurBFSParallele parallele = new MoteurBFSParallele(pool, 1);
+            MoteurBFS sequentiel = new MoteurBFS();
+
+            for (int essai = 0; essai < 40; essai++) {
+                Grille grille = grilleAleatoire(random, 20 + random.nextInt(150), random.nextDouble() * 0.4);
+                int depart = random.nextInt(grille.getTaille());
+                grille.setCode(depart, TypeCellule.ENTREE.code());
+
+                parallele.parcourir(grille, depart);
+                sequentiel.parcourir(grille, depart);
+                assertEquals(sequentiel.getNombreAtteintes(), parallele.getNombreAtteintes());
+                for (int i = 0; i < grille.getTaille(); i++) {
+                    assertEquals(sequentiel.distance(i), parallele.distance(i), "essai " + essai + ", case " + i);
+                }
+
+                int arrivee = random.nextInt(grille.getTaille());
+                int[] chemin = parallele.chemin(arrivee);
+                assertEquals(sequentiel.distance(arrivee) + 1, chemin.length);
+                if (chemin.length > 0) {
+                    assertEquals(depart, chemin[0]);
+                    assertEquals(arrivee, chemin[chemin.length - 1]);
+                }
+
+                int sortie = random.nextInt(grille.getTaille());
+                grille.setCode(sortie, TypeCellule.SORTIE.code());
+                ListeIndices sorties = new ListeIndices();
+                sorties.ajouter(sortie);
+                assertEquals(new SolveurBFS().plusCourtChemin(grille, depart, sorties),
+                        parallele.plusCourtChemin(grille, depart, sorties), "essai " + essai);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testPerformanceMonteeEnCharge() {
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println("  TESTS DE PERFORMANCE - BFS PARALLÈLE (CARTE DE DISTANCES)");
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println();
+        System.out.println("Processeurs disponibles : " + Runtime.getRuntime().availableProcessors());
+        System.out.println();
+        System.out.printf("%-12s | %-10s | %-14s | %-12s | %-12s | %-12s%n",
+                "Type", "Côté", "Cases", "Threads", "Durée (ms)", "Accélération");
+        System.out.println("─────────────────────────────────────────────────────────────────────────────");
+
+        Object[][] cas = {{TypeLabyrinthe.ALEATOIRE, 5000}, {TypeLabyrinthe.PARFAIT, 3000}};
+        for (Object[] c : cas) {
+            TypeLabyrinthe type = (TypeLabyrinthe) c[0];
+            int n = (Integer) c[1];
+            Labyrinthe lab = generer(type, n);
+            Grille grille = lab.getGrille();
+            int entree = lab.getIndex().getEntree();
+
+            MoteurBFS sequentiel = new MoteurBFS();
+            double reference = mesurer(() -> sequentiel.parcourir(grille, entree));
+            System.out.printf("%-12s | %-10s | %-14s | %-12s | %-12s | %-12s%n",
+                    type.getNom(), n + "²", sequentiel.getNombreAtteintes(), "MoteurBFS",
+                    String.format("%.1f", reference), "×1.0");
+
+            for (int threads : new int[]{1, 2, 4, 8}) {
+                ForkJoinPool pool = new ForkJoinPool(threads);
+                try {
+                    MoteurBFSParallele parallele = new MoteurBFSParallele(pool);
+                    double ms = mesurer(() -> parallele.parcourir(grille, entree));
+                    assertEquals(sequentiel.getNombreAtteintes(), parallele.getNombreAtteintes());
+                    System.out.printf("%-12s | %-10s | %-14s | %-12s | %-12s | %-12s%n",
+                            type.getNom(), n + "²", parallele.getNombreAtteintes(), threads,
+                            String.format("%.1f", ms), String.format("×%.2f", reference / ms));
+                } finally {
+                    pool.shutdown();
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.println("═══════════════════════════════════════════════════════════════");
+    }
+
+    /**
+     * Retourne la meilleure durée sur trois exécutions, en ms.
+     */
+    private static double mesurer(Runnable parcours) {
+        long meilleure = Long.MAX_VALUE;
+        for (int mesure = 0; mesure < 3; mesure++) {
+            long debut = System.nanoTime();
+            parcours.run();
+            meilleure = Math.min(meilleure, System.nanoTime() - debut);
+        }
+        return meilleure / 1_000_000.0;
+    }
+}
@@ -0,0 +1,166 @@
+package modele.chemins;
+
+import modele.Labyrinthe;
+import modele.generateurs.GenerateurParfait;
+import modele.grille.Grille;
+import modele.grille.GrilleTableau;
+import modele.grille.TypeCellule;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du moteur BFS sur indices plats, et mesure de ses allocations
+ * face à l'ancien parcours sur tableaux à deux dimensions.
+ */
+public class MoteurBFSTest {
+
+    /**
+     * Parcours de référence, tel qu'il était écrit avant le moteur :
+     * tableaux à deux dimensions alloués à chaque appel et file de {@code int[]}.
+     */
+    static int distanceReference(Grille grille, int depart) {
+        int largeurMax = grille.getLargeurMax();
+        int hauteurMax = grille.getHauteurMax();
+        boolean[][] visite = new boolean[largeurMax][hauteurMax];
+        int[][] dist = new int[largeurMax][hauteurMax];
+        LinkedList<int[]> file = new LinkedList<>();
+        file.add(new int[]{depart / hauteurMax, depart % hauteurMax});
+        visite[depart / hauteurMax][depart % hauteurMax] = true;
+        int[][] directions = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
+
+        while (!file.isEmpty()) {
+            int[] courant = file.removeFirst();
+            int cx = courant[0];
+            int cy = courant[1];
+            if (grille.getType(cx, cy).estSortie()) {
+                return dist[cx][cy];
+            }
+            for (int[] d : directions) {
+                int nx = cx + d[0];
+                int ny = cy + d[1];
+                if (grille.contient(nx, ny) && !visite[nx][ny] && !grille.estMur(grille.indice(nx, ny))) {
+                    visite[nx][ny] = true;
+                    dist[nx][ny] = dist[cx][cy] + 1;
+                    file.addLast(new int[]{nx, ny});
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static Labyrinthe genererParfait(int n) {
+        Labyrinthe lab = new Labyrinthe(n, n * 2, 0, 0);
+        new GenerateurParfait(n, n * 2, n * 4).generer(lab);
+        return lab;
+    }
+
+    @Test
+    public void testDistanceIdentiqueAuParcoursDeReference() {
+        MoteurBFS moteur = new MoteurBFS();
+        for (int n = 5; n <= 40; n += 5) {
+            Labyrinthe lab = genererParfait(n);
+            Grille grille = lab.getGrille();
+            int entree = lab.getIndex().getEntree();
+
+            int sortie = moteur.parcourirJusquaSortie(grille, entree);
+            assertTrue(sortie >= 0);
+            assertEquals(distanceReference(grille, entree), moteur.distance(sortie));
+        }
+    }
+
+    @Test
+    public void testCheminEtCasesInaccessibles() {
+        // ####
+        // E..S
+        // ##.#   la case (2, 2) est un cul-de-sac
+        // .###   la case (3, 0) est isolée
+        Grille grille = new GrilleTableau(4, 4);
+        grille.setType(1, 0, TypeCellule.ENTREE);
+        grille.setType(1, 1, TypeCellule.CHEMIN);
+        grille.setType(1, 2, TypeCellule.CHEMIN);
+        grille.setType(1, 3, TypeCellule.SORTIE);
+        grille.setType(2, 2, TypeCellule.CHEMIN);
+        grille.setType(3, 0, TypeCellule.CHEMIN);
+
+        MoteurBFS moteur = new MoteurBFS();
+        moteur.parcourir(grille, grille.indice(1, 0));
+
+        assertEquals(5, moteur.getNombreAtteintes());
+        assertEquals(3, moteur.distance(grille.indice(2, 2)));
+        assertEquals(-1, moteur.distance(grille.indice(3, 0)));
+        assertFalse(moteur.estAtteinte(grille.indice(0, 0)));
+        assertArrayEquals(new int[]{
+                grille.indice(1, 0), grille.indice(1, 1), grille.indice(1, 2), grille.indice(1, 3)
+        }, moteur.chemin(grille.indice(1, 3)));
+        assertEquals(0, moteur.chemin(grille.indice(3, 0)).length);
+
+        // Une nouvelle recherche invalide les marques de la précédente
+        assertEquals(2, moteur.parcourirJusqua(grille, grille.indice(1, 3), grille.indice(1, 1)));
+        assertEquals(-1, moteur.distance(grille.indice(1, 0)));
+        assertEquals(-1, moteur.parent(grille.indice(1, 3)));
+    }
+
+    @Test
+    public void testPerformanceAllocationsParRecherche() {
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println("  TESTS DE PERFORMANCE - ALLOCATIONS DU PARCOURS BFS");
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println();
+
+        int[] tailles = {20, 100, 300};
+        int nbRecherches = 200;
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) java.lang.management.ManagementFactory.getThreadMXBean();
+
+        System.out.println("Recherches entrée → sortie par mesure : " + nbRecherches);
+        System.out.println();
+        System.out.printf("%-15s | %-22s | %-22s | %-18s | %-18s%n",
+                "Taille (n×2n)", "Octets / rech. (avant)", "Octets / rech. (moteur)", "µs / rech. (avant)", "µs / rech. (moteur)");
+        System.out.println("────────────────────────────────────────────────────────────────────────────────────────────────────────");
+
+        MoteurBFS moteur = new MoteurBFS();
+        for (int n : tailles) {
+            Labyrinthe lab = genererParfait(n);
+            Grille grille = lab.getGrille();
+            int entree = lab.getIndex().getEntree();
+
+            long octetsReference = 0, dureeReference = 0;
+            long octetsMoteur = 0, dureeMoteur = 0;
+            int total = 0;
+            for (int mesure = 0; mesure < 3; mesure++) {
+                long octetsAvant = threads.getCurrentThreadAllocatedBytes();
+                long debut = System.nanoTime();
+                for (int i = 0; i < nbRecherches; i++) {
+                    total += distanceReference(grille, entree);
+                }
+                dureeReference = System.nanoTime() - debut;
+                octetsReference = threads.getCurrentThreadAllocatedBytes() - octetsAvant;
+
+                octetsAvant = threads.getCurrentThreadAllocatedBytes();
+                debut = System.nanoTime();
+                for (int i = 0; i < nbRecherches; i++) {
+                    total -= moteur.distance(moteur.parcourirJusquaSortie(grille, entree));
+                }
+                dureeMoteur = System.nanoTime() - debut;
+                octetsMoteur = threads.getCurrentThreadAllocatedBytes() - octetsAvant;
+            }
+            assertEquals(0, total);
+
+            System.out.printf("%-15s | %-22s | %-22s | %-18s | %-18s%n",
+                    n + "×" + (n * 2),
+                    String.format("%.0f", octetsReference / (double) nbRecherches),
+                    String.format("%.1f", octetsMoteur / (double) nbRecherches),
+                    String.format("%.1f", dureeReference / 1_000.0 / nbRecherches),
+                    String.format("%.1f", dureeMoteur / 1_000.0 / nbRecherches));
+
+            assertTrue(octetsMoteur / (double) nbRecherches < 1.0,
+                    "Le moteur ne doit rien allouer une fois dimensionné");
+        }
+
+        System.out.println();
+        System.out.println("═══════════════════════════════════════════════════════════════");
+    }
+}
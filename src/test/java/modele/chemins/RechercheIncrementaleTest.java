@@ -0,0 +1,214 @@
+package modele.chemins;
+
+import modele.Labyrinthe;
+import modele.TypeLabyrinthe;
+import modele.grille.Grille;
+import modele.grille.GrilleTableau;
+import modele.grille.ListeIndices;
+import modele.grille.TypeCellule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static modele.OutilsLabyrinthe.caseOuverte;
+import static modele.OutilsLabyrinthe.generer;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vérifie que la recherche incrémentale suit le BFS à travers des suites de murs
+ * posés, retirés, de sorties déplacées et de départs qui bougent, et mesure le coût
+ * d'une réparation contre un recalcul complet.
+ */
+public class RechercheIncrementaleTest {
+
+    private static int distanceBFS(MoteurBFS moteur, Grille grille, int depart) {
+        int sortie = moteur.parcourirJusquaSortie(grille, depart);
+        return sortie < 0 ? -1 : moteur.distance(sortie);
+    }
+
+    @Test
+    public void testDistancesIdentiquesAuBFSAuFilDesChangements() {
+        Random random = new Random(20);
+        MoteurBFS moteur = new MoteurBFS();
+        byte chemin = TypeCellule.CHEMIN.code();
+        byte mur = TypeCellule.MUR.code();
+        byte sortie = TypeCellule.SORTIE.code();
+
+        for (int essai = 0; essai < 60; essai++) {
+            int n = 4 + random.nextInt(25);
+            Grille grille = new GrilleTableau(n, n + random.nextInt(n));
+            double densite = random.nextDouble() * 0.4;
+            for (int i = 0; i < grille.getTaille(); i++) {
+                if (random.nextDouble() >= densite) {
+                    grille.setCode(i, chemin);
+                }
+            }
+            ListeIndices sorties = new ListeIndices();
+            for (int s = 1 + random.nextInt(3); s > 0; s--) {
+                int indice = random.nextInt(grille.getTaille());
+                grille.setCode(indice, sortie);
+                sorties.ajouter(indice);
+            }
+            RechercheIncrementale recherche = new RechercheIncrementale(grille, sorties);
+            int depart = caseOuverte(random, grille);
+
+            for (int pas = 0; pas < 80; pas++) {
+                int action = random.nextInt(10);
+                int indice = random.nextInt(grille.getTaille());
+                if (action < 6 && indice != depart) {
+                    grille.setCode(indice, grille.estMur(indice) ? chemin : mur);
+                    recherche.caseModifiee(indice);
+                } else if (action < 7 && indice != depart) {
+                    grille.setCode(indice, grille.getCode(indice) == sortie ? chemin : sortie);
+                    recherche.caseModifiee(indice);
+                } else {
+                    depart = caseOuverte(random, grille);
+                }
+
+                int attendu = distanceBFS(moteur, grille, depart);
+                assertEquals(attendu, recherche.distance(depart), "essai " + essai + ", pas " + pas);
+                int suivante = recherche.caseSuivante(depart);
+                if (attendu > 0) {
+                    assertFalse(grille.estMur(suivante));
+                    assertEquals(1, Math.abs(suivante / grille.getHauteurMax() - depart / grille.getHauteurMax())
+                            + Math.abs(suivante % grille.getHauteurMax() - depart % grille.getHauteurMax()));
+                    assertEquals(attendu - 1, distanceBFS(moteur, grille, suivante));
+                } else {
+                    assertEquals(-1, suivante);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testReparationLocale() {
+        // Un couloir de 50 cases avec une sortie au bout : un mur posé puis retiré
+        // derrière le joueur ne touche que quelques cases
+        Grille grille = new GrilleTableau(1, 50);
+        for (int i = 0; i < 50; i++) {
+            grille.setCode(i, TypeCellule.CHEMIN.code());
+        }
+        grille.setCode(49, TypeCellule.SORTIE.code());
+        ListeIndices sorties = new ListeIndices();
+        sorties.ajouter(49);
+        RechercheIncrementale recherche = new RechercheIncrementale(grille, sorties);
+
+        assertEquals(40, recherche.distance(9));
+        grille.setCode(2, TypeCellule.MUR.code());
+        recherche.caseModifiee(2);
+        assertEquals(40, recherche.distance(9));
+        assertTrue(recherche.getNombreDeveloppees() <= 3, "développées : " + recherche.getNombreDeveloppees());
+
+        // Le joueur avance : rien à réparer
+        assertEquals(30, recherche.distance(19));
+        assertEquals(0, recherche.getNombreDeveloppees());
+
+        grille.setCode(30, TypeCellule.MUR.code());
+        recherche.caseModifiee(30);
+        assertEquals(-1, recherche.distance(19));
+        assertEquals(-1, recherche.caseSuivante(19));
+    }
+
+    @Test
+    public void testPerformanceReparations() {
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println("  TESTS DE PERFORMANCE - RÉPARATION INCRÉMENTALE (D* LITE)");
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println();
+
+        int[] cotes = {250, 500, 1000};
+        int nbChangements = 200;
+        Random random = new Random(5);
+        MoteurBFS moteur = new MoteurBFS();
+
+        System.out.println("Joueur sur la case la plus éloignée de la sortie ; par changement, un mur");
+        System.out.println("posé ou retiré puis la distance du joueur, réparée ou recalculée par BFS.");
+        System.out.println("« Hors chemin » : case tirée au hasard ; « chemin » : une case du plus court");
+        System.out.println("chemin courant est murée, puis rouverte.");
+        System.out.println();
+        System.out.printf("%-10s | %-7s | %-9s | %-16s | %-28s | %-28s%n",
+                "Type", "Côté", "Distance", "1re requête (ms)", "Hors chemin : µs BFS / D*", "Chemin : µs BFS / D*");
+        System.out.println("──────────────────────────────────────────────────────────────────────"
+                + "──────────────────────────────────────────────────────");
+
+        for (TypeLabyrinthe type : TypeLabyrinthe.values()) {
+            for (int n : cotes) {
+                Labyrinthe lab = generer(type, n);
+                Grille grille = lab.getGrille();
+                ListeIndices sorties = lab.getIndex().getSorties();
+                moteur.parcourir(grille, sorties.get(0));
+                int joueur = sorties.get(0);
+                for (int i = 0; i < grille.getTaille(); i++) {
+                    if (moteur.distance(i) > moteur.distance(joueur)) {
+                        joueur = i;
+                    }
+                }
+                RechercheIncrementale recherche = new RechercheIncrementale(grille, sorties);
+
+                long debut = System.nanoTime();
+                int distance = recherche.distance(joueur);
+                long dureeInitiale = System.nanoTime() - debut;
+
+                // Coupures du chemin courant, puis réouverture, sur le labyrinthe intact
+                long dureeChemin = 0;
+                long dureeCheminBFS = 0;
+                int coupures = 0;
+                for (int c = 0; c < nbChangements / 2; c++) {
+                    int indice = joueur;
+                    int pas = 1 + random.nextInt(Math.max(1, recherche.distance(joueur) - 1));
+                    for (int p = 0; p < pas && recherche.caseSuivante(indice) >= 0; p++) {
+                        indice = recherche.caseSuivante(indice);
+                    }
+                    if (grille.getCode(indice) != TypeCellule.CHEMIN.code()) {
+                        continue;
+                    }
+                    coupures++;
+                    for (byte code : new byte[]{TypeCellule.MUR.code(), TypeCellule.CHEMIN.code()}) {
+                        grille.setCode(indice, code);
+                        debut = System.nanoTime();
+                        recherche.caseModifiee(indice);
+                        int incrementale = recherche.distance(joueur);
+                        dureeChemin += System.nanoTime() - debut;
+
+                        debut = System.nanoTime();
+                        int complete = distanceBFS(moteur, grille, joueur);
+                        dureeCheminBFS += System.nanoTime() - debut;
+                        assertEquals(complete, incrementale);
+                    }
+                }
+
+                // Changements au hasard, qui s'accumulent
+                long dureeBFS = 0;
+                long dureeHorsChemin = 0;
+                for (int c = 0; c < nbChangements; c++) {
+                    int indice = random.nextInt(grille.getTaille());
+                    byte code = grille.getCode(indice);
+                    if (indice == joueur || (code != TypeCellule.MUR.code() && code != TypeCellule.CHEMIN.code())) {
+                        continue;
+                    }
+                    grille.setCode(indice, code == TypeCellule.MUR.code() ? TypeCellule.CHEMIN.code() : TypeCellule.MUR.code());
+                    debut = System.nanoTime();
+                    recherche.caseModifiee(indice);
+                    int incrementale = recherche.distance(joueur);
+                    dureeHorsChemin += System.nanoTime() - debut;
+
+                    debut = System.nanoTime();
+                    int complete = distanceBFS(moteur, grille, joueur);
+                    dureeBFS += System.nanoTime() - debut;
+                    assertEquals(complete, incrementale);
+                }
+
+                System.out.printf("%-10s | %-7s | %-9s | %-16s | %-28s | %-28s%n",
+                        type, n + "²", distance,
+                        String.format("%.1f", dureeInitiale / 1_000_000.0),
+                        String.format("%.0f / %.1f", dureeBFS / 1_000.0 / nbChangements,
+                                dureeHorsChemin / 1_000.0 / nbChangements),
+                        String.format("%.0f / %.0f", dureeCheminBFS / 1_000.0 / Math.max(1, 2 * coupures),
+                                dureeChemin / 1_000.0 / Math.max(1, 2 * coupures)));
+            }
+        }
+
+        System.out.println();
+        System.out.println("═══════════════════════════════════════════════════════════════");
+    }
+}
@@ -0,0 +1,172 @@
+package modele.chemins;
+
+import modele.Pathfinder;
+import modele.TypeLabyrinthe;
+import modele.grille.Grille;
+import modele.grille.GrilleTableau;
+import modele.grille.TypeCellule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static modele.OutilsLabyrinthe.caseOuverte;
+import static modele.OutilsLabyrinthe.generer;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vérifie les minorations des repères et les distances de A* guidé par eux contre
+ * le BFS, et mesure le temps d'une requête case → case sur de grands labyrinthes.
+ */
+public class ReperesTest {
+
+    @Test
+    public void testMinorationsEtDistancesIdentiquesAuBFS() {
+        Random random = new Random(19);
+        MoteurBFS moteur = new MoteurBFS();
+        for (TypeLabyrinthe type : TypeLabyrinthe.values()) {
+            for (int n = 5; n <= 65; n += 15) {
+                Grille grille = generer(type, n).getGrille();
+                for (int nombre : new int[]{1, 4}) {
+                    SolveurALT alt = new SolveurALT(nombre);
+                    Reperes reperes = alt.getReperes(grille);
+                    for (int essai = 0; essai < 200; essai++) {
+                        int a = caseOuverte(random, grille);
+                        int b = caseOuverte(random, grille);
+                        int attendu = moteur.parcourirJusqua(grille, a, b);
+                        if (attendu >= 0) {
+                            assertTrue(reperes.minoration(a, b) <= attendu, type + ", n = " + n + ", " + a + " → " + b);
+                        }
+                        assertEquals(attendu, alt.distance(grille, a, b), type + ", n = " + n + ", " + a + " → " + b);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testReperesEloignesEtDistancesExactes() {
+        // Un couloir en serpentin : le premier repère est à un bout, le second à l'autre
+        Grille grille = new GrilleTableau(9, 9);
+        for (int x = 0; x < 9; x += 2) {
+            for (int y = 0; y < 9; y++) {
+                grille.setCode(x * 9 + y, TypeCellule.CHEMIN.code());
+            }
+            if (x + 1 < 9) {
+                grille.setCode((x + 1) * 9 + (x % 4 == 0 ? 8 : 0), TypeCellule.CHEMIN.code());
+            }
+        }
+        Reperes reperes = Reperes.choisir(grille, 2);
+        int bout = 8 * 9 + 8;
+        assertEquals(bout, reperes.repere(0));
+        assertEquals(0, reperes.repere(1));
+        assertEquals(48, reperes.distance(0, 0));
+        assertEquals(-1, reperes.distance(0, 9));
+        // Dans un couloir, un repère à un bout donne la distance exacte
+        assertEquals(48, reperes.minoration(0, bout));
+        assertEquals(2L * 2 * 81, reperes.getOctets());
+    }
+
+    @Test
+    public void testDistancesElargiesAuDelaDe16Bits() {
+        int longueur = 70_000;
+        Grille grille = new GrilleTableau(1, longueur);
+        for (int i = 0; i < longueur; i++) {
+            grille.setCode(i, TypeCellule.CHEMIN.code());
+        }
+        Reperes reperes = Reperes.choisir(grille, 1);
+        assertEquals(longueur - 1, reperes.minoration(0, longueur - 1));
+        assertEquals(4L * longueur, reperes.getOctets());
+        assertEquals(longueur - 1, Pathfinder.avecReperes(1).distance(grille, 0, longueur - 1));
+    }
+
+    @Test
+    public void testParametresInvalides() {
+        assertThrows(IllegalArgumentException.class, () -> new SolveurALT(0));
+        assertThrows(IllegalArgumentException.class, () -> Reperes.choisir(new GrilleTableau(3, 3), 2));
+    }
+
+    @Test
+    public void testReperesOubliesQuandLaGrilleChange() {
+        Grille grille = new GrilleTableau(1, 5);
+        for (int i = 0; i < 5; i++) {
+            grille.setCode(i, TypeCellule.CHEMIN.code());
+        }
+        SolveurALT alt = new SolveurALT(2);
+        Reperes reperes = alt.getReperes(grille);
+        assertSame(reperes, alt.getReperes(grille));
+        grille.setCode(2, TypeCellule.MUR.code());
+        alt.grilleModifiee();
+        assertNotSame(reperes, alt.getReperes(grille));
+        assertEquals(-1, alt.distance(grille, 0, 4));
+    }
+
+    @Test
+    public void testPerformanceRequetesCaseACase() {
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println("  TESTS DE PERFORMANCE - A* GUIDÉ PAR DES REPÈRES (ALT)");
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println();
+
+        int[] cotes = {500, 1000};
+        int[] nombres = {4, 8, 16};
+        int nbRequetes = 1000;
+        Random random = new Random(3);
+        MoteurBFS moteur = new MoteurBFS();
+
+        System.out.println("Requêtes case → case aléatoires par mesure : " + nbRequetes);
+        System.out.println();
+        System.out.printf("%-10s | %-7s | %-8s | %-16s | %-12s | %-12s | %-12s | %-20s | %-6s%n",
+                "Type", "Côté", "Repères", "Préparation (ms)", "Mémoire (Mo)", "µs/req BFS", "µs/req ALT",
+                "Dév. BFS / ALT", "Gain");
+        System.out.println("──────────────────────────────────────────────────────────────────────"
+                + "────────────────────────────────────────────────────────────");
+
+        for (TypeLabyrinthe type : TypeLabyrinthe.values()) {
+            for (int n : cotes) {
+                Grille grille = generer(type, n).getGrille();
+                int[] paires = new int[2 * nbRequetes];
+                for (int i = 0; i < paires.length; i++) {
+                    paires[i] = caseOuverte(random, grille);
+                }
+
+                long attendu = 0;
+                long developpeesBFS = 0;
+                long debut = System.nanoTime();
+                for (int i = 0; i < nbRequetes; i++) {
+                    attendu += moteur.parcourirJusqua(grille, paires[2 * i], paires[2 * i + 1]);
+                    developpeesBFS += moteur.getNombreDeveloppees();
+                }
+                long dureeBFS = System.nanoTime() - debut;
+
+                for (int nombre : nombres) {
+                    debut = System.nanoTime();
+                    Reperes reperes = Reperes.choisir(grille, nombre);
+                    long dureePreparation = System.nanoTime() - debut;
+                    SolveurALT alt = new SolveurALT(reperes);
+
+                    long somme = 0;
+                    long developpeesALT = 0;
+                    debut = System.nanoTime();
+                    for (int i = 0; i < nbRequetes; i++) {
+                        somme += alt.distance(grille, paires[2 * i], paires[2 * i + 1]);
+                        developpeesALT += alt.getNombreDeveloppees();
+                    }
+                    long dureeALT = System.nanoTime() - debut;
+                    assertEquals(attendu, somme);
+
+                    System.out.printf("%-10s | %-7s | %-8s | %-16s | %-12s | %-12s | %-12s | %-20s | %-6s%n",
+                            type, n + "²", nombre,
+                            String.format("%.1f", dureePreparation / 1_000_000.0),
+                            String.format("%.1f", reperes.getOctets() / 1_048_576.0),
+                            String.format("%.1f", dureeBFS / 1_000.0 / nbRequetes),
+                            String.format("%.1f", dureeALT / 1_000.0 / nbRequetes),
+                            developpeesBFS / nbRequetes + " / " + developpeesALT / nbRequetes,
+                            String.format("×%.1f", dureeBFS / (double) dureeALT));
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.println("═══════════════════════════════════════════════════════════════");
+    }
+}
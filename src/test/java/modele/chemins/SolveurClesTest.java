@@ -0,0 +1,118 @@
+package modele.chemins;
+
+import modele.Labyrinthe;
+import modele.generateurs.GenerateurParfait;
+import modele.grille.Grille;
+import modele.grille.GrilleTableau;
+import modele.grille.ListeIndices;
+import modele.grille.TypeCellule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vérifie que le solveur à clés compte le détour par la clé, et seulement quand
+ * une sortie est verrouillée.
+ */
+public class SolveurClesTest {
+
+    @Test
+    public void testDetourParLaCle() {
+        // E . . V      la sortie verrouillée est à 3 cases de l'entrée,
+        // # # . #      mais la clé attend au fond du cul-de-sac :
+        // # # C #      4 déplacements jusqu'à la clé, 2 pour revenir, 1 vers la sortie
+        Grille grille = new GrilleTableau(3, 4);
+        grille.setType(0, 0, TypeCellule.ENTREE);
+        grille.setType(0, 1, TypeCellule.CHEMIN);
+        grille.setType(0, 2, TypeCellule.CHEMIN);
+        grille.setType(0, 3, TypeCellule.SORTIE_VERROUILLEE);
+        grille.setType(1, 2, TypeCellule.CHEMIN);
+        grille.setType(2, 2, TypeCellule.CLE);
+        ListeIndices sorties = new ListeIndices();
+        sorties.ajouter(grille.indice(0, 3));
+
+        assertEquals(3, new SolveurBFS().plusCourtChemin(grille, 0, sorties));
+        assertEquals(7, new SolveurCles().plusCourtChemin(grille, 0, sorties));
+        assertEquals(3, new SolveurCles().plusCourtChemin(grille, 0, sorties, 1), "Clé déjà en poche");
+
+        grille.setType(2, 2, TypeCellule.CHEMIN);
+        assertEquals(-1, new SolveurCles().plusCourtChemin(grille, 0, sorties), "Sans clé, la sortie reste fermée");
+    }
+
+    @Test
+    public void testIdentiqueAuChampDesCles() {
+        Random random = new Random(17);
+        SolveurCles solveur = new SolveurCles();
+        SolveurBFS bfs = new SolveurBFS();
+
+        for (int essai = 0; essai < 400; essai++) {
+            Grille grille = new GrilleTableau(4 + random.nextInt(25), 4 + random.nextInt(25));
+            double densite = random.nextDouble() * 0.4;
+            for (int i = 0; i < grille.getTaille(); i++) {
+                if (random.nextDouble() >= densite) {
+                    grille.setCode(i, TypeCellule.CHEMIN.code());
+                }
+            }
+            boolean verrouillee = essai % 3 != 0;
+            ListeIndices sorties = new ListeIndices();
+            for (int s = 0; s < 1 + random.nextInt(3); s++) {
+                int indice = random.nextInt(grille.getTaille());
+                grille.setCode(indice, (verrouillee ? TypeCellule.SORTIE_VERROUILLEE : TypeCellule.SORTIE).code());
+                sorties.ajouter(indice);
+            }
+            ListeIndices cles = new ListeIndices();
+            for (int c = 0; verrouillee && c < 1 + random.nextInt(3); c++) {
+                int indice = random.nextInt(grille.getTaille());
+                if (grille.getCode(indice) != TypeCellule.SORTIE_VERROUILLEE.code()) {
+                    grille.setCode(indice, TypeCellule.CLE.code());
+                    cles.ajouter(indice);
+                }
+            }
+            int depart;
+            do {
+                depart = random.nextInt(grille.getTaille());
+            } while (grille.estMur(depart) || TypeCellule.depuisCode(grille.getCode(depart)).estSortie());
+
+            int attendu;
+            if (!verrouillee) {
+                attendu = bfs.plusCourtChemin(grille, depart, sorties);
+            } else {
+                // Référence en deux phases : distance à une clé, plus distance de la clé à la sortie
+                ChampDistances sortie = ChampDistances.calculer(grille, sorties.versTableau(), false);
+                int[] sources = cles.versTableau();
+                int[] decalages = new int[sources.length];
+                int valides = 0;
+                for (int source : sources) {
+                    if (sortie.distance(source) >= 0) {
+                        decalages[valides] = sortie.distance(source);
+                        sources[valides++] = source;
+                    }
+                }
+                attendu = ChampDistances.calculer(grille, java.util.Arrays.copyOf(sources, valides),
+                        java.util.Arrays.copyOf(decalages, valides), true).distance(depart);
+            }
+            assertEquals(attendu, solveur.plusCourtChemin(grille, depart, sorties), "essai " + essai);
+        }
+    }
+
+    @Test
+    public void testOptimumDuNiveauModeCle() {
+        for (int essai = 0; essai < 20; essai++) {
+            Labyrinthe lab = new Labyrinthe(15, 25, 100, 0);
+            new GenerateurParfait(15, 25, 0, true).generer(lab);
+            lab.calculerChampsDistances();
+
+            int optimum = lab.calculePlusCourtChemin();
+            assertEquals(lab.distanceVictoire(), optimum);
+            int entree = lab.getIndex().getEntree();
+            assertTrue(optimum >= new SolveurBFS().plusCourtChemin(lab.getGrille(), entree, lab.getIndex().getSorties()));
+
+            int cle = lab.getIndex().getCles().get(0);
+            lab.placerJoueur(cle / lab.getHauteurMax(), cle % lab.getHauteurMax());
+            assertTrue(lab.ramasserCle(lab.getJoueurX(), lab.getJoueurY()));
+            assertEquals(optimum, lab.calculePlusCourtChemin(), "Ramasser la clé garde l'optimum du niveau");
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package modele.chemins;
+
+import modele.Labyrinthe;
+import modele.TypeLabyrinthe;
+import modele.grille.Grille;
+import modele.grille.ListeIndices;
+import modele.grille.TypeCellule;
+import org.junit.jupiter.api.Test;
+
+import static modele.OutilsLabyrinthe.generer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests de performance des solveurs de plus court chemin (BFS, A*, JPS),
+ * sur les deux types de labyrinthe et des côtés de 100 à 5000 cases.
+ *
+ * Deux requêtes par labyrinthe : de l'entrée vers la sortie placée par le générateur,
+ * puis une traversée vers la case accessible la plus proche du coin opposé.
+ */
+public class SolveurPerformanceTest {
+
+    private static final int[] COTES = {100, 500, 1000, 2000, 5000};
+    private static final int NB_MESURES = 3;
+
+    /**
+     * Retourne la case atteignable depuis le départ la plus proche du coin opposé.
+     */
+    private static int caseLaPlusEloignee(Grille grille, int depart) {
+        MoteurBFS moteur = new MoteurBFS();
+        moteur.parcourir(grille, depart);
+        int meilleure = depart;
+        int meilleurScore = -1;
+        for (int i = 0; i < grille.getTaille(); i++) {
+            int score = i / grille.getHauteurMax() + i % grille.getHauteurMax();
+            if (score > meilleurScore && moteur.estAtteinte(i)) {
+                meilleurScore = score;
+                meilleure = i;
+            }
+        }
+        return meilleure;
+    }
+
+    /**
+     * Mesure un solveur sur une requête ; retourne la meilleure durée en ms
+     * et renseigne la longueur trouvée et les cases développées.
+     */
+    private static double mesurer(Solveur solveur, Grille grille, int depart, ListeIndices sorties, int[] resultat) {
+        long meilleure = Long.MAX_VALUE;
+        for (int mesure = 0; mesure < NB_MESURES; mesure++) {
+            long debut = System.nanoTime();
+            resultat[0] = solveur.plusCourtChemin(grille, depart, sorties);
+            meilleure = Math.min(meilleure, System.nanoTime() - debut);
+        }
+        resultat[1] = solveur.getNombreDeveloppees();
+        return meilleure / 1_000_000.0;
+    }
+
+    private static void afficher(String requete, Grille grille, int depart, ListeIndices sorties) {
+        Solveur[] solveurs = {new SolveurBFS(), new SolveurAEtoile(), new SolveurJPS()};
+        String[] noms = {"BFS", "A*", "JPS"};
+        int[] resultat = new int[2];
+        int longueur = -2;
+        for (int s = 0; s < solveurs.length; s++) {
+            double ms = mesurer(solveurs[s], grille, depart, sorties, resultat);
+            if (longueur == -2) {
+                longueur = resultat[0];
+            }
+            assertEquals(longueur, resultat[0], noms[s]);
+            System.out.printf("%-12s | %-10s | %-6s | %-10s | %-18s | %-12s%n",
+                    grille.getLargeurMax() + "²", requete, noms[s], longueur, resultat[1],
+                    String.format("%.3f", ms));
+        }
+    }
+
+    @Test
+    public void testPerformanceSolveurs() {
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println("  TESTS DE PERFORMANCE - SOLVEURS BFS / A* / JPS");
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println();
+
+        for (TypeLabyrinthe type : TypeLabyrinthe.values()) {
+            System.out.println("Type " + type.getNom() + " (solveur retenu : "
+                    + type.creerSolveur().getClass().getSimpleName() + ")");
+            System.out.printf("%-12s | %-10s | %-6s | %-10s | %-18s | %-12s%n",
+                    "Côté", "Requête", "Solv.", "Longueur", "Cases développées", "Durée (ms)");
+            System.out.println("────────────────────────────────────────────────────────────────────────────────");
+
+            for (int n : COTES) {
+                Labyrinthe lab = generer(type, n);
+                Grille grille = lab.getGrille();
+                int entree = lab.getIndex().getEntree();
+                afficher("sortie", grille, entree, lab.getIndex().getSorties());
+
+                int[] anciennes = lab.getIndex().getSorties().versTableau();
+                for (int sortie : anciennes) {
+                    lab.setType(sortie / grille.getHauteurMax(), sortie % grille.getHauteurMax(), TypeCellule.CHEMIN);
+                }
+                int coin = caseLaPlusEloignee(grille, entree);
+                lab.setType(coin / grille.getHauteurMax(), coin % grille.getHauteurMax(), TypeCellule.SORTIE);
+                afficher("traversée", grille, entree, lab.getIndex().getSorties());
+            }
+            System.out.println();
+        }
+
+        System.out.println("═══════════════════════════════════════════════════════════════");
+    }
+
+    @Test
+    public void testPerformanceBidirectionnel() {
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println("  TESTS DE PERFORMANCE - BFS BIDIRECTIONNEL (PARFAIT)");
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println();
+        System.out.printf("%-12s | %-10s | %-10s | %-16s | %-16s | %-12s | %-12s | %-10s%n",
+                "Côté", "Requête", "Longueur", "Développées BFS", "Développées bidi", "BFS (ms)", "Bidi (ms)", "Gain");
+        System.out.println("─────────────────────────────────────────────────────────────────────────────────────────────────────────────");
+
+        int[] resultat = new int[2];
+        for (int n : new int[]{1000, 2000, 5000}) {
+            Labyrinthe lab = generer(TypeLabyrinthe.PARFAIT, n);
+            Grille grille = lab.getGrille();
+            int entree = lab.getIndex().getEntree();
+
+            for (String requete : new String[]{"sortie", "traversée"}) {
+                if (requete.equals("traversée")) {
+                    for (int sortie : lab.getIndex().getSorties().versTableau()) {
+                        lab.setType(sortie / grille.getHauteurMax(), sortie % grille.getHauteurMax(), TypeCellule.CHEMIN);
+                    }
+                    int coin = caseLaPlusEloignee(grille, entree);
+                    lab.setType(coin / grille.getHauteurMax(), coin % grille.getHauteurMax(), TypeCellule.SORTIE);
+                }
+                ListeIndices sorties = lab.getIndex().getSorties();
+
+                double msBfs = mesurer(new SolveurBFS(), grille, entree, sorties, resultat);
+                int longueur = resultat[0];
+                int developpeesBfs = resultat[1];
+                double msBidi = mesurer(new SolveurBidirectionnel(), grille, entree, sorties, resultat);
+                assertEquals(longueur, resultat[0]);
+
+                System.out.printf("%-12s | %-10s | %-10s | %-16s | %-16s | %-12s | %-12s | %-10s%n",
+                        n + "²", requete, longueur, developpeesBfs, resultat[1],
+                        String.format("%.3f", msBfs), String.format("%.3f", msBidi),
+                        String.format("×%.1f", msBfs / msBidi));
+            }
+        }
+
+        System.out.println();
+        System.out.println("═══════════════════════════════════════════════════════════════");
+    }
+
+    @Test
+    public void testPerformanceCarrefours() {
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println("  TESTS DE PERFORMANCE - GRAPHE DES CARREFOURS (PARFAIT)");
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println();
+        System.out.printf("%-8s | %-10s | %-10s | %-8s | %-14s | %-12s | %-16s | %-10s%n",
+                "Côté", "Cases", "Nœuds", "Ratio", "Graphe (ms)", "BFS (ms)", "Dijkstra (ms)", "Gain");
+        System.out.println("──────────────────────────────────────────────────────────────────────────────────────────────────");
+
+        int[] resultat = new int[2];
+        for (int n : new int[]{500, 1000, 2000}) {
+            Labyrinthe lab = generer(TypeLabyrinthe.PARFAIT, n);
+            Grille grille = lab.getGrille();
+            int entree = lab.getIndex().getEntree();
+            for (int sortie : lab.getIndex().getSorties().versTableau()) {
+                lab.setType(sortie / grille.getHauteurMax(), sortie % grille.getHauteurMax(), TypeCellule.CHEMIN);
+            }
+            int coin = caseLaPlusEloignee(grille, entree);
+            lab.setType(coin / grille.getHauteurMax(), coin % grille.getHauteurMax(), TypeCellule.SORTIE);
+            ListeIndices sorties = lab.getIndex().getSorties();
+
+            long meilleure = Long.MAX_VALUE;
+            GrapheCarrefours graphe = null;
+            for (int mesure = 0; mesure < NB_MESURES; mesure++) {
+                long debut = System.nanoTime();
+                graphe = GrapheCarrefours.construire(grille);
+                meilleure = Math.min(meilleure, System.nanoTime() - debut);
+            }
+            double msGraphe = meilleure / 1_000_000.0;
+            int ouvertes = 0;
+            for (int i = 0; i < grille.getTaille(); i++) {
+                if (!grille.estMur(i)) {
+                    ouvertes++;
+                }
+            }
+
+            double msBfs = mesurer(new SolveurBFS(), grille, entree, sorties, resultat);
+            int longueur = resultat[0];
+            // Le graphe est construit par la première mesure puis réutilisé : seules les requêtes comptent
+            double msDijkstra = mesurer(new SolveurCarrefours(), grille, entree, sorties, resultat);
+            assertEquals(longueur, resultat[0]);
+
+            System.out.printf("%-8s | %-10s | %-10s | %-8s | %-14s | %-12s | %-16s | %-10s%n",
+                    n + "²", ouvertes, graphe.getNombreNoeuds(),
+                    String.format("%.1f%%", 100.0 * graphe.getNombreNoeuds() / ouvertes),
+                    String.format("%.3f", msGraphe), String.format("%.3f", msBfs),
+                    String.format("%.3f", msDijkstra), String.format("×%.1f", msBfs / msDijkstra));
+        }
+
+        System.out.println();
+        System.out.println("═══════════════════════════════════════════════════════════════");
+    }
+}
@@ -0,0 +1,131 @@
+package modele.chemins;
+
+import modele.Labyrinthe;
+import modele.Pathfinder;
+import modele.TypeLabyrinthe;
+import modele.grille.Grille;
+import modele.grille.GrilleTableau;
+import modele.grille.ListeIndices;
+import modele.grille.TypeCellule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vérifie que A*, Jump Point Search, le BFS bidirectionnel,
+ * Dijkstra sur le graphe des carrefours et A* guidé par des repères donnent
+ * exactement les longueurs du BFS.
+ */
+public class SolveurTest {
+
+    /**
+     * Tire une grille aléatoire avec une densité de murs donnée et quelques sorties.
+     */
+    private static Grille grilleAleatoire(Random random, int n, double densiteMurs, ListeIndices sorties) {
+        Grille grille = new GrilleTableau(n, n + random.nextInt(3 * n));
+        for (int i = 0; i < grille.getTaille(); i++) {
+            if (random.nextDouble() >= densiteMurs) {
+                grille.setCode(i, TypeCellule.CHEMIN.code());
+            }
+        }
+        int nombreSorties = 1 + random.nextInt(3);
+        for (int s = 0; s < nombreSorties; s++) {
+            int indice = random.nextInt(grille.getTaille());
+            grille.setCode(indice, (s % 2 == 0 ? TypeCellule.SORTIE : TypeCellule.SORTIE_VERROUILLEE).code());
+            sorties.ajouter(indice);
+        }
+        return grille;
+    }
+
+    @Test
+    public void testLongueursIdentiquesAuBFS() {
+        Random random = new Random(42);
+        Solveur[] solveurs = {new SolveurBFS(), new SolveurAEtoile(), new SolveurJPS(), new SolveurBidirectionnel(),
+                new SolveurCarrefours(), new SolveurALT(3)};
+        int accessibles = 0;
+
+        for (int essai = 0; essai < 600; essai++) {
+            ListeIndices sorties = new ListeIndices();
+            Grille grille = grilleAleatoire(random, 5 + random.nextInt(40), random.nextDouble() * 0.5, sorties);
+            int depart;
+            do {
+                depart = random.nextInt(grille.getTaille());
+            } while (grille.estMur(depart));
+
+            int attendu = solveurs[0].plusCourtChemin(grille, depart, sorties);
+            if (attendu >= 0) {
+                accessibles++;
+            }
+            for (Solveur solveur : solveurs) {
+                assertEquals(attendu, solveur.plusCourtChemin(grille, depart, sorties),
+                        solveur.getClass().getSimpleName() + ", essai " + essai);
+            }
+        }
+        assertTrue(accessibles > 100, "Trop peu de sorties accessibles pour que le test soit utile");
+    }
+
+    @Test
+    public void testCheminBidirectionnelValide() {
+        Random random = new Random(7);
+        Pathfinder pathfinder = Pathfinder.bidirectionnel();
+
+        for (int essai = 0; essai < 300; essai++) {
+            ListeIndices sorties = new ListeIndices();
+            Grille grille = grilleAleatoire(random, 5 + random.nextInt(30), random.nextDouble() * 0.4, sorties);
+            int depart;
+            do {
+                depart = random.nextInt(grille.getTaille());
+            } while (grille.estMur(depart));
+
+            int longueur = new SolveurBFS().plusCourtChemin(grille, depart, sorties);
+            int[] chemin = pathfinder.findPath(grille, depart, sorties);
+            if (longueur < 0) {
+                assertEquals(0, chemin.length);
+                continue;
+            }
+            assertEquals(longueur + 1, chemin.length);
+            assertEquals(depart, chemin[0]);
+            assertTrue(TypeCellule.depuisCode(grille.getCode(chemin[longueur])).estSortie());
+            for (int i = 1; i < chemin.length; i++) {
+                assertFalse(grille.estMur(chemin[i]));
+                int ecart = Math.abs(chemin[i] - chemin[i - 1]);
+                assertTrue(ecart == 1 || ecart == grille.getHauteurMax(), "cases non adjacentes, essai " + essai);
+            }
+        }
+    }
+
+    @Test
+    public void testSortieInaccessibleOuAbsente() {
+        // E.#S
+        Grille grille = new GrilleTableau(1, 4);
+        grille.setType(0, 0, TypeCellule.ENTREE);
+        grille.setType(0, 1, TypeCellule.CHEMIN);
+        grille.setType(0, 3, TypeCellule.SORTIE);
+        ListeIndices sorties = new ListeIndices();
+        sorties.ajouter(3);
+
+        for (Solveur solveur : new Solveur[]{new SolveurBFS(), new SolveurAEtoile(), new SolveurJPS(), new SolveurBidirectionnel(),
+                new SolveurCarrefours()}) {
+            assertEquals(-1, solveur.plusCourtChemin(grille, 0, sorties));
+            assertEquals(-1, solveur.plusCourtChemin(grille, 0, new ListeIndices()));
+        }
+    }
+
+    @Test
+    public void testSolveurParTypeDeLabyrinthe() {
+        for (TypeLabyrinthe type : TypeLabyrinthe.values()) {
+            Labyrinthe lab = new Labyrinthe(30, 30, 30, 20);
+            type.creerGenerateur(30, 30, 30, 20).generer(lab);
+            int attendu = lab.calculePlusCourtChemin();
+
+            lab.setSolveur(type.creerSolveur());
+            assertSame(lab.getSolveur().getClass(), type.creerSolveur().getClass());
+            assertEquals(attendu, lab.calculePlusCourtChemin());
+
+            lab.setSolveur(new SolveurBidirectionnel());
+            assertEquals(attendu, lab.calculePlusCourtChemin());
+        }
+    }
+}
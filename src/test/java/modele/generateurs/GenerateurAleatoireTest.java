@@ -0,0 +1,70 @@
+package modele.generateurs;
+
+import modele.Labyrinthe;
+import modele.grille.Grille;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vérifie que le générateur aléatoire atteint exactement le nombre de chemins visé,
+ * et qu'il refuse un pourcentage de murs hors de 0 à 100.
+ */
+public class GenerateurAleatoireTest {
+
+    private static Grille generer(int largeur, int hauteur, double pourcentageMurs, long graine) {
+        GenerateurAleatoire generateur = new GenerateurAleatoire(largeur, hauteur, pourcentageMurs);
+        generateur.setGraine(graine);
+        Labyrinthe lab = new Labyrinthe(largeur, hauteur, pourcentageMurs, 0);
+        generateur.generer(lab);
+        return lab.getGrille();
+    }
+
+    private static int cheminsInterieurs(Grille grille) {
+        int chemins = 0;
+        for (int x = 1; x < grille.getLargeurMax() - 1; x++) {
+            for (int y = 1; y < grille.getHauteurMax() - 1; y++) {
+                if (!grille.estMur(grille.indice(x, y))) {
+                    chemins++;
+                }
+            }
+        }
+        return chemins;
+    }
+
+    @Test
+    public void testNombreDeCheminsExact() {
+        for (double pourcentage : new double[]{90.0, 70.0, 50.0, 30.0, 10.0, 1.0}) {
+            for (long graine = 0; graine < 3; graine++) {
+                Grille grille = generer(40, 25, pourcentage, graine);
+                int voulu = (int) (40 * 25 * (100.0 - pourcentage) / 100.0);
+                int chemins = cheminsInterieurs(grille);
+                // Aux murs les plus denses, les chemins creusés d'abord peuvent à eux seuls dépasser la cible
+                assertTrue(chemins >= voulu, "murs " + pourcentage);
+                if (pourcentage <= 10.0) {
+                    assertEquals(voulu, chemins, "murs " + pourcentage);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSansMurs() {
+        Grille grille = generer(60, 60, 0.0, 4);
+        assertEquals(60 * 60, cheminsInterieurs(grille));
+    }
+
+    @Test
+    public void testPourcentageInvalide() {
+        assertThrows(IllegalArgumentException.class, () -> new GenerateurAleatoire(30, 20, -50.0));
+        assertThrows(IllegalArgumentException.class, () -> new GenerateurAleatoire(30, 20, 100.5));
+        assertThrows(IllegalArgumentException.class, () -> new GenerateurAleatoire(30, 20, Double.NaN));
+    }
+
+    @Test
+    public void testSansChemin() {
+        // 100 % de murs : seuls les chemins creusés d'abord restent, rien n'est converti
+        Grille grille = generer(30, 20, 100.0, 7);
+        assertTrue(cheminsInterieurs(grille) > 0);
+    }
+}
@@ -0,0 +1,176 @@
+package modele.generateurs;
+
+import modele.Labyrinthe;
+import modele.chemins.MoteurBFS;
+import modele.grille.Grille;
+import modele.grille.GrilleTableau;
+import modele.grille.TypeCellule;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+
+import static modele.OutilsLabyrinthe.generer;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vérifie que l'algorithme d'Eller produit un labyrinthe parfait, que ses lignes
+ * sont les mêmes dans une grille et dans un flux, et mesure la génération ligne
+ * par ligne contre le backtracking.
+ */
+public class GenerateurEllerTest {
+
+    /**
+     * Vérifie que les cases ouvertes forment un arbre couvrant : toutes accessibles
+     * depuis l'entrée et reliées par exactement une arête de moins qu'il n'y a de cases.
+     */
+    static void verifierParfait(Grille grille, int entree) {
+        int hauteurMax = grille.getHauteurMax();
+        long ouvertes = 0;
+        long aretes = 0;
+        int sorties = 0;
+        for (int i = 0; i < grille.getTaille(); i++) {
+            if (grille.estMur(i)) {
+                continue;
+            }
+            ouvertes++;
+            if (TypeCellule.depuisCode(grille.getCode(i)).estSortie()) {
+                sorties++;
+            }
+            if (i + hauteurMax < grille.getTaille() && !grille.estMur(i + hauteurMax)) {
+                aretes++;
+            }
+            if ((i + 1) % hauteurMax != 0 && !grille.estMur(i + 1)) {
+                aretes++;
+            }
+        }
+        assertEquals(1, sorties);
+        assertEquals(ouvertes - 1, aretes, "un cycle ou une composante isolée");
+        MoteurBFS moteur = new MoteurBFS();
+        moteur.parcourir(grille, entree);
+        assertEquals(ouvertes, moteur.getNombreAtteintes());
+        assertTrue(moteur.parcourirJusquaSortie(grille, entree) >= 0);
+    }
+
+    @Test
+    public void testLabyrinthesParfaits() {
+        int[] dimensions = {1, 2, 3, 4, 7, 10, 31, 64};
+        for (int largeur : dimensions) {
+            for (int hauteur : dimensions) {
+                for (long graine = 0; graine < 5; graine++) {
+                    GenerateurEller generateur = new GenerateurEller(largeur, hauteur);
+                    generateur.setGraine(graine);
+                    Labyrinthe lab = generer(generateur, largeur, hauteur);
+                    Grille grille = lab.getGrille();
+                    assertEquals(0, lab.getJoueurX());
+                    assertEquals(TypeCellule.ENTREE, grille.getType(0, lab.getJoueurY()));
+                    verifierParfait(grille, grille.indice(0, lab.getJoueurY()));
+                    // Le chemin traverse toute la largeur
+                    assertTrue(lab.calculePlusCourtChemin() >= largeur, largeur + " × " + hauteur);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFluxIdentiqueALaGrille() {
+        GenerateurEller generateur = new GenerateurEller(45, 28);
+        generateur.setGraine(22);
+        Grille grille = generer(generateur, 45, 28).getGrille();
+
+        ByteArrayOutputStream flux = new ByteArrayOutputStream();
+        int entreeY = generateur.generer(RecepteurLignes.vers(flux));
+        assertEquals(TypeCellule.ENTREE, grille.getType(0, entreeY));
+        byte[] codes = flux.toByteArray();
+        assertEquals(grille.getTaille(), codes.length);
+        for (int i = 0; i < codes.length; i++) {
+            assertEquals(grille.getCode(i), codes[i], "case " + i);
+        }
+    }
+
+    @Test
+    public void testLignesDansLOrdreSansGrille() {
+        // Un million de lignes : seule la ligne courante existe en mémoire
+        int largeur = 1_000_000;
+        GenerateurEller generateur = new GenerateurEller(largeur, 9);
+        int[] attendue = {0};
+        long[] ouvertes = {0};
+        generateur.generer((x, codes) -> {
+            assertEquals(attendue[0]++, x);
+            assertEquals(11, codes.length);
+            for (byte code : codes) {
+                if (code != TypeCellule.MUR.code()) {
+                    ouvertes[0]++;
+                }
+            }
+        });
+        assertEquals(largeur + 2, attendue[0]);
+        // Au moins les 5 cellules de chacune des 500 000 lignes de cellules
+        assertTrue(ouvertes[0] >= 5L * largeur / 2);
+    }
+
+    @Test
+    public void testDimensionsInvalides() {
+        assertThrows(IllegalArgumentException.class, () -> new GenerateurEller(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> new GenerateurEller(5, -1));
+    }
+
+    @Test
+    public void testPerformanceGeneration() {
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println("  TESTS DE PERFORMANCE - GÉNÉRATION LIGNE PAR LIGNE (ELLER)");
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println();
+
+        int[] cotes = {250, 500, 1000, 2000};
+
+        System.out.println("Eller vers une grille, puis vers un flux sans grille, contre le backtracking.");
+        System.out.println();
+        System.out.printf("%-8s | %-18s | %-18s | %-18s | %-10s%n",
+                "Côté", "Backtracking (ms)", "Eller grille (ms)", "Eller flux (ms)", "Gain");
+        System.out.println("──────────────────────────────────────────────────────────────────────────────");
+
+        for (int n : cotes) {
+            long debut = System.nanoTime();
+            generer(new GenerateurParfait(n, n, n), n, n);
+            long dureeParfait = System.nanoTime() - debut;
+
+            GenerateurEller eller = new GenerateurEller(n, n);
+            debut = System.nanoTime();
+            generer(eller, n, n);
+            long dureeGrille = System.nanoTime() - debut;
+
+            debut = System.nanoTime();
+            eller.generer(RecepteurLignes.vers(OutputStream.nullOutputStream()));
+            long dureeFlux = System.nanoTime() - debut;
+
+            System.out.printf("%-8s | %-18s | %-18s | %-18s | %-10s%n",
+                    n + "²",
+                    String.format("%.1f", dureeParfait / 1_000_000.0),
+                    String.format("%.1f", dureeGrille / 1_000_000.0),
+                    String.format("%.1f", dureeFlux / 1_000_000.0),
+                    String.format("×%.1f", dureeParfait / (double) dureeGrille));
+        }
+
+        int largeur = 100_000;
+        int hauteur = 1_000;
+        GenerateurEller etire = new GenerateurEller(largeur, hauteur);
+        long debut = System.nanoTime();
+        etire.generer(RecepteurLignes.vers(OutputStream.nullOutputStream()));
+        long duree = System.nanoTime() - debut;
+        System.out.println();
+        System.out.printf("Flux %d × %d (%.0f M cases, sans grille) : %.0f ms%n",
+                largeur + 2, hauteur + 2, (largeur + 2.0) * (hauteur + 2) / 1e6, duree / 1_000_000.0);
+
+        System.out.println();
+        System.out.println("═══════════════════════════════════════════════════════════════");
+    }
+
+    @Test
+    public void testGrilleSansLabyrinthe() {
+        GenerateurEller generateur = new GenerateurEller(20, 20);
+        Grille grille = new GrilleTableau(22, 22);
+        int entreeY = generateur.generer(RecepteurLignes.vers(grille));
+        verifierParfait(grille, entreeY);
+    }
+}
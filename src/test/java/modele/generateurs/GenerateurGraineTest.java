@@ -0,0 +1,72 @@
+package modele.generateurs;
+
+import modele.Labyrinthe;
+import modele.TypeLabyrinthe;
+import modele.grille.Grille;
+import org.junit.jupiter.api.Test;
+
+import static modele.OutilsLabyrinthe.generer;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vérifie qu'une même graine redonne exactement le même labyrinthe, et qu'une autre
+ * graine en donne un différent.
+ */
+public class GenerateurGraineTest {
+
+    private static boolean memesCases(Grille a, Grille b) {
+        if (a.getTaille() != b.getTaille()) {
+            return false;
+        }
+        for (int i = 0; i < a.getTaille(); i++) {
+            if (a.getCode(i) != b.getCode(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Test
+    public void testMemeGraineMemeLabyrinthe() {
+        for (TypeLabyrinthe type : TypeLabyrinthe.values()) {
+            for (long graine : new long[]{0, 42, -7_345_210_988_123L}) {
+                Labyrinthe premier = generer(type.creerGenerateur(31, 25, 30, 20, graine), 31, 25);
+                Labyrinthe second = generer(type.creerGenerateur(31, 25, 30, 20, graine), 31, 25);
+                assertTrue(memesCases(premier.getGrille(), second.getGrille()), type + ", graine " + graine);
+                assertEquals(premier.getJoueurX(), second.getJoueurX());
+                assertEquals(premier.getJoueurY(), second.getJoueurY());
+                assertEquals(premier.calculePlusCourtChemin(), second.calculePlusCourtChemin());
+            }
+        }
+    }
+
+    @Test
+    public void testMemeGraineAvecCle() {
+        GenerateurParfait a = new GenerateurParfait(21, 35, 0, true);
+        GenerateurParfait b = new GenerateurParfait(21, 35, 0, true);
+        a.setGraine(2024);
+        b.setGraine(2024);
+        assertTrue(memesCases(generer(a, 21, 35).getGrille(), generer(b, 21, 35).getGrille()));
+    }
+
+    @Test
+    public void testGrainesDifferentesLabyrinthesDifferents() {
+        for (TypeLabyrinthe type : TypeLabyrinthe.values()) {
+            Labyrinthe premier = generer(type.creerGenerateur(31, 25, 30, 20, 1), 31, 25);
+            Labyrinthe second = generer(type.creerGenerateur(31, 25, 30, 20, 2), 31, 25);
+            assertFalse(memesCases(premier.getGrille(), second.getGrille()), type.toString());
+        }
+    }
+
+    @Test
+    public void testGraineRetrouvee() {
+        // Sans graine fixée, celle tirée au hasard suffit à rejouer le labyrinthe
+        GenerateurLabyrinthe libre = TypeLabyrinthe.ALEATOIRE.creerGenerateur(31, 25, 30, 20);
+        Labyrinthe original = generer(libre, 31, 25);
+        Labyrinthe rejoue = generer(TypeLabyrinthe.ALEATOIRE.creerGenerateur(31, 25, 30, 20, libre.getGraine()), 31, 25);
+        assertTrue(memesCases(original.getGrille(), rejoue.getGrille()));
+
+        // Le même générateur, relancé, rejoue aussi sa graine
+        assertTrue(memesCases(original.getGrille(), generer(libre, 31, 25).getGrille()));
+    }
+}
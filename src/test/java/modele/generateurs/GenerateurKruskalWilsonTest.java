@@ -0,0 +1,83 @@
+package modele.generateurs;
+
+import modele.Labyrinthe;
+import modele.grille.Grille;
+import modele.grille.TypeCellule;
+import org.junit.jupiter.api.Test;
+
+import static modele.OutilsLabyrinthe.generer;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vérifie que Kruskal et Wilson produisent des labyrinthes parfaits, avec ou sans clé,
+ * et que la texture de Kruskal diffère de celle du backtracking.
+ */
+public class GenerateurKruskalWilsonTest {
+
+    /**
+     * Compte les impasses : cases ouvertes qui n'ont qu'une voisine ouverte.
+     */
+    private static int impasses(Grille grille) {
+        int hauteurMax = grille.getHauteurMax();
+        int nombre = 0;
+        for (int x = 1; x < grille.getLargeurMax() - 1; x++) {
+            for (int y = 1; y < hauteurMax - 1; y++) {
+                int i = grille.indice(x, y);
+                if (grille.estMur(i)) {
+                    continue;
+                }
+                int voisines = 0;
+                for (int v : new int[]{i - 1, i + 1, i - hauteurMax, i + hauteurMax}) {
+                    if (!grille.estMur(v)) {
+                        voisines++;
+                    }
+                }
+                if (voisines == 1) {
+                    nombre++;
+                }
+            }
+        }
+        return nombre;
+    }
+
+    @Test
+    public void testLabyrinthesParfaits() {
+        int[] dimensions = {3, 4, 9, 20, 41};
+        for (int largeur : dimensions) {
+            for (int hauteur : dimensions) {
+                for (long graine = 0; graine < 4; graine++) {
+                    boolean cle = graine == 3;
+                    GenerateurLabyrinthe[] generateurs = {
+                            new GenerateurKruskal(largeur, hauteur, 5, cle),
+                            new GenerateurWilson(largeur, hauteur, 5, cle)
+                    };
+                    for (GenerateurLabyrinthe generateur : generateurs) {
+                        generateur.setGraine(graine);
+                        Labyrinthe lab = generer(generateur, largeur, hauteur);
+                        Grille grille = lab.getGrille();
+                        String cas = generateur.getClass().getSimpleName() + ", " + largeur + " × " + hauteur;
+                        assertEquals(TypeCellule.ENTREE, grille.getType(0, lab.getJoueurY()), cas);
+                        GenerateurEllerTest.verifierParfait(grille, grille.indice(lab.getJoueurX(), lab.getJoueurY()));
+                        assertTrue(lab.calculePlusCourtChemin() > 0, cas);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testTextureDifferenteDuBacktracking() {
+        // Le backtracking creuse de longs couloirs, Kruskal multiplie les impasses
+        long parfait = 0;
+        long kruskal = 0;
+        for (long graine = 0; graine < 5; graine++) {
+            GenerateurParfait backtracking = new GenerateurParfait(61, 61, 30);
+            GenerateurKruskal arbre = new GenerateurKruskal(61, 61, 30);
+            backtracking.setGraine(graine);
+            arbre.setGraine(graine);
+            parfait += impasses(generer(backtracking, 61, 61).getGrille());
+            kruskal += impasses(generer(arbre, 61, 61).getGrille());
+        }
+        assertTrue(kruskal > 2 * parfait, "Kruskal " + kruskal + ", backtracking " + parfait);
+    }
+}
@@ -0,0 +1,118 @@
+package modele.generateurs;
+
+import modele.Labyrinthe;
+import modele.grille.Grille;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static modele.OutilsLabyrinthe.generer;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vérifie que le creusage par tuiles cousues donne un labyrinthe parfait qui ne dépend
+ * que de la graine, et mesure son passage à l'échelle contre le backtracking.
+ */
+public class GenerateurParfaitParalleleTest {
+
+    @Test
+    public void testLabyrinthesParfaits() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            int[] dimensions = {3, 4, 9, 20, 41};
+            for (int cote : new int[]{1, 2, 3, 7, GenerateurParfaitParallele.COTE_TUILE}) {
+                for (int largeur : dimensions) {
+                    for (int hauteur : dimensions) {
+                        for (long graine = 0; graine < 4; graine++) {
+                            GenerateurParfaitParallele generateur =
+                                    new GenerateurParfaitParallele(largeur, hauteur, 5, graine == 3, pool, cote);
+                            generateur.setGraine(graine);
+                            Labyrinthe lab = generer(generateur, largeur, hauteur);
+                            Grille grille = lab.getGrille();
+                            GenerateurEllerTest.verifierParfait(grille, grille.indice(lab.getJoueurX(), lab.getJoueurY()));
+                            assertTrue(lab.calculePlusCourtChemin() > 0, "tuile " + cote + ", " + largeur + " × " + hauteur);
+                        }
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testIndependantDuNombreDeThreads() {
+        ForkJoinPool seul = new ForkJoinPool(1);
+        ForkJoinPool quatre = new ForkJoinPool(4);
+        try {
+            for (long graine = 0; graine < 3; graine++) {
+                GenerateurParfaitParallele a = new GenerateurParfaitParallele(150, 90, 40, false, seul, 16);
+                GenerateurParfaitParallele b = new GenerateurParfaitParallele(150, 90, 40, false, quatre, 16);
+                a.setGraine(graine);
+                b.setGraine(graine);
+                Grille ga = generer(a, 150, 90).getGrille();
+                Grille gb = generer(b, 150, 90).getGrille();
+                for (int i = 0; i < ga.getTaille(); i++) {
+                    assertEquals(ga.getCode(i), gb.getCode(i), "graine " + graine + ", case " + i);
+                }
+            }
+        } finally {
+            seul.shutdown();
+            quatre.shutdown();
+        }
+    }
+
+    @Test
+    public void testCoteDeTuileInvalide() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new GenerateurParfaitParallele(10, 10, 0, false, ForkJoinPool.commonPool(), 0));
+    }
+
+    @Test
+    public void testPerformancePassageALEchelle() {
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println("  TESTS DE PERFORMANCE - LABYRINTHE PARFAIT PAR TUILES");
+        System.out.println("═══════════════════════════════════════════════════════════════");
+        System.out.println();
+
+        int[] cotes = {500, 1000, 2000};
+        int coeurs = Runtime.getRuntime().availableProcessors();
+        int[] threads = coeurs > 1 ? new int[]{1, 2, coeurs} : new int[]{1};
+
+        System.out.println("Cœurs disponibles : " + coeurs + " ; génération complète (creusage, distances,");
+        System.out.println("placement de la sortie), tuiles de " + GenerateurParfaitParallele.COTE_TUILE + "² cellules.");
+        System.out.println();
+        System.out.printf("%-8s | %-18s | %-9s | %-16s | %-8s%n",
+                "Côté", "Backtracking (ms)", "Threads", "Tuiles (ms)", "Gain");
+        System.out.println("──────────────────────────────────────────────────────────────────────");
+
+        for (int n : cotes) {
+            GenerateurParfait sequentiel = new GenerateurParfait(n, n, n);
+            sequentiel.setGraine(1);
+            long debut = System.nanoTime();
+            generer(sequentiel, n, n);
+            long dureeSequentiel = System.nanoTime() - debut;
+
+            for (int t : threads) {
+                ForkJoinPool pool = new ForkJoinPool(t);
+                try {
+                    GenerateurParfaitParallele parallele = new GenerateurParfaitParallele(n, n, n, false, pool);
+                    parallele.setGraine(1);
+                    debut = System.nanoTime();
+                    generer(parallele, n, n);
+                    long dureeParallele = System.nanoTime() - debut;
+
+                    System.out.printf("%-8s | %-18s | %-9s | %-16s | %-8s%n",
+                            n + "²", String.format("%.1f", dureeSequentiel / 1_000_000.0), t,
+                            String.format("%.1f", dureeParallele / 1_000_000.0),
+                            String.format("×%.1f", dureeSequentiel / (double) dureeParallele));
+                } finally {
+                    pool.shutdown();
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.println("═══════════════════════════════════════════════════════════════");
+    }
+}
@@ -0,0 +1,74 @@
+package modele.grille;
+
+import modele.Labyrinthe;
+import modele.generateurs.GenerateurParfait;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GrilleHorsTasTest {
+
+    @Test
+    void testAllouerRempliDeMurs() {
+        try (GrilleHorsTas grille = GrilleHorsTas.allouer(5, 7)) {
+            assertEquals(35, grille.getTaille());
+            assertTrue(grille.estMur(grille.indice(4, 6)));
+
+            grille.setType(2, 3, TypeCellule.CHEMIN);
+            assertEquals(TypeCellule.CHEMIN, grille.getType(2, 3));
+        }
+    }
+
+    @Test
+    void testRouvrirFichierSansRegenerer(@TempDir Path dossier) throws IOException {
+        Path fichier = dossier.resolve("labyrinthe.grille");
+        Labyrinthe original = new Labyrinthe(21, 31, 0, 10);
+
+        GenerateurParfait generateur = new GenerateurParfait(21, 31, 10);
+        generateur.setFabriqueGrille((largeurMax, hauteurMax) -> {
+            try {
+                return GrilleHorsTas.creerFichier(fichier, largeurMax, hauteurMax);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        generateur.generer(original);
+        int plusCourt = original.calculePlusCourtChemin();
+        GrilleHorsTas ecrite = (GrilleHorsTas) original.getGrille();
+        ecrite.forcer();
+        ecrite.close();
+
+        try (GrilleHorsTas relue = GrilleHorsTas.ouvrirFichier(fichier, true)) {
+            Labyrinthe rouvert = new Labyrinthe(relue);
+            assertEquals(21, rouvert.getLargeur());
+            assertEquals(31, rouvert.getHauteur());
+            assertEquals(plusCourt, rouvert.calculePlusCourtChemin());
+            assertTrue(rouvert.getType(rouvert.getJoueurX(), rouvert.getJoueurY()).estEntree());
+            assertThrows(UnsupportedOperationException.class, () -> relue.setType(1, 1, TypeCellule.MUR));
+        }
+    }
+
+    @Test
+    void testGrilleRemplaceeLiberee() {
+        Labyrinthe lab = new Labyrinthe(9, 9, 0, 4);
+        GenerateurParfait generateur = new GenerateurParfait(9, 9, 4);
+        generateur.setFabriqueGrille(GrilleHorsTas::allouer);
+
+        generateur.generer(lab);
+        GrilleHorsTas premiere = (GrilleHorsTas) lab.getGrille();
+        generateur.generer(lab);
+        GrilleHorsTas seconde = (GrilleHorsTas) lab.getGrille();
+
+        // La grille remplacée est libérée, la nouvelle reste utilisable
+        assertThrows(IllegalStateException.class, () -> premiere.getCode(0));
+        assertTrue(lab.calculePlusCourtChemin() > 0);
+
+        lab.libererGrille();
+        assertThrows(IllegalStateException.class, () -> seconde.getCode(0));
+        seconde.close();
+    }
+}
@@ -0,0 +1,42 @@
+package modele.grille;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GrilleTableauTest {
+
+    @Test
+    void testFigerCopieSurEcriture() {
+        GrilleTableau grille = new GrilleTableau(4, 4);
+        grille.setType(1, 1, TypeCellule.CHEMIN);
+
+        GrilleTableau figee = grille.figer();
+        assertTrue(figee.estImmuable());
+        assertSame(figee, grille.figer(), "Sans écriture, l'instantané est réutilisé");
+
+        grille.setType(1, 2, TypeCellule.CHEMIN);
+        assertEquals(TypeCellule.MUR, figee.getType(1, 2));
+        assertEquals(TypeCellule.CHEMIN, figee.getType(1, 1));
+        assertEquals(TypeCellule.CHEMIN, grille.getType(1, 2));
+        assertNotSame(figee, grille.figer());
+
+        assertThrows(UnsupportedOperationException.class, () -> figee.setType(0, 0, TypeCellule.CHEMIN));
+    }
+
+    @Test
+    void testFigerGrilleHorsTas() {
+        try (GrilleHorsTas grille = GrilleHorsTas.allouer(3, 3)) {
+            grille.setType(1, 1, TypeCellule.SORTIE);
+            Grille figee = grille.figer();
+            assertSame(figee, grille.figer(), "Sans écriture, l'instantané est réutilisé");
+            grille.setType(1, 1, TypeCellule.SORTIE);
+            assertSame(figee, grille.figer(), "Réécrire le même code ne change rien");
+
+            grille.setType(1, 1, TypeCellule.MUR);
+            assertEquals(TypeCellule.SORTIE, figee.getType(1, 1));
+            assertNotSame(figee, grille.figer());
+            assertEquals(TypeCellule.MUR, grille.figer().getType(1, 1));
+        }
+    }
+}